@@ -0,0 +1,74 @@
+package com.pidanic.saral;
+
+import java.io.File;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.function.Function;
+
+/**
+ * Compiles many source files in one JVM. Every file is preprocessed, parsed and generated
+ * independently on a worker of a fixed size thread pool.
+ */
+public class BatchCompiler {
+
+    private final Compiler compiler;
+    private final int threads;
+    private final ExecutorService sharedExecutor;
+
+    public BatchCompiler(Compiler compiler, int threads) {
+        this.compiler = compiler;
+        this.threads = threads;
+        this.sharedExecutor = null;
+    }
+
+    /**
+     * Compiles on the provided executor. The executor is not shut down after compilation.
+     */
+    public BatchCompiler(Compiler compiler, ExecutorService executor) {
+        this.compiler = compiler;
+        this.threads = 0;
+        this.sharedExecutor = executor;
+    }
+
+    public List<CompilationResult> compile(List<File> sources, File outputDirectory) {
+        return compile(sources, source -> outputDirectory);
+    }
+
+    /**
+     * @param outputDirectories gives the directory for the class file of every source
+     */
+    public List<CompilationResult> compile(List<File> sources, Function<File, File> outputDirectories) {
+        ExecutorService executor = sharedExecutor != null ? sharedExecutor : Executors.newFixedThreadPool(threads);
+        try {
+            List<Future<CompilationResult>> futures = new ArrayList<>();
+            for(File source : sources) {
+                futures.add(executor.submit(() -> compiler.compile(source, outputDirectories.apply(source))));
+            }
+
+            List<CompilationResult> results = new ArrayList<>();
+            for(int i = 0; i < futures.size(); i++) {
+                results.add(getResult(sources.get(i), futures.get(i)));
+            }
+            return results;
+        } finally {
+            if(executor != sharedExecutor) {
+                executor.shutdown();
+            }
+        }
+    }
+
+    private CompilationResult getResult(File source, Future<CompilationResult> future) {
+        try {
+            return future.get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return CompilationResult.failure(source, "Compilation interrupted");
+        } catch (ExecutionException e) {
+            return CompilationResult.failure(source, String.valueOf(e.getCause().getMessage()));
+        }
+    }
+}
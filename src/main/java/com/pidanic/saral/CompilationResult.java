@@ -0,0 +1,79 @@
+package com.pidanic.saral;
+
+import com.pidanic.saral.optimizer.DeadCodeReport;
+
+import java.io.File;
+import java.util.Optional;
+
+public class CompilationResult {
+    private final File source;
+    private final File classFile;
+    private final String error;
+    private final boolean upToDate;
+    private final ParseStatistics parseStatistics;
+    private final DeadCodeReport deadCodeReport;
+
+    private CompilationResult(File source, File classFile, String error, boolean upToDate, ParseStatistics parseStatistics,
+                              DeadCodeReport deadCodeReport) {
+        this.source = source;
+        this.classFile = classFile;
+        this.error = error;
+        this.upToDate = upToDate;
+        this.parseStatistics = parseStatistics;
+        this.deadCodeReport = deadCodeReport;
+    }
+
+    public static CompilationResult success(File source, File classFile) {
+        return success(source, classFile, null, null);
+    }
+
+    public static CompilationResult success(File source, File classFile, ParseStatistics parseStatistics,
+                                            DeadCodeReport deadCodeReport) {
+        return new CompilationResult(source, classFile, null, false, parseStatistics, deadCodeReport);
+    }
+
+    /**
+     * Source was not compiled, because neither the source nor any of its <code>falda</code> files changed since the last compilation.
+     */
+    public static CompilationResult upToDate(File source, File classFile) {
+        return new CompilationResult(source, classFile, null, true, null, null);
+    }
+
+    public static CompilationResult failure(File source, String error) {
+        return new CompilationResult(source, null, error, false, null, null);
+    }
+
+    public File getSource() {
+        return source;
+    }
+
+    public Optional<File> getClassFile() {
+        return Optional.ofNullable(classFile);
+    }
+
+    public Optional<String> getError() {
+        return Optional.ofNullable(error);
+    }
+
+    /**
+     * Returns parser statistics, if the source was parsed. Sources loaded from cache or up to date have none.
+     */
+    public Optional<ParseStatistics> getParseStatistics() {
+        return Optional.ofNullable(parseStatistics);
+    }
+
+    /**
+     * Returns code removed as dead, if the source was optimized. Sources loaded from cache or up to date have none.
+     */
+    public Optional<DeadCodeReport> getDeadCodeReport() {
+        return Optional.ofNullable(deadCodeReport);
+    }
+
+    public boolean isSuccessful() {
+        return error == null;
+    }
+
+    public boolean isUpToDate() {
+        return upToDate;
+    }
+}
@@ -1,40 +1,265 @@
 package com.pidanic.saral;
 
+import com.pidanic.saral.cache.CompilationCache;
+import com.pidanic.saral.cache.CompilerBuild;
+import com.pidanic.saral.cache.IncrementalBuild;
 import com.pidanic.saral.domain.Init;
 import com.pidanic.saral.generator.ByteCodeGenerator;
+import com.pidanic.saral.optimizer.DeadCodeReport;
+import com.pidanic.saral.optimizer.Optimizer;
+import org.antlr.v4.runtime.CharStream;
 
 import java.io.*;
-import java.nio.file.Files;
+import java.util.Collections;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
 
 public class Compiler {
+
+    public static final String VERSION = "0.1-SNAPSHOT";
+    private static final String BUFFERED_OUTPUT = "bufferedOutput";
+    private static final String MEMO = "memo";
+    private static final String INLINE_SIZE = "inlineSize";
+
+    private final PrintStream errorOutput;
+    private final CompilationCache cache;
+    private final IncrementalBuild incrementalBuild;
+    private final boolean bufferedOutput;
+    private final boolean memo;
+    private final int inlineSize;
+
+    public Compiler() {
+        this(System.out);
+    }
+
+    public Compiler(PrintStream errorOutput) {
+        this(errorOutput, null);
+    }
+
+    public Compiler(PrintStream errorOutput, CompilationCache cache) {
+        this(errorOutput, cache, null);
+    }
+
+    /**
+     * @param cache cache of generated class files, or <code>null</code>
+     * @param incrementalBuild include graph tracking of the current build, or <code>null</code> to compile all sources
+     */
+    public Compiler(PrintStream errorOutput, CompilationCache cache, IncrementalBuild incrementalBuild) {
+        this(errorOutput, cache, incrementalBuild, false);
+    }
+
+    /**
+     * @param bufferedOutput generate programs printing to a buffer, see {@link CompilerOptions#isBufferedOutput()}
+     */
+    public Compiler(PrintStream errorOutput, CompilationCache cache, IncrementalBuild incrementalBuild, boolean bufferedOutput) {
+        this(errorOutput, cache, incrementalBuild, bufferedOutput, false);
+    }
+
+    /**
+     * @param memo memoize pure bars, see {@link CompilerOptions#isMemo()}
+     */
+    public Compiler(PrintStream errorOutput, CompilationCache cache, IncrementalBuild incrementalBuild,
+                    boolean bufferedOutput, boolean memo) {
+        this(errorOutput, cache, incrementalBuild, bufferedOutput, memo, Optimizer.DEFAULT_INLINE_SIZE);
+    }
+
+    /**
+     * @param inlineSize maximal size of bars inlined at their calls, see {@link CompilerOptions#getInlineSize()}
+     */
+    public Compiler(PrintStream errorOutput, CompilationCache cache, IncrementalBuild incrementalBuild,
+                    boolean bufferedOutput, boolean memo, int inlineSize) {
+        this.errorOutput = errorOutput;
+        this.cache = cache;
+        this.incrementalBuild = incrementalBuild;
+        this.bufferedOutput = bufferedOutput;
+        this.memo = memo;
+        this.inlineSize = inlineSize;
+    }
+
     public static void main(String[] args) {
         new Compiler().compile(args);
     }
 
     public void compile(String[] args) {
-        File file = new File(args[0]);
+        try {
+            CompilerOptions options = CompilerOptions.parse(args);
+            CompilationCache compilationCache = createCache(options);
+            if(options.isDaemon()) {
+                new CompilerDaemon(options.getDaemonPort(), options.getThreads(), compilationCache).start();
+                return;
+            }
+            Compiler compiler = new Compiler(errorOutput, compilationCache, createIncrementalBuild(options),
+                    options.isBufferedOutput(), options.isMemo(), options.getInlineSize());
+            List<File> sources = options.getSourceFiles();
+            List<CompilationResult> results;
+            if(sources.size() == 1) {
+                CompilationResult result = compiler.compile(sources.get(0), options.getOutputDirectory(sources.get(0)));
+                result.getError().ifPresent(System.out::println);
+                results = Collections.singletonList(result);
+            } else {
+                results = compiler.compileBatch(sources, options);
+            }
+            if(options.isParseStatistics()) {
+                printParseStatistics(results, System.out);
+            }
+            if(options.isDeadCodeReport()) {
+                printDeadCodeReport(results, System.out);
+            }
+            if(compilationCache != null) {
+                System.out.println(compilationCache.getStatistics());
+            }
+        } catch (IOException io) {
+            System.out.println(io.getMessage());
+        } catch (Exception e) {
+            System.out.println(e.getMessage());
+        }
+    }
+
+    private static CompilationCache createCache(CompilerOptions options) throws IOException {
+        Optional<File> cacheDirectory = options.getCacheDirectory();
+        if(!cacheDirectory.isPresent()) {
+            return null;
+        }
+        return new CompilationCache(cacheDirectory.get(), options.getCacheSize(), getCompilerVersion());
+    }
+
+    static IncrementalBuild createIncrementalBuild(CompilerOptions options) {
+        return options.isIncremental()
+                ? new IncrementalBuild(getCodeVersion(options.isBufferedOutput(), options.isMemo(), options.getInlineSize())) : null;
+    }
+
+    /**
+     * Class files generated by different builds of the compiler are different, even with the same {@link #VERSION}.
+     */
+    private static String getCompilerVersion() {
+        return VERSION + " " + CompilerBuild.getHash();
+    }
+
+    /**
+     * Class files generated with different options are different, so they are not reused.
+     */
+    private static String getCodeVersion(boolean bufferedOutput, boolean memo, int inlineSize) {
+        String compilerVersion = getCompilerVersion();
+        String version = bufferedOutput ? compilerVersion + " " + BUFFERED_OUTPUT : compilerVersion;
+        version = memo ? version + " " + MEMO : version;
+        return inlineSize != Optimizer.DEFAULT_INLINE_SIZE ? version + " " + INLINE_SIZE + "=" + inlineSize : version;
+    }
+
+    static void printParseStatistics(List<CompilationResult> results, PrintStream output) {
+        long parsed = 0;
+        long fallbacks = 0;
+        for(CompilationResult result : results) {
+            Optional<ParseStatistics> statistics = result.getParseStatistics();
+            if(statistics.isPresent()) {
+                output.println(result.getSource().getPath() + ": " + statistics.get());
+                parsed++;
+                if(statistics.get().isLlFallback()) {
+                    fallbacks++;
+                }
+            }
+        }
+        output.println("LL fallbacks: " + fallbacks + " of " + parsed + " parsed files");
+    }
+
+    static void printDeadCodeReport(List<CompilationResult> results, PrintStream output) {
+        long optimized = 0;
+        long removals = 0;
+        for(CompilationResult result : results) {
+            Optional<DeadCodeReport> report = result.getDeadCodeReport();
+            if(report.isPresent()) {
+                report.get().getRemovals().forEach(removal -> output.println(result.getSource().getPath() + ": " + removal));
+                optimized++;
+                removals += report.get().getRemovals().size();
+            }
+        }
+        output.println("Dead code removals: " + removals + " in " + optimized + " optimized files");
+    }
+
+    private List<CompilationResult> compileBatch(List<File> sources, CompilerOptions options) {
+        BatchCompiler batchCompiler = new BatchCompiler(this, options.getThreads());
+        List<CompilationResult> results = batchCompiler.compile(sources, options::getOutputDirectory);
+        long failed = results.stream().filter(result -> !result.isSuccessful()).count();
+        long upToDate = results.stream().filter(CompilationResult::isUpToDate).count();
+        results.forEach(result -> result.getError()
+                .ifPresent(error -> System.out.println(result.getSource().getPath() + ": " + error)));
+        System.out.println("Compiled " + (results.size() - failed - upToDate) + " of " + results.size() + " files"
+                + (upToDate > 0 ? ", " + upToDate + " up to date" : ""));
+        return results;
+    }
+
+    public CompilationResult compile(File file, File outputDirectory) {
         String fileName = file.getName();
         String className = fileName.substring(0, fileName.lastIndexOf('.'));
         try {
-            File preprocessedTempFile = new Preprocessor().preprocess(file);
+            if(incrementalBuild != null && incrementalBuild.isUpToDate(file, className, outputDirectory)) {
+                return CompilationResult.upToDate(file, new File(outputDirectory, className + ".class"));
+            }
 
-            Init compilationUnit = new SaralCompilationUnitParser().getCompilationUnit(preprocessedTempFile, className);
+            Preprocessor preprocessor = new Preprocessor();
+            Set<File> includedFiles = new LinkedHashSet<>();
+            List<String> sourceLines = preprocessor.readExpandedLines(file, includedFiles);
 
-            saveBytecodeToClassFile(compilationUnit);
-            Files.delete(preprocessedTempFile.toPath());
+            String cacheKey = null;
+            if(cache != null) {
+                cacheKey = cache.createKey(getCodeVersion(bufferedOutput, memo, inlineSize), className, sourceLines);
+                Optional<byte[]> cachedByteCode = cache.get(cacheKey);
+                if(cachedByteCode.isPresent()) {
+                    File classFile = saveBytecodeToClassFile(className, cachedByteCode.get(), outputDirectory);
+                    recordIncludes(file, includedFiles, className, outputDirectory);
+                    return CompilationResult.success(file, classFile);
+                }
+            }
+
+            CharStream preprocessedSource = preprocessor.preprocessToCharStream(sourceLines, file.getPath());
+
+            SaralCompilationUnitParser parser = new SaralCompilationUnitParser(errorOutput);
+            Optimizer optimizer = new Optimizer(inlineSize);
+            Init compilationUnit = optimizer.optimize(parser.getCompilationUnit(preprocessedSource, className));
+            byte[] byteCode = new ByteCodeGenerator(bufferedOutput, memo)
+                    .generateByteCode(compilationUnit, optimizer.getVariableStorage());
+
+            File classFile = saveBytecodeToClassFile(compilationUnit.getScope().getClassName(), byteCode, outputDirectory);
+
+            // sources with syntax errors are neither cached nor recorded, so the errors are reported again next time
+            if(parser.getNumberOfSyntaxErrors() == 0) {
+                if(cache != null) {
+                    storeInCache(file, cacheKey, byteCode);
+                }
+                recordIncludes(file, includedFiles, className, outputDirectory);
+            }
+            return CompilationResult.success(file, classFile, parser.getParseStatistics(), optimizer.getDeadCodeReport());
         } catch (IOException io) {
-            System.out.println(io.getMessage());
+            return CompilationResult.failure(file, io.getMessage());
         } catch (Exception e) {
-            System.out.println(e.getMessage());
+            return CompilationResult.failure(file, String.valueOf(e.getMessage()));
+        }
+    }
+
+    /**
+     * The class file is already written, so a failure of the cache is reported without failing the compilation.
+     */
+    private void storeInCache(File file, String cacheKey, byte[] byteCode) {
+        try {
+            cache.put(cacheKey, byteCode);
+        } catch (IOException io) {
+            errorOutput.println("Cannot store " + file.getPath() + " in the cache: " + io.getMessage());
+        }
+    }
+
+    private void recordIncludes(File file, Set<File> includedFiles, String className, File outputDirectory) throws IOException {
+        if(incrementalBuild != null) {
+            incrementalBuild.record(file, includedFiles, className, outputDirectory);
         }
     }
 
-    private static void saveBytecodeToClassFile(Init compilationUnit) throws IOException {
-        byte[] byteCode = new ByteCodeGenerator().generateByteCode(compilationUnit);
-        String className = compilationUnit.getScope().getClassName();
-        final String classFile = className + ".class";
+    private static File saveBytecodeToClassFile(String className, byte[] byteCode, File outputDirectory) throws IOException {
+        final File classFile = new File(outputDirectory, className + ".class");
+        outputDirectory.mkdirs();
         OutputStream os = new FileOutputStream(classFile);
         os.write(byteCode);
         os.close();
+        return classFile;
     }
 }
@@ -0,0 +1,160 @@
+package com.pidanic.saral;
+
+import com.pidanic.saral.cache.CompilationCache;
+import com.pidanic.saral.domain.Init;
+import com.pidanic.saral.generator.ByteCodeGenerator;
+import com.pidanic.saral.optimizer.Optimizer;
+import org.antlr.v4.runtime.CharStreams;
+
+import java.io.*;
+import java.net.InetAddress;
+import java.net.ServerSocket;
+import java.net.Socket;
+import java.net.SocketException;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+/**
+ * Long running compiler listening on a local socket. It keeps one JVM with warm lexer and parser
+ * DFA caches and already loaded ASM classes.
+ *
+ * Every line sent by a client is one compile request with the same arguments as the command line compiler
+ * (<code>[-d output_dir] source.srl|source_dir ...</code>, separated by whitespace). For every source file
+ * the daemon answers with <code>OK source class_file</code>, <code>UP_TO_DATE source class_file</code>
+ * (with <code>-incremental</code>) or <code>ERROR source: message</code>, syntax errors
+ * are written as they are found and the response ends with <code>DONE</code>. Line <code>STOP</code> stops the daemon.
+ *
+ * Every source file is compiled with its own preprocessor, parser, visitors and scope, so concurrent requests
+ * share only immutable state.
+ */
+public class CompilerDaemon {
+    static final String DONE = "DONE";
+    static final String STOP = "STOP";
+
+    private static final String WARM_UP_CLASS = "SaralDaemonWarmUp";
+    private static final String WARM_UP_SOURCE = "meňak neskutočné numeralio x = 1 + 2\n"
+            + "meňak logický l = (x > 2) a pravda\n"
+            + "meňak slovo s = \"x\" + x\n"
+            + "ciskaj s\n";
+    private static final int WARM_UP_ITERATIONS = 20;
+
+    private final int port;
+    private final ExecutorService workers;
+    private final CompilationCache cache;
+    private final ExecutorService connections = Executors.newCachedThreadPool();
+    private volatile boolean running = true;
+    private ServerSocket serverSocket;
+
+    public CompilerDaemon(int port, int threads) {
+        this(port, threads, null);
+    }
+
+    /**
+     * @param cache cache shared by all requests, or <code>null</code> to compile without cache
+     */
+    public CompilerDaemon(int port, int threads, CompilationCache cache) {
+        this.port = port;
+        this.workers = Executors.newFixedThreadPool(threads);
+        this.cache = cache;
+    }
+
+    public void start() throws IOException {
+        warmUp();
+        try (ServerSocket server = new ServerSocket(port, 50, InetAddress.getLoopbackAddress())) {
+            serverSocket = server;
+            System.out.println("Saral compiler daemon listening on port " + server.getLocalPort());
+            while(running) {
+                Socket socket;
+                try {
+                    socket = server.accept();
+                } catch (SocketException e) {
+                    if(!running) {
+                        break;
+                    }
+                    throw e;
+                }
+                connections.submit(() -> handleConnection(socket));
+            }
+        } finally {
+            connections.shutdown();
+            workers.shutdown();
+        }
+    }
+
+    public void stop() {
+        running = false;
+        try {
+            if(serverSocket != null) {
+                serverSocket.close();
+            }
+        } catch (IOException e) {
+            System.out.println(e.getMessage());
+        }
+    }
+
+    private void warmUp() {
+        PrintStream noOutput = new PrintStream(new OutputStream() {
+            @Override
+            public void write(int b) {
+            }
+        });
+        for(int i = 0; i < WARM_UP_ITERATIONS; i++) {
+            Init compilationUnit = new SaralCompilationUnitParser(noOutput)
+                    .getCompilationUnit(CharStreams.fromString(WARM_UP_SOURCE), WARM_UP_CLASS);
+            Optimizer optimizer = new Optimizer();
+            Init optimized = optimizer.optimize(compilationUnit);
+            new ByteCodeGenerator().generateByteCode(optimized, optimizer.getVariableStorage());
+        }
+    }
+
+    private void handleConnection(Socket socket) {
+        try (Socket client = socket;
+             BufferedReader reader = new BufferedReader(new InputStreamReader(client.getInputStream(), StandardCharsets.UTF_8));
+             PrintStream writer = new PrintStream(client.getOutputStream(), true, StandardCharsets.UTF_8.name())) {
+            String request;
+            while((request = reader.readLine()) != null) {
+                if(request.trim().equals(STOP)) {
+                    writer.println(DONE);
+                    stop();
+                    return;
+                }
+                handleRequest(request, writer);
+                writer.println(DONE);
+            }
+        } catch (IOException e) {
+            System.out.println(e.getMessage());
+        }
+    }
+
+    private void handleRequest(String request, PrintStream writer) {
+        try {
+            CompilerOptions options = CompilerOptions.parse(request.trim().split("\\s+"));
+            List<File> sources = options.getSourceFiles();
+            BatchCompiler batchCompiler = new BatchCompiler(new Compiler(writer, cache,
+                    Compiler.createIncrementalBuild(options), options.isBufferedOutput(), options.isMemo(), options.getInlineSize()), workers);
+            List<CompilationResult> results = batchCompiler.compile(sources, options::getOutputDirectory);
+            for(CompilationResult result : results) {
+                if(result.isUpToDate()) {
+                    writer.println("UP_TO_DATE " + result.getSource().getPath() + " " + result.getClassFile().get().getPath());
+                } else if(result.isSuccessful()) {
+                    writer.println("OK " + result.getSource().getPath() + " " + result.getClassFile().get().getPath());
+                } else {
+                    writer.println("ERROR " + result.getSource().getPath() + ": " + result.getError().get());
+                }
+            }
+            if(options.isParseStatistics()) {
+                Compiler.printParseStatistics(results, writer);
+            }
+            if(options.isDeadCodeReport()) {
+                Compiler.printDeadCodeReport(results, writer);
+            }
+            if(cache != null) {
+                writer.println(cache.getStatistics());
+            }
+        } catch (Exception e) {
+            writer.println("ERROR " + e.getMessage());
+        }
+    }
+}
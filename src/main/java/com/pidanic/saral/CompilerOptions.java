@@ -0,0 +1,228 @@
+package com.pidanic.saral;
+
+import com.pidanic.saral.optimizer.Optimizer;
+import org.apache.commons.lang3.StringUtils;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+/**
+ * Command line options of the {@link Compiler}.
+ *
+ * Usage: <code>[-d output_dir] [-threads count] [-cache cache_dir [-cacheSize megabytes]] [-incremental]
+ * [-parseStats] [-deadCodeReport] [-bufferedOutput] [-memo] [-inlineSize size] source.srl|source_dir ...</code>
+ * or <code>-daemon port [-threads count]</code> to start a {@link CompilerDaemon}.
+ */
+public class CompilerOptions {
+    private static final String OUTPUT_DIRECTORY = "-d";
+    private static final String THREADS = "-threads";
+    private static final String DAEMON = "-daemon";
+    private static final String CACHE = "-cache";
+    private static final String CACHE_SIZE = "-cacheSize";
+    private static final String INCREMENTAL = "-incremental";
+    private static final String PARSE_STATISTICS = "-parseStats";
+    private static final String DEAD_CODE_REPORT = "-deadCodeReport";
+    private static final String BUFFERED_OUTPUT = "-bufferedOutput";
+    private static final String MEMO = "-memo";
+    private static final String INLINE_SIZE = "-inlineSize";
+    private static final long DEFAULT_CACHE_SIZE_MB = 256;
+    private static final String SOURCE_EXTENSION = ".srl";
+
+    private File outputDirectory = new File(".");
+    private int threads = Runtime.getRuntime().availableProcessors();
+    private int daemonPort = -1;
+    private File cacheDirectory;
+    private long cacheSize = DEFAULT_CACHE_SIZE_MB * 1024 * 1024;
+    private boolean incremental;
+    private boolean parseStatistics;
+    private boolean deadCodeReport;
+    private boolean bufferedOutput;
+    private boolean memo;
+    private int inlineSize = Optimizer.DEFAULT_INLINE_SIZE;
+    private List<File> sources = new ArrayList<>();
+
+    public static CompilerOptions parse(String[] args) {
+        CompilerOptions options = new CompilerOptions();
+        for(int i = 0; i < args.length; i++) {
+            String arg = args[i];
+            if(arg.equals(OUTPUT_DIRECTORY)) {
+                options.outputDirectory = new File(getOptionValue(args, ++i, arg));
+            } else if(arg.equals(THREADS)) {
+                options.threads = Integer.parseInt(getOptionValue(args, ++i, arg));
+                if(options.threads < 1) {
+                    throw new IllegalArgumentException("Number of threads has to be positive: " + options.threads);
+                }
+            } else if(arg.equals(DAEMON)) {
+                options.daemonPort = Integer.parseInt(getOptionValue(args, ++i, arg));
+            } else if(arg.equals(CACHE)) {
+                options.cacheDirectory = new File(getOptionValue(args, ++i, arg));
+            } else if(arg.equals(CACHE_SIZE)) {
+                options.cacheSize = Long.parseLong(getOptionValue(args, ++i, arg)) * 1024 * 1024;
+            } else if(arg.equals(INCREMENTAL)) {
+                options.incremental = true;
+            } else if(arg.equals(PARSE_STATISTICS)) {
+                options.parseStatistics = true;
+            } else if(arg.equals(DEAD_CODE_REPORT)) {
+                options.deadCodeReport = true;
+            } else if(arg.equals(BUFFERED_OUTPUT)) {
+                options.bufferedOutput = true;
+            } else if(arg.equals(MEMO)) {
+                options.memo = true;
+            } else if(arg.equals(INLINE_SIZE)) {
+                options.inlineSize = Integer.parseInt(getOptionValue(args, ++i, arg));
+                if(options.inlineSize < 0) {
+                    throw new IllegalArgumentException("Inline size cannot be negative: " + options.inlineSize);
+                }
+            } else {
+                options.sources.add(new File(arg));
+            }
+        }
+        if(options.sources.isEmpty() && !options.isDaemon()) {
+            throw new IllegalArgumentException("No source file specified");
+        }
+        return options;
+    }
+
+    private static String getOptionValue(String[] args, int index, String option) {
+        if(index >= args.length) {
+            throw new IllegalArgumentException("Missing value for option " + option);
+        }
+        return args[index];
+    }
+
+    public File getOutputDirectory() {
+        return outputDirectory;
+    }
+
+    public int getThreads() {
+        return threads;
+    }
+
+    public boolean isDaemon() {
+        return daemonPort >= 0;
+    }
+
+    public int getDaemonPort() {
+        return daemonPort;
+    }
+
+    public Optional<File> getCacheDirectory() {
+        return Optional.ofNullable(cacheDirectory);
+    }
+
+    /**
+     * Maximal size of the cache directory in bytes.
+     */
+    public long getCacheSize() {
+        return cacheSize;
+    }
+
+    /**
+     * Recompile only sources which changed, or whose <code>falda</code> files changed, since the last compilation.
+     */
+    public boolean isIncremental() {
+        return incremental;
+    }
+
+    /**
+     * Print parser cost of every compiled file and how many files needed the full LL parse.
+     */
+    public boolean isParseStatistics() {
+        return parseStatistics;
+    }
+
+    /**
+     * Print unused stores and never executed code removed from every compiled file.
+     */
+    public boolean isDeadCodeReport() {
+        return deadCodeReport;
+    }
+
+    /**
+     * Compiled programs print to a buffer, which is written to the console when it is full
+     * and at the end of the program, instead of printing every line to the console.
+     */
+    public boolean isBufferedOutput() {
+        return bufferedOutput;
+    }
+
+    /**
+     * Compiled programs remember results of pure bars with numeral, real, character or logical arguments
+     * and result, so a bar called again with the same arguments is not computed again.
+     */
+    public boolean isMemo() {
+        return memo;
+    }
+
+    /**
+     * Bars with at most this many statements and parts of expressions are inlined at their calls. Bars are not
+     * inlined with 0.
+     */
+    public int getInlineSize() {
+        return inlineSize;
+    }
+
+    /**
+     * Returns the directory for the class file of the source. Class files of sources found in a source directory
+     * are written to the same subdirectories of the output directory, so sources with the same name in different
+     * subdirectories do not overwrite each other.
+     */
+    public File getOutputDirectory(File sourceFile) {
+        Path sourceDirectory = sourceFile.toPath().getParent();
+        for(File source : sources) {
+            if(source.isDirectory() && sourceDirectory != null && sourceDirectory.startsWith(source.toPath())) {
+                Path relativeDirectory = source.toPath().relativize(sourceDirectory);
+                return relativeDirectory.toString().isEmpty() ? outputDirectory
+                        : new File(outputDirectory, relativeDirectory.toString());
+            }
+        }
+        return outputDirectory;
+    }
+
+    public List<File> getSources() {
+        return Collections.unmodifiableList(sources);
+    }
+
+    /**
+     * Returns all source files. Directories are searched recursively for files with <code>srl</code> extension.
+     *
+     * @throws IllegalArgumentException if two sources would be compiled to the same class file
+     */
+    public List<File> getSourceFiles() throws IOException {
+        List<File> files = new ArrayList<>();
+        for(File source : sources) {
+            if(source.isDirectory()) {
+                try (Stream<Path> paths = Files.walk(source.toPath())) {
+                    files.addAll(paths.filter(Files::isRegularFile)
+                            .filter(path -> path.toString().endsWith(SOURCE_EXTENSION))
+                            .sorted()
+                            .map(Path::toFile)
+                            .collect(Collectors.toList()));
+                }
+            } else {
+                files.add(source);
+            }
+        }
+        Map<File, File> classFiles = new HashMap<>();
+        for(File file : files) {
+            String className = StringUtils.substringBeforeLast(file.getName(), ".");
+            File classFile = new File(getOutputDirectory(file), className + ".class");
+            File previous = classFiles.putIfAbsent(classFile.getAbsoluteFile(), file);
+            if(previous != null) {
+                throw new IllegalArgumentException("Sources " + previous.getPath() + " and " + file.getPath()
+                        + " are compiled to the same class file " + classFile.getPath());
+            }
+        }
+        return files;
+    }
+}
@@ -0,0 +1,66 @@
+package com.pidanic.saral;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Parser cost of one compiled file. Time is measured separately for lexing, for the fast SLL parse,
+ * for the full LL parse (only when SLL prediction failed) and for building the domain tree by visitors.
+ */
+public class ParseStatistics {
+    private long lexingTime;
+    private long sllTime;
+    private long llTime;
+    private long treeWalkTime;
+    private boolean llFallback;
+
+    void setLexingTime(long nanos) {
+        this.lexingTime = nanos;
+    }
+
+    void setSllTime(long nanos) {
+        this.sllTime = nanos;
+    }
+
+    void setLlTime(long nanos) {
+        this.llTime = nanos;
+        this.llFallback = true;
+    }
+
+    void setTreeWalkTime(long nanos) {
+        this.treeWalkTime = nanos;
+    }
+
+    public long getLexingTime() {
+        return lexingTime;
+    }
+
+    public long getSllTime() {
+        return sllTime;
+    }
+
+    public long getLlTime() {
+        return llTime;
+    }
+
+    public long getTreeWalkTime() {
+        return treeWalkTime;
+    }
+
+    /**
+     * Returns <code>true</code>, if SLL prediction failed and the file was parsed again with full LL prediction.
+     */
+    public boolean isLlFallback() {
+        return llFallback;
+    }
+
+    @Override
+    public String toString() {
+        return "lexing " + toMillis(lexingTime) + " ms, SLL " + toMillis(sllTime) + " ms, "
+                + (llFallback ? "LL " + toMillis(llTime) + " ms, " : "")
+                + "tree walk " + toMillis(treeWalkTime) + " ms";
+    }
+
+    private static String toMillis(long nanos) {
+        return String.format("%.3f", nanos / (double) TimeUnit.MILLISECONDS.toNanos(1));
+    }
+}
@@ -1,5 +1,8 @@
 package com.pidanic.saral;
 
+import org.antlr.v4.runtime.CharStream;
+import org.antlr.v4.runtime.CharStreams;
+
 import java.io.*;
 import java.util.*;
 import java.util.stream.Collectors;
@@ -12,38 +15,52 @@ public class Preprocessor {
     private static final String INCLUDE_DIR = "include";
     private static final String DEFAULT_EXTENSION = "srl";
 
-    private Stack<Integer> indents = new Stack<>();
+    /**
+     * Preprocesses source lines which already have all <code>falda</code> files expanded.
+     *
+     * @see #readExpandedLines(File)
+     */
+    public CharStream preprocessToCharStream(List<String> expandedLines, String sourceName) {
+        String source = toSource(createIndentDedent(expandedLines.stream()));
+        return CharStreams.fromString(source, sourceName);
+    }
+
+    /**
+     * Reads the source file with all included <code>falda</code> files expanded, before the indentation is processed.
+     */
+    public List<String> readExpandedLines(File file) {
+        return readExpandedLines(file, new HashSet<>());
+    }
 
-    public File preprocess(File file) throws IOException {
-        Stream<String> lines = readLines(file);
-        Stream<String> preprocessedLines = createIndentDedent(lines);
+    /**
+     * Reads the source file with all included <code>falda</code> files expanded and collects all files
+     * included directly or transitively. A <code>falda</code> file which does not exist is collected too.
+     */
+    public List<String> readExpandedLines(File file, Set<File> includedFiles) {
+        return readLines(file, includedFiles).collect(Collectors.toList());
+    }
 
-        Calendar now = Calendar.getInstance();
-        File temp = File.createTempFile(String.valueOf(now.getTimeInMillis()), "." + DEFAULT_EXTENSION);
-        BufferedWriter bos = new BufferedWriter(new FileWriter(temp));
-        preprocessedLines.forEach(line -> {
-            try {
-                bos.write(line);
-                bos.newLine();
-            } catch (IOException e) {
-                e.printStackTrace();
-            }
-        });
-        bos.flush();
-        bos.close();
-        return temp;
+    private String toSource(Stream<String> lines) {
+        StringBuilder source = new StringBuilder();
+        lines.forEach(line -> source.append(line).append(System.lineSeparator()));
+        return source.toString();
     }
 
-    private Stream<String> readLines(File file) {
-        try {
-            BufferedReader bufferedReader = new BufferedReader(new FileReader(file));
-            List<String> allLines = bufferedReader.lines().collect(Collectors.toList());
-            allLines.add("");
-            return expandIncludes(file, allLines.stream());
+    /**
+     * Reads the whole file at once, so it is closed before its included files are read.
+     */
+    private Stream<String> readLines(File file, Set<File> includedFiles) {
+        List<String> allLines;
+        try (BufferedReader bufferedReader = new BufferedReader(new FileReader(file))) {
+            allLines = bufferedReader.lines().collect(Collectors.toList());
         } catch (FileNotFoundException e) {
             e.printStackTrace();
+            return Stream.empty();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
         }
-        return Stream.empty();
+        allLines.add("");
+        return expandIncludes(file, allLines.stream(), includedFiles);
     }
 
     /**
@@ -70,6 +87,8 @@ public class Preprocessor {
     }
 
     private Stream<String> createIndentDedent(Stream<String> lines) {
+        // indentation stack of one preprocessed file, so a Preprocessor may be reused or shared between threads
+        Stack<Integer> indents = new Stack<>();
         Stream<String> linesWithIndentation = lines.filter(line -> !line.isEmpty()).map(line -> {
             String spaces = getAllSpacesFromLineBeginning(line);
 
@@ -101,7 +120,7 @@ public class Preprocessor {
         return line.substring(0, index);
     }
 
-    private Stream<String> expandIncludes(File compiledFile, Stream<String> lines) {
+    private Stream<String> expandIncludes(File compiledFile, Stream<String> lines, Set<File> includedFiles) {
         String relativePath = compiledFile.getPath();
         String relativeDir = relativePath.substring(0, relativePath.lastIndexOf(File.separator));
         return lines.flatMap(line -> {
@@ -112,7 +131,8 @@ public class Preprocessor {
                 if(!fileToRead.exists()) {
                     fileToRead = new File(getFaldaFilePath(INCLUDE_DIR, fileName));
                 }
-                return readLines(fileToRead);
+                includedFiles.add(fileToRead.getAbsoluteFile());
+                return readLines(fileToRead, includedFiles);
             }
             else {
                 return Stream.of(line);
@@ -6,23 +6,95 @@ import com.pidanic.saral.grammar.SaralLexer;
 import com.pidanic.saral.grammar.SaralParser;
 import com.pidanic.saral.visitor.InitVisitor;
 import org.antlr.v4.runtime.*;
+import org.antlr.v4.runtime.atn.PredictionMode;
+import org.antlr.v4.runtime.misc.ParseCancellationException;
 
 import java.io.File;
 import java.io.IOException;
+import java.io.PrintStream;
 
+/**
+ * Parses the preprocessed source in two stages. The first stage uses the faster SLL prediction and gives up on
+ * the first syntax error. Only when it fails, the source is parsed again with full LL prediction, which also
+ * reports syntax errors. SLL succeeds for almost all valid sources, so full LL is paid only for invalid ones
+ * or for the rare inputs SLL can not decide.
+ */
 public class SaralCompilationUnitParser {
+
+    private final PrintStream errorOutput;
+    private int numberOfSyntaxErrors;
+    private ParseStatistics parseStatistics = new ParseStatistics();
+
+    public SaralCompilationUnitParser() {
+        this(System.out);
+    }
+
+    public SaralCompilationUnitParser(PrintStream errorOutput) {
+        this.errorOutput = errorOutput;
+    }
+
     public Init getCompilationUnit(File preprocessedTempFile, String className) throws IOException{
         String fileAbsPath = preprocessedTempFile.getAbsolutePath();
 
         CharStream charStream = CharStreams.fromFileName(fileAbsPath);
+        return getCompilationUnit(charStream, className);
+    }
+
+    public Init getCompilationUnit(CharStream charStream, String className) {
+        parseStatistics = new ParseStatistics();
+
+        long start = System.nanoTime();
         SaralLexer saralLexer = new SaralLexer(charStream);
         CommonTokenStream commonTokenStream  = new CommonTokenStream(saralLexer);
-        SaralParser saralParser = new SaralParser(commonTokenStream);
+        commonTokenStream.fill();
+        parseStatistics.setLexingTime(System.nanoTime() - start);
 
-        BaseErrorListener errorListener = new SaralTreeWalkErrorListener();
-        saralParser.addErrorListener(errorListener);
+        SaralParser saralParser = new SaralParser(commonTokenStream);
+        SaralParser.InitContext init;
+        start = System.nanoTime();
+        try {
+            init = parseWithSll(saralParser);
+            parseStatistics.setSllTime(System.nanoTime() - start);
+        } catch (ParseCancellationException e) {
+            parseStatistics.setSllTime(System.nanoTime() - start);
+            start = System.nanoTime();
+            commonTokenStream.seek(0);
+            init = parseWithLl(saralParser);
+            parseStatistics.setLlTime(System.nanoTime() - start);
+        }
+        numberOfSyntaxErrors = saralParser.getNumberOfSyntaxErrors();
 
+        start = System.nanoTime();
         InitVisitor initVisitor = new InitVisitor(className);
-        return saralParser.init().accept(initVisitor);
+        Init compilationUnit = init.accept(initVisitor);
+        parseStatistics.setTreeWalkTime(System.nanoTime() - start);
+        return compilationUnit;
+    }
+
+    private SaralParser.InitContext parseWithSll(SaralParser saralParser) {
+        saralParser.getInterpreter().setPredictionMode(PredictionMode.SLL);
+        saralParser.removeErrorListeners();
+        saralParser.setErrorHandler(new BailErrorStrategy());
+        return saralParser.init();
+    }
+
+    private SaralParser.InitContext parseWithLl(SaralParser saralParser) {
+        saralParser.reset();
+        saralParser.getInterpreter().setPredictionMode(PredictionMode.LL);
+        saralParser.addErrorListener(ConsoleErrorListener.INSTANCE);
+        saralParser.addErrorListener(new SaralTreeWalkErrorListener(errorOutput));
+        saralParser.setErrorHandler(new DefaultErrorStrategy());
+        return saralParser.init();
+    }
+
+    public int getNumberOfSyntaxErrors() {
+        return numberOfSyntaxErrors;
+    }
+
+    /**
+     * Returns statistics of the last parsed compilation unit.
+     */
+    public ParseStatistics getParseStatistics() {
+        return parseStatistics;
     }
 }
@@ -0,0 +1,134 @@
+package com.pidanic.saral.cache;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.*;
+import java.nio.file.attribute.FileTime;
+import java.security.MessageDigest;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+/**
+ * On-disk cache of generated class files. An entry is keyed by a hash of the compiler version, the class name
+ * and the source with all <code>falda</code> files expanded, so a change in any included file is a miss.
+ *
+ * The size of the cache directory is bounded. When it grows over the limit, the least recently used entries are
+ * removed. An entry is marked as used by updating its modification time.
+ */
+public class CompilationCache {
+    private static final String ENTRY_EXTENSION = ".class";
+    private static final String TEMP_EXTENSION = ".tmp";
+
+    private final Path directory;
+    private final long maxSize;
+    private final String compilerVersion;
+    private final AtomicLong size = new AtomicLong();
+    private final CacheStatistics statistics = new CacheStatistics();
+
+    public CompilationCache(File directory, long maxSize, String compilerVersion) throws IOException {
+        this.directory = directory.toPath();
+        this.maxSize = maxSize;
+        this.compilerVersion = compilerVersion;
+        Files.createDirectories(this.directory);
+        size.set(entries().stream().mapToLong(CompilationCache::sizeOf).sum());
+    }
+
+    public String createKey(String className, List<String> expandedSourceLines) {
+        return createKey(compilerVersion, className, expandedSourceLines);
+    }
+
+    /**
+     * @param codeVersion compiler version together with options changing the generated class files
+     */
+    public String createKey(String codeVersion, String className, List<String> expandedSourceLines) {
+        MessageDigest digest = Hashing.createDigest();
+        update(digest, codeVersion);
+        update(digest, className);
+        for(String line : expandedSourceLines) {
+            update(digest, line);
+        }
+        return Hashing.toHex(digest.digest());
+    }
+
+    private static void update(MessageDigest digest, String value) {
+        digest.update(value.getBytes(StandardCharsets.UTF_8));
+        digest.update((byte) '\n');
+    }
+
+    public Optional<byte[]> get(String key) {
+        Path entry = directory.resolve(key + ENTRY_EXTENSION);
+        try {
+            byte[] byteCode = Files.readAllBytes(entry);
+            Files.setLastModifiedTime(entry, FileTime.fromMillis(System.currentTimeMillis()));
+            statistics.hit();
+            return Optional.of(byteCode);
+        } catch (IOException e) {
+            statistics.miss();
+            return Optional.empty();
+        }
+    }
+
+    public void put(String key, byte[] byteCode) throws IOException {
+        Path entry = directory.resolve(key + ENTRY_EXTENSION);
+        Path temp = Files.createTempFile(directory, key, TEMP_EXTENSION);
+        Files.write(temp, byteCode);
+        long previousSize = Files.exists(entry) ? sizeOf(entry) : 0;
+        Files.move(temp, entry, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        if(size.addAndGet(byteCode.length - previousSize) > maxSize) {
+            evict();
+        }
+    }
+
+    private synchronized void evict() throws IOException {
+        List<Path> leastRecentlyUsed = entries().stream()
+                .sorted((first, second) -> lastModified(first).compareTo(lastModified(second)))
+                .collect(Collectors.toList());
+        for(Path entry : leastRecentlyUsed) {
+            if(size.get() <= maxSize) {
+                break;
+            }
+            long entrySize = sizeOf(entry);
+            if(Files.deleteIfExists(entry)) {
+                size.addAndGet(-entrySize);
+                statistics.evict();
+            }
+        }
+    }
+
+    private List<Path> entries() throws IOException {
+        try (Stream<Path> files = Files.list(directory)) {
+            return files.filter(file -> file.toString().endsWith(ENTRY_EXTENSION)).collect(Collectors.toList());
+        }
+    }
+
+    private static long sizeOf(Path entry) {
+        try {
+            return Files.size(entry);
+        } catch (NoSuchFileException e) {
+            return 0;
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private static FileTime lastModified(Path entry) {
+        try {
+            return Files.getLastModifiedTime(entry);
+        } catch (IOException e) {
+            return FileTime.fromMillis(0);
+        }
+    }
+
+    public CacheStatistics getStatistics() {
+        return statistics;
+    }
+
+    public long getSize() {
+        return size.get();
+    }
+}
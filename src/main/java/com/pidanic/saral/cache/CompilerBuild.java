@@ -0,0 +1,69 @@
+package com.pidanic.saral.cache;
+
+import java.io.IOException;
+import java.net.URISyntaxException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.security.CodeSource;
+import java.security.MessageDigest;
+import java.util.List;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+/**
+ * Identifies the build of the compiler, so class files generated by another build are neither taken from the cache
+ * nor taken as up to date. It is a hash of the compiler jar, or of all class files, when the compiler runs from
+ * a directory of classes. The hash is computed once, when it is needed for the first time.
+ */
+public final class CompilerBuild {
+    private static final String UNKNOWN = "unknown";
+    private static final String CLASS_EXTENSION = ".class";
+
+    private CompilerBuild() {
+    }
+
+    /**
+     * Returns hash of the compiler build, or <code>unknown</code>, if the compiler classes cannot be read.
+     */
+    public static String getHash() {
+        return HashHolder.HASH;
+    }
+
+    private static class HashHolder {
+        private static final String HASH = computeHash();
+    }
+
+    private static String computeHash() {
+        try {
+            CodeSource codeSource = CompilerBuild.class.getProtectionDomain().getCodeSource();
+            if(codeSource == null) {
+                return UNKNOWN;
+            }
+            Path location = Paths.get(codeSource.getLocation().toURI());
+            if(Files.isRegularFile(location)) {
+                return Hashing.hash(Files.readAllBytes(location));
+            }
+            return hashClassFiles(location);
+        } catch (IOException | URISyntaxException | SecurityException e) {
+            return UNKNOWN;
+        }
+    }
+
+    private static String hashClassFiles(Path directory) throws IOException {
+        List<Path> classFiles;
+        try (Stream<Path> paths = Files.walk(directory)) {
+            classFiles = paths.filter(Files::isRegularFile)
+                    .filter(path -> path.toString().endsWith(CLASS_EXTENSION))
+                    .sorted()
+                    .collect(Collectors.toList());
+        }
+        MessageDigest digest = Hashing.createDigest();
+        for(Path classFile : classFiles) {
+            digest.update(directory.relativize(classFile).toString().getBytes(StandardCharsets.UTF_8));
+            digest.update(Files.readAllBytes(classFile));
+        }
+        return Hashing.toHex(digest.digest());
+    }
+}
@@ -0,0 +1,104 @@
+package com.pidanic.saral.cache;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Keeps the include graph of every compiled unit next to its class file. The dependency file records the hash
+ * of the compiled source and of every <code>falda</code> file included directly or transitively. A unit is up to date
+ * when its class file exists and none of the recorded files has changed since the last compilation.
+ *
+ * Hashes of files are computed once per build, so a <code>falda</code> file shared by many units is read only once.
+ */
+public class IncrementalBuild {
+    private static final String DEPENDENCIES_EXTENSION = ".deps";
+    private static final String TEMP_EXTENSION = ".tmp";
+    private static final String COMPILER = "compiler";
+    private static final String SOURCE = "source";
+    private static final String INCLUDE = "falda";
+    private static final String MISSING_FILE = "-";
+
+    private final String compilerVersion;
+    private final Map<Path, String> fileHashes = new ConcurrentHashMap<>();
+
+    public IncrementalBuild(String compilerVersion) {
+        this.compilerVersion = compilerVersion;
+    }
+
+    public boolean isUpToDate(File source, String className, File outputDirectory) throws IOException {
+        File classFile = new File(outputDirectory, className + ".class");
+        Path dependencyFile = getDependencyFile(className, outputDirectory);
+        if(!classFile.exists() || !Files.exists(dependencyFile)) {
+            return false;
+        }
+        List<String> dependencies = Files.readAllLines(dependencyFile, StandardCharsets.UTF_8);
+        if(dependencies.isEmpty() || !dependencies.get(0).equals(COMPILER + " " + compilerVersion)) {
+            return false;
+        }
+        Path sourcePath = source.getAbsoluteFile().toPath();
+        for(String dependency : dependencies.subList(1, dependencies.size())) {
+            String[] parts = dependency.split(" ", 3);
+            if(parts.length != 3) {
+                return false;
+            }
+            Path file = new File(parts[2]).toPath();
+            if(parts[0].equals(SOURCE) && !file.equals(sourcePath)) {
+                return false;
+            }
+            if(!getHash(file).equals(parts[1])) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    public void record(File source, Set<File> includedFiles, String className, File outputDirectory) throws IOException {
+        List<String> dependencies = new ArrayList<>();
+        dependencies.add(COMPILER + " " + compilerVersion);
+        dependencies.add(createDependency(SOURCE, source.getAbsoluteFile().toPath()));
+        for(File includedFile : includedFiles) {
+            dependencies.add(createDependency(INCLUDE, includedFile.getAbsoluteFile().toPath()));
+        }
+
+        Files.createDirectories(outputDirectory.toPath());
+        Path dependencyFile = getDependencyFile(className, outputDirectory);
+        Path temp = Files.createTempFile(outputDirectory.toPath(), className, TEMP_EXTENSION);
+        Files.write(temp, dependencies, StandardCharsets.UTF_8);
+        Files.move(temp, dependencyFile, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+    }
+
+    private String createDependency(String kind, Path file) throws IOException {
+        return kind + " " + getHash(file) + " " + file;
+    }
+
+    private String getHash(Path file) throws IOException {
+        String hash = fileHashes.get(file);
+        if(hash == null) {
+            hash = computeHash(file);
+            fileHashes.put(file, hash);
+        }
+        return hash;
+    }
+
+    private static String computeHash(Path file) throws IOException {
+        try {
+            return Hashing.hash(Files.readAllBytes(file));
+        } catch (NoSuchFileException e) {
+            return MISSING_FILE;
+        }
+    }
+
+    private static Path getDependencyFile(String className, File outputDirectory) {
+        return new File(outputDirectory, className + DEPENDENCIES_EXTENSION).toPath();
+    }
+}
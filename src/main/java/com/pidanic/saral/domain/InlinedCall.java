@@ -0,0 +1,66 @@
+package com.pidanic.saral.domain;
+
+import com.pidanic.saral.domain.block.Function;
+import com.pidanic.saral.domain.expression.Expression;
+import com.pidanic.saral.generator.SimpleStatementGenerator;
+import com.pidanic.saral.generator.StatementGenerator;
+import com.pidanic.saral.scope.Scope;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * Statements of a small bar generated in place of its call. Parameters and variables of the bar have their own
+ * scope with slots after all slots of the calling method. The result of the bar is stored to the variable,
+ * which the call was assigned to.
+ */
+public class InlinedCall implements SimpleStatement {
+
+    private Function function;
+    private List<CalledArgument> arguments;
+    private Scope scope;
+    private List<Statement> statements;
+    private Expression result;
+    private String variableName;
+
+    public InlinedCall(Function function, List<CalledArgument> calledArguments, Scope scope,
+                       List<Statement> statements, Expression result, String variableName) {
+        this.function = function;
+        this.arguments = new ArrayList<>(calledArguments);
+        this.scope = scope;
+        this.statements = new ArrayList<>(statements);
+        this.result = result;
+        this.variableName = variableName;
+    }
+
+    @Override
+    public void accept(StatementGenerator generator) {
+        ((SimpleStatementGenerator) generator).generate(this);
+    }
+
+    public Function getFunction() {
+        return function;
+    }
+
+    public List<CalledArgument> getCalledArguments() {
+        return Collections.unmodifiableList(arguments);
+    }
+
+    public Scope getScope() {
+        return scope;
+    }
+
+    public List<Statement> getStatements() {
+        return Collections.unmodifiableList(statements);
+    }
+
+    public Optional<Expression> getResult() {
+        return Optional.ofNullable(result);
+    }
+
+    public Optional<String> getVariableName() {
+        return Optional.ofNullable(variableName);
+    }
+}
@@ -0,0 +1,37 @@
+package com.pidanic.saral.domain;
+
+import com.pidanic.saral.domain.block.Function;
+import com.pidanic.saral.generator.SimpleStatementGenerator;
+import com.pidanic.saral.generator.StatementGenerator;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * Call of a bar from its own last statement. Called arguments become new values of its parameters
+ * and the bar starts again instead of calling itself.
+ */
+public class TailCall implements SimpleStatement {
+
+    private Function function;
+    private List<CalledArgument> arguments;
+
+    public TailCall(Function function, List<CalledArgument> calledArguments) {
+        this.function = function;
+        this.arguments = new ArrayList<>(calledArguments);
+    }
+
+    @Override
+    public void accept(StatementGenerator generator) {
+        ((SimpleStatementGenerator) generator).generate(this);
+    }
+
+    public List<CalledArgument> getCalledArguments() {
+        return Collections.unmodifiableList(arguments);
+    }
+
+    public Function getFunction() {
+        return function;
+    }
+}
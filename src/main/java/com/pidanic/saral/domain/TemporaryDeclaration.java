@@ -0,0 +1,37 @@
+package com.pidanic.saral.domain;
+
+import com.pidanic.saral.domain.expression.Expression;
+import com.pidanic.saral.domain.expression.TemporaryRef;
+import com.pidanic.saral.generator.SimpleStatementGenerator;
+import com.pidanic.saral.generator.StatementGenerator;
+
+/**
+ * Stores the value of an expression to a slot read by {@link TemporaryRef}, so the expression is computed once.
+ */
+public class TemporaryDeclaration implements SimpleStatement {
+
+    private final int index;
+    private final Expression expression;
+
+    public TemporaryDeclaration(int index, Expression expression) {
+        this.index = index;
+        this.expression = expression;
+    }
+
+    @Override
+    public void accept(StatementGenerator generator) {
+        ((SimpleStatementGenerator) generator).generate(this);
+    }
+
+    public int getIndex() {
+        return index;
+    }
+
+    public Expression getExpression() {
+        return expression;
+    }
+
+    public TemporaryRef createRef() {
+        return new TemporaryRef(index, expression.type());
+    }
+}
@@ -52,4 +52,12 @@ public class ForStatement extends BlockStatementImpl {
     public List<Statement> getBlock() {
         return block;
     }
+
+    /**
+     * Name of the hidden variable holding the direction of the loop. It contains <code>$</code>,
+     * so it cannot clash with Saral identifiers.
+     */
+    public static String getDirectionVariableName(String iteratorName) {
+        return iteratorName + "$direction";
+    }
 }
@@ -18,6 +18,8 @@ public class Function extends CallableStatement {
     private List<Statement> statements;
     private ReturnStatement retStatement;
     private Type returnType;
+    private boolean pure;
+    private boolean inlined;
 
     public Function(Scope scope, String name, List<Argument> arguments, List<Statement> statements, Type returnType, ReturnStatement retStatement) {
         super(scope);
@@ -64,4 +66,27 @@ public class Function extends CallableStatement {
     public void setRetStatement(ReturnStatement newStatements) {
         this.retStatement = newStatements;
     }
+
+    /**
+     * Pure bar does not read nor print, does not change its array arguments and calls only pure bars,
+     * so its result depends only on its arguments.
+     */
+    public boolean isPure() {
+        return pure;
+    }
+
+    public void setPure(boolean pure) {
+        this.pure = pure;
+    }
+
+    /**
+     * All calls of an inlined bar are replaced by its statements.
+     */
+    public boolean isInlined() {
+        return inlined;
+    }
+
+    public void setInlined(boolean inlined) {
+        this.inlined = inlined;
+    }
 }
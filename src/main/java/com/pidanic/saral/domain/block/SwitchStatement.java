@@ -0,0 +1,77 @@
+package com.pidanic.saral.domain.block;
+
+import com.pidanic.saral.domain.Statement;
+import com.pidanic.saral.domain.expression.VariableRef;
+import com.pidanic.saral.generator.BlockStatementGenerator;
+import com.pidanic.saral.generator.StatementGenerator;
+import com.pidanic.saral.scope.Scope;
+
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * Conditions comparing one numeral or character variable with different constants. Only the block of the case
+ * equal to the variable is run, or the default block, when no case is equal. Every block keeps the scope of its
+ * condition.
+ */
+public class SwitchStatement extends BlockStatementImpl {
+
+    private VariableRef variable;
+    private List<Case> cases;
+    private Scope defaultScope;
+    private List<Statement> defaultBlock;
+
+    public SwitchStatement(Scope scope, VariableRef variable, List<Case> cases, Scope defaultScope,
+                           List<Statement> defaultBlock) {
+        super(scope);
+        this.variable = variable;
+        this.cases = Collections.unmodifiableList(cases);
+        this.defaultScope = defaultScope;
+        this.defaultBlock = Collections.unmodifiableList(defaultBlock);
+    }
+
+    @Override
+    public void accept(StatementGenerator generator) {
+        ((BlockStatementGenerator) generator).generate(this);
+    }
+
+    public VariableRef getVariable() {
+        return variable;
+    }
+
+    public List<Case> getCases() {
+        return cases;
+    }
+
+    public Scope getDefaultScope() {
+        return defaultScope;
+    }
+
+    public List<Statement> getDefaultBlock() {
+        return defaultBlock;
+    }
+
+    public static class Case {
+        private int key;
+        private Scope scope;
+        private List<Statement> block;
+
+        public Case(int key, Scope scope, List<Statement> block) {
+            this.key = key;
+            this.scope = scope;
+            this.block = Collections.unmodifiableList(block);
+        }
+
+        public int getKey() {
+            return key;
+        }
+
+        public Scope getScope() {
+            return scope;
+        }
+
+        public List<Statement> getBlock() {
+            return block;
+        }
+    }
+}
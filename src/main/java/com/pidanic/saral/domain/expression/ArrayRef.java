@@ -5,14 +5,20 @@ import com.pidanic.saral.generator.ExpressionGenerator;
 import com.pidanic.saral.util.BuiltInType;
 import com.pidanic.saral.util.Type;
 
-public class ArrayRef extends VariableRef {
+public class ArrayRef extends Expression {
+    private final String varName;
     private final Expression index;
 
     public ArrayRef(String varName, Type type, Expression index) {
-        super(varName, type);
+        super(type);
+        this.varName = varName;
         this.index = index;
     }
 
+    public String name() {
+        return varName;
+    }
+
     @Override
     public void accept(ExpressionGenerator generator) {
         generator.generate(this);
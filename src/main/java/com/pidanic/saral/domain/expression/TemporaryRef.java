@@ -0,0 +1,26 @@
+package com.pidanic.saral.domain.expression;
+
+import com.pidanic.saral.generator.ExpressionGenerator;
+import com.pidanic.saral.util.Type;
+
+/**
+ * Value computed by a {@link com.pidanic.saral.domain.TemporaryDeclaration}. It is kept in a slot after all slots
+ * of the method, which belongs to no scope.
+ */
+public class TemporaryRef extends Expression {
+    private final int index;
+
+    public TemporaryRef(int index, Type type) {
+        super(type);
+        this.index = index;
+    }
+
+    public int getIndex() {
+        return index;
+    }
+
+    @Override
+    public void accept(ExpressionGenerator generator) {
+        generator.generate(this);
+    }
+}
@@ -0,0 +1,43 @@
+package com.pidanic.saral.domain.expression;
+
+import com.pidanic.saral.generator.ExpressionGenerator;
+import com.pidanic.saral.util.Type;
+
+/**
+ * Computes an expression and keeps its value also in a slot read later by {@link TemporaryRef}, so the same value
+ * is not computed again.
+ */
+public class TemporaryStore extends Expression {
+    private final int index;
+    private final Expression expression;
+
+    public TemporaryStore(int index, Expression expression) {
+        this(index, expression.type(), expression);
+    }
+
+    /**
+     * @param type type of the computed value, when it is not the type of the expression
+     */
+    public TemporaryStore(int index, Type type, Expression expression) {
+        super(type);
+        this.index = index;
+        this.expression = expression;
+    }
+
+    public int getIndex() {
+        return index;
+    }
+
+    public Expression getExpression() {
+        return expression;
+    }
+
+    public TemporaryRef createRef() {
+        return new TemporaryRef(index, type());
+    }
+
+    @Override
+    public void accept(ExpressionGenerator generator) {
+        generator.generate(this);
+    }
+}
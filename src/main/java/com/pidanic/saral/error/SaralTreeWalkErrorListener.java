@@ -4,11 +4,24 @@ import org.antlr.v4.runtime.BaseErrorListener;
 import org.antlr.v4.runtime.RecognitionException;
 import org.antlr.v4.runtime.Recognizer;
 
+import java.io.PrintStream;
+
 public class SaralTreeWalkErrorListener extends BaseErrorListener {
+
+    private final PrintStream output;
+
+    public SaralTreeWalkErrorListener() {
+        this(System.out);
+    }
+
+    public SaralTreeWalkErrorListener(PrintStream output) {
+        this.output = output;
+    }
+
     @Override
     public void syntaxError(Recognizer<?, ?> recognizer, Object offendingSymbol, int line, int charPositionInLine, String msg, RecognitionException e) {
         final String errorFormat = "You fucked up at line %d,char %d :(. Details:\n%s";
         final String errorMsg = String.format(errorFormat, line, charPositionInLine, msg);
-        System.out.println(errorMsg);
+        output.println(errorMsg);
     }
 }
\ No newline at end of file
@@ -5,42 +5,47 @@ import com.pidanic.saral.domain.VariableDeclaration;
 import com.pidanic.saral.domain.block.ForStatement;
 import com.pidanic.saral.domain.block.IfStatement;
 import com.pidanic.saral.domain.SimpleStatement;
+import com.pidanic.saral.domain.block.SwitchStatement;
 import com.pidanic.saral.domain.block.WhileStatement;
 import com.pidanic.saral.domain.expression.Expression;
 import com.pidanic.saral.domain.expression.VariableRef;
-import com.pidanic.saral.domain.expression.math.CompareExpression;
-import com.pidanic.saral.domain.expression.math.CompareSign;
+import com.pidanic.saral.util.BuiltInType;
 import com.pidanic.saral.scope.Scope;
 import org.objectweb.asm.Label;
 import org.objectweb.asm.MethodVisitor;
 import org.objectweb.asm.Opcodes;
 
+import java.util.Arrays;
+import java.util.Comparator;
 import java.util.List;
 
 public class BlockStatementGenerator extends StatementGenerator {
 
     private MethodVisitor methodVisitor;
     private Scope scope;
+    private ClassRuntime runtime;
+    private VariableStorage variableStorage;
 
-    public BlockStatementGenerator(MethodVisitor methodVisitor, Scope scope) {
+    BlockStatementGenerator(MethodVisitor methodVisitor, Scope scope, ClassRuntime runtime) {
         super();
         this.methodVisitor = methodVisitor;
         this.scope = scope;
+        this.runtime = runtime;
+        this.variableStorage = runtime.getVariableStorage();
     }
 
     public void generate(IfStatement ifStatement) {
         Scope scope = ifStatement.getScope();
-        ExpressionGenerator expressionGenerator = new ExpressionGenerator(methodVisitor, scope);
-        SimpleStatementGenerator simpleStatementGenerator = new SimpleStatementGenerator(methodVisitor, scope);
+        ExpressionGenerator expressionGenerator = new ExpressionGenerator(methodVisitor, scope, variableStorage);
+        SimpleStatementGenerator simpleStatementGenerator = new SimpleStatementGenerator(methodVisitor, scope, runtime);
 
         Expression booleanExpression = ifStatement.getBooleanExpression();
-        booleanExpression.accept(expressionGenerator);
         List<Statement> falseBlock = ifStatement.getFalseBlock();
         List<Statement> trueBlock = ifStatement.getTrueBlock();
 
         Label trueLabel = new Label();
         Label endLabel = new Label();
-        methodVisitor.visitJumpInsn(Opcodes.IFNE, trueLabel);
+        expressionGenerator.generateConditionalJump(booleanExpression, true, trueLabel);
         falseBlock.forEach(statement -> {
             if(statement instanceof SimpleStatement) {
                 statement.accept(simpleStatementGenerator);
@@ -60,34 +65,108 @@ public class BlockStatementGenerator extends StatementGenerator {
         methodVisitor.visitLabel(endLabel);
     }
 
+    /**
+     * A numeral variable not narrowed to int is compared with its int value first, so values which do not fit
+     * in int go to the default block. The table switch is used, when it is not much bigger than the lookup switch.
+     */
+    public void generate(SwitchStatement switchStatement) {
+        ExpressionGenerator expressionGenerator = new ExpressionGenerator(methodVisitor, switchStatement.getScope(), variableStorage);
+        VariableRef variable = switchStatement.getVariable();
+        List<SwitchStatement.Case> cases = switchStatement.getCases();
+
+        Label defaultLabel = new Label();
+        Label endLabel = new Label();
+        if(variable.type() == BuiltInType.CHAR) {
+            variable.accept(expressionGenerator);
+        } else {
+            if(!variableStorage.isNarrowedToInt(switchStatement.getScope(), variable.name())) {
+                variable.accept(expressionGenerator);
+                expressionGenerator.generateAsInt(variable);
+                methodVisitor.visitInsn(Opcodes.I2L);
+                methodVisitor.visitInsn(Opcodes.LCMP);
+                methodVisitor.visitJumpInsn(Opcodes.IFNE, defaultLabel);
+            }
+            expressionGenerator.generateAsInt(variable);
+        }
+
+        SwitchStatement.Case[] sortedCases = cases.toArray(new SwitchStatement.Case[0]);
+        Arrays.sort(sortedCases, Comparator.comparingInt(SwitchStatement.Case::getKey));
+        Label[] caseLabels = new Label[sortedCases.length];
+        int[] keys = new int[sortedCases.length];
+        for(int i = 0; i < sortedCases.length; i++) {
+            caseLabels[i] = new Label();
+            keys[i] = sortedCases[i].getKey();
+        }
+        int min = keys[0];
+        int max = keys[keys.length - 1];
+        long tableCost = 4 + ((long) max - min + 1) + 3 * 3;
+        long lookupCost = 3 + 2 * (long) keys.length + 3 * (long) keys.length;
+        if(tableCost <= lookupCost) {
+            Label[] tableLabels = new Label[max - min + 1];
+            Arrays.fill(tableLabels, defaultLabel);
+            for(int i = 0; i < keys.length; i++) {
+                tableLabels[keys[i] - min] = caseLabels[i];
+            }
+            methodVisitor.visitTableSwitchInsn(min, max, defaultLabel, tableLabels);
+        } else {
+            methodVisitor.visitLookupSwitchInsn(defaultLabel, keys, caseLabels);
+        }
+
+        for(int i = 0; i < sortedCases.length; i++) {
+            methodVisitor.visitLabel(caseLabels[i]);
+            generateBlock(sortedCases[i].getBlock(), sortedCases[i].getScope());
+            methodVisitor.visitJumpInsn(Opcodes.GOTO, endLabel);
+        }
+        methodVisitor.visitLabel(defaultLabel);
+        generateBlock(switchStatement.getDefaultBlock(), switchStatement.getDefaultScope());
+        methodVisitor.visitLabel(endLabel);
+    }
+
+    private void generateBlock(List<Statement> block, Scope blockScope) {
+        SimpleStatementGenerator simpleStatementGenerator = new SimpleStatementGenerator(methodVisitor, blockScope, runtime);
+        block.forEach(statement -> {
+            if(statement instanceof SimpleStatement) {
+                statement.accept(simpleStatementGenerator);
+            } else {
+                statement.accept(this);
+            }
+        });
+    }
+
+    /**
+     * The loop counts up when the iterator starts below the end, otherwise it counts down. The direction is
+     * computed once before the loop, so the block is generated only once. The end is loaded again in every
+     * iteration, so changes of the end variable inside the block are seen as before.
+     */
     public void generate(ForStatement forLoop) {
         Scope loopScope = forLoop.getScope();
-        SimpleStatementGenerator simpleStatementGenerator = new SimpleStatementGenerator(methodVisitor, loopScope);
-        ExpressionGenerator expressionGenerator = new ExpressionGenerator(methodVisitor, loopScope);
+        SimpleStatementGenerator simpleStatementGenerator = new SimpleStatementGenerator(methodVisitor, loopScope, runtime);
+        ExpressionGenerator expressionGenerator = new ExpressionGenerator(methodVisitor, loopScope, variableStorage);
 
         VariableDeclaration iteratorVariable = forLoop.getVariable();
-        Expression from = forLoop.getFromExpression();
         Expression to = forLoop.getToExpression();
         List<Statement> block = forLoop.getBlock();
-        Expression iteratorVarRef = new VariableRef(iteratorVariable.getName(), from.type());
-
-        Label incrementationSection = new Label();
-        Label decrementationSection = new Label();
-        Label endLoopSection = new Label();
 
-        CompareExpression iteratorGreaterThanEndConditional = new CompareExpression(CompareSign.GREATER, iteratorVarRef, to);
-        CompareExpression iteratorLessThanEndConditional = new CompareExpression(CompareSign.LESS, iteratorVarRef, to);
+        Label loopSection = new Label();
+        Label downSection = new Label();
+        Label directionSection = new Label();
 
         int localVariableIndex = loopScope.getLocalVariableIndex(iteratorVariable.getName());
+        int directionIndex = loopScope.getLocalVariableIndex(ForStatement.getDirectionVariableName(iteratorVariable.getName()));
+        boolean narrowedToInt = variableStorage.isNarrowedToInt(loopScope, iteratorVariable.getName());
         iteratorVariable.accept(simpleStatementGenerator);
 
-        //Pushes 0 or 1 onto the stack
-        iteratorLessThanEndConditional.accept(expressionGenerator);
-        // IFNE - is value on the stack (result of conditional) different than 0 (success)?
-        methodVisitor.visitJumpInsn(Opcodes.IFNE, incrementationSection);
-
-        //Decrementation section
-        methodVisitor.visitLabel(decrementationSection);
+        // direction is 1 if iterator < end, otherwise -1
+        compareIteratorWithEnd(localVariableIndex, narrowedToInt, to, expressionGenerator);
+        methodVisitor.visitJumpInsn(Opcodes.IFGE, downSection);
+        methodVisitor.visitInsn(Opcodes.ICONST_1);
+        methodVisitor.visitJumpInsn(Opcodes.GOTO, directionSection);
+        methodVisitor.visitLabel(downSection);
+        methodVisitor.visitInsn(Opcodes.ICONST_M1);
+        methodVisitor.visitLabel(directionSection);
+        methodVisitor.visitVarInsn(Opcodes.ISTORE, directionIndex);
+
+        methodVisitor.visitLabel(loopSection);
         block.forEach(statement -> {
             if(statement instanceof SimpleStatement) {
                 statement.accept(simpleStatementGenerator);
@@ -95,52 +174,51 @@ public class BlockStatementGenerator extends StatementGenerator {
                 statement.accept(this);
             }
         });
-        decrementIteratorVariable(localVariableIndex);
-        iteratorLessThanEndConditional.accept(expressionGenerator);
-        methodVisitor.visitJumpInsn(Opcodes.IFEQ, decrementationSection);
-        methodVisitor.visitJumpInsn(Opcodes.GOTO, endLoopSection);
-
-        //Incrementation section
-        methodVisitor.visitLabel(incrementationSection);
-        block.forEach(statement -> {
-            if(statement instanceof SimpleStatement) {
-                statement.accept(simpleStatementGenerator);
-            } else {
-                statement.accept(this);
-            }
-        });
-        incrementIteratorVariable(localVariableIndex);
-        iteratorGreaterThanEndConditional.accept(expressionGenerator); //is iterator greater than range end?
-        methodVisitor.visitJumpInsn(Opcodes.IFEQ, incrementationSection); //if it is not go back loop again
-        methodVisitor.visitJumpInsn(Opcodes.GOTO, endLoopSection);
-
-        methodVisitor.visitLabel(endLoopSection);
+        if(narrowedToInt) {
+            methodVisitor.visitVarInsn(Opcodes.ILOAD, localVariableIndex);
+            methodVisitor.visitVarInsn(Opcodes.ILOAD, directionIndex);
+            methodVisitor.visitInsn(Opcodes.IADD);
+            methodVisitor.visitVarInsn(Opcodes.ISTORE, localVariableIndex);
+        } else {
+            methodVisitor.visitVarInsn(Opcodes.LLOAD, localVariableIndex);
+            methodVisitor.visitVarInsn(Opcodes.ILOAD, directionIndex);
+            methodVisitor.visitInsn(Opcodes.I2L);
+            methodVisitor.visitInsn(Opcodes.LADD);
+            methodVisitor.visitVarInsn(Opcodes.LSTORE, localVariableIndex);
+        }
+
+        // loop again while the iterator has not passed the end: compare(iterator, end) * direction <= 0
+        compareIteratorWithEnd(localVariableIndex, narrowedToInt, to, expressionGenerator);
+        methodVisitor.visitVarInsn(Opcodes.ILOAD, directionIndex);
+        methodVisitor.visitInsn(Opcodes.IMUL);
+        methodVisitor.visitJumpInsn(Opcodes.IFLE, loopSection);
     }
 
-    private void incrementIteratorVariable(int variableIndex) {
-        methodVisitor.visitVarInsn(Opcodes.LLOAD, variableIndex);
-        methodVisitor.visitInsn(Opcodes.LCONST_1);
-        methodVisitor.visitInsn(Opcodes.LADD);
-        methodVisitor.visitVarInsn(Opcodes.LSTORE, variableIndex);
-    }
-
-    private void decrementIteratorVariable(int variableIndex) {
-        methodVisitor.visitVarInsn(Opcodes.LLOAD, variableIndex);
-        methodVisitor.visitInsn(Opcodes.LCONST_1);
-        methodVisitor.visitInsn(Opcodes.LSUB);
-        methodVisitor.visitVarInsn(Opcodes.LSTORE, variableIndex);
+    /**
+     * The end of a loop with iterator narrowed to int fits in int too, because it is in the range of the iterator.
+     */
+    private void compareIteratorWithEnd(int iteratorIndex, boolean narrowedToInt, Expression to,
+                                        ExpressionGenerator expressionGenerator) {
+        if(narrowedToInt) {
+            methodVisitor.visitVarInsn(Opcodes.ILOAD, iteratorIndex);
+            expressionGenerator.generateAsInt(to);
+            methodVisitor.visitMethodInsn(Opcodes.INVOKESTATIC, "java/lang/Integer", "compare", "(II)I", false);
+        } else {
+            methodVisitor.visitVarInsn(Opcodes.LLOAD, iteratorIndex);
+            to.accept(expressionGenerator);
+            methodVisitor.visitInsn(Opcodes.LCMP);
+        }
     }
 
     public void generate(WhileStatement whileLoop) {
         Scope loopScope = whileLoop.getScope();
-        SimpleStatementGenerator simpleStatementGenerator = new SimpleStatementGenerator(methodVisitor, loopScope);
-        ExpressionGenerator expressionGenerator = new ExpressionGenerator(methodVisitor, loopScope);
+        SimpleStatementGenerator simpleStatementGenerator = new SimpleStatementGenerator(methodVisitor, loopScope, runtime);
+        ExpressionGenerator expressionGenerator = new ExpressionGenerator(methodVisitor, loopScope, variableStorage);
 
         Expression expression = whileLoop.getExpression();
         List<Statement> block = whileLoop.getBlock();
 
         Label expressionSection = new Label();
-        Label endLoopSection = new Label();
 
         methodVisitor.visitLabel(expressionSection);
         block.forEach(statement -> {
@@ -150,10 +228,6 @@ public class BlockStatementGenerator extends StatementGenerator {
                 statement.accept(this);
             }
         });
-        expression.accept(expressionGenerator);
-        methodVisitor.visitJumpInsn(Opcodes.IFNE, expressionSection);
-        methodVisitor.visitJumpInsn(Opcodes.GOTO, endLoopSection);
-
-        methodVisitor.visitLabel(endLoopSection);
+        expressionGenerator.generateConditionalJump(expression, true, expressionSection);
     }
 }
@@ -0,0 +1,347 @@
+package com.pidanic.saral.generator;
+
+import com.pidanic.saral.util.BuiltInType;
+import com.pidanic.saral.util.Logic;
+import com.pidanic.saral.util.Type;
+import org.objectweb.asm.ClassWriter;
+import org.objectweb.asm.Label;
+import org.objectweb.asm.MethodVisitor;
+import org.objectweb.asm.Opcodes;
+
+/**
+ * Input of <code>vežmi</code> and <code>sluchaj</code> read by methods of the generated class instead of
+ * <code>java.util.Scanner</code>. <code>System.in</code> is read into a byte buffer and the next token, bytes up to
+ * a whitespace, is copied into a token buffer. Numbers are parsed from the token bytes, logical values are found
+ * by comparing the token bytes with the bytes of their names.
+ *
+ * Names of the generated fields and methods contain <code>$</code>, so they cannot clash with Saral identifiers.
+ */
+class BufferedInputGenerator {
+    private static final String BUFFER = "$in";
+    private static final String POSITION = "$inPosition";
+    private static final String LIMIT = "$inLimit";
+    private static final String TOKEN = "$token";
+    private static final String TOKEN_LENGTH = "$tokenLength";
+    private static final String PRAVDA = "$pravda";
+    private static final String SKOROOSAL = "$skoroosal";
+    private static final String READ_BYTE = "$readByte";
+    private static final String READ_TOKEN = "$readToken";
+    private static final String READ_LONG = "$readLong";
+    private static final String READ_DOUBLE = "$readDouble";
+    private static final String READ_WORD = "$readWord";
+    private static final String READ_KLEENE = "$readKleene";
+    private static final String BYTES = "[B";
+    private static final int BUFFER_SIZE = 1 << 16;
+    private static final int TOKEN_SIZE = 64;
+    private static final int WHITESPACE = ' ';
+
+    private final MethodVisitor methodVisitor;
+    private final String className;
+
+    BufferedInputGenerator(MethodVisitor methodVisitor, String className) {
+        this.methodVisitor = methodVisitor;
+        this.className = className;
+    }
+
+    /**
+     * Pushes the next value of the type read from the input. Arrays read their element type.
+     */
+    void generateRead(Type type) {
+        if(type == BuiltInType.LONG || type == BuiltInType.LONG_ARR) {
+            methodVisitor.visitMethodInsn(Opcodes.INVOKESTATIC, className, READ_LONG, "()J", false);
+        } else if(type == BuiltInType.DOUBLE || type == BuiltInType.DOUBLE_ARR) {
+            methodVisitor.visitMethodInsn(Opcodes.INVOKESTATIC, className, READ_DOUBLE, "()D", false);
+        } else if(type == BuiltInType.BOOLEAN || type == BuiltInType.BOOLEAN_ARR) {
+            methodVisitor.visitMethodInsn(Opcodes.INVOKESTATIC, className, READ_KLEENE, "()I", false);
+        } else {
+            methodVisitor.visitMethodInsn(Opcodes.INVOKESTATIC, className, READ_WORD, "()Ljava/lang/String;", false);
+            if(type == BuiltInType.CHAR || type == BuiltInType.CHAR_ARR) {
+                methodVisitor.visitInsn(Opcodes.ICONST_0);
+                methodVisitor.visitMethodInsn(Opcodes.INVOKEVIRTUAL, "java/lang/String", "charAt", "(I)C", false);
+            }
+        }
+    }
+
+    static void generateRuntime(ClassWriter classWriter, MethodVisitor staticInitializer, String className) {
+        int access = Opcodes.ACC_PRIVATE + Opcodes.ACC_STATIC;
+        classWriter.visitField(access + Opcodes.ACC_FINAL, BUFFER, BYTES, null, null).visitEnd();
+        classWriter.visitField(access, POSITION, "I", null, null).visitEnd();
+        classWriter.visitField(access, LIMIT, "I", null, null).visitEnd();
+        classWriter.visitField(access, TOKEN, BYTES, null, null).visitEnd();
+        classWriter.visitField(access, TOKEN_LENGTH, "I", null, null).visitEnd();
+        classWriter.visitField(access + Opcodes.ACC_FINAL, PRAVDA, BYTES, null, null).visitEnd();
+        classWriter.visitField(access + Opcodes.ACC_FINAL, SKOROOSAL, BYTES, null, null).visitEnd();
+        generateStaticInitialization(staticInitializer, className);
+        generateReadByteMethod(classWriter, className);
+        generateReadTokenMethod(classWriter, className);
+        generateReadLongMethod(classWriter, className);
+        generateReadDoubleMethod(classWriter, className);
+        generateReadWordMethod(classWriter, className);
+        generateReadKleeneMethod(classWriter, className);
+    }
+
+    private static void generateStaticInitialization(MethodVisitor mv, String className) {
+        mv.visitLdcInsn(BUFFER_SIZE);
+        mv.visitIntInsn(Opcodes.NEWARRAY, Opcodes.T_BYTE);
+        mv.visitFieldInsn(Opcodes.PUTSTATIC, className, BUFFER, BYTES);
+        mv.visitLdcInsn(TOKEN_SIZE);
+        mv.visitIntInsn(Opcodes.NEWARRAY, Opcodes.T_BYTE);
+        mv.visitFieldInsn(Opcodes.PUTSTATIC, className, TOKEN, BYTES);
+        // the same charset as the one used to decode words
+        mv.visitLdcInsn(Logic.PRAVDA.getStringValue());
+        mv.visitMethodInsn(Opcodes.INVOKEVIRTUAL, "java/lang/String", "getBytes", "()[B", false);
+        mv.visitFieldInsn(Opcodes.PUTSTATIC, className, PRAVDA, BYTES);
+        mv.visitLdcInsn(Logic.SKOROOSAL.getStringValue());
+        mv.visitMethodInsn(Opcodes.INVOKEVIRTUAL, "java/lang/String", "getBytes", "()[B", false);
+        mv.visitFieldInsn(Opcodes.PUTSTATIC, className, SKOROOSAL, BYTES);
+    }
+
+    /**
+     * Returns the next byte of the input as unsigned value, or -1 at the end of the input.
+     */
+    private static void generateReadByteMethod(ClassWriter classWriter, String className) {
+        MethodVisitor mv = classWriter.visitMethod(Opcodes.ACC_PRIVATE + Opcodes.ACC_STATIC, READ_BYTE, "()I", null, null);
+        mv.visitCode();
+        Label readLabel = new Label();
+        mv.visitFieldInsn(Opcodes.GETSTATIC, className, POSITION, "I");
+        mv.visitFieldInsn(Opcodes.GETSTATIC, className, LIMIT, "I");
+        mv.visitJumpInsn(Opcodes.IF_ICMPLT, readLabel);
+
+        // fill the buffer
+        mv.visitFieldInsn(Opcodes.GETSTATIC, "java/lang/System", "in", "Ljava/io/InputStream;");
+        mv.visitFieldInsn(Opcodes.GETSTATIC, className, BUFFER, BYTES);
+        mv.visitInsn(Opcodes.ICONST_0);
+        mv.visitFieldInsn(Opcodes.GETSTATIC, className, BUFFER, BYTES);
+        mv.visitInsn(Opcodes.ARRAYLENGTH);
+        mv.visitMethodInsn(Opcodes.INVOKEVIRTUAL, "java/io/InputStream", "read", "([BII)I", false);
+        mv.visitFieldInsn(Opcodes.PUTSTATIC, className, LIMIT, "I");
+        mv.visitInsn(Opcodes.ICONST_0);
+        mv.visitFieldInsn(Opcodes.PUTSTATIC, className, POSITION, "I");
+        mv.visitFieldInsn(Opcodes.GETSTATIC, className, LIMIT, "I");
+        mv.visitJumpInsn(Opcodes.IFGT, readLabel);
+        mv.visitInsn(Opcodes.ICONST_0);
+        mv.visitFieldInsn(Opcodes.PUTSTATIC, className, LIMIT, "I");
+        mv.visitInsn(Opcodes.ICONST_M1);
+        mv.visitInsn(Opcodes.IRETURN);
+
+        mv.visitLabel(readLabel);
+        mv.visitFieldInsn(Opcodes.GETSTATIC, className, BUFFER, BYTES);
+        mv.visitFieldInsn(Opcodes.GETSTATIC, className, POSITION, "I");
+        mv.visitInsn(Opcodes.DUP);
+        mv.visitInsn(Opcodes.ICONST_1);
+        mv.visitInsn(Opcodes.IADD);
+        mv.visitFieldInsn(Opcodes.PUTSTATIC, className, POSITION, "I");
+        mv.visitInsn(Opcodes.BALOAD);
+        mv.visitIntInsn(Opcodes.SIPUSH, 0xFF);
+        mv.visitInsn(Opcodes.IAND);
+        mv.visitInsn(Opcodes.IRETURN);
+        mv.visitMaxs(-1, -1);
+        mv.visitEnd();
+    }
+
+    /**
+     * Skips whitespace and copies the following bytes up to the next whitespace to the token buffer.
+     */
+    private static void generateReadTokenMethod(ClassWriter classWriter, String className) {
+        MethodVisitor mv = classWriter.visitMethod(Opcodes.ACC_PRIVATE + Opcodes.ACC_STATIC, READ_TOKEN, "()V", null, null);
+        mv.visitCode();
+        Label skipLabel = new Label();
+        Label copyLabel = new Label();
+        Label storeLabel = new Label();
+        Label endOfInputLabel = new Label();
+
+        mv.visitLabel(skipLabel);
+        mv.visitMethodInsn(Opcodes.INVOKESTATIC, className, READ_BYTE, "()I", false);
+        mv.visitVarInsn(Opcodes.ISTORE, 0);
+        mv.visitVarInsn(Opcodes.ILOAD, 0);
+        mv.visitJumpInsn(Opcodes.IFLT, endOfInputLabel);
+        mv.visitVarInsn(Opcodes.ILOAD, 0);
+        mv.visitIntInsn(Opcodes.BIPUSH, WHITESPACE);
+        mv.visitJumpInsn(Opcodes.IF_ICMPLE, skipLabel);
+
+        mv.visitInsn(Opcodes.ICONST_0);
+        mv.visitFieldInsn(Opcodes.PUTSTATIC, className, TOKEN_LENGTH, "I");
+        mv.visitLabel(copyLabel);
+        mv.visitFieldInsn(Opcodes.GETSTATIC, className, TOKEN_LENGTH, "I");
+        mv.visitFieldInsn(Opcodes.GETSTATIC, className, TOKEN, BYTES);
+        mv.visitInsn(Opcodes.ARRAYLENGTH);
+        mv.visitJumpInsn(Opcodes.IF_ICMPLT, storeLabel);
+        // grow the token buffer
+        mv.visitFieldInsn(Opcodes.GETSTATIC, className, TOKEN, BYTES);
+        mv.visitFieldInsn(Opcodes.GETSTATIC, className, TOKEN_LENGTH, "I");
+        mv.visitInsn(Opcodes.ICONST_2);
+        mv.visitInsn(Opcodes.IMUL);
+        mv.visitMethodInsn(Opcodes.INVOKESTATIC, "java/util/Arrays", "copyOf", "([BI)[B", false);
+        mv.visitFieldInsn(Opcodes.PUTSTATIC, className, TOKEN, BYTES);
+
+        mv.visitLabel(storeLabel);
+        mv.visitFieldInsn(Opcodes.GETSTATIC, className, TOKEN, BYTES);
+        mv.visitFieldInsn(Opcodes.GETSTATIC, className, TOKEN_LENGTH, "I");
+        mv.visitVarInsn(Opcodes.ILOAD, 0);
+        mv.visitInsn(Opcodes.I2B);
+        mv.visitInsn(Opcodes.BASTORE);
+        mv.visitFieldInsn(Opcodes.GETSTATIC, className, TOKEN_LENGTH, "I");
+        mv.visitInsn(Opcodes.ICONST_1);
+        mv.visitInsn(Opcodes.IADD);
+        mv.visitFieldInsn(Opcodes.PUTSTATIC, className, TOKEN_LENGTH, "I");
+        mv.visitMethodInsn(Opcodes.INVOKESTATIC, className, READ_BYTE, "()I", false);
+        mv.visitVarInsn(Opcodes.ISTORE, 0);
+        mv.visitVarInsn(Opcodes.ILOAD, 0);
+        mv.visitIntInsn(Opcodes.BIPUSH, WHITESPACE);
+        mv.visitJumpInsn(Opcodes.IF_ICMPGT, copyLabel);
+        mv.visitInsn(Opcodes.RETURN);
+
+        mv.visitLabel(endOfInputLabel);
+        generateThrow(mv, "java/util/NoSuchElementException");
+        mv.visitMaxs(-1, -1);
+        mv.visitEnd();
+    }
+
+    /**
+     * Parses the token as decimal number with optional sign. The value is accumulated as negative number,
+     * so {@link Long#MIN_VALUE} can be read too.
+     */
+    private static void generateReadLongMethod(ClassWriter classWriter, String className) {
+        final int index = 0;
+        final int negative = 1;
+        final int value = 2;
+        final int digit = 4;
+        MethodVisitor mv = classWriter.visitMethod(Opcodes.ACC_PRIVATE + Opcodes.ACC_STATIC, READ_LONG, "()J", null, null);
+        mv.visitCode();
+        Label plusLabel = new Label();
+        Label digitsLabel = new Label();
+        Label digitLabel = new Label();
+        Label positiveLabel = new Label();
+        Label mismatchLabel = new Label();
+
+        mv.visitMethodInsn(Opcodes.INVOKESTATIC, className, READ_TOKEN, "()V", false);
+        mv.visitInsn(Opcodes.ICONST_0);
+        mv.visitVarInsn(Opcodes.ISTORE, index);
+        mv.visitInsn(Opcodes.ICONST_0);
+        mv.visitVarInsn(Opcodes.ISTORE, negative);
+        mv.visitFieldInsn(Opcodes.GETSTATIC, className, TOKEN, BYTES);
+        mv.visitInsn(Opcodes.ICONST_0);
+        mv.visitInsn(Opcodes.BALOAD);
+        mv.visitIntInsn(Opcodes.BIPUSH, '-');
+        mv.visitJumpInsn(Opcodes.IF_ICMPNE, plusLabel);
+        mv.visitInsn(Opcodes.ICONST_1);
+        mv.visitVarInsn(Opcodes.ISTORE, negative);
+        mv.visitInsn(Opcodes.ICONST_1);
+        mv.visitVarInsn(Opcodes.ISTORE, index);
+        mv.visitJumpInsn(Opcodes.GOTO, digitsLabel);
+        mv.visitLabel(plusLabel);
+        mv.visitFieldInsn(Opcodes.GETSTATIC, className, TOKEN, BYTES);
+        mv.visitInsn(Opcodes.ICONST_0);
+        mv.visitInsn(Opcodes.BALOAD);
+        mv.visitIntInsn(Opcodes.BIPUSH, '+');
+        mv.visitJumpInsn(Opcodes.IF_ICMPNE, digitsLabel);
+        mv.visitInsn(Opcodes.ICONST_1);
+        mv.visitVarInsn(Opcodes.ISTORE, index);
+
+        mv.visitLabel(digitsLabel);
+        mv.visitVarInsn(Opcodes.ILOAD, index);
+        mv.visitFieldInsn(Opcodes.GETSTATIC, className, TOKEN_LENGTH, "I");
+        mv.visitJumpInsn(Opcodes.IF_ICMPGE, mismatchLabel);
+        mv.visitInsn(Opcodes.LCONST_0);
+        mv.visitVarInsn(Opcodes.LSTORE, value);
+
+        mv.visitLabel(digitLabel);
+        mv.visitFieldInsn(Opcodes.GETSTATIC, className, TOKEN, BYTES);
+        mv.visitVarInsn(Opcodes.ILOAD, index);
+        mv.visitInsn(Opcodes.BALOAD);
+        mv.visitIntInsn(Opcodes.BIPUSH, '0');
+        mv.visitInsn(Opcodes.ISUB);
+        mv.visitVarInsn(Opcodes.ISTORE, digit);
+        mv.visitVarInsn(Opcodes.ILOAD, digit);
+        mv.visitJumpInsn(Opcodes.IFLT, mismatchLabel);
+        mv.visitVarInsn(Opcodes.ILOAD, digit);
+        mv.visitIntInsn(Opcodes.BIPUSH, 9);
+        mv.visitJumpInsn(Opcodes.IF_ICMPGT, mismatchLabel);
+        // value = value * 10 - digit, overflow throws ArithmeticException
+        mv.visitVarInsn(Opcodes.LLOAD, value);
+        mv.visitLdcInsn(10L);
+        mv.visitMethodInsn(Opcodes.INVOKESTATIC, "java/lang/Math", "multiplyExact", "(JJ)J", false);
+        mv.visitVarInsn(Opcodes.ILOAD, digit);
+        mv.visitInsn(Opcodes.I2L);
+        mv.visitMethodInsn(Opcodes.INVOKESTATIC, "java/lang/Math", "subtractExact", "(JJ)J", false);
+        mv.visitVarInsn(Opcodes.LSTORE, value);
+        mv.visitIincInsn(index, 1);
+        mv.visitVarInsn(Opcodes.ILOAD, index);
+        mv.visitFieldInsn(Opcodes.GETSTATIC, className, TOKEN_LENGTH, "I");
+        mv.visitJumpInsn(Opcodes.IF_ICMPLT, digitLabel);
+
+        mv.visitVarInsn(Opcodes.ILOAD, negative);
+        mv.visitJumpInsn(Opcodes.IFEQ, positiveLabel);
+        mv.visitVarInsn(Opcodes.LLOAD, value);
+        mv.visitInsn(Opcodes.LRETURN);
+        mv.visitLabel(positiveLabel);
+        mv.visitVarInsn(Opcodes.LLOAD, value);
+        mv.visitMethodInsn(Opcodes.INVOKESTATIC, "java/lang/Math", "negateExact", "(J)J", false);
+        mv.visitInsn(Opcodes.LRETURN);
+
+        mv.visitLabel(mismatchLabel);
+        generateThrow(mv, "java/util/InputMismatchException");
+        mv.visitMaxs(-1, -1);
+        mv.visitEnd();
+    }
+
+    private static void generateReadDoubleMethod(ClassWriter classWriter, String className) {
+        MethodVisitor mv = classWriter.visitMethod(Opcodes.ACC_PRIVATE + Opcodes.ACC_STATIC, READ_DOUBLE, "()D", null, null);
+        mv.visitCode();
+        mv.visitMethodInsn(Opcodes.INVOKESTATIC, className, READ_WORD, "()Ljava/lang/String;", false);
+        mv.visitMethodInsn(Opcodes.INVOKESTATIC, "java/lang/Double", "parseDouble", "(Ljava/lang/String;)D", false);
+        mv.visitInsn(Opcodes.DRETURN);
+        mv.visitMaxs(-1, -1);
+        mv.visitEnd();
+    }
+
+    private static void generateReadWordMethod(ClassWriter classWriter, String className) {
+        MethodVisitor mv = classWriter.visitMethod(Opcodes.ACC_PRIVATE + Opcodes.ACC_STATIC, READ_WORD, "()Ljava/lang/String;", null, null);
+        mv.visitCode();
+        mv.visitMethodInsn(Opcodes.INVOKESTATIC, className, READ_TOKEN, "()V", false);
+        mv.visitTypeInsn(Opcodes.NEW, "java/lang/String");
+        mv.visitInsn(Opcodes.DUP);
+        mv.visitFieldInsn(Opcodes.GETSTATIC, className, TOKEN, BYTES);
+        mv.visitInsn(Opcodes.ICONST_0);
+        mv.visitFieldInsn(Opcodes.GETSTATIC, className, TOKEN_LENGTH, "I");
+        mv.visitMethodInsn(Opcodes.INVOKESPECIAL, "java/lang/String", "<init>", "([BII)V", false);
+        mv.visitInsn(Opcodes.ARETURN);
+        mv.visitMaxs(-1, -1);
+        mv.visitEnd();
+    }
+
+    private static void generateReadKleeneMethod(ClassWriter classWriter, String className) {
+        MethodVisitor mv = classWriter.visitMethod(Opcodes.ACC_PRIVATE + Opcodes.ACC_STATIC, READ_KLEENE, "()I", null, null);
+        mv.visitCode();
+        mv.visitMethodInsn(Opcodes.INVOKESTATIC, className, READ_TOKEN, "()V", false);
+        generateReturnIfToken(mv, className, PRAVDA, Logic.PRAVDA);
+        generateReturnIfToken(mv, className, SKOROOSAL, Logic.SKOROOSAL);
+        mv.visitLdcInsn(Logic.OSAL.getIntValue());
+        mv.visitInsn(Opcodes.IRETURN);
+        mv.visitMaxs(-1, -1);
+        mv.visitEnd();
+    }
+
+    private static void generateReturnIfToken(MethodVisitor mv, String className, String bytesField, Logic value) {
+        Label differentLabel = new Label();
+        mv.visitFieldInsn(Opcodes.GETSTATIC, className, TOKEN, BYTES);
+        mv.visitInsn(Opcodes.ICONST_0);
+        mv.visitFieldInsn(Opcodes.GETSTATIC, className, TOKEN_LENGTH, "I");
+        mv.visitFieldInsn(Opcodes.GETSTATIC, className, bytesField, BYTES);
+        mv.visitInsn(Opcodes.ICONST_0);
+        mv.visitFieldInsn(Opcodes.GETSTATIC, className, bytesField, BYTES);
+        mv.visitInsn(Opcodes.ARRAYLENGTH);
+        mv.visitMethodInsn(Opcodes.INVOKESTATIC, "java/util/Arrays", "equals", "([BII[BII)Z", false);
+        mv.visitJumpInsn(Opcodes.IFEQ, differentLabel);
+        mv.visitLdcInsn(value.getIntValue());
+        mv.visitInsn(Opcodes.IRETURN);
+        mv.visitLabel(differentLabel);
+    }
+
+    private static void generateThrow(MethodVisitor mv, String exceptionClass) {
+        mv.visitTypeInsn(Opcodes.NEW, exceptionClass);
+        mv.visitInsn(Opcodes.DUP);
+        mv.visitMethodInsn(Opcodes.INVOKESPECIAL, exceptionClass, "<init>", "()V", false);
+        mv.visitInsn(Opcodes.ATHROW);
+    }
+}
@@ -0,0 +1,182 @@
+package com.pidanic.saral.generator;
+
+import com.pidanic.saral.util.Logic;
+import org.objectweb.asm.ClassWriter;
+import org.objectweb.asm.Label;
+import org.objectweb.asm.MethodVisitor;
+import org.objectweb.asm.Opcodes;
+
+/**
+ * Output of <code>ciskaj</code> and <code>povidz</code> written to a buffer of the generated class instead of
+ * <code>System.out.println</code>. Values are appended to the buffer without boxing, logical values are taken
+ * from a table of constants. The buffer is written to <code>System.out</code> when it is full, before reading
+ * the input and at the end of <code>main</code>, also when it ends with an exception. It is written in chunks copied
+ * to a char array of the generated class, so the whole buffer is not copied to a new string on every flush.
+ *
+ * Names of the generated fields and methods contain <code>$</code>, so they cannot clash with Saral identifiers.
+ */
+class BufferedOutputGenerator {
+    private static final String BUFFER = "$out";
+    private static final String CHUNK = "$chunk";
+    private static final String KLEENE_VALUES = "$kleene";
+    private static final String FLUSH = "$flush";
+    private static final String NEW_LINE = "$newLine";
+    private static final String STRING_BUILDER = "java/lang/StringBuilder";
+    private static final String STRING_BUILDER_DESCRIPTOR = "Ljava/lang/StringBuilder;";
+    private static final String KLEENE_VALUES_DESCRIPTOR = "[Ljava/lang/String;";
+    private static final String CHUNK_DESCRIPTOR = "[C";
+    private static final String PRINT_STREAM = "java/io/PrintStream";
+    private static final int BUFFER_SIZE = 1 << 16;
+    private static final int CHUNK_SIZE = 1 << 13;
+
+    private final MethodVisitor methodVisitor;
+    private final String className;
+
+    BufferedOutputGenerator(MethodVisitor methodVisitor, String className) {
+        this.methodVisitor = methodVisitor;
+        this.className = className;
+    }
+
+    void generateBufferLoad() {
+        methodVisitor.visitFieldInsn(Opcodes.GETSTATIC, className, BUFFER, STRING_BUILDER_DESCRIPTOR);
+    }
+
+    /**
+     * Replaces logical value on the stack with its name.
+     */
+    void generateKleeneString() {
+        methodVisitor.visitFieldInsn(Opcodes.GETSTATIC, className, KLEENE_VALUES, KLEENE_VALUES_DESCRIPTOR);
+        methodVisitor.visitInsn(Opcodes.SWAP);
+        methodVisitor.visitInsn(Opcodes.AALOAD);
+    }
+
+    /**
+     * Appends the value on the stack to the buffer loaded by {@link #generateBufferLoad()} and ends the line.
+     */
+    void generateAppendLine(String valueDescriptor) {
+        methodVisitor.visitMethodInsn(Opcodes.INVOKEVIRTUAL, STRING_BUILDER,
+                "append", "(" + valueDescriptor + ")" + STRING_BUILDER_DESCRIPTOR, false);
+        methodVisitor.visitInsn(Opcodes.POP);
+        methodVisitor.visitMethodInsn(Opcodes.INVOKESTATIC, className, NEW_LINE, "()V", false);
+    }
+
+    void generateFlush() {
+        methodVisitor.visitMethodInsn(Opcodes.INVOKESTATIC, className, FLUSH, "()V", false);
+    }
+
+    static void generateRuntime(ClassWriter classWriter, MethodVisitor staticInitializer, String className) {
+        int access = Opcodes.ACC_PRIVATE + Opcodes.ACC_STATIC + Opcodes.ACC_FINAL;
+        classWriter.visitField(access, BUFFER, STRING_BUILDER_DESCRIPTOR, null, null).visitEnd();
+        classWriter.visitField(access, KLEENE_VALUES, KLEENE_VALUES_DESCRIPTOR, null, null).visitEnd();
+        classWriter.visitField(access, CHUNK, CHUNK_DESCRIPTOR, null, null).visitEnd();
+        generateStaticInitialization(staticInitializer, className);
+        generateFlushMethod(classWriter, className);
+        generateNewLineMethod(classWriter, className);
+    }
+
+    private static void generateStaticInitialization(MethodVisitor mv, String className) {
+        mv.visitTypeInsn(Opcodes.NEW, STRING_BUILDER);
+        mv.visitInsn(Opcodes.DUP);
+        mv.visitLdcInsn(BUFFER_SIZE);
+        mv.visitMethodInsn(Opcodes.INVOKESPECIAL, STRING_BUILDER, "<init>", "(I)V", false);
+        mv.visitFieldInsn(Opcodes.PUTSTATIC, className, BUFFER, STRING_BUILDER_DESCRIPTOR);
+        mv.visitLdcInsn(CHUNK_SIZE);
+        mv.visitIntInsn(Opcodes.NEWARRAY, Opcodes.T_CHAR);
+        mv.visitFieldInsn(Opcodes.PUTSTATIC, className, CHUNK, CHUNK_DESCRIPTOR);
+
+        Logic[] values = Logic.values();
+        int size = 0;
+        for(Logic value : values) {
+            size = Math.max(size, value.getIntValue() + 1);
+        }
+        mv.visitLdcInsn(size);
+        mv.visitTypeInsn(Opcodes.ANEWARRAY, "java/lang/String");
+        for(Logic value : values) {
+            mv.visitInsn(Opcodes.DUP);
+            mv.visitLdcInsn(value.getIntValue());
+            mv.visitLdcInsn(value.getStringValue());
+            mv.visitInsn(Opcodes.AASTORE);
+        }
+        mv.visitFieldInsn(Opcodes.PUTSTATIC, className, KLEENE_VALUES, KLEENE_VALUES_DESCRIPTOR);
+    }
+
+    /**
+     * Writes whole chunks of the buffer from the char array and the rest of the buffer as a string.
+     */
+    private static void generateFlushMethod(ClassWriter classWriter, String className) {
+        MethodVisitor mv = classWriter.visitMethod(Opcodes.ACC_PRIVATE + Opcodes.ACC_STATIC, FLUSH, "()V", null, null);
+        mv.visitCode();
+        int lengthIndex = 0;
+        int offsetIndex = 1;
+        Label endLabel = new Label();
+        Label chunkLabel = new Label();
+        Label restLabel = new Label();
+        Label flushLabel = new Label();
+        mv.visitFieldInsn(Opcodes.GETSTATIC, className, BUFFER, STRING_BUILDER_DESCRIPTOR);
+        mv.visitMethodInsn(Opcodes.INVOKEVIRTUAL, STRING_BUILDER, "length", "()I", false);
+        mv.visitVarInsn(Opcodes.ISTORE, lengthIndex);
+        mv.visitVarInsn(Opcodes.ILOAD, lengthIndex);
+        mv.visitJumpInsn(Opcodes.IFEQ, endLabel);
+        mv.visitInsn(Opcodes.ICONST_0);
+        mv.visitVarInsn(Opcodes.ISTORE, offsetIndex);
+
+        mv.visitLabel(chunkLabel);
+        mv.visitVarInsn(Opcodes.ILOAD, lengthIndex);
+        mv.visitVarInsn(Opcodes.ILOAD, offsetIndex);
+        mv.visitInsn(Opcodes.ISUB);
+        mv.visitLdcInsn(CHUNK_SIZE);
+        mv.visitJumpInsn(Opcodes.IF_ICMPLT, restLabel);
+        mv.visitFieldInsn(Opcodes.GETSTATIC, className, BUFFER, STRING_BUILDER_DESCRIPTOR);
+        mv.visitVarInsn(Opcodes.ILOAD, offsetIndex);
+        mv.visitVarInsn(Opcodes.ILOAD, offsetIndex);
+        mv.visitLdcInsn(CHUNK_SIZE);
+        mv.visitInsn(Opcodes.IADD);
+        mv.visitFieldInsn(Opcodes.GETSTATIC, className, CHUNK, CHUNK_DESCRIPTOR);
+        mv.visitInsn(Opcodes.ICONST_0);
+        mv.visitMethodInsn(Opcodes.INVOKEVIRTUAL, STRING_BUILDER, "getChars", "(II[CI)V", false);
+        mv.visitFieldInsn(Opcodes.GETSTATIC, "java/lang/System", "out", "Ljava/io/PrintStream;");
+        mv.visitFieldInsn(Opcodes.GETSTATIC, className, CHUNK, CHUNK_DESCRIPTOR);
+        mv.visitMethodInsn(Opcodes.INVOKEVIRTUAL, PRINT_STREAM, "print", "([C)V", false);
+        mv.visitIincInsn(offsetIndex, CHUNK_SIZE);
+        mv.visitJumpInsn(Opcodes.GOTO, chunkLabel);
+
+        mv.visitLabel(restLabel);
+        mv.visitVarInsn(Opcodes.ILOAD, offsetIndex);
+        mv.visitVarInsn(Opcodes.ILOAD, lengthIndex);
+        mv.visitJumpInsn(Opcodes.IF_ICMPGE, flushLabel);
+        mv.visitFieldInsn(Opcodes.GETSTATIC, "java/lang/System", "out", "Ljava/io/PrintStream;");
+        mv.visitFieldInsn(Opcodes.GETSTATIC, className, BUFFER, STRING_BUILDER_DESCRIPTOR);
+        mv.visitVarInsn(Opcodes.ILOAD, offsetIndex);
+        mv.visitMethodInsn(Opcodes.INVOKEVIRTUAL, STRING_BUILDER, "substring", "(I)Ljava/lang/String;", false);
+        mv.visitMethodInsn(Opcodes.INVOKEVIRTUAL, PRINT_STREAM, "print", "(Ljava/lang/String;)V", false);
+
+        mv.visitLabel(flushLabel);
+        mv.visitFieldInsn(Opcodes.GETSTATIC, "java/lang/System", "out", "Ljava/io/PrintStream;");
+        mv.visitMethodInsn(Opcodes.INVOKEVIRTUAL, PRINT_STREAM, "flush", "()V", false);
+        mv.visitFieldInsn(Opcodes.GETSTATIC, className, BUFFER, STRING_BUILDER_DESCRIPTOR);
+        mv.visitInsn(Opcodes.ICONST_0);
+        mv.visitMethodInsn(Opcodes.INVOKEVIRTUAL, STRING_BUILDER, "setLength", "(I)V", false);
+        mv.visitLabel(endLabel);
+        mv.visitInsn(Opcodes.RETURN);
+        mv.visitMaxs(-1, -1);
+        mv.visitEnd();
+    }
+
+    private static void generateNewLineMethod(ClassWriter classWriter, String className) {
+        MethodVisitor mv = classWriter.visitMethod(Opcodes.ACC_PRIVATE + Opcodes.ACC_STATIC, NEW_LINE, "()V", null, null);
+        mv.visitCode();
+        Label endLabel = new Label();
+        mv.visitFieldInsn(Opcodes.GETSTATIC, className, BUFFER, STRING_BUILDER_DESCRIPTOR);
+        mv.visitMethodInsn(Opcodes.INVOKESTATIC, "java/lang/System", "lineSeparator", "()Ljava/lang/String;", false);
+        mv.visitMethodInsn(Opcodes.INVOKEVIRTUAL, STRING_BUILDER,
+                "append", "(Ljava/lang/String;)" + STRING_BUILDER_DESCRIPTOR, false);
+        mv.visitMethodInsn(Opcodes.INVOKEVIRTUAL, STRING_BUILDER, "length", "()I", false);
+        mv.visitLdcInsn(BUFFER_SIZE);
+        mv.visitJumpInsn(Opcodes.IF_ICMPLT, endLabel);
+        mv.visitMethodInsn(Opcodes.INVOKESTATIC, className, FLUSH, "()V", false);
+        mv.visitLabel(endLabel);
+        mv.visitInsn(Opcodes.RETURN);
+        mv.visitMaxs(-1, -1);
+        mv.visitEnd();
+    }
+}
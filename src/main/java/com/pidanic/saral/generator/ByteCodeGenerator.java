@@ -7,13 +7,36 @@ import org.objectweb.asm.Opcodes;
 public class ByteCodeGenerator {
     private static final int CLASS_VERSION = 54;
 
+    private final boolean bufferedOutput;
+    private final boolean memo;
+
+    public ByteCodeGenerator() {
+        this(false, false);
+    }
+
+    /**
+     * @param bufferedOutput print to a buffer of the generated class, see {@link InitGenerator}
+     * @param memo memoize pure bars, see {@link InitGenerator}
+     */
+    public ByteCodeGenerator(boolean bufferedOutput, boolean memo) {
+        this.bufferedOutput = bufferedOutput;
+        this.memo = memo;
+    }
+
     public byte[] generateByteCode(Init compilationUnit) {
+        return generateByteCode(compilationUnit, new VariableStorage());
+    }
+
+    /**
+     * @param variableStorage variables stored as string builders or ints, chosen by the optimizer
+     */
+    public byte[] generateByteCode(Init compilationUnit, VariableStorage variableStorage) {
         String name = compilationUnit.getScope().getClassName();
         ClassWriter cw = new ClassWriter(ClassWriter.COMPUTE_FRAMES + ClassWriter.COMPUTE_MAXS);
 
         cw.visit(CLASS_VERSION, Opcodes.ACC_PUBLIC + Opcodes.ACC_SUPER, name, null, "java/lang/Object", null);
 
-        InitGenerator initGenerator = new InitGenerator(cw);
+        InitGenerator initGenerator = new InitGenerator(cw, bufferedOutput, memo, variableStorage);
         return initGenerator.generate(compilationUnit).toByteArray();
     }
 }
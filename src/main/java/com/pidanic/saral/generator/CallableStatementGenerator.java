@@ -17,11 +17,13 @@ public class CallableStatementGenerator extends StatementGenerator {
 
     private final ClassWriter classWriter;
     private final Scope scope;
+    private final ClassRuntime runtime;
 
-    public CallableStatementGenerator(ClassWriter classWriter, Scope scope) {
+    CallableStatementGenerator(ClassWriter classWriter, Scope scope, ClassRuntime runtime) {
         super();
         this.classWriter = classWriter;
         this.scope = scope;
+        this.runtime = runtime;
     }
 
     public void generate(Function function) {
@@ -31,11 +33,17 @@ public class CallableStatementGenerator extends StatementGenerator {
         String descriptor = DescriptorFactory.getMethodDescriptor(function);
         Collection<Statement> statements = function.getStatements();
         int access = Opcodes.ACC_STATIC + Opcodes.ACC_PUBLIC;
-        MethodVisitor mw = classWriter.visitMethod(access, procedureName, descriptor, null, null);
+        if(runtime.memoize(function)) {
+            // the method with the name of the bar is the memoizing one
+            procedureName = MemoizationGenerator.getComputeName(function);
+            access = Opcodes.ACC_STATIC + Opcodes.ACC_PRIVATE;
+        }
+        MethodVisitor mw = new LocalVariableAllocator(classWriter, access, procedureName, descriptor);
         mw.visitCode();
+        mw.visitLabel(runtime.getEntry(function));
 
-        StatementGenerator simpleStatementGenerator = new SimpleStatementGenerator(mw, scope);
-        StatementGenerator statementGenerator = new BlockStatementGenerator(mw, scope);
+        StatementGenerator simpleStatementGenerator = new SimpleStatementGenerator(mw, scope, runtime);
+        StatementGenerator statementGenerator = new BlockStatementGenerator(mw, scope, runtime);
         statements.forEach(statement -> {
             if(statement instanceof SimpleStatement) {
                 statement.accept(simpleStatementGenerator);
@@ -49,7 +57,7 @@ public class CallableStatementGenerator extends StatementGenerator {
     }
 
     private void generateReturnStatement(Scope scope, MethodVisitor mw, Optional<ReturnStatement> returnStatement) {
-        ReturnStatementGenerator returnStatementGenerator = new ReturnStatementGenerator(scope, mw);
+        ReturnStatementGenerator returnStatementGenerator = new ReturnStatementGenerator(scope, mw, runtime.getVariableStorage());
         if(returnStatement.isPresent()) {
             returnStatementGenerator.generate(returnStatement.get());
         } else {
@@ -0,0 +1,92 @@
+package com.pidanic.saral.generator;
+
+import com.pidanic.saral.domain.block.Function;
+import org.objectweb.asm.ClassWriter;
+import org.objectweb.asm.Label;
+import org.objectweb.asm.MethodVisitor;
+import org.objectweb.asm.Opcodes;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Fields and methods generated into the compiled class for its statements. Input methods are generated only
+ * when the program reads, output methods only with buffered output and memoization tables only for memoized bars.
+ * It also keeps the entries of methods of bars, where their tail calls jump, and the storage of variables.
+ */
+class ClassRuntime {
+    private final String className;
+    private final boolean bufferedOutput;
+    private final boolean memo;
+    private final VariableStorage variableStorage;
+    private final Map<Function, Label> entries = new HashMap<>();
+    private final List<Function> memoizedFunctions = new ArrayList<>();
+    private boolean inputUsed;
+
+    ClassRuntime(String className, boolean bufferedOutput, boolean memo, VariableStorage variableStorage) {
+        this.className = className;
+        this.bufferedOutput = bufferedOutput;
+        this.memo = memo;
+        this.variableStorage = variableStorage;
+    }
+
+    boolean isBufferedOutput() {
+        return bufferedOutput;
+    }
+
+    VariableStorage getVariableStorage() {
+        return variableStorage;
+    }
+
+    BufferedOutputGenerator createBufferedOutputGenerator(MethodVisitor methodVisitor) {
+        return new BufferedOutputGenerator(methodVisitor, className);
+    }
+
+    BufferedInputGenerator createInputGenerator(MethodVisitor methodVisitor) {
+        inputUsed = true;
+        return new BufferedInputGenerator(methodVisitor, className);
+    }
+
+    /**
+     * Memoizes the bar, if memoization is enabled and the bar can be memoized, see {@link MemoizationGenerator}.
+     */
+    boolean memoize(Function function) {
+        if(!memo || !MemoizationGenerator.isMemoizable(function)) {
+            return false;
+        }
+        memoizedFunctions.add(function);
+        return true;
+    }
+
+    void generateMemoStatistics(MethodVisitor methodVisitor) {
+        if(!memoizedFunctions.isEmpty()) {
+            MemoizationGenerator.generateStatistics(methodVisitor, className, memoizedFunctions);
+        }
+    }
+
+    Label getEntry(Function function) {
+        return entries.computeIfAbsent(function, key -> new Label());
+    }
+
+    void generate(ClassWriter classWriter) {
+        if(!bufferedOutput && !inputUsed && memoizedFunctions.isEmpty()) {
+            return;
+        }
+        MethodVisitor staticInitializer = classWriter.visitMethod(Opcodes.ACC_STATIC, "<clinit>", "()V", null, null);
+        staticInitializer.visitCode();
+        if(bufferedOutput) {
+            BufferedOutputGenerator.generateRuntime(classWriter, staticInitializer, className);
+        }
+        if(inputUsed) {
+            BufferedInputGenerator.generateRuntime(classWriter, staticInitializer, className);
+        }
+        if(!memoizedFunctions.isEmpty()) {
+            MemoizationGenerator.generateRuntime(classWriter, staticInitializer, className, memoizedFunctions);
+        }
+        staticInitializer.visitInsn(Opcodes.RETURN);
+        staticInitializer.visitMaxs(-1, -1);
+        staticInitializer.visitEnd();
+    }
+}
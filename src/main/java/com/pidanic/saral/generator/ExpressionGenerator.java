@@ -7,6 +7,7 @@ import com.pidanic.saral.exception.VariableNotFound;
 import com.pidanic.saral.scope.LocalVariable;
 import com.pidanic.saral.domain.expression.*;
 import com.pidanic.saral.domain.expression.cast.CastExpression;
+import com.pidanic.saral.domain.expression.cast.CastingSign;
 import com.pidanic.saral.domain.expression.logic.And;
 import com.pidanic.saral.domain.expression.logic.Negation;
 import com.pidanic.saral.domain.expression.logic.Or;
@@ -15,25 +16,43 @@ import com.pidanic.saral.exception.FunctionCallNotFound;
 import com.pidanic.saral.scope.Scope;
 import com.pidanic.saral.util.*;
 import org.apache.commons.lang3.StringUtils;
+import org.objectweb.asm.Handle;
 import org.objectweb.asm.Label;
 import org.objectweb.asm.MethodVisitor;
 import org.objectweb.asm.Opcodes;
 
 import java.lang.reflect.Method;
+import java.util.ArrayList;
 import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
+import java.util.function.BinaryOperator;
 
 public class ExpressionGenerator extends StatementGenerator {
 
     private static final int NULL_CHAR = '\0';
 
+    // Kleene's logic tables, 2 bits for every result. Unary index is the value, binary index is left << 2 | right.
+    private static final int NOT_TABLE = createNotTable();
+    private static final int AND_TABLE = createBinaryTable(Logic::and);
+    private static final int OR_TABLE = createBinaryTable(Logic::or);
+
+    private static final Handle CONCAT_BOOTSTRAP = new Handle(Opcodes.H_INVOKESTATIC,
+            "java/lang/invoke/StringConcatFactory", "makeConcatWithConstants",
+            "(Ljava/lang/invoke/MethodHandles$Lookup;Ljava/lang/String;Ljava/lang/invoke/MethodType;Ljava/lang/String;[Ljava/lang/Object;)Ljava/lang/invoke/CallSite;",
+            false);
+    private static final char CONCAT_ARGUMENT = '\u0001';
+    private static final char CONCAT_CONSTANT = '\u0002';
+    private static final int MAX_CONCAT_ARGUMENT_SLOTS = 200;
+
     private MethodVisitor methodVisitor;
     private Scope scope;
+    private VariableStorage variableStorage;
 
-    public ExpressionGenerator(MethodVisitor methodVisitor, Scope scope) {
+    public ExpressionGenerator(MethodVisitor methodVisitor, Scope scope, VariableStorage variableStorage) {
         this.methodVisitor = methodVisitor;
         this.scope = scope;
+        this.variableStorage = variableStorage;
     }
 
     public void generate(Value val) {
@@ -41,6 +60,9 @@ public class ExpressionGenerator extends StatementGenerator {
         if(TypeResolver.isLong(type)) {
             Long value = Long.valueOf(val.getValue());
             methodVisitor.visitLdcInsn(value);
+        } else if(TypeResolver.isInt(type)) {
+            Integer value = Integer.valueOf(val.getValue());
+            methodVisitor.visitLdcInsn(value);
         } else if(TypeResolver.isBoolean(type)) {
             String boolValue = val.getValue();
             Integer value = Logic.getFromString(boolValue).getIntValue();
@@ -55,10 +77,7 @@ public class ExpressionGenerator extends StatementGenerator {
             Character charr = stringValue.charAt(0);
             methodVisitor.visitLdcInsn(charr);
         } else if(TypeResolver.isString(type)) {
-            String stringValue = val.getValue();
-            stringValue = StringUtils.removeStart(stringValue, "\"");
-            stringValue = StringUtils.removeEnd(stringValue, "\"");
-            methodVisitor.visitLdcInsn(stringValue);
+            methodVisitor.visitLdcInsn(getStringValue(val));
         }
     }
 
@@ -70,8 +89,18 @@ public class ExpressionGenerator extends StatementGenerator {
         if(!localVariable.isPresent()) {
             throw new VariableNotFound(scope, varName);
         }
-        Type type = localVariable.get().type();
-        methodVisitor.visitVarInsn(type.getTypeSpecificOpcode().getLoad(), index);
+        generateVariableLoad(localVariable.get().type(), varName, index);
+    }
+
+    public void generate(TemporaryRef temporaryRef) {
+        methodVisitor.visitVarInsn(temporaryRef.type().getTypeSpecificOpcode().getLoad(), temporaryRef.getIndex());
+    }
+
+    public void generate(TemporaryStore temporaryStore) {
+        Type type = temporaryStore.type();
+        temporaryStore.getExpression().accept(this);
+        methodVisitor.visitInsn(type == BuiltInType.LONG || type == BuiltInType.DOUBLE ? Opcodes.DUP2 : Opcodes.DUP);
+        methodVisitor.visitVarInsn(type.getTypeSpecificOpcode().getStore(), temporaryStore.getIndex());
     }
 
     public void generate(FunctionCall functionCall) {
@@ -94,7 +123,49 @@ public class ExpressionGenerator extends StatementGenerator {
     public void generate(Argument parameter, String localVariableName) {
         Type type = parameter.getType();
         int index = scope.getLocalVariableIndex(localVariableName);
+        generateVariableLoad(type, localVariableName, index);
+    }
+
+    /**
+     * Loads the value of a variable in its type, also if it is stored as string builder or narrowed to int.
+     */
+    public void generateVariableLoad(Type type, String varName, int index) {
+        if(variableStorage.isNarrowedToInt(scope, varName)) {
+            methodVisitor.visitVarInsn(Opcodes.ILOAD, index);
+            methodVisitor.visitInsn(Opcodes.I2L);
+            return;
+        }
         methodVisitor.visitVarInsn(type.getTypeSpecificOpcode().getLoad(), index);
+        generateStringBuilderToString(varName);
+    }
+
+    /**
+     * Converts loaded variable to string, if it is stored as string builder.
+     */
+    public void generateStringBuilderToString(String varName) {
+        if(variableStorage.isStringBuilder(scope, varName)) {
+            methodVisitor.visitMethodInsn(Opcodes.INVOKEVIRTUAL, "java/lang/StringBuilder",
+                    "toString", "()Ljava/lang/String;", false);
+        }
+    }
+
+    /**
+     * Stores string value of the expression to variable stored as string builder.
+     */
+    public void generateStringBuilderStore(Expression expression, int variableIndex) {
+        methodVisitor.visitTypeInsn(Opcodes.NEW, "java/lang/StringBuilder");
+        methodVisitor.visitInsn(Opcodes.DUP);
+        expression.accept(this);
+        methodVisitor.visitMethodInsn(Opcodes.INVOKESPECIAL, "java/lang/StringBuilder",
+                "<init>", "(Ljava/lang/String;)V", false);
+        methodVisitor.visitVarInsn(Opcodes.ASTORE, variableIndex);
+    }
+
+    /**
+     * Returns class of the value stored in a string variable.
+     */
+    public String getStringOwner(String varName) {
+        return variableStorage.isStringBuilder(scope, varName) ? "java/lang/StringBuilder" : "java/lang/String";
     }
 
     private String getFunctionDescriptor(FunctionCall functionCall) {
@@ -169,6 +240,123 @@ public class ExpressionGenerator extends StatementGenerator {
         methodVisitor.visitLabel(endLabel);
     }
 
+    /**
+     * Jumps to the target, when the condition is not ošaľ and <code>jumpIfTrue</code> is set, or when it is ošaľ
+     * and <code>jumpIfTrue</code> is not set. Comparisons jump by their result without pushing a logical value.
+     *
+     * Negation and the left side of disjunction are fused only when they can be only pravda or ošaľ, because
+     * negation of skoroošaľ is not ošaľ and skoroošaľ on the left side of disjunction evaluates its right side.
+     */
+    public void generateConditionalJump(Expression condition, boolean jumpIfTrue, Label target) {
+        if(condition instanceof CompareExpression && isFusedComparison((CompareExpression) condition)) {
+            generateComparisonJump((CompareExpression) condition, jumpIfTrue, target);
+        } else if(condition instanceof And) {
+            BinaryExpression and = (BinaryExpression) condition;
+            if(jumpIfTrue) {
+                Label falseLabel = new Label();
+                generateConditionalJump(and.getLeft(), false, falseLabel);
+                generateConditionalJump(and.getRight(), true, target);
+                methodVisitor.visitLabel(falseLabel);
+            } else {
+                generateConditionalJump(and.getLeft(), false, target);
+                generateConditionalJump(and.getRight(), false, target);
+            }
+        } else if(condition instanceof Or && isTwoValued(((BinaryExpression) condition).getLeft())) {
+            BinaryExpression or = (BinaryExpression) condition;
+            if(jumpIfTrue) {
+                generateConditionalJump(or.getLeft(), true, target);
+                generateConditionalJump(or.getRight(), true, target);
+            } else {
+                Label trueLabel = new Label();
+                generateConditionalJump(or.getLeft(), true, trueLabel);
+                generateConditionalJump(or.getRight(), false, target);
+                methodVisitor.visitLabel(trueLabel);
+            }
+        } else if(condition instanceof Negation && isTwoValued(((Negation) condition).getExpression())) {
+            generateConditionalJump(((Negation) condition).getExpression(), !jumpIfTrue, target);
+        } else if(condition instanceof Value) {
+            // a constant condition jumps always or never, so the code after kým pravda is not reachable
+            boolean value = Logic.getFromString(((Value) condition).getValue()) != Logic.OSAL;
+            if(value == jumpIfTrue) {
+                methodVisitor.visitJumpInsn(Opcodes.GOTO, target);
+            }
+        } else {
+            condition.accept(this);
+            methodVisitor.visitJumpInsn(jumpIfTrue ? Opcodes.IFNE : Opcodes.IFEQ, target);
+        }
+    }
+
+    private boolean isFusedComparison(CompareExpression expression) {
+        Type type = expression.getLeft().type();
+        return type == BuiltInType.CHAR || type == BuiltInType.LONG || type == BuiltInType.DOUBLE;
+    }
+
+    /**
+     * Returns <code>true</code> for conditions whose value is pravda or ošaľ, never skoroošaľ.
+     */
+    private boolean isTwoValued(Expression condition) {
+        if(condition instanceof CompareExpression) {
+            return true;
+        } else if(condition instanceof Negation) {
+            return isTwoValued(((Negation) condition).getExpression());
+        } else if(condition instanceof And || condition instanceof Or) {
+            BinaryExpression expression = (BinaryExpression) condition;
+            return isTwoValued(expression.getLeft()) && isTwoValued(expression.getRight());
+        }
+        return false;
+    }
+
+    /**
+     * Opcodes of compare signs jump, when the comparison is false. Numerals fitting in int are compared as int.
+     */
+    private void generateComparisonJump(CompareExpression expression, boolean jumpIfTrue, Label target) {
+        int opcode = jumpIfTrue ? negateJump(expression.getSign().getOpcode()) : expression.getSign().getOpcode();
+        Type type = expression.getLeft().type();
+        if(type == BuiltInType.LONG && isInt(expression.getLeft()) && isInt(expression.getRight())) {
+            generateBinaryExpressionComponentsAsInt(expression);
+            methodVisitor.visitJumpInsn(opcode + Opcodes.IF_ICMPEQ - Opcodes.IFEQ, target);
+        } else if(type == BuiltInType.CHAR) {
+            generateBinaryExpressionComponents(expression);
+            methodVisitor.visitJumpInsn(opcode + Opcodes.IF_ICMPEQ - Opcodes.IFEQ, target);
+        } else {
+            generateBinaryExpressionComponents(expression);
+            methodVisitor.visitInsn(type == BuiltInType.LONG ? Opcodes.LCMP : Opcodes.DCMPG);
+            methodVisitor.visitJumpInsn(opcode, target);
+        }
+    }
+
+    private static int negateJump(int opcode) {
+        switch(opcode) {
+            case Opcodes.IFEQ:
+                return Opcodes.IFNE;
+            case Opcodes.IFNE:
+                return Opcodes.IFEQ;
+            case Opcodes.IFLT:
+                return Opcodes.IFGE;
+            case Opcodes.IFGE:
+                return Opcodes.IFLT;
+            case Opcodes.IFGT:
+                return Opcodes.IFLE;
+            case Opcodes.IFLE:
+                return Opcodes.IFGT;
+            default:
+                throw new IllegalArgumentException("Not a conditional jump: " + opcode);
+        }
+    }
+
+    /**
+     * Returns <code>true</code> for numerals whose value is an int, variables narrowed to int and int constants.
+     */
+    private boolean isInt(Expression expression) {
+        if(expression instanceof VariableRef) {
+            return variableStorage.isNarrowedToInt(scope, ((VariableRef) expression).name());
+        } else if(expression instanceof Value) {
+            long value = Long.parseLong(((Value) expression).getValue());
+            return value >= Integer.MIN_VALUE && value <= Integer.MAX_VALUE;
+        }
+        return false;
+    }
+
     private void generateBinaryExpressionComponents(BinaryExpression expression) {
         Expression leftExpression = expression.getLeft();
         Expression rightExpression = expression.getRight();
@@ -177,91 +365,78 @@ public class ExpressionGenerator extends StatementGenerator {
     }
 
     public void generate(Negation expression) {
-        Expression expr = expression.getExpression();
-        expr.accept(this);
-
-        methodVisitor.visitIntInsn(Opcodes.BIPUSH, Logic.SKOROOSAL.getIntValue());
-        Label endLabel = new Label();
-        Label falseLabel = new Label();
-        methodVisitor.visitJumpInsn(Opcodes.IF_ICMPNE, falseLabel);
-        methodVisitor.visitIntInsn(Opcodes.BIPUSH, Logic.SKOROOSAL.getIntValue());
-        methodVisitor.visitJumpInsn(Opcodes.GOTO, endLabel);
-        methodVisitor.visitLabel(falseLabel);
-        expr.accept(this);
-        methodVisitor.visitIntInsn(Opcodes.BIPUSH, Logic.PRAVDA.getIntValue());
-        methodVisitor.visitInsn(Opcodes.IXOR);
-        methodVisitor.visitLabel(endLabel);
+        expression.getExpression().accept(this);
+        generateLogicTableLookup(NOT_TABLE);
     }
 
+    /**
+     * Right side is not evaluated, if the left side is ošaľ.
+     */
     public void generate(And expression) {
-        generateBinaryExpressionComponents(expression);
-
         Label endLabel = new Label();
-        Label falseLabel = new Label();
-        Label falseLabel2 = new Label();
-        Label falseLabel3 = new Label();
-        // comparing value of the right expression it is "false"
-        methodVisitor.visitIntInsn(Opcodes.BIPUSH, Logic.OSAL.getIntValue());
-        methodVisitor.visitJumpInsn(Opcodes.IF_ICMPNE, falseLabel);
-        methodVisitor.visitInsn(Opcodes.POP);
-        methodVisitor.visitIntInsn(Opcodes.BIPUSH, Logic.OSAL.getIntValue());
-        methodVisitor.visitJumpInsn(Opcodes.GOTO, endLabel);
-
-        methodVisitor.visitLabel(falseLabel);
-
-        // comparing value of the right expression again it if it "true"
-        expression.getRight().accept(this);
-        methodVisitor.visitIntInsn(Opcodes.BIPUSH, Logic.PRAVDA.getIntValue());
-        methodVisitor.visitJumpInsn(Opcodes.IF_ICMPNE, falseLabel2);
-        methodVisitor.visitJumpInsn(Opcodes.GOTO, endLabel);
-        methodVisitor.visitLabel(falseLabel2);
-
-        // comparing value of the left expression if "false"
-        methodVisitor.visitIntInsn(Opcodes.BIPUSH, Logic.OSAL.getIntValue());
-        methodVisitor.visitJumpInsn(Opcodes.IF_ICMPNE, falseLabel3);
-        methodVisitor.visitIntInsn(Opcodes.BIPUSH, Logic.OSAL.getIntValue());
-        methodVisitor.visitJumpInsn(Opcodes.GOTO, endLabel);
-
-        methodVisitor.visitLabel(falseLabel3);
-        methodVisitor.visitIntInsn(Opcodes.BIPUSH, Logic.SKOROOSAL.getIntValue());
-
+        expression.getLeft().accept(this);
+        methodVisitor.visitInsn(Opcodes.DUP);
+        methodVisitor.visitJumpInsn(Opcodes.IFEQ, endLabel);
+        generateBinaryLogic(expression.getRight(), AND_TABLE);
         methodVisitor.visitLabel(endLabel);
     }
 
+    /**
+     * Right side is not evaluated, if the left side is pravda.
+     */
     public void generate(Or expression) {
-        generateBinaryExpressionComponents(expression);
-
         Label endLabel = new Label();
-        Label falseLabel = new Label();
-        Label falseLabel2 = new Label();
-        Label falseLabel3 = new Label();
-        // comparing value of the right expression if "true"
-        methodVisitor.visitIntInsn(Opcodes.BIPUSH, Logic.PRAVDA.getIntValue());
-        methodVisitor.visitJumpInsn(Opcodes.IF_ICMPNE, falseLabel);
-        methodVisitor.visitInsn(Opcodes.POP);
-        methodVisitor.visitIntInsn(Opcodes.BIPUSH, Logic.PRAVDA.getIntValue());
-        methodVisitor.visitJumpInsn(Opcodes.GOTO, endLabel);
-
-        methodVisitor.visitLabel(falseLabel);
-
-        // comparing value of the right expression again if "false"
-        expression.getRight().accept(this);
-        methodVisitor.visitIntInsn(Opcodes.BIPUSH, Logic.OSAL.getIntValue());
-        methodVisitor.visitJumpInsn(Opcodes.IF_ICMPNE, falseLabel2);
+        expression.getLeft().accept(this);
+        methodVisitor.visitInsn(Opcodes.DUP);
+        methodVisitor.visitInsn(Opcodes.ICONST_1);
+        methodVisitor.visitJumpInsn(Opcodes.IF_ICMPEQ, endLabel);
+        generateBinaryLogic(expression.getRight(), OR_TABLE);
+        methodVisitor.visitLabel(endLabel);
+    }
 
-        methodVisitor.visitJumpInsn(Opcodes.GOTO, endLabel);
-        methodVisitor.visitLabel(falseLabel2);
+    /**
+     * Expects the left value on the stack and replaces it by the result of the right value looked up in the table.
+     */
+    private void generateBinaryLogic(Expression right, int table) {
+        right.accept(this);
+        // index = left << 2 | right
+        methodVisitor.visitInsn(Opcodes.SWAP);
+        methodVisitor.visitInsn(Opcodes.ICONST_2);
+        methodVisitor.visitInsn(Opcodes.ISHL);
+        methodVisitor.visitInsn(Opcodes.IOR);
+        generateLogicTableLookup(table);
+    }
 
-        // comparing value of the left expression if "true"
-        methodVisitor.visitIntInsn(Opcodes.BIPUSH, Logic.PRAVDA.getIntValue());
-        methodVisitor.visitJumpInsn(Opcodes.IF_ICMPNE, falseLabel3);
-        methodVisitor.visitIntInsn(Opcodes.BIPUSH, Logic.PRAVDA.getIntValue());
-        methodVisitor.visitJumpInsn(Opcodes.GOTO, endLabel);
+    /**
+     * Replaces the index on the stack by <code>table >>> (index * 2) & 3</code>.
+     */
+    private void generateLogicTableLookup(int table) {
+        methodVisitor.visitInsn(Opcodes.ICONST_1);
+        methodVisitor.visitInsn(Opcodes.ISHL);
+        methodVisitor.visitLdcInsn(table);
+        methodVisitor.visitInsn(Opcodes.SWAP);
+        methodVisitor.visitInsn(Opcodes.IUSHR);
+        methodVisitor.visitInsn(Opcodes.ICONST_3);
+        methodVisitor.visitInsn(Opcodes.IAND);
+    }
 
-        methodVisitor.visitLabel(falseLabel3);
-        methodVisitor.visitIntInsn(Opcodes.BIPUSH, Logic.SKOROOSAL.getIntValue());
+    private static int createNotTable() {
+        int table = 0;
+        for(Logic value : Logic.values()) {
+            table |= value.not().getIntValue() << (value.getIntValue() * 2);
+        }
+        return table;
+    }
 
-        methodVisitor.visitLabel(endLabel);
+    private static int createBinaryTable(BinaryOperator<Logic> operator) {
+        int table = 0;
+        for(Logic left : Logic.values()) {
+            for(Logic right : Logic.values()) {
+                int index = left.getIntValue() << 2 | right.getIntValue();
+                table |= operator.apply(left, right).getIntValue() << (index * 2);
+            }
+        }
+        return table;
     }
 
     public void generate(UnaryMinus unaryMinus) {
@@ -272,12 +447,51 @@ public class ExpressionGenerator extends StatementGenerator {
 
     public void generate(CastExpression castExpression) {
         Expression expression = castExpression.getExpression();
+        if(castExpression.getSign() == CastingSign.LONG_TO_INT) {
+            generateAsInt(expression);
+            return;
+        }
         expression.accept(this);
         methodVisitor.visitInsn(castExpression.getSign().getOpcode());
     }
 
+    /**
+     * Generates the lower 32 bits of a numeral expression. They do not depend on the higher bits of the operands
+     * of addition, subtraction and multiplication, so these are counted as int. Other expressions are counted
+     * as long and converted.
+     */
+    public void generateAsInt(Expression expression) {
+        if(expression instanceof VariableRef
+                && variableStorage.isNarrowedToInt(scope, ((VariableRef) expression).name())) {
+            methodVisitor.visitVarInsn(Opcodes.ILOAD, scope.getLocalVariableIndex(((VariableRef) expression).name()));
+        } else if(expression instanceof Value) {
+            methodVisitor.visitLdcInsn((int) Long.parseLong(((Value) expression).getValue()));
+        } else if(expression instanceof Addition) {
+            generateBinaryExpressionComponentsAsInt((BinaryExpression) expression);
+            methodVisitor.visitInsn(Opcodes.IADD);
+        } else if(expression instanceof Substraction) {
+            generateBinaryExpressionComponentsAsInt((BinaryExpression) expression);
+            methodVisitor.visitInsn(Opcodes.ISUB);
+        } else if(expression instanceof Multiplication) {
+            generateBinaryExpressionComponentsAsInt((BinaryExpression) expression);
+            methodVisitor.visitInsn(Opcodes.IMUL);
+        } else if(expression instanceof UnaryMinus) {
+            generateAsInt(((UnaryMinus) expression).getExpression());
+            methodVisitor.visitInsn(Opcodes.INEG);
+        } else {
+            expression.accept(this);
+            methodVisitor.visitInsn(Opcodes.L2I);
+        }
+    }
+
+    private void generateBinaryExpressionComponentsAsInt(BinaryExpression expression) {
+        generateAsInt(expression.getLeft());
+        generateAsInt(expression.getRight());
+    }
+
     public void generate(ArrayRef arrayRef) {
         if(arrayRef.type() == BuiltInType.STRING) {
+            String owner = getStringOwner(arrayRef.name());
             int arrayIndex = scope.getLocalVariableIndex(arrayRef.name());
             methodVisitor.visitVarInsn(Opcodes.ALOAD, arrayIndex);
 
@@ -285,9 +499,9 @@ public class ExpressionGenerator extends StatementGenerator {
             index.accept(this);
 
             // duplicate index and reference
-            index.accept(this);
+            methodVisitor.visitInsn(Opcodes.DUP);
             methodVisitor.visitVarInsn(Opcodes.ALOAD, arrayIndex);
-            methodVisitor.visitMethodInsn(Opcodes.INVOKEVIRTUAL, "java/lang/String", "length", "()I", false);
+            methodVisitor.visitMethodInsn(Opcodes.INVOKEVIRTUAL, owner, "length", "()I", false);
 
             Label trueLabel = new Label();
             Label endLabel = new Label();
@@ -302,7 +516,7 @@ public class ExpressionGenerator extends StatementGenerator {
             methodVisitor.visitJumpInsn(Opcodes.GOTO, endLabel);
             methodVisitor.visitLabel(trueLabel);
             // true label
-            methodVisitor.visitMethodInsn(Opcodes.INVOKEVIRTUAL, "java/lang/String", "charAt", "(I)C", false);
+            methodVisitor.visitMethodInsn(Opcodes.INVOKEVIRTUAL, owner, "charAt", "(I)C", false);
             methodVisitor.visitLabel(endLabel);
         } else {
             int arrayIndex = scope.getLocalVariableIndex(arrayRef.name());
@@ -320,20 +534,83 @@ public class ExpressionGenerator extends StatementGenerator {
         }
     }
 
+    /**
+     * Nested concatenations are flattened and concatenated with one <code>makeConcatWithConstants</code> call.
+     * String literals become constants of its recipe, other parts are passed as arguments.
+     */
     public void generate(Concatenation concatenation) {
-        Expression left = concatenation.getLeft();
-        Expression right = concatenation.getRight();
-        left.accept(this);
-        if(left.type() != BuiltInType.STRING) {
-            methodVisitor.visitMethodInsn(Opcodes.INVOKESTATIC, "java/lang/String",
-                    "valueOf", "(" + left.type().getDescriptor() + ")Ljava/lang/String;", false);
+        List<Expression> parts = new ArrayList<>();
+        addConcatenatedParts(concatenation, parts);
+
+        StringBuilder recipe = new StringBuilder();
+        List<Object> constants = new ArrayList<>();
+        StringBuilder argumentDescriptors = new StringBuilder();
+        int argumentSlots = 0;
+        for(Expression part : parts) {
+            if(part instanceof Value && part.type() == BuiltInType.STRING) {
+                addConcatConstant(getStringValue((Value) part), recipe, constants);
+                continue;
+            }
+            Type type = part.type() == BuiltInType.BOOLEAN ? BuiltInType.STRING : part.type();
+            int slots = type == BuiltInType.LONG || type == BuiltInType.DOUBLE ? 2 : 1;
+            if(argumentSlots + slots > MAX_CONCAT_ARGUMENT_SLOTS) {
+                // concatenate the arguments so far, the result is the first argument of the next call
+                generateConcat(recipe, constants, argumentDescriptors);
+                recipe.setLength(0);
+                constants.clear();
+                argumentDescriptors.setLength(0);
+                recipe.append(CONCAT_ARGUMENT);
+                argumentDescriptors.append(BuiltInType.STRING.getDescriptor());
+                argumentSlots = 1;
+            }
+            part.accept(this);
+            if(part.type() == BuiltInType.BOOLEAN) {
+                methodVisitor.visitMethodInsn(Opcodes.INVOKESTATIC, "java/lang/String",
+                        "valueOf", "(Z)Ljava/lang/String;", false);
+            }
+            recipe.append(CONCAT_ARGUMENT);
+            argumentDescriptors.append(type.getDescriptor());
+            argumentSlots += slots;
         }
-        right.accept(this);
-        if(right.type() != BuiltInType.STRING) {
-            methodVisitor.visitMethodInsn(Opcodes.INVOKESTATIC, "java/lang/String",
-                    "valueOf", "(" + right.type().getDescriptor() + ")Ljava/lang/String;", false);
+        generateConcat(recipe, constants, argumentDescriptors);
+    }
+
+    private void addConcatenatedParts(Expression expression, List<Expression> parts) {
+        if(expression instanceof Concatenation) {
+            addConcatenatedParts(((Concatenation) expression).getLeft(), parts);
+            addConcatenatedParts(((Concatenation) expression).getRight(), parts);
+        } else {
+            parts.add(expression);
+        }
+    }
+
+    private void addConcatConstant(String constant, StringBuilder recipe, List<Object> constants) {
+        if(constant.indexOf(CONCAT_ARGUMENT) >= 0 || constant.indexOf(CONCAT_CONSTANT) >= 0) {
+            // tags cannot be part of the recipe
+            recipe.append(CONCAT_CONSTANT);
+            constants.add(constant);
+        } else {
+            recipe.append(constant);
         }
-        methodVisitor.visitMethodInsn(Opcodes.INVOKEVIRTUAL, "java/lang/String",
-                "concat", "(Ljava/lang/String;)Ljava/lang/String;", false);
+    }
+
+    private void generateConcat(StringBuilder recipe, List<Object> constants, StringBuilder argumentDescriptors) {
+        if(argumentDescriptors.length() == 0 && constants.isEmpty()) {
+            methodVisitor.visitLdcInsn(recipe.toString());
+            return;
+        }
+        Object[] bootstrapArguments = new Object[constants.size() + 1];
+        bootstrapArguments[0] = recipe.toString();
+        for(int i = 0; i < constants.size(); i++) {
+            bootstrapArguments[i + 1] = constants.get(i);
+        }
+        methodVisitor.visitInvokeDynamicInsn("makeConcatWithConstants",
+                "(" + argumentDescriptors + ")Ljava/lang/String;", CONCAT_BOOTSTRAP, bootstrapArguments);
+    }
+
+    private String getStringValue(Value value) {
+        String stringValue = value.getValue();
+        stringValue = StringUtils.removeStart(stringValue, "\"");
+        return StringUtils.removeEnd(stringValue, "\"");
     }
 }
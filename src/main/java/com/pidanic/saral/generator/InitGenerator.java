@@ -5,9 +5,9 @@ import com.pidanic.saral.domain.Statement;
 import com.pidanic.saral.domain.block.BlockStatement;
 import com.pidanic.saral.domain.block.CallableStatement;
 import com.pidanic.saral.domain.block.Function;
-import com.pidanic.saral.scope.LocalVariable;
 import com.pidanic.saral.scope.Scope;
 import org.objectweb.asm.ClassWriter;
+import org.objectweb.asm.Label;
 import org.objectweb.asm.MethodVisitor;
 import org.objectweb.asm.Opcodes;
 
@@ -17,27 +17,53 @@ import java.util.stream.Collectors;
 public class InitGenerator {
 
     private ClassWriter classWriter;
+    private boolean bufferedOutput;
+    private boolean memo;
+    private VariableStorage variableStorage;
 
     public InitGenerator(ClassWriter classWriter) {
+        this(classWriter, false, false, new VariableStorage());
+    }
+
+    /**
+     * @param bufferedOutput print to a buffer written to <code>System.out</code> at the end of <code>main</code>
+     * @param memo memoize pure bars, see {@link MemoizationGenerator}
+     * @param variableStorage variables stored as string builders or ints
+     */
+    public InitGenerator(ClassWriter classWriter, boolean bufferedOutput, boolean memo,
+                         VariableStorage variableStorage) {
         this.classWriter = classWriter;
+        this.bufferedOutput = bufferedOutput;
+        this.memo = memo;
+        this.variableStorage = variableStorage;
     }
 
     public ClassWriter generate(Init statements) {
         Scope scope = statements.getScope();
-        MethodVisitor mv = classWriter.visitMethod(Opcodes.ACC_PUBLIC + Opcodes.ACC_STATIC, "main", "([Ljava/lang/String;)V", null, null);
+        MethodVisitor mv = new LocalVariableAllocator(classWriter, Opcodes.ACC_PUBLIC + Opcodes.ACC_STATIC, "main", "([Ljava/lang/String;)V");
 
 
         List<Statement> instructionQueue = statements.getStatements();
 
-        CallableStatementGenerator callableStatementGenerator = new CallableStatementGenerator(classWriter, scope);
+        ClassRuntime runtime = new ClassRuntime(scope.getClassName(), bufferedOutput, memo, variableStorage);
+        CallableStatementGenerator callableStatementGenerator = new CallableStatementGenerator(classWriter, scope, runtime);
         List<Function> functions = instructionQueue.stream()
                 .filter(stmt -> stmt instanceof CallableStatement)
                 .map(statement -> (Function) statement)
                 .collect(Collectors.toList());
         functions.forEach(procedure -> procedure.accept(callableStatementGenerator));
 
-        StatementGenerator simpleStatementGenerator = new SimpleStatementGenerator(mv, scope);
-        StatementGenerator blockStatementGenerator = new BlockStatementGenerator(mv, scope);
+        BufferedOutputGenerator bufferedOutputGenerator = runtime.createBufferedOutputGenerator(mv);
+        Label mainStart = new Label();
+        Label mainEnd = new Label();
+        Label exceptionHandler = new Label();
+        if(bufferedOutput) {
+            mv.visitTryCatchBlock(mainStart, mainEnd, exceptionHandler, "java/lang/Throwable");
+            mv.visitLabel(mainStart);
+        }
+
+        StatementGenerator simpleStatementGenerator = new SimpleStatementGenerator(mv, scope, runtime);
+        StatementGenerator blockStatementGenerator = new BlockStatementGenerator(mv, scope, runtime);
         List<Statement> notCallableStatements = instructionQueue.stream()
                 .filter(stmt -> !(stmt instanceof CallableStatement))
                 .collect(Collectors.toList());
@@ -49,20 +75,24 @@ public class InitGenerator {
             }
         }
 
-        closeSystemInIfCreated(scope, mv);
-        mv.visitInsn(Opcodes.RETURN);
+        runtime.generateMemoStatistics(mv);
+        if(bufferedOutput) {
+            bufferedOutputGenerator.generateFlush();
+            mv.visitLabel(mainEnd);
+            mv.visitInsn(Opcodes.RETURN);
+
+            // output printed before an uncaught exception is written too
+            mv.visitLabel(exceptionHandler);
+            bufferedOutputGenerator.generateFlush();
+            mv.visitInsn(Opcodes.ATHROW);
+        } else {
+            mv.visitInsn(Opcodes.RETURN);
+        }
         mv.visitMaxs(-1, -1);
         mv.visitEnd();
 
+        runtime.generate(classWriter);
         classWriter.visitEnd();
         return classWriter;
     }
-
-    private void closeSystemInIfCreated(Scope scope, MethodVisitor mv) {
-        if(scope.existsLocalVariable(LocalVariable.SYSTEM_IN)) {
-            int systemInIndex = scope.getLocalVariableIndex(LocalVariable.SYSTEM_IN);
-            mv.visitVarInsn(Opcodes.ALOAD, systemInIndex);
-            mv.visitMethodInsn(Opcodes.INVOKEVIRTUAL, "java/util/Scanner", "close", "()V", false);
-        }
-    }
 }
@@ -0,0 +1,267 @@
+package com.pidanic.saral.generator;
+
+import org.objectweb.asm.ClassVisitor;
+import org.objectweb.asm.Opcodes;
+import org.objectweb.asm.Type;
+import org.objectweb.asm.tree.AbstractInsnNode;
+import org.objectweb.asm.tree.IincInsnNode;
+import org.objectweb.asm.tree.InsnList;
+import org.objectweb.asm.tree.JumpInsnNode;
+import org.objectweb.asm.tree.LabelNode;
+import org.objectweb.asm.tree.LookupSwitchInsnNode;
+import org.objectweb.asm.tree.MethodNode;
+import org.objectweb.asm.tree.TableSwitchInsnNode;
+import org.objectweb.asm.tree.TryCatchBlockNode;
+import org.objectweb.asm.tree.VarInsnNode;
+
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Method which assigns slots of its local variables again, when it ends, and then writes itself to the class.
+ *
+ * Slots are given by scopes when the program tree is created, so every variable of a method has its own slot,
+ * although most of them are used only for a short time. A variable here is an original slot used with one type
+ * of instructions. Variables live from their store to their last load, found by liveness analysis of the
+ * instructions. Variables which are not live at the same time can share a slot. Slots are assigned in the order
+ * the variables appear, every variable gets the lowest slot not used by variables live together with it.
+ * Long and double variables take two slots. Parameters stay in their slots.
+ */
+class LocalVariableAllocator extends MethodNode {
+
+    private static final int NO_VARIABLE = -1;
+    private static final int INT = 0;
+    private static final int LONG = 1;
+    private static final int FLOAT = 2;
+    private static final int DOUBLE = 3;
+    private static final int REFERENCE = 4;
+    private static final int SORTS = 5;
+
+    private final ClassVisitor classVisitor;
+
+    private final Map<Integer, Integer> variables = new HashMap<>();
+    private final List<Integer> variableKeys = new ArrayList<>();
+
+    LocalVariableAllocator(ClassVisitor classVisitor, int access, String name, String descriptor) {
+        super(Opcodes.ASM6, access, name, descriptor, null, null);
+        this.classVisitor = classVisitor;
+    }
+
+    @Override
+    public void visitEnd() {
+        super.visitEnd();
+        allocate();
+        accept(classVisitor);
+    }
+
+    private void allocate() {
+        AbstractInsnNode[] code = instructions.toArray();
+        int[] uses = new int[code.length];
+        int[] definitions = new int[code.length];
+        for(int i = 0; i < code.length; i++) {
+            uses[i] = NO_VARIABLE;
+            definitions[i] = NO_VARIABLE;
+            AbstractInsnNode instruction = code[i];
+            if(instruction instanceof VarInsnNode) {
+                int opcode = instruction.getOpcode();
+                int slot = ((VarInsnNode) instruction).var;
+                if(opcode >= Opcodes.ISTORE && opcode <= Opcodes.ASTORE) {
+                    definitions[i] = getVariable(slot, opcode - Opcodes.ISTORE);
+                } else {
+                    uses[i] = getVariable(slot, opcode - Opcodes.ILOAD);
+                }
+            } else if(instruction instanceof IincInsnNode) {
+                uses[i] = getVariable(((IincInsnNode) instruction).var, INT);
+                definitions[i] = uses[i];
+            }
+        }
+        if(variableKeys.isEmpty()) {
+            return;
+        }
+
+        int[][] successors = getSuccessors(code);
+        BitSet[] liveOut = getLiveOut(successors, uses, definitions);
+        BitSet[] interferences = new BitSet[variableKeys.size()];
+        for(int variable = 0; variable < interferences.length; variable++) {
+            interferences[variable] = new BitSet();
+        }
+        for(int i = 0; i < code.length; i++) {
+            int defined = definitions[i];
+            if(defined == NO_VARIABLE) {
+                continue;
+            }
+            for(int live = liveOut[i].nextSetBit(0); live >= 0; live = liveOut[i].nextSetBit(live + 1)) {
+                if(live != defined) {
+                    interferences[defined].set(live);
+                    interferences[live].set(defined);
+                }
+            }
+        }
+        // parameters are live together at the start without being stored
+        BitSet liveAtStart = code.length == 0 ? new BitSet() : getLiveIn(0, liveOut, uses, definitions);
+        for(int live = liveAtStart.nextSetBit(0); live >= 0; live = liveAtStart.nextSetBit(live + 1)) {
+            interferences[live].or(liveAtStart);
+            interferences[live].clear(live);
+        }
+
+        int[] slots = assignSlots(interferences);
+        for(AbstractInsnNode instruction : code) {
+            if(instruction instanceof VarInsnNode) {
+                VarInsnNode varInstruction = (VarInsnNode) instruction;
+                int opcode = varInstruction.getOpcode();
+                int sort = opcode >= Opcodes.ISTORE ? opcode - Opcodes.ISTORE : opcode - Opcodes.ILOAD;
+                varInstruction.var = slots[variables.get(getKey(varInstruction.var, sort))];
+            } else if(instruction instanceof IincInsnNode) {
+                IincInsnNode incrementInstruction = (IincInsnNode) instruction;
+                incrementInstruction.var = slots[variables.get(getKey(incrementInstruction.var, INT))];
+            }
+        }
+    }
+
+    private int getVariable(int slot, int sort) {
+        int key = getKey(slot, sort);
+        Integer variable = variables.get(key);
+        if(variable == null) {
+            variable = variableKeys.size();
+            variables.put(key, variable);
+            variableKeys.add(key);
+        }
+        return variable;
+    }
+
+    private static int getKey(int slot, int sort) {
+        return slot * SORTS + sort;
+    }
+
+    private static int getSize(int key) {
+        int sort = key % SORTS;
+        return sort == LONG || sort == DOUBLE ? 2 : 1;
+    }
+
+    private int[][] getSuccessors(AbstractInsnNode[] code) {
+        List<List<Integer>> successors = new ArrayList<>(code.length);
+        for(int i = 0; i < code.length; i++) {
+            List<Integer> next = new ArrayList<>();
+            AbstractInsnNode instruction = code[i];
+            int opcode = instruction.getOpcode();
+            if(instruction instanceof JumpInsnNode) {
+                next.add(instructions.indexOf(((JumpInsnNode) instruction).label));
+            } else if(instruction instanceof TableSwitchInsnNode) {
+                TableSwitchInsnNode switchInstruction = (TableSwitchInsnNode) instruction;
+                next.add(instructions.indexOf(switchInstruction.dflt));
+                switchInstruction.labels.forEach(label -> next.add(instructions.indexOf(label)));
+            } else if(instruction instanceof LookupSwitchInsnNode) {
+                LookupSwitchInsnNode switchInstruction = (LookupSwitchInsnNode) instruction;
+                next.add(instructions.indexOf(switchInstruction.dflt));
+                switchInstruction.labels.forEach(label -> next.add(instructions.indexOf(label)));
+            }
+            boolean continues = opcode != Opcodes.GOTO && opcode != Opcodes.ATHROW
+                    && !(opcode >= Opcodes.IRETURN && opcode <= Opcodes.RETURN)
+                    && !(instruction instanceof TableSwitchInsnNode) && !(instruction instanceof LookupSwitchInsnNode);
+            if(continues && i + 1 < code.length) {
+                next.add(i + 1);
+            }
+            successors.add(next);
+        }
+        for(TryCatchBlockNode tryCatchBlock : tryCatchBlocks) {
+            int handler = instructions.indexOf(tryCatchBlock.handler);
+            int end = instructions.indexOf(tryCatchBlock.end);
+            for(int i = instructions.indexOf(tryCatchBlock.start); i < end; i++) {
+                successors.get(i).add(handler);
+            }
+        }
+        int[][] result = new int[code.length][];
+        for(int i = 0; i < code.length; i++) {
+            result[i] = successors.get(i).stream().mapToInt(Integer::intValue).toArray();
+        }
+        return result;
+    }
+
+    private BitSet[] getLiveOut(int[][] successors, int[] uses, int[] definitions) {
+        BitSet[] liveOut = new BitSet[successors.length];
+        for(int i = 0; i < liveOut.length; i++) {
+            liveOut[i] = new BitSet();
+        }
+        boolean changed = true;
+        while(changed) {
+            changed = false;
+            for(int i = successors.length - 1; i >= 0; i--) {
+                BitSet live = new BitSet();
+                for(int successor : successors[i]) {
+                    live.or(getLiveIn(successor, liveOut, uses, definitions));
+                }
+                if(!live.equals(liveOut[i])) {
+                    liveOut[i] = live;
+                    changed = true;
+                }
+            }
+        }
+        return liveOut;
+    }
+
+    private BitSet getLiveIn(int instruction, BitSet[] liveOut, int[] uses, int[] definitions) {
+        BitSet liveIn = (BitSet) liveOut[instruction].clone();
+        if(definitions[instruction] != NO_VARIABLE) {
+            liveIn.clear(definitions[instruction]);
+        }
+        if(uses[instruction] != NO_VARIABLE) {
+            liveIn.set(uses[instruction]);
+        }
+        return liveIn;
+    }
+
+    private int[] assignSlots(BitSet[] interferences) {
+        int[] slots = new int[variableKeys.size()];
+        boolean[] assigned = new boolean[slots.length];
+        int slot = 0;
+        for(Type argumentType : Type.getArgumentTypes(desc)) {
+            Integer parameter = variables.get(getKey(slot, getSort(argumentType)));
+            if(parameter != null) {
+                slots[parameter] = slot;
+                assigned[parameter] = true;
+            }
+            slot += argumentType.getSize();
+        }
+        for(int variable = 0; variable < slots.length; variable++) {
+            if(assigned[variable]) {
+                continue;
+            }
+            int size = getSize(variableKeys.get(variable));
+            int candidate = 0;
+            boolean free = false;
+            while(!free) {
+                free = true;
+                BitSet interfering = interferences[variable];
+                for(int other = interfering.nextSetBit(0); other >= 0; other = interfering.nextSetBit(other + 1)) {
+                    if(assigned[other] && slots[other] < candidate + size
+                            && candidate < slots[other] + getSize(variableKeys.get(other))) {
+                        candidate = slots[other] + getSize(variableKeys.get(other));
+                        free = false;
+                    }
+                }
+            }
+            slots[variable] = candidate;
+            assigned[variable] = true;
+        }
+        return slots;
+    }
+
+    private static int getSort(Type type) {
+        switch(type.getSort()) {
+            case Type.LONG:
+                return LONG;
+            case Type.FLOAT:
+                return FLOAT;
+            case Type.DOUBLE:
+                return DOUBLE;
+            case Type.ARRAY:
+            case Type.OBJECT:
+                return REFERENCE;
+            default:
+                return INT;
+        }
+    }
+}
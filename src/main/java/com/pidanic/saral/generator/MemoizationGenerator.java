@@ -0,0 +1,261 @@
+package com.pidanic.saral.generator;
+
+import com.pidanic.saral.domain.block.Argument;
+import com.pidanic.saral.domain.block.Function;
+import com.pidanic.saral.util.BuiltInType;
+import com.pidanic.saral.util.DescriptorFactory;
+import com.pidanic.saral.util.Type;
+import org.objectweb.asm.ClassWriter;
+import org.objectweb.asm.Label;
+import org.objectweb.asm.MethodVisitor;
+import org.objectweb.asm.Opcodes;
+
+import java.util.List;
+
+/**
+ * Memoization of pure bars with primitive arguments and result, which are still called after inlining, see
+ * {@link com.pidanic.saral.domain.block.Function#isInlined()}. The body of the bar is generated to a method with
+ * <code>$compute</code> at the end of its name and the method with the name of the bar looks up the arguments in
+ * a table of the generated class first, so also recursive calls are memoized.
+ *
+ * The table has open addressing with keys made of the bits of the arguments. A key is looked for in a few slots
+ * from its hash and when all of them are taken, the first one is replaced, so the table never grows over its
+ * capacity. Numbers of hits and misses are printed to <code>System.err</code> at the end of <code>main</code>,
+ * when the system property <code>saral.memo.statistics</code> is <code>true</code>.
+ */
+class MemoizationGenerator {
+    private static final String COMPUTE_SUFFIX = "$compute";
+    private static final String KEYS = "$memoKeys";
+    private static final String VALUES = "$memoValues";
+    private static final String USED = "$memoUsed";
+    private static final String HITS = "$memoHits";
+    private static final String MISSES = "$memoMisses";
+    private static final String STATISTICS_PROPERTY = "saral.memo.statistics";
+    private static final int CAPACITY = 1 << 14;
+    private static final int PROBES = 8;
+    private static final long HASH_MULTIPLIER = 0x9E3779B97F4A7C15L;
+
+    static boolean isMemoizable(Function function) {
+        if(!function.isPure() || function.isInlined() || !isPrimitive(function.getReturnType())) {
+            return false;
+        }
+        return function.getArguments().stream().map(Argument::getType).allMatch(MemoizationGenerator::isPrimitive);
+    }
+
+    private static boolean isPrimitive(Type type) {
+        return type == BuiltInType.LONG || type == BuiltInType.DOUBLE || type == BuiltInType.CHAR
+                || type == BuiltInType.BOOLEAN;
+    }
+
+    static String getComputeName(Function function) {
+        return function.getName() + COMPUTE_SUFFIX;
+    }
+
+    static void generateRuntime(ClassWriter classWriter, MethodVisitor staticInitializer, String className,
+                                List<Function> functions) {
+        for(Function function : functions) {
+            String name = function.getName();
+            int access = Opcodes.ACC_PRIVATE + Opcodes.ACC_STATIC;
+            classWriter.visitField(access + Opcodes.ACC_FINAL, name + KEYS, "[J", null, null).visitEnd();
+            classWriter.visitField(access + Opcodes.ACC_FINAL, name + VALUES, "[J", null, null).visitEnd();
+            classWriter.visitField(access + Opcodes.ACC_FINAL, name + USED, "[Z", null, null).visitEnd();
+            classWriter.visitField(access, name + HITS, "J", null, null).visitEnd();
+            classWriter.visitField(access, name + MISSES, "J", null, null).visitEnd();
+
+            staticInitializer.visitLdcInsn(CAPACITY * function.getArguments().size());
+            staticInitializer.visitIntInsn(Opcodes.NEWARRAY, Opcodes.T_LONG);
+            staticInitializer.visitFieldInsn(Opcodes.PUTSTATIC, className, name + KEYS, "[J");
+            staticInitializer.visitLdcInsn(CAPACITY);
+            staticInitializer.visitIntInsn(Opcodes.NEWARRAY, Opcodes.T_LONG);
+            staticInitializer.visitFieldInsn(Opcodes.PUTSTATIC, className, name + VALUES, "[J");
+            staticInitializer.visitLdcInsn(CAPACITY);
+            staticInitializer.visitIntInsn(Opcodes.NEWARRAY, Opcodes.T_BOOLEAN);
+            staticInitializer.visitFieldInsn(Opcodes.PUTSTATIC, className, name + USED, "[Z");
+
+            generateWrapper(classWriter, className, function);
+        }
+    }
+
+    /**
+     * Generates the method with the name of the bar, which calls its computing method only for new arguments.
+     */
+    private static void generateWrapper(ClassWriter classWriter, String className, Function function) {
+        String name = function.getName();
+        String descriptor = DescriptorFactory.getMethodDescriptor(function);
+        MethodVisitor mv = classWriter.visitMethod(Opcodes.ACC_PUBLIC + Opcodes.ACC_STATIC, name, descriptor, null, null);
+        mv.visitCode();
+
+        List<Argument> arguments = function.getArguments();
+        int[] argumentIndexes = new int[arguments.size()];
+        int localsCount = 0;
+        for(int i = 0; i < arguments.size(); i++) {
+            argumentIndexes[i] = localsCount;
+            localsCount += getSize(arguments.get(i).getType());
+        }
+        int startIndex = localsCount;
+        int probeIndex = localsCount + 1;
+        int slotIndex = localsCount + 2;
+        int resultIndex = localsCount + 3;
+        int argumentsCount = arguments.size();
+
+        // start = hash(arguments) & (CAPACITY - 1)
+        mv.visitInsn(Opcodes.LCONST_0);
+        for(int i = 0; i < argumentsCount; i++) {
+            generateArgumentBits(mv, arguments.get(i).getType(), argumentIndexes[i]);
+            mv.visitInsn(Opcodes.LADD);
+            mv.visitLdcInsn(HASH_MULTIPLIER);
+            mv.visitInsn(Opcodes.LMUL);
+        }
+        mv.visitInsn(Opcodes.DUP2);
+        mv.visitIntInsn(Opcodes.BIPUSH, 32);
+        mv.visitInsn(Opcodes.LUSHR);
+        mv.visitInsn(Opcodes.LXOR);
+        mv.visitInsn(Opcodes.L2I);
+        mv.visitLdcInsn(CAPACITY - 1);
+        mv.visitInsn(Opcodes.IAND);
+        mv.visitVarInsn(Opcodes.ISTORE, startIndex);
+        mv.visitInsn(Opcodes.ICONST_0);
+        mv.visitVarInsn(Opcodes.ISTORE, probeIndex);
+
+        Label probeLabel = new Label();
+        Label nextProbeLabel = new Label();
+        Label missLabel = new Label();
+        mv.visitLabel(probeLabel);
+        mv.visitVarInsn(Opcodes.ILOAD, startIndex);
+        mv.visitVarInsn(Opcodes.ILOAD, probeIndex);
+        mv.visitInsn(Opcodes.IADD);
+        mv.visitLdcInsn(CAPACITY - 1);
+        mv.visitInsn(Opcodes.IAND);
+        mv.visitVarInsn(Opcodes.ISTORE, slotIndex);
+
+        // an empty slot ends the search, the arguments are stored there
+        mv.visitFieldInsn(Opcodes.GETSTATIC, className, name + USED, "[Z");
+        mv.visitVarInsn(Opcodes.ILOAD, slotIndex);
+        mv.visitInsn(Opcodes.BALOAD);
+        mv.visitJumpInsn(Opcodes.IFEQ, missLabel);
+        for(int i = 0; i < argumentsCount; i++) {
+            generateKeyIndex(mv, className, name, slotIndex, argumentsCount, i);
+            mv.visitInsn(Opcodes.LALOAD);
+            generateArgumentBits(mv, arguments.get(i).getType(), argumentIndexes[i]);
+            mv.visitInsn(Opcodes.LCMP);
+            mv.visitJumpInsn(Opcodes.IFNE, nextProbeLabel);
+        }
+        generateIncrement(mv, className, name + HITS);
+        mv.visitFieldInsn(Opcodes.GETSTATIC, className, name + VALUES, "[J");
+        mv.visitVarInsn(Opcodes.ILOAD, slotIndex);
+        mv.visitInsn(Opcodes.LALOAD);
+        generateReturnFromBits(mv, function.getReturnType());
+
+        mv.visitLabel(nextProbeLabel);
+        mv.visitIincInsn(probeIndex, 1);
+        mv.visitVarInsn(Opcodes.ILOAD, probeIndex);
+        mv.visitLdcInsn(PROBES);
+        mv.visitJumpInsn(Opcodes.IF_ICMPLT, probeLabel);
+        // all probed slots are taken, the first one is replaced
+        mv.visitVarInsn(Opcodes.ILOAD, startIndex);
+        mv.visitVarInsn(Opcodes.ISTORE, slotIndex);
+
+        mv.visitLabel(missLabel);
+        generateIncrement(mv, className, name + MISSES);
+        for(int i = 0; i < argumentsCount; i++) {
+            Type type = arguments.get(i).getType();
+            mv.visitVarInsn(type.getTypeSpecificOpcode().getLoad(), argumentIndexes[i]);
+        }
+        mv.visitMethodInsn(Opcodes.INVOKESTATIC, className, getComputeName(function), descriptor, false);
+        generateBits(mv, function.getReturnType());
+        mv.visitVarInsn(Opcodes.LSTORE, resultIndex);
+
+        // the computation can store other arguments to the slot, so all parts of the slot are stored after it
+        for(int i = 0; i < argumentsCount; i++) {
+            generateKeyIndex(mv, className, name, slotIndex, argumentsCount, i);
+            generateArgumentBits(mv, arguments.get(i).getType(), argumentIndexes[i]);
+            mv.visitInsn(Opcodes.LASTORE);
+        }
+        mv.visitFieldInsn(Opcodes.GETSTATIC, className, name + VALUES, "[J");
+        mv.visitVarInsn(Opcodes.ILOAD, slotIndex);
+        mv.visitVarInsn(Opcodes.LLOAD, resultIndex);
+        mv.visitInsn(Opcodes.LASTORE);
+        mv.visitFieldInsn(Opcodes.GETSTATIC, className, name + USED, "[Z");
+        mv.visitVarInsn(Opcodes.ILOAD, slotIndex);
+        mv.visitInsn(Opcodes.ICONST_1);
+        mv.visitInsn(Opcodes.BASTORE);
+        mv.visitVarInsn(Opcodes.LLOAD, resultIndex);
+        generateReturnFromBits(mv, function.getReturnType());
+
+        mv.visitMaxs(-1, -1);
+        mv.visitEnd();
+    }
+
+    /**
+     * Prints numbers of hits and misses of all memoized bars, if it is enabled by the system property.
+     */
+    static void generateStatistics(MethodVisitor mv, String className, List<Function> functions) {
+        Label endLabel = new Label();
+        mv.visitLdcInsn(STATISTICS_PROPERTY);
+        mv.visitMethodInsn(Opcodes.INVOKESTATIC, "java/lang/Boolean", "getBoolean", "(Ljava/lang/String;)Z", false);
+        mv.visitJumpInsn(Opcodes.IFEQ, endLabel);
+        for(Function function : functions) {
+            String name = function.getName();
+            mv.visitFieldInsn(Opcodes.GETSTATIC, "java/lang/System", "err", "Ljava/io/PrintStream;");
+            mv.visitTypeInsn(Opcodes.NEW, "java/lang/StringBuilder");
+            mv.visitInsn(Opcodes.DUP);
+            mv.visitLdcInsn(name + ": hits ");
+            mv.visitMethodInsn(Opcodes.INVOKESPECIAL, "java/lang/StringBuilder", "<init>", "(Ljava/lang/String;)V", false);
+            mv.visitFieldInsn(Opcodes.GETSTATIC, className, name + HITS, "J");
+            mv.visitMethodInsn(Opcodes.INVOKEVIRTUAL, "java/lang/StringBuilder", "append", "(J)Ljava/lang/StringBuilder;", false);
+            mv.visitLdcInsn(", misses ");
+            mv.visitMethodInsn(Opcodes.INVOKEVIRTUAL, "java/lang/StringBuilder", "append", "(Ljava/lang/String;)Ljava/lang/StringBuilder;", false);
+            mv.visitFieldInsn(Opcodes.GETSTATIC, className, name + MISSES, "J");
+            mv.visitMethodInsn(Opcodes.INVOKEVIRTUAL, "java/lang/StringBuilder", "append", "(J)Ljava/lang/StringBuilder;", false);
+            mv.visitMethodInsn(Opcodes.INVOKEVIRTUAL, "java/lang/StringBuilder", "toString", "()Ljava/lang/String;", false);
+            mv.visitMethodInsn(Opcodes.INVOKEVIRTUAL, "java/io/PrintStream", "println", "(Ljava/lang/String;)V", false);
+        }
+        mv.visitLabel(endLabel);
+    }
+
+    private static void generateKeyIndex(MethodVisitor mv, String className, String name, int slotIndex,
+                                         int argumentsCount, int argument) {
+        mv.visitFieldInsn(Opcodes.GETSTATIC, className, name + KEYS, "[J");
+        mv.visitVarInsn(Opcodes.ILOAD, slotIndex);
+        mv.visitLdcInsn(argumentsCount);
+        mv.visitInsn(Opcodes.IMUL);
+        mv.visitLdcInsn(argument);
+        mv.visitInsn(Opcodes.IADD);
+    }
+
+    private static void generateIncrement(MethodVisitor mv, String className, String field) {
+        mv.visitFieldInsn(Opcodes.GETSTATIC, className, field, "J");
+        mv.visitInsn(Opcodes.LCONST_1);
+        mv.visitInsn(Opcodes.LADD);
+        mv.visitFieldInsn(Opcodes.PUTSTATIC, className, field, "J");
+    }
+
+    private static void generateArgumentBits(MethodVisitor mv, Type type, int index) {
+        mv.visitVarInsn(type.getTypeSpecificOpcode().getLoad(), index);
+        generateBits(mv, type);
+    }
+
+    /**
+     * Replaces the value on the stack by long with its bits.
+     */
+    private static void generateBits(MethodVisitor mv, Type type) {
+        if(type == BuiltInType.DOUBLE) {
+            mv.visitMethodInsn(Opcodes.INVOKESTATIC, "java/lang/Double", "doubleToRawLongBits", "(D)J", false);
+        } else if(type != BuiltInType.LONG) {
+            mv.visitInsn(Opcodes.I2L);
+        }
+    }
+
+    private static void generateReturnFromBits(MethodVisitor mv, Type type) {
+        if(type == BuiltInType.DOUBLE) {
+            mv.visitMethodInsn(Opcodes.INVOKESTATIC, "java/lang/Double", "longBitsToDouble", "(J)D", false);
+        } else if(type != BuiltInType.LONG) {
+            mv.visitInsn(Opcodes.L2I);
+        }
+        mv.visitInsn(type.getTypeSpecificOpcode().getReturn());
+    }
+
+    private static int getSize(Type type) {
+        return type == BuiltInType.LONG || type == BuiltInType.DOUBLE ? 2 : 1;
+    }
+}
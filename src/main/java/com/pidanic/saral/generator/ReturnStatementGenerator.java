@@ -10,16 +10,18 @@ public class ReturnStatementGenerator extends StatementGenerator {
 
     private final MethodVisitor methodVisitor;
     private final Scope scope;
+    private final VariableStorage variableStorage;
 
-    public ReturnStatementGenerator(Scope scope, MethodVisitor methodVisitor) {
+    public ReturnStatementGenerator(Scope scope, MethodVisitor methodVisitor, VariableStorage variableStorage) {
         this.scope = scope;
         this.methodVisitor = methodVisitor;
+        this.variableStorage = variableStorage;
     }
 
     public void generate(ReturnStatement retStatement) {
         Expression returnVariable = retStatement.getExpression();
         Type retType = returnVariable.type();
-        returnVariable.accept(new ExpressionGenerator(methodVisitor, scope));
+        returnVariable.accept(new ExpressionGenerator(methodVisitor, scope, variableStorage));
         methodVisitor.visitInsn(retType.getTypeSpecificOpcode().getReturn());
     }
 }
@@ -2,6 +2,7 @@ package com.pidanic.saral.generator;
 
 import com.pidanic.saral.domain.*;
 import com.pidanic.saral.domain.block.Argument;
+import com.pidanic.saral.domain.block.Function;
 import com.pidanic.saral.domain.expression.Expression;
 import com.pidanic.saral.exception.ConstantAssignmentNotAllowed;
 import com.pidanic.saral.exception.FunctionCallNotFound;
@@ -31,12 +32,18 @@ public class SimpleStatementGenerator extends StatementGenerator {
     private MethodVisitor methodVisitor;
     private Scope scope;
     private ExpressionGenerator expressionGenerator;
+    private ClassRuntime runtime;
+    private VariableStorage variableStorage;
+    private BufferedOutputGenerator bufferedOutputGenerator;
 
-    public SimpleStatementGenerator(MethodVisitor methodVisitor, Scope scope) {
+    SimpleStatementGenerator(MethodVisitor methodVisitor, Scope scope, ClassRuntime runtime) {
         super();
         this.methodVisitor = methodVisitor;
         this.scope = scope;
-        this.expressionGenerator = new ExpressionGenerator(methodVisitor, scope);
+        this.expressionGenerator = new ExpressionGenerator(methodVisitor, scope, runtime.getVariableStorage());
+        this.runtime = runtime;
+        this.variableStorage = runtime.getVariableStorage();
+        this.bufferedOutputGenerator = runtime.isBufferedOutput() ? runtime.createBufferedOutputGenerator(methodVisitor) : null;
     }
 
     public void generate(PrintStatement instruction) {
@@ -46,7 +53,11 @@ public class SimpleStatementGenerator extends StatementGenerator {
         }
         final Type type = variable.type();
         final int variableId = scope.getLocalVariableIndex(variable.name());
-        methodVisitor.visitFieldInsn(Opcodes.GETSTATIC, "java/lang/System", "out", "Ljava/io/PrintStream;");
+        if (bufferedOutputGenerator != null) {
+            bufferedOutputGenerator.generateBufferLoad();
+        } else {
+            methodVisitor.visitFieldInsn(Opcodes.GETSTATIC, "java/lang/System", "out", "Ljava/io/PrintStream;");
+        }
         String descriptor = createPrintlnDescriptor(type);
         if (variable instanceof LocalVariableArrayIndex) {
             methodVisitor.visitVarInsn(Opcodes.ALOAD, variableId);
@@ -54,11 +65,12 @@ public class SimpleStatementGenerator extends StatementGenerator {
             Expression index = localArrayIndex.getIndex();
             index.accept(expressionGenerator);
             if (type == BuiltInType.STRING) {
+                String owner = expressionGenerator.getStringOwner(variable.name());
                 descriptor = "(C)V";
                 // duplicate index and reference
                 index.accept(expressionGenerator);
                 methodVisitor.visitVarInsn(Opcodes.ALOAD, variableId);
-                methodVisitor.visitMethodInsn(Opcodes.INVOKEVIRTUAL, "java/lang/String", "length", "()I", false);
+                methodVisitor.visitMethodInsn(Opcodes.INVOKEVIRTUAL, owner, "length", "()I", false);
 
                 Label trueLabel = new Label();
                 Label endLabel = new Label();
@@ -73,11 +85,13 @@ public class SimpleStatementGenerator extends StatementGenerator {
                 methodVisitor.visitJumpInsn(Opcodes.GOTO, endLabel);
                 methodVisitor.visitLabel(trueLabel);
                 // true label
-                methodVisitor.visitMethodInsn(Opcodes.INVOKEVIRTUAL, "java/lang/String", "charAt", "(I)C", false);
+                methodVisitor.visitMethodInsn(Opcodes.INVOKEVIRTUAL, owner, "charAt", "(I)C", false);
                 methodVisitor.visitLabel(endLabel);
             } else {
                 methodVisitor.visitInsn(type.getTypeSpecificOpcode().getLoad());
-                if (type == BuiltInType.BOOLEAN_ARR) {
+                if (type == BuiltInType.BOOLEAN_ARR && bufferedOutputGenerator != null) {
+                    bufferedOutputGenerator.generateKleeneString();
+                } else if (type == BuiltInType.BOOLEAN_ARR) {
                     generateBooleanAsKleene(() -> {
                         methodVisitor.visitVarInsn(Opcodes.ALOAD, variableId);
                         index.accept(expressionGenerator);
@@ -86,21 +100,28 @@ public class SimpleStatementGenerator extends StatementGenerator {
                 }
             }
         } else {
-            methodVisitor.visitVarInsn(type.getTypeSpecificOpcode().getLoad(), variableId);
-            if (type == BuiltInType.BOOLEAN) {
+            expressionGenerator.generateVariableLoad(type, variable.name(), variableId);
+            if (type == BuiltInType.BOOLEAN && bufferedOutputGenerator != null) {
+                bufferedOutputGenerator.generateKleeneString();
+            } else if (type == BuiltInType.BOOLEAN) {
                 generateBooleanAsKleene(() -> methodVisitor.visitVarInsn(type.getTypeSpecificOpcode().getLoad(), variableId));
 
             }
         }
-        methodVisitor.visitMethodInsn(Opcodes.INVOKEVIRTUAL,
-                "java/io/PrintStream", "println", descriptor, false);
+        if (bufferedOutputGenerator != null) {
+            bufferedOutputGenerator.generateAppendLine(descriptor.substring(1, descriptor.indexOf(')')));
+        } else {
+            methodVisitor.visitMethodInsn(Opcodes.INVOKEVIRTUAL,
+                    "java/io/PrintStream", "println", descriptor, false);
+        }
     }
 
     public void generate(ReadStatement readStatement) {
-        if (!scope.existsLocalVariable(LocalVariable.SYSTEM_IN)) {
-            initializeSystemIn();
+        if (bufferedOutputGenerator != null) {
+            // everything printed before has to be visible before the program waits for input
+            bufferedOutputGenerator.generateFlush();
         }
-        int systemInIndex = scope.getLocalVariableIndex(LocalVariable.SYSTEM_IN);
+        BufferedInputGenerator inputGenerator = runtime.createInputGenerator(methodVisitor);
 
         final LocalVariable variable = readStatement.variable();
         if (!variable.isInitialized()) {
@@ -113,146 +134,17 @@ public class SimpleStatementGenerator extends StatementGenerator {
         final int variableId = scope.getLocalVariableIndex(variable.name());
 
         if (variable instanceof LocalVariableArrayIndex) {
-
-            if (variableType == BuiltInType.BOOLEAN_ARR) {
-                String tempVarName = "booleanTemp" + scope.localVariablesCount();
-                scope.addLocalVariable(new LocalVariable(tempVarName, BuiltInType.BOOLEAN, true));
-
-                int booleanTempIndex = scope.getLocalVariableIndex(tempVarName);
-
-                methodVisitor.visitVarInsn(Opcodes.ALOAD, systemInIndex);
-                methodVisitor.visitMethodInsn(Opcodes.INVOKEVIRTUAL, "java/util/Scanner",
-                        getScannerMethod(variableType), getScannerMethodReturnDescriptor(variableType), false);
-
-                Label endLabel = new Label();
-                Label pravdaLabel = new Label();
-                Label osalLabel = new Label();
-                Label skoroosalLabel = new Label();
-
-                methodVisitor.visitInsn(Opcodes.DUP);
-
-                methodVisitor.visitLdcInsn(Logic.PRAVDA.getStringValue());
-                methodVisitor.visitMethodInsn(Opcodes.INVOKEVIRTUAL, "java/lang/String", "compareTo", "(Ljava/lang/String;)I", false);
-                methodVisitor.visitJumpInsn(Opcodes.IFNE, skoroosalLabel);
-                methodVisitor.visitIntInsn(Opcodes.BIPUSH, Logic.PRAVDA.getIntValue());
-                methodVisitor.visitJumpInsn(Opcodes.GOTO, endLabel);
-
-                methodVisitor.visitLabel(skoroosalLabel);
-                methodVisitor.visitInsn(Opcodes.DUP);
-                methodVisitor.visitLdcInsn(Logic.SKOROOSAL.getStringValue());
-                methodVisitor.visitMethodInsn(Opcodes.INVOKEVIRTUAL, "java/lang/String", "compareTo", "(Ljava/lang/String;)I", false);
-
-                methodVisitor.visitJumpInsn(Opcodes.IFNE, osalLabel);
-                methodVisitor.visitIntInsn(Opcodes.BIPUSH, Logic.SKOROOSAL.getIntValue());
-                methodVisitor.visitJumpInsn(Opcodes.GOTO, endLabel);
-
-                methodVisitor.visitLabel(osalLabel);
-                methodVisitor.visitIntInsn(Opcodes.BIPUSH, Logic.OSAL.getIntValue());
-
-                methodVisitor.visitLabel(endLabel);
-
-                methodVisitor.visitVarInsn(Opcodes.ISTORE, booleanTempIndex);
-
-                methodVisitor.visitVarInsn(Opcodes.ALOAD, variableId);
-                LocalVariableArrayIndex localArrayIndex = (LocalVariableArrayIndex) variable;
-
-                Expression index = localArrayIndex.getIndex();
-                index.accept(expressionGenerator);
-
-                methodVisitor.visitVarInsn(Opcodes.ILOAD, booleanTempIndex);
-            } else {
-                methodVisitor.visitVarInsn(Opcodes.ALOAD, variableId);
-                LocalVariableArrayIndex localArrayIndex = (LocalVariableArrayIndex) variable;
-
-                Expression index = localArrayIndex.getIndex();
-                index.accept(expressionGenerator);
-
-                methodVisitor.visitVarInsn(Opcodes.ALOAD, systemInIndex);
-                methodVisitor.visitMethodInsn(Opcodes.INVOKEVIRTUAL, "java/util/Scanner",
-                        getScannerMethod(variableType), getScannerMethodReturnDescriptor(variableType), false);
-
-                if (variableType == BuiltInType.CHAR_ARR) {
-                    methodVisitor.visitInsn(Opcodes.ICONST_0);
-                    methodVisitor.visitMethodInsn(Opcodes.INVOKEVIRTUAL, "java/lang/String", "charAt", "(I)C", false);
-                }
-            }
-
+            methodVisitor.visitVarInsn(Opcodes.ALOAD, variableId);
+            Expression index = ((LocalVariableArrayIndex) variable).getIndex();
+            index.accept(expressionGenerator);
+            inputGenerator.generateRead(variableType);
             methodVisitor.visitInsn(variableType.getTypeSpecificOpcode().getStore());
         } else {
-            methodVisitor.visitVarInsn(Opcodes.ALOAD, systemInIndex);
-            methodVisitor.visitMethodInsn(Opcodes.INVOKEVIRTUAL, "java/util/Scanner",
-                    getScannerMethod(variableType), getScannerMethodReturnDescriptor(variableType), false);
-
-            if (TypeResolver.isBoolean(variableType)) {
-                Label endLabel = new Label();
-                Label pravdaLabel = new Label();
-                Label osalLabel = new Label();
-                Label skoroosalLabel = new Label();
-
-                methodVisitor.visitInsn(Opcodes.DUP);
-
-                methodVisitor.visitLdcInsn(Logic.PRAVDA.getStringValue());
-                methodVisitor.visitMethodInsn(Opcodes.INVOKEVIRTUAL, "java/lang/String", "compareTo", "(Ljava/lang/String;)I", false);
-                methodVisitor.visitJumpInsn(Opcodes.IFNE, skoroosalLabel);
-                methodVisitor.visitIntInsn(Opcodes.BIPUSH, Logic.PRAVDA.getIntValue());
-                methodVisitor.visitJumpInsn(Opcodes.GOTO, endLabel);
-
-                methodVisitor.visitLabel(skoroosalLabel);
-                methodVisitor.visitInsn(Opcodes.DUP);
-                methodVisitor.visitLdcInsn(Logic.SKOROOSAL.getStringValue());
-                methodVisitor.visitMethodInsn(Opcodes.INVOKEVIRTUAL, "java/lang/String", "compareTo", "(Ljava/lang/String;)I", false);
-
-                methodVisitor.visitJumpInsn(Opcodes.IFNE, osalLabel);
-                methodVisitor.visitIntInsn(Opcodes.BIPUSH, Logic.SKOROOSAL.getIntValue());
-                methodVisitor.visitJumpInsn(Opcodes.GOTO, endLabel);
-
-                methodVisitor.visitLabel(osalLabel);
-                methodVisitor.visitIntInsn(Opcodes.BIPUSH, Logic.OSAL.getIntValue());
-
-                methodVisitor.visitLabel(endLabel);
-            }
-            if (TypeResolver.isChar(variableType)) {
-                methodVisitor.visitInsn(Opcodes.ICONST_0);
-                methodVisitor.visitMethodInsn(Opcodes.INVOKEVIRTUAL, "java/lang/String", "charAt", "(I)C", false);
-            }
+            inputGenerator.generateRead(variableType);
             methodVisitor.visitVarInsn(variableType.getTypeSpecificOpcode().getStore(), variableId);
         }
     }
 
-    private void initializeSystemIn() {
-        LocalVariable scanner = new LocalVariable(LocalVariable.SYSTEM_IN, BuiltInType.STRING, true);
-        scope.addLocalVariable(scanner);
-
-        int systemInIndex = scope.getLocalVariableIndex(LocalVariable.SYSTEM_IN);
-        methodVisitor.visitTypeInsn(Opcodes.NEW, "java/util/Scanner");
-
-        methodVisitor.visitVarInsn(Opcodes.ASTORE, systemInIndex);
-
-        methodVisitor.visitVarInsn(Opcodes.ALOAD, systemInIndex);
-        methodVisitor.visitFieldInsn(Opcodes.GETSTATIC, "java/lang/System", "in", "Ljava/io/InputStream;");
-        methodVisitor.visitMethodInsn(Opcodes.INVOKESPECIAL, "java/util/Scanner", "<init>", "(Ljava/io/InputStream;)V", false);
-    }
-
-    private String getScannerMethod(Type variableType) {
-        if (variableType == BuiltInType.LONG || variableType == BuiltInType.LONG_ARR) {
-            return "nextLong";
-        }
-        if (variableType == BuiltInType.DOUBLE || variableType == BuiltInType.DOUBLE_ARR) {
-            return "nextDouble";
-        }
-        return "next";
-    }
-
-    private String getScannerMethodReturnDescriptor(Type variableType) {
-        if (variableType == BuiltInType.LONG || variableType == BuiltInType.LONG_ARR) {
-            return "()" + BuiltInType.LONG.getDescriptor();
-        }
-        if (variableType == BuiltInType.DOUBLE || variableType == BuiltInType.DOUBLE_ARR) {
-            return "()" + BuiltInType.DOUBLE.getDescriptor();
-        }
-        return "()" + BuiltInType.STRING.getDescriptor();
-    }
-
     private String createPrintlnDescriptor(Type type) {
         String descriptor = "(" + type.getDescriptor() + ")V";
         if (type == BuiltInType.BOOLEAN) {
@@ -306,6 +198,15 @@ public class SimpleStatementGenerator extends StatementGenerator {
         final Optional<Expression> expressionOption = variableDeclaration.getExpression();
         if (expressionOption.isPresent()) {
             Expression expression = expressionOption.get();
+            if (variableStorage.isStringBuilder(scope, variableName)) {
+                expressionGenerator.generateStringBuilderStore(expression, variableId);
+                return;
+            }
+            if (variableStorage.isNarrowedToInt(scope, variableName)) {
+                expressionGenerator.generateAsInt(expression);
+                methodVisitor.visitVarInsn(Opcodes.ISTORE, variableId);
+                return;
+            }
             expression.accept(expressionGenerator);
             methodVisitor.visitVarInsn(var.get().type().getTypeSpecificOpcode().getStore(), variableId);
         }
@@ -328,13 +229,83 @@ public class SimpleStatementGenerator extends StatementGenerator {
         methodVisitor.visitMethodInsn(Opcodes.INVOKESTATIC, ownerDescription, functionName, methodDescriptor, false);
     }
 
+    /**
+     * All called arguments are loaded before they are stored to parameters, because they can be parameters too.
+     */
+    public void generate(TailCall tailCall) {
+        Function function = tailCall.getFunction();
+        List<Argument> parameters = function.getArguments();
+        List<CalledArgument> calledParameter = tailCall.getCalledArguments();
+        for (int i = 0; i < parameters.size(); i++) {
+            parameters.get(i).accept(this, calledParameter.get(i).getName());
+        }
+        generateParametersStore(parameters, function.getScope());
+        methodVisitor.visitJumpInsn(Opcodes.GOTO, runtime.getEntry(function));
+    }
+
+    /**
+     * Statements of the bar and its result use the scope of the inlined call. Its result is stored to the variable
+     * of this scope.
+     */
+    public void generate(InlinedCall inlinedCall) {
+        List<Argument> parameters = inlinedCall.getFunction().getArguments();
+        List<CalledArgument> calledParameter = inlinedCall.getCalledArguments();
+        for (int i = 0; i < parameters.size(); i++) {
+            parameters.get(i).accept(this, calledParameter.get(i).getName());
+        }
+        Scope inlinedScope = inlinedCall.getScope();
+        generateParametersStore(parameters, inlinedScope);
+        SimpleStatementGenerator inlinedGenerator = new SimpleStatementGenerator(methodVisitor, inlinedScope, runtime);
+        inlinedCall.getStatements().forEach(statement -> statement.accept(inlinedGenerator));
+        if (!inlinedCall.getVariableName().isPresent()) {
+            return;
+        }
+        String variableName = inlinedCall.getVariableName().get();
+        int variableId = scope.getLocalVariableIndex(variableName);
+        LocalVariable variable = scope.getLocalVariable(variableName)
+                .orElseThrow(() -> new VariableNotFound(scope, variableName));
+        Expression result = inlinedCall.getResult().get();
+        ExpressionGenerator inlinedExpressionGenerator = inlinedGenerator.expressionGenerator;
+        if (variableStorage.isStringBuilder(scope, variableName)) {
+            inlinedExpressionGenerator.generateStringBuilderStore(result, variableId);
+        } else if (variableStorage.isNarrowedToInt(scope, variableName)) {
+            inlinedExpressionGenerator.generateAsInt(result);
+            methodVisitor.visitVarInsn(Opcodes.ISTORE, variableId);
+        } else {
+            result.accept(inlinedExpressionGenerator);
+            methodVisitor.visitVarInsn(variable.type().getTypeSpecificOpcode().getStore(), variableId);
+        }
+    }
+
+    public void generate(TemporaryDeclaration temporaryDeclaration) {
+        Expression expression = temporaryDeclaration.getExpression();
+        expression.accept(expressionGenerator);
+        methodVisitor.visitVarInsn(expression.type().getTypeSpecificOpcode().getStore(), temporaryDeclaration.getIndex());
+    }
+
+    /**
+     * Stores loaded arguments to parameters in the scope, the last argument is on the top of the stack.
+     */
+    private void generateParametersStore(List<Argument> parameters, Scope parametersScope) {
+        for (int i = parameters.size() - 1; i >= 0; i--) {
+            Argument param = parameters.get(i);
+            Type argumentType = param.getType();
+            int index = parametersScope.getLocalVariableIndex(param.getName());
+            if (TypeResolver.isArray(argumentType)) {
+                methodVisitor.visitVarInsn(Opcodes.ASTORE, index);
+            } else {
+                methodVisitor.visitVarInsn(argumentType.getTypeSpecificOpcode().getStore(), index);
+            }
+        }
+    }
+
     public void generate(Argument parameter, String localVariableName) {
         Type argumentType = parameter.getType();
         int index = scope.getLocalVariableIndex(localVariableName);
         if (TypeResolver.isArray(argumentType)) {
             methodVisitor.visitVarInsn(Opcodes.ALOAD, index);
         } else {
-            methodVisitor.visitVarInsn(argumentType.getTypeSpecificOpcode().getLoad(), index);
+            expressionGenerator.generateVariableLoad(argumentType, localVariableName, index);
         }
     }
 
@@ -376,7 +347,12 @@ public class SimpleStatementGenerator extends StatementGenerator {
                     throw new VariableNotFound(scope, variableName);
                 }
                 LocalVariable localArray = localArrayOption.get();
-                if (TypeResolver.isString(localArray.type())) {
+                if (TypeResolver.isString(localArray.type()) && variableStorage.isStringBuilder(scope, variableName)) {
+                    methodVisitor.visitVarInsn(Opcodes.ALOAD, variableId);
+                    ((ArrayAssignment) assignment).getIndex().accept(expressionGenerator);
+                    expression.accept(expressionGenerator);
+                    methodVisitor.visitMethodInsn(Opcodes.INVOKEVIRTUAL, "java/lang/StringBuilder", "setCharAt", "(IC)V", false);
+                } else if (TypeResolver.isString(localArray.type())) {
                     this.generateStringFromConcatenatedSubstrings(assignment, expression, variableId);
                 } else {
                     methodVisitor.visitVarInsn(Opcodes.ALOAD, variableId);
@@ -386,6 +362,11 @@ public class SimpleStatementGenerator extends StatementGenerator {
 
                     methodVisitor.visitInsn(localArray.type().getTypeSpecificOpcode().getStore());
                 }
+            } else if (variableStorage.isStringBuilder(scope, variableName)) {
+                expressionGenerator.generateStringBuilderStore(expression, variableId);
+            } else if (variableStorage.isNarrowedToInt(scope, variableName)) {
+                expressionGenerator.generateAsInt(expression);
+                methodVisitor.visitVarInsn(Opcodes.ISTORE, variableId);
             } else {
                 expression.accept(expressionGenerator);
                 final Type type = expression.type();
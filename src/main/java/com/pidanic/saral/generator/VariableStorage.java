@@ -0,0 +1,64 @@
+package com.pidanic.saral.generator;
+
+import com.pidanic.saral.scope.Scope;
+
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Variables the optimizer chose to store differently from their type. A string variable marked as string builder
+ * is stored as {@link StringBuilder} in its slot. A numeral variable narrowed to int is stored as int in the first
+ * of its two slots.
+ *
+ * Variables are identified by the scope owning their slot, so a variable is found from all block scopes of
+ * the owner, but not from other scopes with the same slots, e.g. of an inlined bar.
+ */
+public class VariableStorage {
+
+    private final Map<Scope, Set<Integer>> stringBuilderIndexes = new HashMap<>();
+    private final Map<Scope, Set<Integer>> narrowedToIntIndexes = new HashMap<>();
+
+    /**
+     * Marks own variable of the scope as string builder.
+     *
+     * @return <code>false</code>, if the name belongs to a variable of a parent scope, which is not marked
+     */
+    public boolean markStringBuilder(Scope scope, String varName) {
+        return mark(stringBuilderIndexes, scope, varName);
+    }
+
+    public boolean isStringBuilder(Scope scope, String varName) {
+        return isMarked(stringBuilderIndexes, scope, varName);
+    }
+
+    /**
+     * Marks own numeral variable of the scope as narrowed to int.
+     *
+     * @return <code>false</code>, if the name belongs to a variable of a parent scope, which is not marked
+     */
+    public boolean markNarrowedToInt(Scope scope, String varName) {
+        return mark(narrowedToIntIndexes, scope, varName);
+    }
+
+    public boolean isNarrowedToInt(Scope scope, String varName) {
+        return isMarked(narrowedToIntIndexes, scope, varName);
+    }
+
+    private static boolean mark(Map<Scope, Set<Integer>> indexes, Scope scope, String varName) {
+        if(scope.getOwner(varName).orElse(null) != scope) {
+            return false;
+        }
+        indexes.computeIfAbsent(scope, key -> new HashSet<>()).add(scope.getLocalVariableIndex(varName));
+        return true;
+    }
+
+    private static boolean isMarked(Map<Scope, Set<Integer>> indexes, Scope scope, String varName) {
+        return scope.getOwner(varName)
+                .map(owner -> indexes.getOrDefault(owner, Collections.emptySet()))
+                .filter(ownerIndexes -> ownerIndexes.contains(scope.getLocalVariableIndex(varName)))
+                .isPresent();
+    }
+}
@@ -0,0 +1,318 @@
+// Generated from Saral.g4 by ANTLR 4.7.1
+package com.pidanic.saral.grammar;
+import org.antlr.v4.runtime.Lexer;
+import org.antlr.v4.runtime.CharStream;
+import org.antlr.v4.runtime.Token;
+import org.antlr.v4.runtime.TokenStream;
+import org.antlr.v4.runtime.*;
+import org.antlr.v4.runtime.atn.*;
+import org.antlr.v4.runtime.dfa.DFA;
+import org.antlr.v4.runtime.misc.*;
+
+@SuppressWarnings({"all", "warnings", "unchecked", "unused", "cast"})
+public class SaralLexer extends Lexer {
+	static { RuntimeMetaData.checkVersion("4.7.1", RuntimeMetaData.VERSION); }
+
+	protected static final DFA[] _decisionToDFA;
+	protected static final PredictionContextCache _sharedContextCache =
+		new PredictionContextCache();
+	public static final int
+		T__0=1, T__1=2, T__2=3, T__3=4, T__4=5, T__5=6, INDENT=7, DEDENT=8, VARIABLE=9, 
+		CONST=10, ARRAY=11, WHILE=12, DO=13, FOR=14, FROM=15, TO=16, IF=17, THEN=18, 
+		ELSE=19, FUNCTION=20, RET=21, FUNC_CALL=22, PROC_CALL=23, LPAR=24, RPAR=25, 
+		LBRACK=26, RBRACK=27, AND=28, OR=29, NOT=30, ADD=31, SUB=32, MUL=33, DIV=34, 
+		MOD=35, EQ=36, NE=37, LE=38, GE=39, GT=40, LT=41, BOOL_T=42, INT_T=43, 
+		FLOAT_T=44, CHAR_T=45, STRING_T=46, BOOL=47, INT=48, FLOAT=49, STRING=50, 
+		CHAR=51, ID=52, LETTER=53, EMPTY_LINE=54, COMMENT=55, EOL=56, WS=57, NUMBER=58, 
+		DIGIT=59;
+	public static String[] channelNames = {
+		"DEFAULT_TOKEN_CHANNEL", "HIDDEN"
+	};
+
+	public static String[] modeNames = {
+		"DEFAULT_MODE"
+	};
+
+	public static final String[] ruleNames = {
+		"T__0", "T__1", "T__2", "T__3", "T__4", "T__5", "INDENT", "DEDENT", "VARIABLE", 
+		"CONST", "ARRAY", "WHILE", "DO", "FOR", "FROM", "TO", "IF", "THEN", "ELSE", 
+		"FUNCTION", "RET", "FUNC_CALL", "PROC_CALL", "LPAR", "RPAR", "LBRACK", 
+		"RBRACK", "AND", "OR", "NOT", "ADD", "SUB", "MUL", "DIV", "MOD", "EQ", 
+		"NE", "LE", "GE", "GT", "LT", "BOOL_T", "INT_T", "FLOAT_T", "CHAR_T", 
+		"STRING_T", "BOOL", "INT", "FLOAT", "STRING", "CHAR", "ID", "LETTER", 
+		"EMPTY_LINE", "COMMENT", "EOL", "WS", "NUMBER", "DIGIT"
+	};
+
+	private static final String[] _LITERAL_NAMES = {
+		null, "'='", "','", "'ve\u017Emi'", "'ciskaj'", "'sluchaj'", "'povidz'", 
+		"'__INDENT'", "'__DEDENT'", "'me\u0148ak'", "'furt'", null, "'k\u00FDm'", 
+		"'rob'", "'zrob s me\u0148akom'", "'od'", "'do'", "'ke\u010F'", "'potom'", 
+		"'inak'", "'bar'", "'vrac'", "'vrac mi z baru'", "'pa\u013E do baru'", 
+		"'('", "')'", "'['", "']'", "'a'", "'abo'", "'ne'", "'+'", "'-'", "'*'", 
+		null, "'%'", "'=='", "'<>'", "'<='", "'>='", "'>'", "'<'", "'logick\u00FD'", 
+		"'neskuto\u010Dn\u00E9 numeralio'", "'skuto\u010Dn\u00E9 numeralio'", 
+		"'p\u00EDsmeno'", "'slovo'"
+	};
+	private static final String[] _SYMBOLIC_NAMES = {
+		null, null, null, null, null, null, null, "INDENT", "DEDENT", "VARIABLE", 
+		"CONST", "ARRAY", "WHILE", "DO", "FOR", "FROM", "TO", "IF", "THEN", "ELSE", 
+		"FUNCTION", "RET", "FUNC_CALL", "PROC_CALL", "LPAR", "RPAR", "LBRACK", 
+		"RBRACK", "AND", "OR", "NOT", "ADD", "SUB", "MUL", "DIV", "MOD", "EQ", 
+		"NE", "LE", "GE", "GT", "LT", "BOOL_T", "INT_T", "FLOAT_T", "CHAR_T", 
+		"STRING_T", "BOOL", "INT", "FLOAT", "STRING", "CHAR", "ID", "LETTER", 
+		"EMPTY_LINE", "COMMENT", "EOL", "WS", "NUMBER", "DIGIT"
+	};
+	public static final Vocabulary VOCABULARY = new VocabularyImpl(_LITERAL_NAMES, _SYMBOLIC_NAMES);
+
+	/**
+	 * @deprecated Use {@link #VOCABULARY} instead.
+	 */
+	@Deprecated
+	public static final String[] tokenNames;
+	static {
+		tokenNames = new String[_SYMBOLIC_NAMES.length];
+		for (int i = 0; i < tokenNames.length; i++) {
+			tokenNames[i] = VOCABULARY.getLiteralName(i);
+			if (tokenNames[i] == null) {
+				tokenNames[i] = VOCABULARY.getSymbolicName(i);
+			}
+
+			if (tokenNames[i] == null) {
+				tokenNames[i] = "<INVALID>";
+			}
+		}
+	}
+
+	@Override
+	@Deprecated
+	public String[] getTokenNames() {
+		return tokenNames;
+	}
+
+	@Override
+
+	public Vocabulary getVocabulary() {
+		return VOCABULARY;
+	}
+
+
+	public SaralLexer(CharStream input) {
+		super(input);
+		_interp = new LexerATNSimulator(this,_ATN,_decisionToDFA,_sharedContextCache);
+	}
+
+	@Override
+	public String getGrammarFileName() { return "Saral.g4"; }
+
+	@Override
+	public String[] getRuleNames() { return ruleNames; }
+
+	@Override
+	public String getSerializedATN() { return _serializedATN; }
+
+	@Override
+	public String[] getChannelNames() { return channelNames; }
+
+	@Override
+	public String[] getModeNames() { return modeNames; }
+
+	@Override
+	public ATN getATN() { return _ATN; }
+
+	@Override
+	public boolean sempred(RuleContext _localctx, int ruleIndex, int predIndex) {
+		switch (ruleIndex) {
+		case 53:
+			return EMPTY_LINE_sempred((RuleContext)_localctx, predIndex);
+		}
+		return true;
+	}
+	private boolean EMPTY_LINE_sempred(RuleContext _localctx, int predIndex) {
+		switch (predIndex) {
+		case 0:
+			return getCharPositionInLine()==0;
+		}
+		return true;
+	}
+
+	public static final String _serializedATN =
+		"\3\u608b\ua72a\u8133\ub9ed\u417c\u3be7\u7786\u5964\2=\u01f5\b\1\4\2\t"+
+		"\2\4\3\t\3\4\4\t\4\4\5\t\5\4\6\t\6\4\7\t\7\4\b\t\b\4\t\t\t\4\n\t\n\4\13"+
+		"\t\13\4\f\t\f\4\r\t\r\4\16\t\16\4\17\t\17\4\20\t\20\4\21\t\21\4\22\t\22"+
+		"\4\23\t\23\4\24\t\24\4\25\t\25\4\26\t\26\4\27\t\27\4\30\t\30\4\31\t\31"+
+		"\4\32\t\32\4\33\t\33\4\34\t\34\4\35\t\35\4\36\t\36\4\37\t\37\4 \t \4!"+
+		"\t!\4\"\t\"\4#\t#\4$\t$\4%\t%\4&\t&\4\'\t\'\4(\t(\4)\t)\4*\t*\4+\t+\4"+
+		",\t,\4-\t-\4.\t.\4/\t/\4\60\t\60\4\61\t\61\4\62\t\62\4\63\t\63\4\64\t"+
+		"\64\4\65\t\65\4\66\t\66\4\67\t\67\48\t8\49\t9\4:\t:\4;\t;\4<\t<\3\2\3"+
+		"\2\3\3\3\3\3\4\3\4\3\4\3\4\3\4\3\4\3\5\3\5\3\5\3\5\3\5\3\5\3\5\3\6\3\6"+
+		"\3\6\3\6\3\6\3\6\3\6\3\6\3\7\3\7\3\7\3\7\3\7\3\7\3\7\3\b\3\b\3\b\3\b\3"+
+		"\b\3\b\3\b\3\b\3\b\3\t\3\t\3\t\3\t\3\t\3\t\3\t\3\t\3\t\3\n\3\n\3\n\3\n"+
+		"\3\n\3\n\3\13\3\13\3\13\3\13\3\13\3\f\3\f\3\f\3\f\3\f\3\f\3\f\3\f\3\f"+
+		"\5\f\u00c0\n\f\3\f\7\f\u00c3\n\f\f\f\16\f\u00c6\13\f\3\f\3\f\3\f\3\f\3"+
+		"\f\3\f\3\f\3\r\3\r\3\r\3\r\3\16\3\16\3\16\3\16\3\17\3\17\3\17\3\17\3\17"+
+		"\3\17\3\17\3\17\3\17\3\17\3\17\3\17\3\17\3\17\3\17\3\20\3\20\3\20\3\21"+
+		"\3\21\3\21\3\22\3\22\3\22\3\22\3\23\3\23\3\23\3\23\3\23\3\23\3\24\3\24"+
+		"\3\24\3\24\3\24\3\25\3\25\3\25\3\25\3\26\3\26\3\26\3\26\3\26\3\27\3\27"+
+		"\3\27\3\27\3\27\3\27\3\27\3\27\3\27\3\27\3\27\3\27\3\27\3\27\3\27\3\30"+
+		"\3\30\3\30\3\30\3\30\3\30\3\30\3\30\3\30\3\30\3\30\3\30\3\31\3\31\3\32"+
+		"\3\32\3\33\3\33\3\34\3\34\3\35\3\35\3\36\3\36\3\36\3\36\3\37\3\37\3\37"+
+		"\3 \3 \3!\3!\3\"\3\"\3#\3#\3$\3$\3%\3%\3%\3&\3&\3&\3\'\3\'\3\'\3(\3(\3"+
+		"(\3)\3)\3*\3*\3+\3+\3+\3+\3+\3+\3+\3+\3,\3,\3,\3,\3,\3,\3,\3,\3,\3,\3"+
+		",\3,\3,\3,\3,\3,\3,\3,\3,\3,\3,\3-\3-\3-\3-\3-\3-\3-\3-\3-\3-\3-\3-\3"+
+		"-\3-\3-\3-\3-\3-\3-\3.\3.\3.\3.\3.\3.\3.\3.\3/\3/\3/\3/\3/\3/\3\60\3\60"+
+		"\3\60\3\60\3\60\3\60\3\60\3\60\3\60\3\60\3\60\3\60\3\60\3\60\3\60\3\60"+
+		"\3\60\3\60\3\60\5\60\u019b\n\60\3\61\3\61\3\62\3\62\3\62\7\62\u01a2\n"+
+		"\62\f\62\16\62\u01a5\13\62\3\63\3\63\3\63\7\63\u01aa\n\63\f\63\16\63\u01ad"+
+		"\13\63\3\63\3\63\3\64\3\64\3\64\3\64\3\65\5\65\u01b6\n\65\3\65\3\65\3"+
+		"\65\3\65\7\65\u01bc\n\65\f\65\16\65\u01bf\13\65\3\66\3\66\3\67\3\67\7"+
+		"\67\u01c5\n\67\f\67\16\67\u01c8\13\67\3\67\5\67\u01cb\n\67\3\67\3\67\3"+
+		"\67\3\67\38\38\38\38\78\u01d5\n8\f8\168\u01d8\138\38\38\39\59\u01dd\n"+
+		"9\39\39\59\u01e1\n9\3:\6:\u01e4\n:\r:\16:\u01e5\3:\3:\3;\3;\3;\7;\u01ed"+
+		"\n;\f;\16;\u01f0\13;\5;\u01f2\n;\3<\3<\2\2=\3\3\5\4\7\5\t\6\13\7\r\b\17"+
+		"\t\21\n\23\13\25\f\27\r\31\16\33\17\35\20\37\21!\22#\23%\24\'\25)\26+"+
+		"\27-\30/\31\61\32\63\33\65\34\67\359\36;\37= ?!A\"C#E$G%I&K\'M(O)Q*S+"+
+		"U,W-Y.[/]\60_\61a\62c\63e\64g\65i\66k\67m8o9q:s;u<w=\3\2\n\4\2\61\61<"+
+		"<\3\2$$\3\2))\30\2C\\c|\u00c3\u00c3\u00c6\u00c6\u00cb\u00cb\u00cf\u00cf"+
+		"\u00d5\u00d6\u00dc\u00dc\u00df\u00df\u00e3\u00e3\u00e6\u00e6\u00eb\u00eb"+
+		"\u00ef\u00ef\u00f5\u00f6\u00fc\u00fc\u00ff\u00ff\u010e\u0111\u013b\u013c"+
+		"\u013f\u0140\u0162\u0163\u0166\u0167\u017f\u0180\4\2\13\13\"\"\4\2\f\f"+
+		"\17\17\3\2\63;\3\2\62;\2\u0207\2\3\3\2\2\2\2\5\3\2\2\2\2\7\3\2\2\2\2\t"+
+		"\3\2\2\2\2\13\3\2\2\2\2\r\3\2\2\2\2\17\3\2\2\2\2\21\3\2\2\2\2\23\3\2\2"+
+		"\2\2\25\3\2\2\2\2\27\3\2\2\2\2\31\3\2\2\2\2\33\3\2\2\2\2\35\3\2\2\2\2"+
+		"\37\3\2\2\2\2!\3\2\2\2\2#\3\2\2\2\2%\3\2\2\2\2\'\3\2\2\2\2)\3\2\2\2\2"+
+		"+\3\2\2\2\2-\3\2\2\2\2/\3\2\2\2\2\61\3\2\2\2\2\63\3\2\2\2\2\65\3\2\2\2"+
+		"\2\67\3\2\2\2\29\3\2\2\2\2;\3\2\2\2\2=\3\2\2\2\2?\3\2\2\2\2A\3\2\2\2\2"+
+		"C\3\2\2\2\2E\3\2\2\2\2G\3\2\2\2\2I\3\2\2\2\2K\3\2\2\2\2M\3\2\2\2\2O\3"+
+		"\2\2\2\2Q\3\2\2\2\2S\3\2\2\2\2U\3\2\2\2\2W\3\2\2\2\2Y\3\2\2\2\2[\3\2\2"+
+		"\2\2]\3\2\2\2\2_\3\2\2\2\2a\3\2\2\2\2c\3\2\2\2\2e\3\2\2\2\2g\3\2\2\2\2"+
+		"i\3\2\2\2\2k\3\2\2\2\2m\3\2\2\2\2o\3\2\2\2\2q\3\2\2\2\2s\3\2\2\2\2u\3"+
+		"\2\2\2\2w\3\2\2\2\3y\3\2\2\2\5{\3\2\2\2\7}\3\2\2\2\t\u0083\3\2\2\2\13"+
+		"\u008a\3\2\2\2\r\u0092\3\2\2\2\17\u0099\3\2\2\2\21\u00a2\3\2\2\2\23\u00ab"+
+		"\3\2\2\2\25\u00b1\3\2\2\2\27\u00bf\3\2\2\2\31\u00ce\3\2\2\2\33\u00d2\3"+
+		"\2\2\2\35\u00d6\3\2\2\2\37\u00e5\3\2\2\2!\u00e8\3\2\2\2#\u00eb\3\2\2\2"+
+		"%\u00ef\3\2\2\2\'\u00f5\3\2\2\2)\u00fa\3\2\2\2+\u00fe\3\2\2\2-\u0103\3"+
+		"\2\2\2/\u0112\3\2\2\2\61\u011e\3\2\2\2\63\u0120\3\2\2\2\65\u0122\3\2\2"+
+		"\2\67\u0124\3\2\2\29\u0126\3\2\2\2;\u0128\3\2\2\2=\u012c\3\2\2\2?\u012f"+
+		"\3\2\2\2A\u0131\3\2\2\2C\u0133\3\2\2\2E\u0135\3\2\2\2G\u0137\3\2\2\2I"+
+		"\u0139\3\2\2\2K\u013c\3\2\2\2M\u013f\3\2\2\2O\u0142\3\2\2\2Q\u0145\3\2"+
+		"\2\2S\u0147\3\2\2\2U\u0149\3\2\2\2W\u0151\3\2\2\2Y\u0166\3\2\2\2[\u0179"+
+		"\3\2\2\2]\u0181\3\2\2\2_\u019a\3\2\2\2a\u019c\3\2\2\2c\u019e\3\2\2\2e"+
+		"\u01a6\3\2\2\2g\u01b0\3\2\2\2i\u01b5\3\2\2\2k\u01c0\3\2\2\2m\u01c2\3\2"+
+		"\2\2o\u01d0\3\2\2\2q\u01e0\3\2\2\2s\u01e3\3\2\2\2u\u01f1\3\2\2\2w\u01f3"+
+		"\3\2\2\2yz\7?\2\2z\4\3\2\2\2{|\7.\2\2|\6\3\2\2\2}~\7x\2\2~\177\7g\2\2"+
+		"\177\u0080\7\u0180\2\2\u0080\u0081\7o\2\2\u0081\u0082\7k\2\2\u0082\b\3"+
+		"\2\2\2\u0083\u0084\7e\2\2\u0084\u0085\7k\2\2\u0085\u0086\7u\2\2\u0086"+
+		"\u0087\7m\2\2\u0087\u0088\7c\2\2\u0088\u0089\7l\2\2\u0089\n\3\2\2\2\u008a"+
+		"\u008b\7u\2\2\u008b\u008c\7n\2\2\u008c\u008d\7w\2\2\u008d\u008e\7e\2\2"+
+		"\u008e\u008f\7j\2\2\u008f\u0090\7c\2\2\u0090\u0091\7l\2\2\u0091\f\3\2"+
+		"\2\2\u0092\u0093\7r\2\2\u0093\u0094\7q\2\2\u0094\u0095\7x\2\2\u0095\u0096"+
+		"\7k\2\2\u0096\u0097\7f\2\2\u0097\u0098\7|\2\2\u0098\16\3\2\2\2\u0099\u009a"+
+		"\7a\2\2\u009a\u009b\7a\2\2\u009b\u009c\7K\2\2\u009c\u009d\7P\2\2\u009d"+
+		"\u009e\7F\2\2\u009e\u009f\7G\2\2\u009f\u00a0\7P\2\2\u00a0\u00a1\7V\2\2"+
+		"\u00a1\20\3\2\2\2\u00a2\u00a3\7a\2\2\u00a3\u00a4\7a\2\2\u00a4\u00a5\7"+
+		"F\2\2\u00a5\u00a6\7G\2\2\u00a6\u00a7\7F\2\2\u00a7\u00a8\7G\2\2\u00a8\u00a9"+
+		"\7P\2\2\u00a9\u00aa\7V\2\2\u00aa\22\3\2\2\2\u00ab\u00ac\7o\2\2\u00ac\u00ad"+
+		"\7g\2\2\u00ad\u00ae\7\u014a\2\2\u00ae\u00af\7c\2\2\u00af\u00b0\7m\2\2"+
+		"\u00b0\24\3\2\2\2\u00b1\u00b2\7h\2\2\u00b2\u00b3\7w\2\2\u00b3\u00b4\7"+
+		"t\2\2\u00b4\u00b5\7v\2\2\u00b5\26\3\2\2\2\u00b6\u00b7\7f\2\2\u00b7\u00b8"+
+		"\7k\2\2\u00b8\u00b9\7o\2\2\u00b9\u00ba\7g\2\2\u00ba\u00bb\7p\2\2\u00bb"+
+		"\u00bc\7|\2\2\u00bc\u00bd\7k\2\2\u00bd\u00be\7q\2\2\u00be\u00c0\7p\2\2"+
+		"\u00bf\u00b6\3\2\2\2\u00bf\u00c0\3\2\2\2\u00c0\u00c4\3\2\2\2\u00c1\u00c3"+
+		"\5s:\2\u00c2\u00c1\3\2\2\2\u00c3\u00c6\3\2\2\2\u00c4\u00c2\3\2\2\2\u00c4"+
+		"\u00c5\3\2\2\2\u00c5\u00c7\3\2\2\2\u00c6\u00c4\3\2\2\2\u00c7\u00c8\7h"+
+		"\2\2\u00c8\u00c9\7w\2\2\u00c9\u00ca\7p\2\2\u00ca\u00cb\7f\2\2\u00cb\u00cc"+
+		"\7w\2\2\u00cc\u00cd\7\u0163\2\2\u00cd\30\3\2\2\2\u00ce\u00cf\7m\2\2\u00cf"+
+		"\u00d0\7\u00ff\2\2\u00d0\u00d1\7o\2\2\u00d1\32\3\2\2\2\u00d2\u00d3\7t"+
+		"\2\2\u00d3\u00d4\7q\2\2\u00d4\u00d5\7d\2\2\u00d5\34\3\2\2\2\u00d6\u00d7"+
+		"\7|\2\2\u00d7\u00d8\7t\2\2\u00d8\u00d9\7q\2\2\u00d9\u00da\7d\2\2\u00da"+
+		"\u00db\7\"\2\2\u00db\u00dc\7u\2\2\u00dc\u00dd\7\"\2\2\u00dd\u00de\7o\2"+
+		"\2\u00de\u00df\7g\2\2\u00df\u00e0\7\u014a\2\2\u00e0\u00e1\7c\2\2\u00e1"+
+		"\u00e2\7m\2\2\u00e2\u00e3\7q\2\2\u00e3\u00e4\7o\2\2\u00e4\36\3\2\2\2\u00e5"+
+		"\u00e6\7q\2\2\u00e6\u00e7\7f\2\2\u00e7 \3\2\2\2\u00e8\u00e9\7f\2\2\u00e9"+
+		"\u00ea\7q\2\2\u00ea\"\3\2\2\2\u00eb\u00ec\7m\2\2\u00ec\u00ed\7g\2\2\u00ed"+
+		"\u00ee\7\u0111\2\2\u00ee$\3\2\2\2\u00ef\u00f0\7r\2\2\u00f0\u00f1\7q\2"+
+		"\2\u00f1\u00f2\7v\2\2\u00f2\u00f3\7q\2\2\u00f3\u00f4\7o\2\2\u00f4&\3\2"+
+		"\2\2\u00f5\u00f6\7k\2\2\u00f6\u00f7\7p\2\2\u00f7\u00f8\7c\2\2\u00f8\u00f9"+
+		"\7m\2\2\u00f9(\3\2\2\2\u00fa\u00fb\7d\2\2\u00fb\u00fc\7c\2\2\u00fc\u00fd"+
+		"\7t\2\2\u00fd*\3\2\2\2\u00fe\u00ff\7x\2\2\u00ff\u0100\7t\2\2\u0100\u0101"+
+		"\7c\2\2\u0101\u0102\7e\2\2\u0102,\3\2\2\2\u0103\u0104\7x\2\2\u0104\u0105"+
+		"\7t\2\2\u0105\u0106\7c\2\2\u0106\u0107\7e\2\2\u0107\u0108\7\"\2\2\u0108"+
+		"\u0109\7o\2\2\u0109\u010a\7k\2\2\u010a\u010b\7\"\2\2\u010b\u010c\7|\2"+
+		"\2\u010c\u010d\7\"\2\2\u010d\u010e\7d\2\2\u010e\u010f\7c\2\2\u010f\u0110"+
+		"\7t\2\2\u0110\u0111\7w\2\2\u0111.\3\2\2\2\u0112\u0113\7r\2\2\u0113\u0114"+
+		"\7c\2\2\u0114\u0115\7\u0140\2\2\u0115\u0116\7\"\2\2\u0116\u0117\7f\2\2"+
+		"\u0117\u0118\7q\2\2\u0118\u0119\7\"\2\2\u0119\u011a\7d\2\2\u011a\u011b"+
+		"\7c\2\2\u011b\u011c\7t\2\2\u011c\u011d\7w\2\2\u011d\60\3\2\2\2\u011e\u011f"+
+		"\7*\2\2\u011f\62\3\2\2\2\u0120\u0121\7+\2\2\u0121\64\3\2\2\2\u0122\u0123"+
+		"\7]\2\2\u0123\66\3\2\2\2\u0124\u0125\7_\2\2\u01258\3\2\2\2\u0126\u0127"+
+		"\7c\2\2\u0127:\3\2\2\2\u0128\u0129\7c\2\2\u0129\u012a\7d\2\2\u012a\u012b"+
+		"\7q\2\2\u012b<\3\2\2\2\u012c\u012d\7p\2\2\u012d\u012e\7g\2\2\u012e>\3"+
+		"\2\2\2\u012f\u0130\7-\2\2\u0130@\3\2\2\2\u0131\u0132\7/\2\2\u0132B\3\2"+
+		"\2\2\u0133\u0134\7,\2\2\u0134D\3\2\2\2\u0135\u0136\t\2\2\2\u0136F\3\2"+
+		"\2\2\u0137\u0138\7\'\2\2\u0138H\3\2\2\2\u0139\u013a\7?\2\2\u013a\u013b"+
+		"\7?\2\2\u013bJ\3\2\2\2\u013c\u013d\7>\2\2\u013d\u013e\7@\2\2\u013eL\3"+
+		"\2\2\2\u013f\u0140\7>\2\2\u0140\u0141\7?\2\2\u0141N\3\2\2\2\u0142\u0143"+
+		"\7@\2\2\u0143\u0144\7?\2\2\u0144P\3\2\2\2\u0145\u0146\7@\2\2\u0146R\3"+
+		"\2\2\2\u0147\u0148\7>\2\2\u0148T\3\2\2\2\u0149\u014a\7n\2\2\u014a\u014b"+
+		"\7q\2\2\u014b\u014c\7i\2\2\u014c\u014d\7k\2\2\u014d\u014e\7e\2\2\u014e"+
+		"\u014f\7m\2\2\u014f\u0150\7\u00ff\2\2\u0150V\3\2\2\2\u0151\u0152\7p\2"+
+		"\2\u0152\u0153\7g\2\2\u0153\u0154\7u\2\2\u0154\u0155\7m\2\2\u0155\u0156"+
+		"\7w\2\2\u0156\u0157\7v\2\2\u0157\u0158\7q\2\2\u0158\u0159\7\u010f\2\2"+
+		"\u0159\u015a\7p\2\2\u015a\u015b\7\u00eb\2\2\u015b\u015c\7\"\2\2\u015c"+
+		"\u015d\7p\2\2\u015d\u015e\7w\2\2\u015e\u015f\7o\2\2\u015f\u0160\7g\2\2"+
+		"\u0160\u0161\7t\2\2\u0161\u0162\7c\2\2\u0162\u0163\7n\2\2\u0163\u0164"+
+		"\7k\2\2\u0164\u0165\7q\2\2\u0165X\3\2\2\2\u0166\u0167\7u\2\2\u0167\u0168"+
+		"\7m\2\2\u0168\u0169\7w\2\2\u0169\u016a\7v\2\2\u016a\u016b\7q\2\2\u016b"+
+		"\u016c\7\u010f\2\2\u016c\u016d\7p\2\2\u016d\u016e\7\u00eb\2\2\u016e\u016f"+
+		"\7\"\2\2\u016f\u0170\7p\2\2\u0170\u0171\7w\2\2\u0171\u0172\7o\2\2\u0172"+
+		"\u0173\7g\2\2\u0173\u0174\7t\2\2\u0174\u0175\7c\2\2\u0175\u0176\7n\2\2"+
+		"\u0176\u0177\7k\2\2\u0177\u0178\7q\2\2\u0178Z\3\2\2\2\u0179\u017a\7r\2"+
+		"\2\u017a\u017b\7\u00ef\2\2\u017b\u017c\7u\2\2\u017c\u017d\7o\2\2\u017d"+
+		"\u017e\7g\2\2\u017e\u017f\7p\2\2\u017f\u0180\7q\2\2\u0180\\\3\2\2\2\u0181"+
+		"\u0182\7u\2\2\u0182\u0183\7n\2\2\u0183\u0184\7q\2\2\u0184\u0185\7x\2\2"+
+		"\u0185\u0186\7q\2\2\u0186^\3\2\2\2\u0187\u0188\7r\2\2\u0188\u0189\7t\2"+
+		"\2\u0189\u018a\7c\2\2\u018a\u018b\7x\2\2\u018b\u018c\7f\2\2\u018c\u019b"+
+		"\7c\2\2\u018d\u018e\7q\2\2\u018e\u018f\7\u0163\2\2\u018f\u0190\7c\2\2"+
+		"\u0190\u019b\7\u0140\2\2\u0191\u0192\7u\2\2\u0192\u0193\7m\2\2\u0193\u0194"+
+		"\7q\2\2\u0194\u0195\7t\2\2\u0195\u0196\7q\2\2\u0196\u0197\7q\2\2\u0197"+
+		"\u0198\7\u0163\2\2\u0198\u0199\7c\2\2\u0199\u019b\7\u0140\2\2\u019a\u0187"+
+		"\3\2\2\2\u019a\u018d\3\2\2\2\u019a\u0191\3\2\2\2\u019b`\3\2\2\2\u019c"+
+		"\u019d\5u;\2\u019db\3\2\2\2\u019e\u019f\5u;\2\u019f\u01a3\7\60\2\2\u01a0"+
+		"\u01a2\5w<\2\u01a1\u01a0\3\2\2\2\u01a2\u01a5\3\2\2\2\u01a3\u01a1\3\2\2"+
+		"\2\u01a3\u01a4\3\2\2\2\u01a4d\3\2\2\2\u01a5\u01a3\3\2\2\2\u01a6\u01ab"+
+		"\7$\2\2\u01a7\u01aa\n\3\2\2\u01a8\u01aa\5q9\2\u01a9\u01a7\3\2\2\2\u01a9"+
+		"\u01a8\3\2\2\2\u01aa\u01ad\3\2\2\2\u01ab\u01a9\3\2\2\2\u01ab\u01ac\3\2"+
+		"\2\2\u01ac\u01ae\3\2\2\2\u01ad\u01ab\3\2\2\2\u01ae\u01af\7$\2\2\u01af"+
+		"f\3\2\2\2\u01b0\u01b1\7)\2\2\u01b1\u01b2\n\4\2\2\u01b2\u01b3\7)\2\2\u01b3"+
+		"h\3\2\2\2\u01b4\u01b6\7a\2\2\u01b5\u01b4\3\2\2\2\u01b5\u01b6\3\2\2\2\u01b6"+
+		"\u01b7\3\2\2\2\u01b7\u01bd\5k\66\2\u01b8\u01bc\5k\66\2\u01b9\u01bc\5w"+
+		"<\2\u01ba\u01bc\7a\2\2\u01bb\u01b8\3\2\2\2\u01bb\u01b9\3\2\2\2\u01bb\u01ba"+
+		"\3\2\2\2\u01bc\u01bf\3\2\2\2\u01bd\u01bb\3\2\2\2\u01bd\u01be\3\2\2\2\u01be"+
+		"j\3\2\2\2\u01bf\u01bd\3\2\2\2\u01c0\u01c1\t\5\2\2\u01c1l\3\2\2\2\u01c2"+
+		"\u01c6\6\67\2\2\u01c3\u01c5\t\6\2\2\u01c4\u01c3\3\2\2\2\u01c5\u01c8\3"+
+		"\2\2\2\u01c6\u01c4\3\2\2\2\u01c6\u01c7\3\2\2\2\u01c7\u01ca\3\2\2\2\u01c8"+
+		"\u01c6\3\2\2\2\u01c9\u01cb\5o8\2\u01ca\u01c9\3\2\2\2\u01ca\u01cb\3\2\2"+
+		"\2\u01cb\u01cc\3\2\2\2\u01cc\u01cd\5q9\2\u01cd\u01ce\3\2\2\2\u01ce\u01cf"+
+		"\b\67\2\2\u01cfn\3\2\2\2\u01d0\u01d1\7\61\2\2\u01d1\u01d2\7\61\2\2\u01d2"+
+		"\u01d6\3\2\2\2\u01d3\u01d5\n\7\2\2\u01d4\u01d3\3\2\2\2\u01d5\u01d8\3\2"+
+		"\2\2\u01d6\u01d4\3\2\2\2\u01d6\u01d7\3\2\2\2\u01d7\u01d9\3\2\2\2\u01d8"+
+		"\u01d6\3\2\2\2\u01d9\u01da\b8\2\2\u01dap\3\2\2\2\u01db\u01dd\7\17\2\2"+
+		"\u01dc\u01db\3\2\2\2\u01dc\u01dd\3\2\2\2\u01dd\u01de\3\2\2\2\u01de\u01e1"+
+		"\7\f\2\2\u01df\u01e1\7\17\2\2\u01e0\u01dc\3\2\2\2\u01e0\u01df\3\2\2\2"+
+		"\u01e1r\3\2\2\2\u01e2\u01e4\t\6\2\2\u01e3\u01e2\3\2\2\2\u01e4\u01e5\3"+
+		"\2\2\2\u01e5\u01e3\3\2\2\2\u01e5\u01e6\3\2\2\2\u01e6\u01e7\3\2\2\2\u01e7"+
+		"\u01e8\b:\2\2\u01e8t\3\2\2\2\u01e9\u01f2\7\62\2\2\u01ea\u01ee\t\b\2\2"+
+		"\u01eb\u01ed\5w<\2\u01ec\u01eb\3\2\2\2\u01ed\u01f0\3\2\2\2\u01ee\u01ec"+
+		"\3\2\2\2\u01ee\u01ef\3\2\2\2\u01ef\u01f2\3\2\2\2\u01f0\u01ee\3\2\2\2\u01f1"+
+		"\u01e9\3\2\2\2\u01f1\u01ea\3\2\2\2\u01f2v\3\2\2\2\u01f3\u01f4\t\t\2\2"+
+		"\u01f4x\3\2\2\2\24\2\u00bf\u00c4\u019a\u01a3\u01a9\u01ab\u01b5\u01bb\u01bd"+
+		"\u01c6\u01ca\u01d6\u01dc\u01e0\u01e5\u01ee\u01f1\3\b\2\2";
+	public static final ATN _ATN =
+		new ATNDeserializer().deserialize(_serializedATN.toCharArray());
+	static {
+		_decisionToDFA = new DFA[_ATN.getNumberOfDecisions()];
+		for (int i = 0; i < _ATN.getNumberOfDecisions(); i++) {
+			_decisionToDFA[i] = new DFA(_ATN.getDecisionState(i), i);
+		}
+	}
+}
\ No newline at end of file
@@ -0,0 +1,526 @@
+// Generated from Saral.g4 by ANTLR 4.7.1
+package com.pidanic.saral.grammar;
+import org.antlr.v4.runtime.tree.ParseTreeListener;
+
+/**
+ * This interface defines a complete listener for a parse tree produced by
+ * {@link SaralParser}.
+ */
+public interface SaralListener extends ParseTreeListener {
+	/**
+	 * Enter a parse tree produced by {@link SaralParser#init}.
+	 * @param ctx the parse tree
+	 */
+	void enterInit(SaralParser.InitContext ctx);
+	/**
+	 * Exit a parse tree produced by {@link SaralParser#init}.
+	 * @param ctx the parse tree
+	 */
+	void exitInit(SaralParser.InitContext ctx);
+	/**
+	 * Enter a parse tree produced by {@link SaralParser#statements}.
+	 * @param ctx the parse tree
+	 */
+	void enterStatements(SaralParser.StatementsContext ctx);
+	/**
+	 * Exit a parse tree produced by {@link SaralParser#statements}.
+	 * @param ctx the parse tree
+	 */
+	void exitStatements(SaralParser.StatementsContext ctx);
+	/**
+	 * Enter a parse tree produced by {@link SaralParser#block}.
+	 * @param ctx the parse tree
+	 */
+	void enterBlock(SaralParser.BlockContext ctx);
+	/**
+	 * Exit a parse tree produced by {@link SaralParser#block}.
+	 * @param ctx the parse tree
+	 */
+	void exitBlock(SaralParser.BlockContext ctx);
+	/**
+	 * Enter a parse tree produced by {@link SaralParser#func_block}.
+	 * @param ctx the parse tree
+	 */
+	void enterFunc_block(SaralParser.Func_blockContext ctx);
+	/**
+	 * Exit a parse tree produced by {@link SaralParser#func_block}.
+	 * @param ctx the parse tree
+	 */
+	void exitFunc_block(SaralParser.Func_blockContext ctx);
+	/**
+	 * Enter a parse tree produced by {@link SaralParser#ret}.
+	 * @param ctx the parse tree
+	 */
+	void enterRet(SaralParser.RetContext ctx);
+	/**
+	 * Exit a parse tree produced by {@link SaralParser#ret}.
+	 * @param ctx the parse tree
+	 */
+	void exitRet(SaralParser.RetContext ctx);
+	/**
+	 * Enter a parse tree produced by {@link SaralParser#statement}.
+	 * @param ctx the parse tree
+	 */
+	void enterStatement(SaralParser.StatementContext ctx);
+	/**
+	 * Exit a parse tree produced by {@link SaralParser#statement}.
+	 * @param ctx the parse tree
+	 */
+	void exitStatement(SaralParser.StatementContext ctx);
+	/**
+	 * Enter a parse tree produced by {@link SaralParser#simple_statement}.
+	 * @param ctx the parse tree
+	 */
+	void enterSimple_statement(SaralParser.Simple_statementContext ctx);
+	/**
+	 * Exit a parse tree produced by {@link SaralParser#simple_statement}.
+	 * @param ctx the parse tree
+	 */
+	void exitSimple_statement(SaralParser.Simple_statementContext ctx);
+	/**
+	 * Enter a parse tree produced by {@link SaralParser#block_statement}.
+	 * @param ctx the parse tree
+	 */
+	void enterBlock_statement(SaralParser.Block_statementContext ctx);
+	/**
+	 * Exit a parse tree produced by {@link SaralParser#block_statement}.
+	 * @param ctx the parse tree
+	 */
+	void exitBlock_statement(SaralParser.Block_statementContext ctx);
+	/**
+	 * Enter a parse tree produced by the {@code VarID}
+	 * labeled alternative in {@link SaralParser#var}.
+	 * @param ctx the parse tree
+	 */
+	void enterVarID(SaralParser.VarIDContext ctx);
+	/**
+	 * Exit a parse tree produced by the {@code VarID}
+	 * labeled alternative in {@link SaralParser#var}.
+	 * @param ctx the parse tree
+	 */
+	void exitVarID(SaralParser.VarIDContext ctx);
+	/**
+	 * Enter a parse tree produced by the {@code VarArray}
+	 * labeled alternative in {@link SaralParser#var}.
+	 * @param ctx the parse tree
+	 */
+	void enterVarArray(SaralParser.VarArrayContext ctx);
+	/**
+	 * Exit a parse tree produced by the {@code VarArray}
+	 * labeled alternative in {@link SaralParser#var}.
+	 * @param ctx the parse tree
+	 */
+	void exitVarArray(SaralParser.VarArrayContext ctx);
+	/**
+	 * Enter a parse tree produced by the {@code ValVar}
+	 * labeled alternative in {@link SaralParser#val}.
+	 * @param ctx the parse tree
+	 */
+	void enterValVar(SaralParser.ValVarContext ctx);
+	/**
+	 * Exit a parse tree produced by the {@code ValVar}
+	 * labeled alternative in {@link SaralParser#val}.
+	 * @param ctx the parse tree
+	 */
+	void exitValVar(SaralParser.ValVarContext ctx);
+	/**
+	 * Enter a parse tree produced by the {@code ValInt}
+	 * labeled alternative in {@link SaralParser#val}.
+	 * @param ctx the parse tree
+	 */
+	void enterValInt(SaralParser.ValIntContext ctx);
+	/**
+	 * Exit a parse tree produced by the {@code ValInt}
+	 * labeled alternative in {@link SaralParser#val}.
+	 * @param ctx the parse tree
+	 */
+	void exitValInt(SaralParser.ValIntContext ctx);
+	/**
+	 * Enter a parse tree produced by the {@code ValFloat}
+	 * labeled alternative in {@link SaralParser#val}.
+	 * @param ctx the parse tree
+	 */
+	void enterValFloat(SaralParser.ValFloatContext ctx);
+	/**
+	 * Exit a parse tree produced by the {@code ValFloat}
+	 * labeled alternative in {@link SaralParser#val}.
+	 * @param ctx the parse tree
+	 */
+	void exitValFloat(SaralParser.ValFloatContext ctx);
+	/**
+	 * Enter a parse tree produced by the {@code ValString}
+	 * labeled alternative in {@link SaralParser#val}.
+	 * @param ctx the parse tree
+	 */
+	void enterValString(SaralParser.ValStringContext ctx);
+	/**
+	 * Exit a parse tree produced by the {@code ValString}
+	 * labeled alternative in {@link SaralParser#val}.
+	 * @param ctx the parse tree
+	 */
+	void exitValString(SaralParser.ValStringContext ctx);
+	/**
+	 * Enter a parse tree produced by the {@code ValChar}
+	 * labeled alternative in {@link SaralParser#val}.
+	 * @param ctx the parse tree
+	 */
+	void enterValChar(SaralParser.ValCharContext ctx);
+	/**
+	 * Exit a parse tree produced by the {@code ValChar}
+	 * labeled alternative in {@link SaralParser#val}.
+	 * @param ctx the parse tree
+	 */
+	void exitValChar(SaralParser.ValCharContext ctx);
+	/**
+	 * Enter a parse tree produced by the {@code ValBool}
+	 * labeled alternative in {@link SaralParser#val}.
+	 * @param ctx the parse tree
+	 */
+	void enterValBool(SaralParser.ValBoolContext ctx);
+	/**
+	 * Exit a parse tree produced by the {@code ValBool}
+	 * labeled alternative in {@link SaralParser#val}.
+	 * @param ctx the parse tree
+	 */
+	void exitValBool(SaralParser.ValBoolContext ctx);
+	/**
+	 * Enter a parse tree produced by {@link SaralParser#assignment}.
+	 * @param ctx the parse tree
+	 */
+	void enterAssignment(SaralParser.AssignmentContext ctx);
+	/**
+	 * Exit a parse tree produced by {@link SaralParser#assignment}.
+	 * @param ctx the parse tree
+	 */
+	void exitAssignment(SaralParser.AssignmentContext ctx);
+	/**
+	 * Enter a parse tree produced by {@link SaralParser#if_statement}.
+	 * @param ctx the parse tree
+	 */
+	void enterIf_statement(SaralParser.If_statementContext ctx);
+	/**
+	 * Exit a parse tree produced by {@link SaralParser#if_statement}.
+	 * @param ctx the parse tree
+	 */
+	void exitIf_statement(SaralParser.If_statementContext ctx);
+	/**
+	 * Enter a parse tree produced by {@link SaralParser#while_statement}.
+	 * @param ctx the parse tree
+	 */
+	void enterWhile_statement(SaralParser.While_statementContext ctx);
+	/**
+	 * Exit a parse tree produced by {@link SaralParser#while_statement}.
+	 * @param ctx the parse tree
+	 */
+	void exitWhile_statement(SaralParser.While_statementContext ctx);
+	/**
+	 * Enter a parse tree produced by {@link SaralParser#for_statement}.
+	 * @param ctx the parse tree
+	 */
+	void enterFor_statement(SaralParser.For_statementContext ctx);
+	/**
+	 * Exit a parse tree produced by {@link SaralParser#for_statement}.
+	 * @param ctx the parse tree
+	 */
+	void exitFor_statement(SaralParser.For_statementContext ctx);
+	/**
+	 * Enter a parse tree produced by {@link SaralParser#func_definition}.
+	 * @param ctx the parse tree
+	 */
+	void enterFunc_definition(SaralParser.Func_definitionContext ctx);
+	/**
+	 * Exit a parse tree produced by {@link SaralParser#func_definition}.
+	 * @param ctx the parse tree
+	 */
+	void exitFunc_definition(SaralParser.Func_definitionContext ctx);
+	/**
+	 * Enter a parse tree produced by {@link SaralParser#proc_definition}.
+	 * @param ctx the parse tree
+	 */
+	void enterProc_definition(SaralParser.Proc_definitionContext ctx);
+	/**
+	 * Exit a parse tree produced by {@link SaralParser#proc_definition}.
+	 * @param ctx the parse tree
+	 */
+	void exitProc_definition(SaralParser.Proc_definitionContext ctx);
+	/**
+	 * Enter a parse tree produced by {@link SaralParser#func_call}.
+	 * @param ctx the parse tree
+	 */
+	void enterFunc_call(SaralParser.Func_callContext ctx);
+	/**
+	 * Exit a parse tree produced by {@link SaralParser#func_call}.
+	 * @param ctx the parse tree
+	 */
+	void exitFunc_call(SaralParser.Func_callContext ctx);
+	/**
+	 * Enter a parse tree produced by {@link SaralParser#proc_call}.
+	 * @param ctx the parse tree
+	 */
+	void enterProc_call(SaralParser.Proc_callContext ctx);
+	/**
+	 * Exit a parse tree produced by {@link SaralParser#proc_call}.
+	 * @param ctx the parse tree
+	 */
+	void exitProc_call(SaralParser.Proc_callContext ctx);
+	/**
+	 * Enter a parse tree produced by {@link SaralParser#arglist}.
+	 * @param ctx the parse tree
+	 */
+	void enterArglist(SaralParser.ArglistContext ctx);
+	/**
+	 * Exit a parse tree produced by {@link SaralParser#arglist}.
+	 * @param ctx the parse tree
+	 */
+	void exitArglist(SaralParser.ArglistContext ctx);
+	/**
+	 * Enter a parse tree produced by {@link SaralParser#paramlist}.
+	 * @param ctx the parse tree
+	 */
+	void enterParamlist(SaralParser.ParamlistContext ctx);
+	/**
+	 * Exit a parse tree produced by {@link SaralParser#paramlist}.
+	 * @param ctx the parse tree
+	 */
+	void exitParamlist(SaralParser.ParamlistContext ctx);
+	/**
+	 * Enter a parse tree produced by {@link SaralParser#read}.
+	 * @param ctx the parse tree
+	 */
+	void enterRead(SaralParser.ReadContext ctx);
+	/**
+	 * Exit a parse tree produced by {@link SaralParser#read}.
+	 * @param ctx the parse tree
+	 */
+	void exitRead(SaralParser.ReadContext ctx);
+	/**
+	 * Enter a parse tree produced by {@link SaralParser#write}.
+	 * @param ctx the parse tree
+	 */
+	void enterWrite(SaralParser.WriteContext ctx);
+	/**
+	 * Exit a parse tree produced by {@link SaralParser#write}.
+	 * @param ctx the parse tree
+	 */
+	void exitWrite(SaralParser.WriteContext ctx);
+	/**
+	 * Enter a parse tree produced by {@link SaralParser#read2}.
+	 * @param ctx the parse tree
+	 */
+	void enterRead2(SaralParser.Read2Context ctx);
+	/**
+	 * Exit a parse tree produced by {@link SaralParser#read2}.
+	 * @param ctx the parse tree
+	 */
+	void exitRead2(SaralParser.Read2Context ctx);
+	/**
+	 * Enter a parse tree produced by {@link SaralParser#write2}.
+	 * @param ctx the parse tree
+	 */
+	void enterWrite2(SaralParser.Write2Context ctx);
+	/**
+	 * Exit a parse tree produced by {@link SaralParser#write2}.
+	 * @param ctx the parse tree
+	 */
+	void exitWrite2(SaralParser.Write2Context ctx);
+	/**
+	 * Enter a parse tree produced by {@link SaralParser#var_definition}.
+	 * @param ctx the parse tree
+	 */
+	void enterVar_definition(SaralParser.Var_definitionContext ctx);
+	/**
+	 * Exit a parse tree produced by {@link SaralParser#var_definition}.
+	 * @param ctx the parse tree
+	 */
+	void exitVar_definition(SaralParser.Var_definitionContext ctx);
+	/**
+	 * Enter a parse tree produced by {@link SaralParser#var_declaration}.
+	 * @param ctx the parse tree
+	 */
+	void enterVar_declaration(SaralParser.Var_declarationContext ctx);
+	/**
+	 * Exit a parse tree produced by {@link SaralParser#var_declaration}.
+	 * @param ctx the parse tree
+	 */
+	void exitVar_declaration(SaralParser.Var_declarationContext ctx);
+	/**
+	 * Enter a parse tree produced by {@link SaralParser#const_definition}.
+	 * @param ctx the parse tree
+	 */
+	void enterConst_definition(SaralParser.Const_definitionContext ctx);
+	/**
+	 * Exit a parse tree produced by {@link SaralParser#const_definition}.
+	 * @param ctx the parse tree
+	 */
+	void exitConst_definition(SaralParser.Const_definitionContext ctx);
+	/**
+	 * Enter a parse tree produced by {@link SaralParser#array_declaration}.
+	 * @param ctx the parse tree
+	 */
+	void enterArray_declaration(SaralParser.Array_declarationContext ctx);
+	/**
+	 * Exit a parse tree produced by {@link SaralParser#array_declaration}.
+	 * @param ctx the parse tree
+	 */
+	void exitArray_declaration(SaralParser.Array_declarationContext ctx);
+	/**
+	 * Enter a parse tree produced by {@link SaralParser#type}.
+	 * @param ctx the parse tree
+	 */
+	void enterType(SaralParser.TypeContext ctx);
+	/**
+	 * Exit a parse tree produced by {@link SaralParser#type}.
+	 * @param ctx the parse tree
+	 */
+	void exitType(SaralParser.TypeContext ctx);
+	/**
+	 * Enter a parse tree produced by {@link SaralParser#typeArray}.
+	 * @param ctx the parse tree
+	 */
+	void enterTypeArray(SaralParser.TypeArrayContext ctx);
+	/**
+	 * Exit a parse tree produced by {@link SaralParser#typeArray}.
+	 * @param ctx the parse tree
+	 */
+	void exitTypeArray(SaralParser.TypeArrayContext ctx);
+	/**
+	 * Enter a parse tree produced by {@link SaralParser#typeSimple}.
+	 * @param ctx the parse tree
+	 */
+	void enterTypeSimple(SaralParser.TypeSimpleContext ctx);
+	/**
+	 * Exit a parse tree produced by {@link SaralParser#typeSimple}.
+	 * @param ctx the parse tree
+	 */
+	void exitTypeSimple(SaralParser.TypeSimpleContext ctx);
+	/**
+	 * Enter a parse tree produced by {@link SaralParser#typeBasic}.
+	 * @param ctx the parse tree
+	 */
+	void enterTypeBasic(SaralParser.TypeBasicContext ctx);
+	/**
+	 * Exit a parse tree produced by {@link SaralParser#typeBasic}.
+	 * @param ctx the parse tree
+	 */
+	void exitTypeBasic(SaralParser.TypeBasicContext ctx);
+	/**
+	 * Enter a parse tree produced by the {@code Add}
+	 * labeled alternative in {@link SaralParser#expression}.
+	 * @param ctx the parse tree
+	 */
+	void enterAdd(SaralParser.AddContext ctx);
+	/**
+	 * Exit a parse tree produced by the {@code Add}
+	 * labeled alternative in {@link SaralParser#expression}.
+	 * @param ctx the parse tree
+	 */
+	void exitAdd(SaralParser.AddContext ctx);
+	/**
+	 * Enter a parse tree produced by the {@code Func}
+	 * labeled alternative in {@link SaralParser#expression}.
+	 * @param ctx the parse tree
+	 */
+	void enterFunc(SaralParser.FuncContext ctx);
+	/**
+	 * Exit a parse tree produced by the {@code Func}
+	 * labeled alternative in {@link SaralParser#expression}.
+	 * @param ctx the parse tree
+	 */
+	void exitFunc(SaralParser.FuncContext ctx);
+	/**
+	 * Enter a parse tree produced by the {@code Mul}
+	 * labeled alternative in {@link SaralParser#expression}.
+	 * @param ctx the parse tree
+	 */
+	void enterMul(SaralParser.MulContext ctx);
+	/**
+	 * Exit a parse tree produced by the {@code Mul}
+	 * labeled alternative in {@link SaralParser#expression}.
+	 * @param ctx the parse tree
+	 */
+	void exitMul(SaralParser.MulContext ctx);
+	/**
+	 * Enter a parse tree produced by the {@code Value}
+	 * labeled alternative in {@link SaralParser#expression}.
+	 * @param ctx the parse tree
+	 */
+	void enterValue(SaralParser.ValueContext ctx);
+	/**
+	 * Exit a parse tree produced by the {@code Value}
+	 * labeled alternative in {@link SaralParser#expression}.
+	 * @param ctx the parse tree
+	 */
+	void exitValue(SaralParser.ValueContext ctx);
+	/**
+	 * Enter a parse tree produced by the {@code UnaryMinus}
+	 * labeled alternative in {@link SaralParser#expression}.
+	 * @param ctx the parse tree
+	 */
+	void enterUnaryMinus(SaralParser.UnaryMinusContext ctx);
+	/**
+	 * Exit a parse tree produced by the {@code UnaryMinus}
+	 * labeled alternative in {@link SaralParser#expression}.
+	 * @param ctx the parse tree
+	 */
+	void exitUnaryMinus(SaralParser.UnaryMinusContext ctx);
+	/**
+	 * Enter a parse tree produced by the {@code BoolNot}
+	 * labeled alternative in {@link SaralParser#expression}.
+	 * @param ctx the parse tree
+	 */
+	void enterBoolNot(SaralParser.BoolNotContext ctx);
+	/**
+	 * Exit a parse tree produced by the {@code BoolNot}
+	 * labeled alternative in {@link SaralParser#expression}.
+	 * @param ctx the parse tree
+	 */
+	void exitBoolNot(SaralParser.BoolNotContext ctx);
+	/**
+	 * Enter a parse tree produced by the {@code Compare}
+	 * labeled alternative in {@link SaralParser#expression}.
+	 * @param ctx the parse tree
+	 */
+	void enterCompare(SaralParser.CompareContext ctx);
+	/**
+	 * Exit a parse tree produced by the {@code Compare}
+	 * labeled alternative in {@link SaralParser#expression}.
+	 * @param ctx the parse tree
+	 */
+	void exitCompare(SaralParser.CompareContext ctx);
+	/**
+	 * Enter a parse tree produced by the {@code BoolOr}
+	 * labeled alternative in {@link SaralParser#expression}.
+	 * @param ctx the parse tree
+	 */
+	void enterBoolOr(SaralParser.BoolOrContext ctx);
+	/**
+	 * Exit a parse tree produced by the {@code BoolOr}
+	 * labeled alternative in {@link SaralParser#expression}.
+	 * @param ctx the parse tree
+	 */
+	void exitBoolOr(SaralParser.BoolOrContext ctx);
+	/**
+	 * Enter a parse tree produced by the {@code BoolAnd}
+	 * labeled alternative in {@link SaralParser#expression}.
+	 * @param ctx the parse tree
+	 */
+	void enterBoolAnd(SaralParser.BoolAndContext ctx);
+	/**
+	 * Exit a parse tree produced by the {@code BoolAnd}
+	 * labeled alternative in {@link SaralParser#expression}.
+	 * @param ctx the parse tree
+	 */
+	void exitBoolAnd(SaralParser.BoolAndContext ctx);
+	/**
+	 * Enter a parse tree produced by the {@code Paren}
+	 * labeled alternative in {@link SaralParser#expression}.
+	 * @param ctx the parse tree
+	 */
+	void enterParen(SaralParser.ParenContext ctx);
+	/**
+	 * Exit a parse tree produced by the {@code Paren}
+	 * labeled alternative in {@link SaralParser#expression}.
+	 * @param ctx the parse tree
+	 */
+	void exitParen(SaralParser.ParenContext ctx);
+}
\ No newline at end of file
@@ -0,0 +1,2842 @@
+// Generated from Saral.g4 by ANTLR 4.7.1
+package com.pidanic.saral.grammar;
+import org.antlr.v4.runtime.atn.*;
+import org.antlr.v4.runtime.dfa.DFA;
+import org.antlr.v4.runtime.*;
+import org.antlr.v4.runtime.misc.*;
+import org.antlr.v4.runtime.tree.*;
+import java.util.List;
+import java.util.Iterator;
+import java.util.ArrayList;
+
+@SuppressWarnings({"all", "warnings", "unchecked", "unused", "cast"})
+public class SaralParser extends Parser {
+	static { RuntimeMetaData.checkVersion("4.7.1", RuntimeMetaData.VERSION); }
+
+	protected static final DFA[] _decisionToDFA;
+	protected static final PredictionContextCache _sharedContextCache =
+		new PredictionContextCache();
+	public static final int
+		T__0=1, T__1=2, T__2=3, T__3=4, T__4=5, T__5=6, INDENT=7, DEDENT=8, VARIABLE=9, 
+		CONST=10, ARRAY=11, WHILE=12, DO=13, FOR=14, FROM=15, TO=16, IF=17, THEN=18, 
+		ELSE=19, FUNCTION=20, RET=21, FUNC_CALL=22, PROC_CALL=23, LPAR=24, RPAR=25, 
+		LBRACK=26, RBRACK=27, AND=28, OR=29, NOT=30, ADD=31, SUB=32, MUL=33, DIV=34, 
+		MOD=35, EQ=36, NE=37, LE=38, GE=39, GT=40, LT=41, BOOL_T=42, INT_T=43, 
+		FLOAT_T=44, CHAR_T=45, STRING_T=46, BOOL=47, INT=48, FLOAT=49, STRING=50, 
+		CHAR=51, ID=52, LETTER=53, EMPTY_LINE=54, COMMENT=55, EOL=56, WS=57, NUMBER=58, 
+		DIGIT=59;
+	public static final int
+		RULE_init = 0, RULE_statements = 1, RULE_block = 2, RULE_func_block = 3, 
+		RULE_ret = 4, RULE_statement = 5, RULE_simple_statement = 6, RULE_block_statement = 7, 
+		RULE_var = 8, RULE_val = 9, RULE_assignment = 10, RULE_if_statement = 11, 
+		RULE_while_statement = 12, RULE_for_statement = 13, RULE_func_definition = 14, 
+		RULE_proc_definition = 15, RULE_func_call = 16, RULE_proc_call = 17, RULE_arglist = 18, 
+		RULE_paramlist = 19, RULE_read = 20, RULE_write = 21, RULE_read2 = 22, 
+		RULE_write2 = 23, RULE_var_definition = 24, RULE_var_declaration = 25, 
+		RULE_const_definition = 26, RULE_array_declaration = 27, RULE_type = 28, 
+		RULE_typeArray = 29, RULE_typeSimple = 30, RULE_typeBasic = 31, RULE_expression = 32;
+	public static final String[] ruleNames = {
+		"init", "statements", "block", "func_block", "ret", "statement", "simple_statement", 
+		"block_statement", "var", "val", "assignment", "if_statement", "while_statement", 
+		"for_statement", "func_definition", "proc_definition", "func_call", "proc_call", 
+		"arglist", "paramlist", "read", "write", "read2", "write2", "var_definition", 
+		"var_declaration", "const_definition", "array_declaration", "type", "typeArray", 
+		"typeSimple", "typeBasic", "expression"
+	};
+
+	private static final String[] _LITERAL_NAMES = {
+		null, "'='", "','", "'ve\u017Emi'", "'ciskaj'", "'sluchaj'", "'povidz'", 
+		"'__INDENT'", "'__DEDENT'", "'me\u0148ak'", "'furt'", null, "'k\u00FDm'", 
+		"'rob'", "'zrob s me\u0148akom'", "'od'", "'do'", "'ke\u010F'", "'potom'", 
+		"'inak'", "'bar'", "'vrac'", "'vrac mi z baru'", "'pa\u013E do baru'", 
+		"'('", "')'", "'['", "']'", "'a'", "'abo'", "'ne'", "'+'", "'-'", "'*'", 
+		null, "'%'", "'=='", "'<>'", "'<='", "'>='", "'>'", "'<'", "'logick\u00FD'", 
+		"'neskuto\u010Dn\u00E9 numeralio'", "'skuto\u010Dn\u00E9 numeralio'", 
+		"'p\u00EDsmeno'", "'slovo'"
+	};
+	private static final String[] _SYMBOLIC_NAMES = {
+		null, null, null, null, null, null, null, "INDENT", "DEDENT", "VARIABLE", 
+		"CONST", "ARRAY", "WHILE", "DO", "FOR", "FROM", "TO", "IF", "THEN", "ELSE", 
+		"FUNCTION", "RET", "FUNC_CALL", "PROC_CALL", "LPAR", "RPAR", "LBRACK", 
+		"RBRACK", "AND", "OR", "NOT", "ADD", "SUB", "MUL", "DIV", "MOD", "EQ", 
+		"NE", "LE", "GE", "GT", "LT", "BOOL_T", "INT_T", "FLOAT_T", "CHAR_T", 
+		"STRING_T", "BOOL", "INT", "FLOAT", "STRING", "CHAR", "ID", "LETTER", 
+		"EMPTY_LINE", "COMMENT", "EOL", "WS", "NUMBER", "DIGIT"
+	};
+	public static final Vocabulary VOCABULARY = new VocabularyImpl(_LITERAL_NAMES, _SYMBOLIC_NAMES);
+
+	/**
+	 * @deprecated Use {@link #VOCABULARY} instead.
+	 */
+	@Deprecated
+	public static final String[] tokenNames;
+	static {
+		tokenNames = new String[_SYMBOLIC_NAMES.length];
+		for (int i = 0; i < tokenNames.length; i++) {
+			tokenNames[i] = VOCABULARY.getLiteralName(i);
+			if (tokenNames[i] == null) {
+				tokenNames[i] = VOCABULARY.getSymbolicName(i);
+			}
+
+			if (tokenNames[i] == null) {
+				tokenNames[i] = "<INVALID>";
+			}
+		}
+	}
+
+	@Override
+	@Deprecated
+	public String[] getTokenNames() {
+		return tokenNames;
+	}
+
+	@Override
+
+	public Vocabulary getVocabulary() {
+		return VOCABULARY;
+	}
+
+	@Override
+	public String getGrammarFileName() { return "Saral.g4"; }
+
+	@Override
+	public String[] getRuleNames() { return ruleNames; }
+
+	@Override
+	public String getSerializedATN() { return _serializedATN; }
+
+	@Override
+	public ATN getATN() { return _ATN; }
+
+	public SaralParser(TokenStream input) {
+		super(input);
+		_interp = new ParserATNSimulator(this,_ATN,_decisionToDFA,_sharedContextCache);
+	}
+	public static class InitContext extends ParserRuleContext {
+		public StatementsContext statements() {
+			return getRuleContext(StatementsContext.class,0);
+		}
+		public InitContext(ParserRuleContext parent, int invokingState) {
+			super(parent, invokingState);
+		}
+		@Override public int getRuleIndex() { return RULE_init; }
+		@Override
+		public void enterRule(ParseTreeListener listener) {
+			if ( listener instanceof SaralListener ) ((SaralListener)listener).enterInit(this);
+		}
+		@Override
+		public void exitRule(ParseTreeListener listener) {
+			if ( listener instanceof SaralListener ) ((SaralListener)listener).exitInit(this);
+		}
+		@Override
+		public <T> T accept(ParseTreeVisitor<? extends T> visitor) {
+			if ( visitor instanceof SaralVisitor ) return ((SaralVisitor<? extends T>)visitor).visitInit(this);
+			else return visitor.visitChildren(this);
+		}
+	}
+
+	public final InitContext init() throws RecognitionException {
+		InitContext _localctx = new InitContext(_ctx, getState());
+		enterRule(_localctx, 0, RULE_init);
+		try {
+			enterOuterAlt(_localctx, 1);
+			{
+			setState(66);
+			statements();
+			}
+		}
+		catch (RecognitionException re) {
+			_localctx.exception = re;
+			_errHandler.reportError(this, re);
+			_errHandler.recover(this, re);
+		}
+		finally {
+			exitRule();
+		}
+		return _localctx;
+	}
+
+	public static class StatementsContext extends ParserRuleContext {
+		public List<StatementContext> statement() {
+			return getRuleContexts(StatementContext.class);
+		}
+		public StatementContext statement(int i) {
+			return getRuleContext(StatementContext.class,i);
+		}
+		public StatementsContext(ParserRuleContext parent, int invokingState) {
+			super(parent, invokingState);
+		}
+		@Override public int getRuleIndex() { return RULE_statements; }
+		@Override
+		public void enterRule(ParseTreeListener listener) {
+			if ( listener instanceof SaralListener ) ((SaralListener)listener).enterStatements(this);
+		}
+		@Override
+		public void exitRule(ParseTreeListener listener) {
+			if ( listener instanceof SaralListener ) ((SaralListener)listener).exitStatements(this);
+		}
+		@Override
+		public <T> T accept(ParseTreeVisitor<? extends T> visitor) {
+			if ( visitor instanceof SaralVisitor ) return ((SaralVisitor<? extends T>)visitor).visitStatements(this);
+			else return visitor.visitChildren(this);
+		}
+	}
+
+	public final StatementsContext statements() throws RecognitionException {
+		StatementsContext _localctx = new StatementsContext(_ctx, getState());
+		enterRule(_localctx, 2, RULE_statements);
+		int _la;
+		try {
+			enterOuterAlt(_localctx, 1);
+			{
+			setState(71);
+			_errHandler.sync(this);
+			_la = _input.LA(1);
+			while ((((_la) & ~0x3f) == 0 && ((1L << _la) & ((1L << T__2) | (1L << T__3) | (1L << T__4) | (1L << T__5) | (1L << INDENT) | (1L << VARIABLE) | (1L << CONST) | (1L << ARRAY) | (1L << WHILE) | (1L << FOR) | (1L << IF) | (1L << FUNCTION) | (1L << PROC_CALL) | (1L << ID))) != 0)) {
+				{
+				{
+				setState(68);
+				statement();
+				}
+				}
+				setState(73);
+				_errHandler.sync(this);
+				_la = _input.LA(1);
+			}
+			}
+		}
+		catch (RecognitionException re) {
+			_localctx.exception = re;
+			_errHandler.reportError(this, re);
+			_errHandler.recover(this, re);
+		}
+		finally {
+			exitRule();
+		}
+		return _localctx;
+	}
+
+	public static class BlockContext extends ParserRuleContext {
+		public TerminalNode INDENT() { return getToken(SaralParser.INDENT, 0); }
+		public StatementsContext statements() {
+			return getRuleContext(StatementsContext.class,0);
+		}
+		public TerminalNode DEDENT() { return getToken(SaralParser.DEDENT, 0); }
+		public BlockContext(ParserRuleContext parent, int invokingState) {
+			super(parent, invokingState);
+		}
+		@Override public int getRuleIndex() { return RULE_block; }
+		@Override
+		public void enterRule(ParseTreeListener listener) {
+			if ( listener instanceof SaralListener ) ((SaralListener)listener).enterBlock(this);
+		}
+		@Override
+		public void exitRule(ParseTreeListener listener) {
+			if ( listener instanceof SaralListener ) ((SaralListener)listener).exitBlock(this);
+		}
+		@Override
+		public <T> T accept(ParseTreeVisitor<? extends T> visitor) {
+			if ( visitor instanceof SaralVisitor ) return ((SaralVisitor<? extends T>)visitor).visitBlock(this);
+			else return visitor.visitChildren(this);
+		}
+	}
+
+	public final BlockContext block() throws RecognitionException {
+		BlockContext _localctx = new BlockContext(_ctx, getState());
+		enterRule(_localctx, 4, RULE_block);
+		try {
+			enterOuterAlt(_localctx, 1);
+			{
+			setState(74);
+			match(INDENT);
+			setState(75);
+			statements();
+			setState(76);
+			match(DEDENT);
+			}
+		}
+		catch (RecognitionException re) {
+			_localctx.exception = re;
+			_errHandler.reportError(this, re);
+			_errHandler.recover(this, re);
+		}
+		finally {
+			exitRule();
+		}
+		return _localctx;
+	}
+
+	public static class Func_blockContext extends ParserRuleContext {
+		public TerminalNode INDENT() { return getToken(SaralParser.INDENT, 0); }
+		public StatementsContext statements() {
+			return getRuleContext(StatementsContext.class,0);
+		}
+		public RetContext ret() {
+			return getRuleContext(RetContext.class,0);
+		}
+		public TerminalNode DEDENT() { return getToken(SaralParser.DEDENT, 0); }
+		public Func_blockContext(ParserRuleContext parent, int invokingState) {
+			super(parent, invokingState);
+		}
+		@Override public int getRuleIndex() { return RULE_func_block; }
+		@Override
+		public void enterRule(ParseTreeListener listener) {
+			if ( listener instanceof SaralListener ) ((SaralListener)listener).enterFunc_block(this);
+		}
+		@Override
+		public void exitRule(ParseTreeListener listener) {
+			if ( listener instanceof SaralListener ) ((SaralListener)listener).exitFunc_block(this);
+		}
+		@Override
+		public <T> T accept(ParseTreeVisitor<? extends T> visitor) {
+			if ( visitor instanceof SaralVisitor ) return ((SaralVisitor<? extends T>)visitor).visitFunc_block(this);
+			else return visitor.visitChildren(this);
+		}
+	}
+
+	public final Func_blockContext func_block() throws RecognitionException {
+		Func_blockContext _localctx = new Func_blockContext(_ctx, getState());
+		enterRule(_localctx, 6, RULE_func_block);
+		try {
+			enterOuterAlt(_localctx, 1);
+			{
+			setState(78);
+			match(INDENT);
+			setState(79);
+			statements();
+			setState(80);
+			ret();
+			setState(81);
+			match(DEDENT);
+			}
+		}
+		catch (RecognitionException re) {
+			_localctx.exception = re;
+			_errHandler.reportError(this, re);
+			_errHandler.recover(this, re);
+		}
+		finally {
+			exitRule();
+		}
+		return _localctx;
+	}
+
+	public static class RetContext extends ParserRuleContext {
+		public TerminalNode RET() { return getToken(SaralParser.RET, 0); }
+		public ExpressionContext expression() {
+			return getRuleContext(ExpressionContext.class,0);
+		}
+		public TerminalNode EOL() { return getToken(SaralParser.EOL, 0); }
+		public RetContext(ParserRuleContext parent, int invokingState) {
+			super(parent, invokingState);
+		}
+		@Override public int getRuleIndex() { return RULE_ret; }
+		@Override
+		public void enterRule(ParseTreeListener listener) {
+			if ( listener instanceof SaralListener ) ((SaralListener)listener).enterRet(this);
+		}
+		@Override
+		public void exitRule(ParseTreeListener listener) {
+			if ( listener instanceof SaralListener ) ((SaralListener)listener).exitRet(this);
+		}
+		@Override
+		public <T> T accept(ParseTreeVisitor<? extends T> visitor) {
+			if ( visitor instanceof SaralVisitor ) return ((SaralVisitor<? extends T>)visitor).visitRet(this);
+			else return visitor.visitChildren(this);
+		}
+	}
+
+	public final RetContext ret() throws RecognitionException {
+		RetContext _localctx = new RetContext(_ctx, getState());
+		enterRule(_localctx, 8, RULE_ret);
+		try {
+			enterOuterAlt(_localctx, 1);
+			{
+			setState(83);
+			match(RET);
+			setState(84);
+			expression(0);
+			setState(85);
+			match(EOL);
+			}
+		}
+		catch (RecognitionException re) {
+			_localctx.exception = re;
+			_errHandler.reportError(this, re);
+			_errHandler.recover(this, re);
+		}
+		finally {
+			exitRule();
+		}
+		return _localctx;
+	}
+
+	public static class StatementContext extends ParserRuleContext {
+		public Simple_statementContext simple_statement() {
+			return getRuleContext(Simple_statementContext.class,0);
+		}
+		public TerminalNode EOL() { return getToken(SaralParser.EOL, 0); }
+		public Block_statementContext block_statement() {
+			return getRuleContext(Block_statementContext.class,0);
+		}
+		public StatementContext(ParserRuleContext parent, int invokingState) {
+			super(parent, invokingState);
+		}
+		@Override public int getRuleIndex() { return RULE_statement; }
+		@Override
+		public void enterRule(ParseTreeListener listener) {
+			if ( listener instanceof SaralListener ) ((SaralListener)listener).enterStatement(this);
+		}
+		@Override
+		public void exitRule(ParseTreeListener listener) {
+			if ( listener instanceof SaralListener ) ((SaralListener)listener).exitStatement(this);
+		}
+		@Override
+		public <T> T accept(ParseTreeVisitor<? extends T> visitor) {
+			if ( visitor instanceof SaralVisitor ) return ((SaralVisitor<? extends T>)visitor).visitStatement(this);
+			else return visitor.visitChildren(this);
+		}
+	}
+
+	public final StatementContext statement() throws RecognitionException {
+		StatementContext _localctx = new StatementContext(_ctx, getState());
+		enterRule(_localctx, 10, RULE_statement);
+		int _la;
+		try {
+			setState(94);
+			_errHandler.sync(this);
+			switch (_input.LA(1)) {
+			case T__2:
+			case T__3:
+			case T__4:
+			case T__5:
+			case VARIABLE:
+			case CONST:
+			case ARRAY:
+			case PROC_CALL:
+			case ID:
+				enterOuterAlt(_localctx, 1);
+				{
+				setState(87);
+				simple_statement();
+				setState(88);
+				match(EOL);
+				}
+				break;
+			case INDENT:
+			case WHILE:
+			case FOR:
+			case IF:
+			case FUNCTION:
+				enterOuterAlt(_localctx, 2);
+				{
+				setState(90);
+				block_statement();
+				setState(92);
+				_errHandler.sync(this);
+				_la = _input.LA(1);
+				if (_la==EOL) {
+					{
+					setState(91);
+					match(EOL);
+					}
+				}
+
+				}
+				break;
+			default:
+				throw new NoViableAltException(this);
+			}
+		}
+		catch (RecognitionException re) {
+			_localctx.exception = re;
+			_errHandler.reportError(this, re);
+			_errHandler.recover(this, re);
+		}
+		finally {
+			exitRule();
+		}
+		return _localctx;
+	}
+
+	public static class Simple_statementContext extends ParserRuleContext {
+		public AssignmentContext assignment() {
+			return getRuleContext(AssignmentContext.class,0);
+		}
+		public Var_declarationContext var_declaration() {
+			return getRuleContext(Var_declarationContext.class,0);
+		}
+		public Var_definitionContext var_definition() {
+			return getRuleContext(Var_definitionContext.class,0);
+		}
+		public Const_definitionContext const_definition() {
+			return getRuleContext(Const_definitionContext.class,0);
+		}
+		public Array_declarationContext array_declaration() {
+			return getRuleContext(Array_declarationContext.class,0);
+		}
+		public Proc_callContext proc_call() {
+			return getRuleContext(Proc_callContext.class,0);
+		}
+		public WriteContext write() {
+			return getRuleContext(WriteContext.class,0);
+		}
+		public ReadContext read() {
+			return getRuleContext(ReadContext.class,0);
+		}
+		public Write2Context write2() {
+			return getRuleContext(Write2Context.class,0);
+		}
+		public Read2Context read2() {
+			return getRuleContext(Read2Context.class,0);
+		}
+		public Simple_statementContext(ParserRuleContext parent, int invokingState) {
+			super(parent, invokingState);
+		}
+		@Override public int getRuleIndex() { return RULE_simple_statement; }
+		@Override
+		public void enterRule(ParseTreeListener listener) {
+			if ( listener instanceof SaralListener ) ((SaralListener)listener).enterSimple_statement(this);
+		}
+		@Override
+		public void exitRule(ParseTreeListener listener) {
+			if ( listener instanceof SaralListener ) ((SaralListener)listener).exitSimple_statement(this);
+		}
+		@Override
+		public <T> T accept(ParseTreeVisitor<? extends T> visitor) {
+			if ( visitor instanceof SaralVisitor ) return ((SaralVisitor<? extends T>)visitor).visitSimple_statement(this);
+			else return visitor.visitChildren(this);
+		}
+	}
+
+	public final Simple_statementContext simple_statement() throws RecognitionException {
+		Simple_statementContext _localctx = new Simple_statementContext(_ctx, getState());
+		enterRule(_localctx, 12, RULE_simple_statement);
+		try {
+			setState(106);
+			_errHandler.sync(this);
+			switch ( getInterpreter().adaptivePredict(_input,3,_ctx) ) {
+			case 1:
+				enterOuterAlt(_localctx, 1);
+				{
+				setState(96);
+				assignment();
+				}
+				break;
+			case 2:
+				enterOuterAlt(_localctx, 2);
+				{
+				setState(97);
+				var_declaration();
+				}
+				break;
+			case 3:
+				enterOuterAlt(_localctx, 3);
+				{
+				setState(98);
+				var_definition();
+				}
+				break;
+			case 4:
+				enterOuterAlt(_localctx, 4);
+				{
+				setState(99);
+				const_definition();
+				}
+				break;
+			case 5:
+				enterOuterAlt(_localctx, 5);
+				{
+				setState(100);
+				array_declaration();
+				}
+				break;
+			case 6:
+				enterOuterAlt(_localctx, 6);
+				{
+				setState(101);
+				proc_call();
+				}
+				break;
+			case 7:
+				enterOuterAlt(_localctx, 7);
+				{
+				setState(102);
+				write();
+				}
+				break;
+			case 8:
+				enterOuterAlt(_localctx, 8);
+				{
+				setState(103);
+				read();
+				}
+				break;
+			case 9:
+				enterOuterAlt(_localctx, 9);
+				{
+				setState(104);
+				write2();
+				}
+				break;
+			case 10:
+				enterOuterAlt(_localctx, 10);
+				{
+				setState(105);
+				read2();
+				}
+				break;
+			}
+		}
+		catch (RecognitionException re) {
+			_localctx.exception = re;
+			_errHandler.reportError(this, re);
+			_errHandler.recover(this, re);
+		}
+		finally {
+			exitRule();
+		}
+		return _localctx;
+	}
+
+	public static class Block_statementContext extends ParserRuleContext {
+		public Func_definitionContext func_definition() {
+			return getRuleContext(Func_definitionContext.class,0);
+		}
+		public Proc_definitionContext proc_definition() {
+			return getRuleContext(Proc_definitionContext.class,0);
+		}
+		public If_statementContext if_statement() {
+			return getRuleContext(If_statementContext.class,0);
+		}
+		public While_statementContext while_statement() {
+			return getRuleContext(While_statementContext.class,0);
+		}
+		public For_statementContext for_statement() {
+			return getRuleContext(For_statementContext.class,0);
+		}
+		public BlockContext block() {
+			return getRuleContext(BlockContext.class,0);
+		}
+		public Block_statementContext(ParserRuleContext parent, int invokingState) {
+			super(parent, invokingState);
+		}
+		@Override public int getRuleIndex() { return RULE_block_statement; }
+		@Override
+		public void enterRule(ParseTreeListener listener) {
+			if ( listener instanceof SaralListener ) ((SaralListener)listener).enterBlock_statement(this);
+		}
+		@Override
+		public void exitRule(ParseTreeListener listener) {
+			if ( listener instanceof SaralListener ) ((SaralListener)listener).exitBlock_statement(this);
+		}
+		@Override
+		public <T> T accept(ParseTreeVisitor<? extends T> visitor) {
+			if ( visitor instanceof SaralVisitor ) return ((SaralVisitor<? extends T>)visitor).visitBlock_statement(this);
+			else return visitor.visitChildren(this);
+		}
+	}
+
+	public final Block_statementContext block_statement() throws RecognitionException {
+		Block_statementContext _localctx = new Block_statementContext(_ctx, getState());
+		enterRule(_localctx, 14, RULE_block_statement);
+		try {
+			setState(114);
+			_errHandler.sync(this);
+			switch ( getInterpreter().adaptivePredict(_input,4,_ctx) ) {
+			case 1:
+				enterOuterAlt(_localctx, 1);
+				{
+				setState(108);
+				func_definition();
+				}
+				break;
+			case 2:
+				enterOuterAlt(_localctx, 2);
+				{
+				setState(109);
+				proc_definition();
+				}
+				break;
+			case 3:
+				enterOuterAlt(_localctx, 3);
+				{
+				setState(110);
+				if_statement();
+				}
+				break;
+			case 4:
+				enterOuterAlt(_localctx, 4);
+				{
+				setState(111);
+				while_statement();
+				}
+				break;
+			case 5:
+				enterOuterAlt(_localctx, 5);
+				{
+				setState(112);
+				for_statement();
+				}
+				break;
+			case 6:
+				enterOuterAlt(_localctx, 6);
+				{
+				setState(113);
+				block();
+				}
+				break;
+			}
+		}
+		catch (RecognitionException re) {
+			_localctx.exception = re;
+			_errHandler.reportError(this, re);
+			_errHandler.recover(this, re);
+		}
+		finally {
+			exitRule();
+		}
+		return _localctx;
+	}
+
+	public static class VarContext extends ParserRuleContext {
+		public VarContext(ParserRuleContext parent, int invokingState) {
+			super(parent, invokingState);
+		}
+		@Override public int getRuleIndex() { return RULE_var; }
+	 
+		public VarContext() { }
+		public void copyFrom(VarContext ctx) {
+			super.copyFrom(ctx);
+		}
+	}
+	public static class VarArrayContext extends VarContext {
+		public TerminalNode ID() { return getToken(SaralParser.ID, 0); }
+		public TerminalNode LBRACK() { return getToken(SaralParser.LBRACK, 0); }
+		public ExpressionContext expression() {
+			return getRuleContext(ExpressionContext.class,0);
+		}
+		public TerminalNode RBRACK() { return getToken(SaralParser.RBRACK, 0); }
+		public VarArrayContext(VarContext ctx) { copyFrom(ctx); }
+		@Override
+		public void enterRule(ParseTreeListener listener) {
+			if ( listener instanceof SaralListener ) ((SaralListener)listener).enterVarArray(this);
+		}
+		@Override
+		public void exitRule(ParseTreeListener listener) {
+			if ( listener instanceof SaralListener ) ((SaralListener)listener).exitVarArray(this);
+		}
+		@Override
+		public <T> T accept(ParseTreeVisitor<? extends T> visitor) {
+			if ( visitor instanceof SaralVisitor ) return ((SaralVisitor<? extends T>)visitor).visitVarArray(this);
+			else return visitor.visitChildren(this);
+		}
+	}
+	public static class VarIDContext extends VarContext {
+		public TerminalNode ID() { return getToken(SaralParser.ID, 0); }
+		public VarIDContext(VarContext ctx) { copyFrom(ctx); }
+		@Override
+		public void enterRule(ParseTreeListener listener) {
+			if ( listener instanceof SaralListener ) ((SaralListener)listener).enterVarID(this);
+		}
+		@Override
+		public void exitRule(ParseTreeListener listener) {
+			if ( listener instanceof SaralListener ) ((SaralListener)listener).exitVarID(this);
+		}
+		@Override
+		public <T> T accept(ParseTreeVisitor<? extends T> visitor) {
+			if ( visitor instanceof SaralVisitor ) return ((SaralVisitor<? extends T>)visitor).visitVarID(this);
+			else return visitor.visitChildren(this);
+		}
+	}
+
+	public final VarContext var() throws RecognitionException {
+		VarContext _localctx = new VarContext(_ctx, getState());
+		enterRule(_localctx, 16, RULE_var);
+		try {
+			setState(122);
+			_errHandler.sync(this);
+			switch ( getInterpreter().adaptivePredict(_input,5,_ctx) ) {
+			case 1:
+				_localctx = new VarIDContext(_localctx);
+				enterOuterAlt(_localctx, 1);
+				{
+				setState(116);
+				match(ID);
+				}
+				break;
+			case 2:
+				_localctx = new VarArrayContext(_localctx);
+				enterOuterAlt(_localctx, 2);
+				{
+				setState(117);
+				match(ID);
+				setState(118);
+				match(LBRACK);
+				setState(119);
+				expression(0);
+				setState(120);
+				match(RBRACK);
+				}
+				break;
+			}
+		}
+		catch (RecognitionException re) {
+			_localctx.exception = re;
+			_errHandler.reportError(this, re);
+			_errHandler.recover(this, re);
+		}
+		finally {
+			exitRule();
+		}
+		return _localctx;
+	}
+
+	public static class ValContext extends ParserRuleContext {
+		public ValContext(ParserRuleContext parent, int invokingState) {
+			super(parent, invokingState);
+		}
+		@Override public int getRuleIndex() { return RULE_val; }
+	 
+		public ValContext() { }
+		public void copyFrom(ValContext ctx) {
+			super.copyFrom(ctx);
+		}
+	}
+	public static class ValFloatContext extends ValContext {
+		public TerminalNode FLOAT() { return getToken(SaralParser.FLOAT, 0); }
+		public ValFloatContext(ValContext ctx) { copyFrom(ctx); }
+		@Override
+		public void enterRule(ParseTreeListener listener) {
+			if ( listener instanceof SaralListener ) ((SaralListener)listener).enterValFloat(this);
+		}
+		@Override
+		public void exitRule(ParseTreeListener listener) {
+			if ( listener instanceof SaralListener ) ((SaralListener)listener).exitValFloat(this);
+		}
+		@Override
+		public <T> T accept(ParseTreeVisitor<? extends T> visitor) {
+			if ( visitor instanceof SaralVisitor ) return ((SaralVisitor<? extends T>)visitor).visitValFloat(this);
+			else return visitor.visitChildren(this);
+		}
+	}
+	public static class ValBoolContext extends ValContext {
+		public TerminalNode BOOL() { return getToken(SaralParser.BOOL, 0); }
+		public ValBoolContext(ValContext ctx) { copyFrom(ctx); }
+		@Override
+		public void enterRule(ParseTreeListener listener) {
+			if ( listener instanceof SaralListener ) ((SaralListener)listener).enterValBool(this);
+		}
+		@Override
+		public void exitRule(ParseTreeListener listener) {
+			if ( listener instanceof SaralListener ) ((SaralListener)listener).exitValBool(this);
+		}
+		@Override
+		public <T> T accept(ParseTreeVisitor<? extends T> visitor) {
+			if ( visitor instanceof SaralVisitor ) return ((SaralVisitor<? extends T>)visitor).visitValBool(this);
+			else return visitor.visitChildren(this);
+		}
+	}
+	public static class ValIntContext extends ValContext {
+		public TerminalNode INT() { return getToken(SaralParser.INT, 0); }
+		public ValIntContext(ValContext ctx) { copyFrom(ctx); }
+		@Override
+		public void enterRule(ParseTreeListener listener) {
+			if ( listener instanceof SaralListener ) ((SaralListener)listener).enterValInt(this);
+		}
+		@Override
+		public void exitRule(ParseTreeListener listener) {
+			if ( listener instanceof SaralListener ) ((SaralListener)listener).exitValInt(this);
+		}
+		@Override
+		public <T> T accept(ParseTreeVisitor<? extends T> visitor) {
+			if ( visitor instanceof SaralVisitor ) return ((SaralVisitor<? extends T>)visitor).visitValInt(this);
+			else return visitor.visitChildren(this);
+		}
+	}
+	public static class ValStringContext extends ValContext {
+		public TerminalNode STRING() { return getToken(SaralParser.STRING, 0); }
+		public ValStringContext(ValContext ctx) { copyFrom(ctx); }
+		@Override
+		public void enterRule(ParseTreeListener listener) {
+			if ( listener instanceof SaralListener ) ((SaralListener)listener).enterValString(this);
+		}
+		@Override
+		public void exitRule(ParseTreeListener listener) {
+			if ( listener instanceof SaralListener ) ((SaralListener)listener).exitValString(this);
+		}
+		@Override
+		public <T> T accept(ParseTreeVisitor<? extends T> visitor) {
+			if ( visitor instanceof SaralVisitor ) return ((SaralVisitor<? extends T>)visitor).visitValString(this);
+			else return visitor.visitChildren(this);
+		}
+	}
+	public static class ValCharContext extends ValContext {
+		public TerminalNode CHAR() { return getToken(SaralParser.CHAR, 0); }
+		public ValCharContext(ValContext ctx) { copyFrom(ctx); }
+		@Override
+		public void enterRule(ParseTreeListener listener) {
+			if ( listener instanceof SaralListener ) ((SaralListener)listener).enterValChar(this);
+		}
+		@Override
+		public void exitRule(ParseTreeListener listener) {
+			if ( listener instanceof SaralListener ) ((SaralListener)listener).exitValChar(this);
+		}
+		@Override
+		public <T> T accept(ParseTreeVisitor<? extends T> visitor) {
+			if ( visitor instanceof SaralVisitor ) return ((SaralVisitor<? extends T>)visitor).visitValChar(this);
+			else return visitor.visitChildren(this);
+		}
+	}
+	public static class ValVarContext extends ValContext {
+		public VarContext var() {
+			return getRuleContext(VarContext.class,0);
+		}
+		public ValVarContext(ValContext ctx) { copyFrom(ctx); }
+		@Override
+		public void enterRule(ParseTreeListener listener) {
+			if ( listener instanceof SaralListener ) ((SaralListener)listener).enterValVar(this);
+		}
+		@Override
+		public void exitRule(ParseTreeListener listener) {
+			if ( listener instanceof SaralListener ) ((SaralListener)listener).exitValVar(this);
+		}
+		@Override
+		public <T> T accept(ParseTreeVisitor<? extends T> visitor) {
+			if ( visitor instanceof SaralVisitor ) return ((SaralVisitor<? extends T>)visitor).visitValVar(this);
+			else return visitor.visitChildren(this);
+		}
+	}
+
+	public final ValContext val() throws RecognitionException {
+		ValContext _localctx = new ValContext(_ctx, getState());
+		enterRule(_localctx, 18, RULE_val);
+		try {
+			setState(130);
+			_errHandler.sync(this);
+			switch (_input.LA(1)) {
+			case ID:
+				_localctx = new ValVarContext(_localctx);
+				enterOuterAlt(_localctx, 1);
+				{
+				setState(124);
+				var();
+				}
+				break;
+			case INT:
+				_localctx = new ValIntContext(_localctx);
+				enterOuterAlt(_localctx, 2);
+				{
+				setState(125);
+				match(INT);
+				}
+				break;
+			case FLOAT:
+				_localctx = new ValFloatContext(_localctx);
+				enterOuterAlt(_localctx, 3);
+				{
+				setState(126);
+				match(FLOAT);
+				}
+				break;
+			case STRING:
+				_localctx = new ValStringContext(_localctx);
+				enterOuterAlt(_localctx, 4);
+				{
+				setState(127);
+				match(STRING);
+				}
+				break;
+			case CHAR:
+				_localctx = new ValCharContext(_localctx);
+				enterOuterAlt(_localctx, 5);
+				{
+				setState(128);
+				match(CHAR);
+				}
+				break;
+			case BOOL:
+				_localctx = new ValBoolContext(_localctx);
+				enterOuterAlt(_localctx, 6);
+				{
+				setState(129);
+				match(BOOL);
+				}
+				break;
+			default:
+				throw new NoViableAltException(this);
+			}
+		}
+		catch (RecognitionException re) {
+			_localctx.exception = re;
+			_errHandler.reportError(this, re);
+			_errHandler.recover(this, re);
+		}
+		finally {
+			exitRule();
+		}
+		return _localctx;
+	}
+
+	public static class AssignmentContext extends ParserRuleContext {
+		public VarContext var() {
+			return getRuleContext(VarContext.class,0);
+		}
+		public ExpressionContext expression() {
+			return getRuleContext(ExpressionContext.class,0);
+		}
+		public AssignmentContext(ParserRuleContext parent, int invokingState) {
+			super(parent, invokingState);
+		}
+		@Override public int getRuleIndex() { return RULE_assignment; }
+		@Override
+		public void enterRule(ParseTreeListener listener) {
+			if ( listener instanceof SaralListener ) ((SaralListener)listener).enterAssignment(this);
+		}
+		@Override
+		public void exitRule(ParseTreeListener listener) {
+			if ( listener instanceof SaralListener ) ((SaralListener)listener).exitAssignment(this);
+		}
+		@Override
+		public <T> T accept(ParseTreeVisitor<? extends T> visitor) {
+			if ( visitor instanceof SaralVisitor ) return ((SaralVisitor<? extends T>)visitor).visitAssignment(this);
+			else return visitor.visitChildren(this);
+		}
+	}
+
+	public final AssignmentContext assignment() throws RecognitionException {
+		AssignmentContext _localctx = new AssignmentContext(_ctx, getState());
+		enterRule(_localctx, 20, RULE_assignment);
+		try {
+			enterOuterAlt(_localctx, 1);
+			{
+			setState(132);
+			var();
+			setState(133);
+			match(T__0);
+			setState(134);
+			expression(0);
+			}
+		}
+		catch (RecognitionException re) {
+			_localctx.exception = re;
+			_errHandler.reportError(this, re);
+			_errHandler.recover(this, re);
+		}
+		finally {
+			exitRule();
+		}
+		return _localctx;
+	}
+
+	public static class If_statementContext extends ParserRuleContext {
+		public TerminalNode IF() { return getToken(SaralParser.IF, 0); }
+		public ExpressionContext expression() {
+			return getRuleContext(ExpressionContext.class,0);
+		}
+		public TerminalNode THEN() { return getToken(SaralParser.THEN, 0); }
+		public List<TerminalNode> EOL() { return getTokens(SaralParser.EOL); }
+		public TerminalNode EOL(int i) {
+			return getToken(SaralParser.EOL, i);
+		}
+		public List<BlockContext> block() {
+			return getRuleContexts(BlockContext.class);
+		}
+		public BlockContext block(int i) {
+			return getRuleContext(BlockContext.class,i);
+		}
+		public TerminalNode ELSE() { return getToken(SaralParser.ELSE, 0); }
+		public If_statementContext(ParserRuleContext parent, int invokingState) {
+			super(parent, invokingState);
+		}
+		@Override public int getRuleIndex() { return RULE_if_statement; }
+		@Override
+		public void enterRule(ParseTreeListener listener) {
+			if ( listener instanceof SaralListener ) ((SaralListener)listener).enterIf_statement(this);
+		}
+		@Override
+		public void exitRule(ParseTreeListener listener) {
+			if ( listener instanceof SaralListener ) ((SaralListener)listener).exitIf_statement(this);
+		}
+		@Override
+		public <T> T accept(ParseTreeVisitor<? extends T> visitor) {
+			if ( visitor instanceof SaralVisitor ) return ((SaralVisitor<? extends T>)visitor).visitIf_statement(this);
+			else return visitor.visitChildren(this);
+		}
+	}
+
+	public final If_statementContext if_statement() throws RecognitionException {
+		If_statementContext _localctx = new If_statementContext(_ctx, getState());
+		enterRule(_localctx, 22, RULE_if_statement);
+		int _la;
+		try {
+			enterOuterAlt(_localctx, 1);
+			{
+			setState(136);
+			match(IF);
+			setState(137);
+			expression(0);
+			setState(138);
+			match(THEN);
+			setState(139);
+			match(EOL);
+			setState(140);
+			block();
+			setState(144);
+			_errHandler.sync(this);
+			_la = _input.LA(1);
+			if (_la==ELSE) {
+				{
+				setState(141);
+				match(ELSE);
+				setState(142);
+				match(EOL);
+				setState(143);
+				block();
+				}
+			}
+
+			}
+		}
+		catch (RecognitionException re) {
+			_localctx.exception = re;
+			_errHandler.reportError(this, re);
+			_errHandler.recover(this, re);
+		}
+		finally {
+			exitRule();
+		}
+		return _localctx;
+	}
+
+	public static class While_statementContext extends ParserRuleContext {
+		public TerminalNode WHILE() { return getToken(SaralParser.WHILE, 0); }
+		public ExpressionContext expression() {
+			return getRuleContext(ExpressionContext.class,0);
+		}
+		public TerminalNode DO() { return getToken(SaralParser.DO, 0); }
+		public TerminalNode EOL() { return getToken(SaralParser.EOL, 0); }
+		public BlockContext block() {
+			return getRuleContext(BlockContext.class,0);
+		}
+		public While_statementContext(ParserRuleContext parent, int invokingState) {
+			super(parent, invokingState);
+		}
+		@Override public int getRuleIndex() { return RULE_while_statement; }
+		@Override
+		public void enterRule(ParseTreeListener listener) {
+			if ( listener instanceof SaralListener ) ((SaralListener)listener).enterWhile_statement(this);
+		}
+		@Override
+		public void exitRule(ParseTreeListener listener) {
+			if ( listener instanceof SaralListener ) ((SaralListener)listener).exitWhile_statement(this);
+		}
+		@Override
+		public <T> T accept(ParseTreeVisitor<? extends T> visitor) {
+			if ( visitor instanceof SaralVisitor ) return ((SaralVisitor<? extends T>)visitor).visitWhile_statement(this);
+			else return visitor.visitChildren(this);
+		}
+	}
+
+	public final While_statementContext while_statement() throws RecognitionException {
+		While_statementContext _localctx = new While_statementContext(_ctx, getState());
+		enterRule(_localctx, 24, RULE_while_statement);
+		try {
+			enterOuterAlt(_localctx, 1);
+			{
+			setState(146);
+			match(WHILE);
+			setState(147);
+			expression(0);
+			setState(148);
+			match(DO);
+			setState(149);
+			match(EOL);
+			setState(150);
+			block();
+			}
+		}
+		catch (RecognitionException re) {
+			_localctx.exception = re;
+			_errHandler.reportError(this, re);
+			_errHandler.recover(this, re);
+		}
+		finally {
+			exitRule();
+		}
+		return _localctx;
+	}
+
+	public static class For_statementContext extends ParserRuleContext {
+		public TerminalNode FOR() { return getToken(SaralParser.FOR, 0); }
+		public VarContext var() {
+			return getRuleContext(VarContext.class,0);
+		}
+		public TerminalNode FROM() { return getToken(SaralParser.FROM, 0); }
+		public List<ValContext> val() {
+			return getRuleContexts(ValContext.class);
+		}
+		public ValContext val(int i) {
+			return getRuleContext(ValContext.class,i);
+		}
+		public TerminalNode TO() { return getToken(SaralParser.TO, 0); }
+		public TerminalNode EOL() { return getToken(SaralParser.EOL, 0); }
+		public BlockContext block() {
+			return getRuleContext(BlockContext.class,0);
+		}
+		public For_statementContext(ParserRuleContext parent, int invokingState) {
+			super(parent, invokingState);
+		}
+		@Override public int getRuleIndex() { return RULE_for_statement; }
+		@Override
+		public void enterRule(ParseTreeListener listener) {
+			if ( listener instanceof SaralListener ) ((SaralListener)listener).enterFor_statement(this);
+		}
+		@Override
+		public void exitRule(ParseTreeListener listener) {
+			if ( listener instanceof SaralListener ) ((SaralListener)listener).exitFor_statement(this);
+		}
+		@Override
+		public <T> T accept(ParseTreeVisitor<? extends T> visitor) {
+			if ( visitor instanceof SaralVisitor ) return ((SaralVisitor<? extends T>)visitor).visitFor_statement(this);
+			else return visitor.visitChildren(this);
+		}
+	}
+
+	public final For_statementContext for_statement() throws RecognitionException {
+		For_statementContext _localctx = new For_statementContext(_ctx, getState());
+		enterRule(_localctx, 26, RULE_for_statement);
+		try {
+			enterOuterAlt(_localctx, 1);
+			{
+			setState(152);
+			match(FOR);
+			setState(153);
+			var();
+			setState(154);
+			match(FROM);
+			setState(155);
+			val();
+			setState(156);
+			match(TO);
+			setState(157);
+			val();
+			setState(158);
+			match(EOL);
+			setState(159);
+			block();
+			}
+		}
+		catch (RecognitionException re) {
+			_localctx.exception = re;
+			_errHandler.reportError(this, re);
+			_errHandler.recover(this, re);
+		}
+		finally {
+			exitRule();
+		}
+		return _localctx;
+	}
+
+	public static class Func_definitionContext extends ParserRuleContext {
+		public TerminalNode FUNCTION() { return getToken(SaralParser.FUNCTION, 0); }
+		public TypeBasicContext typeBasic() {
+			return getRuleContext(TypeBasicContext.class,0);
+		}
+		public TerminalNode ID() { return getToken(SaralParser.ID, 0); }
+		public TerminalNode LPAR() { return getToken(SaralParser.LPAR, 0); }
+		public ArglistContext arglist() {
+			return getRuleContext(ArglistContext.class,0);
+		}
+		public TerminalNode RPAR() { return getToken(SaralParser.RPAR, 0); }
+		public TerminalNode EOL() { return getToken(SaralParser.EOL, 0); }
+		public Func_blockContext func_block() {
+			return getRuleContext(Func_blockContext.class,0);
+		}
+		public Func_definitionContext(ParserRuleContext parent, int invokingState) {
+			super(parent, invokingState);
+		}
+		@Override public int getRuleIndex() { return RULE_func_definition; }
+		@Override
+		public void enterRule(ParseTreeListener listener) {
+			if ( listener instanceof SaralListener ) ((SaralListener)listener).enterFunc_definition(this);
+		}
+		@Override
+		public void exitRule(ParseTreeListener listener) {
+			if ( listener instanceof SaralListener ) ((SaralListener)listener).exitFunc_definition(this);
+		}
+		@Override
+		public <T> T accept(ParseTreeVisitor<? extends T> visitor) {
+			if ( visitor instanceof SaralVisitor ) return ((SaralVisitor<? extends T>)visitor).visitFunc_definition(this);
+			else return visitor.visitChildren(this);
+		}
+	}
+
+	public final Func_definitionContext func_definition() throws RecognitionException {
+		Func_definitionContext _localctx = new Func_definitionContext(_ctx, getState());
+		enterRule(_localctx, 28, RULE_func_definition);
+		try {
+			enterOuterAlt(_localctx, 1);
+			{
+			setState(161);
+			match(FUNCTION);
+			setState(162);
+			typeBasic();
+			setState(163);
+			match(ID);
+			setState(164);
+			match(LPAR);
+			setState(165);
+			arglist();
+			setState(166);
+			match(RPAR);
+			setState(167);
+			match(EOL);
+			setState(168);
+			func_block();
+			}
+		}
+		catch (RecognitionException re) {
+			_localctx.exception = re;
+			_errHandler.reportError(this, re);
+			_errHandler.recover(this, re);
+		}
+		finally {
+			exitRule();
+		}
+		return _localctx;
+	}
+
+	public static class Proc_definitionContext extends ParserRuleContext {
+		public TerminalNode FUNCTION() { return getToken(SaralParser.FUNCTION, 0); }
+		public TerminalNode ID() { return getToken(SaralParser.ID, 0); }
+		public TerminalNode LPAR() { return getToken(SaralParser.LPAR, 0); }
+		public ArglistContext arglist() {
+			return getRuleContext(ArglistContext.class,0);
+		}
+		public TerminalNode RPAR() { return getToken(SaralParser.RPAR, 0); }
+		public TerminalNode EOL() { return getToken(SaralParser.EOL, 0); }
+		public BlockContext block() {
+			return getRuleContext(BlockContext.class,0);
+		}
+		public Proc_definitionContext(ParserRuleContext parent, int invokingState) {
+			super(parent, invokingState);
+		}
+		@Override public int getRuleIndex() { return RULE_proc_definition; }
+		@Override
+		public void enterRule(ParseTreeListener listener) {
+			if ( listener instanceof SaralListener ) ((SaralListener)listener).enterProc_definition(this);
+		}
+		@Override
+		public void exitRule(ParseTreeListener listener) {
+			if ( listener instanceof SaralListener ) ((SaralListener)listener).exitProc_definition(this);
+		}
+		@Override
+		public <T> T accept(ParseTreeVisitor<? extends T> visitor) {
+			if ( visitor instanceof SaralVisitor ) return ((SaralVisitor<? extends T>)visitor).visitProc_definition(this);
+			else return visitor.visitChildren(this);
+		}
+	}
+
+	public final Proc_definitionContext proc_definition() throws RecognitionException {
+		Proc_definitionContext _localctx = new Proc_definitionContext(_ctx, getState());
+		enterRule(_localctx, 30, RULE_proc_definition);
+		try {
+			enterOuterAlt(_localctx, 1);
+			{
+			setState(170);
+			match(FUNCTION);
+			setState(171);
+			match(ID);
+			setState(172);
+			match(LPAR);
+			setState(173);
+			arglist();
+			setState(174);
+			match(RPAR);
+			setState(175);
+			match(EOL);
+			setState(176);
+			block();
+			}
+		}
+		catch (RecognitionException re) {
+			_localctx.exception = re;
+			_errHandler.reportError(this, re);
+			_errHandler.recover(this, re);
+		}
+		finally {
+			exitRule();
+		}
+		return _localctx;
+	}
+
+	public static class Func_callContext extends ParserRuleContext {
+		public TerminalNode FUNC_CALL() { return getToken(SaralParser.FUNC_CALL, 0); }
+		public TerminalNode ID() { return getToken(SaralParser.ID, 0); }
+		public TerminalNode LPAR() { return getToken(SaralParser.LPAR, 0); }
+		public ParamlistContext paramlist() {
+			return getRuleContext(ParamlistContext.class,0);
+		}
+		public TerminalNode RPAR() { return getToken(SaralParser.RPAR, 0); }
+		public Func_callContext(ParserRuleContext parent, int invokingState) {
+			super(parent, invokingState);
+		}
+		@Override public int getRuleIndex() { return RULE_func_call; }
+		@Override
+		public void enterRule(ParseTreeListener listener) {
+			if ( listener instanceof SaralListener ) ((SaralListener)listener).enterFunc_call(this);
+		}
+		@Override
+		public void exitRule(ParseTreeListener listener) {
+			if ( listener instanceof SaralListener ) ((SaralListener)listener).exitFunc_call(this);
+		}
+		@Override
+		public <T> T accept(ParseTreeVisitor<? extends T> visitor) {
+			if ( visitor instanceof SaralVisitor ) return ((SaralVisitor<? extends T>)visitor).visitFunc_call(this);
+			else return visitor.visitChildren(this);
+		}
+	}
+
+	public final Func_callContext func_call() throws RecognitionException {
+		Func_callContext _localctx = new Func_callContext(_ctx, getState());
+		enterRule(_localctx, 32, RULE_func_call);
+		try {
+			enterOuterAlt(_localctx, 1);
+			{
+			setState(178);
+			match(FUNC_CALL);
+			setState(179);
+			match(ID);
+			setState(180);
+			match(LPAR);
+			setState(181);
+			paramlist();
+			setState(182);
+			match(RPAR);
+			}
+		}
+		catch (RecognitionException re) {
+			_localctx.exception = re;
+			_errHandler.reportError(this, re);
+			_errHandler.recover(this, re);
+		}
+		finally {
+			exitRule();
+		}
+		return _localctx;
+	}
+
+	public static class Proc_callContext extends ParserRuleContext {
+		public TerminalNode PROC_CALL() { return getToken(SaralParser.PROC_CALL, 0); }
+		public TerminalNode ID() { return getToken(SaralParser.ID, 0); }
+		public TerminalNode LPAR() { return getToken(SaralParser.LPAR, 0); }
+		public ParamlistContext paramlist() {
+			return getRuleContext(ParamlistContext.class,0);
+		}
+		public TerminalNode RPAR() { return getToken(SaralParser.RPAR, 0); }
+		public Proc_callContext(ParserRuleContext parent, int invokingState) {
+			super(parent, invokingState);
+		}
+		@Override public int getRuleIndex() { return RULE_proc_call; }
+		@Override
+		public void enterRule(ParseTreeListener listener) {
+			if ( listener instanceof SaralListener ) ((SaralListener)listener).enterProc_call(this);
+		}
+		@Override
+		public void exitRule(ParseTreeListener listener) {
+			if ( listener instanceof SaralListener ) ((SaralListener)listener).exitProc_call(this);
+		}
+		@Override
+		public <T> T accept(ParseTreeVisitor<? extends T> visitor) {
+			if ( visitor instanceof SaralVisitor ) return ((SaralVisitor<? extends T>)visitor).visitProc_call(this);
+			else return visitor.visitChildren(this);
+		}
+	}
+
+	public final Proc_callContext proc_call() throws RecognitionException {
+		Proc_callContext _localctx = new Proc_callContext(_ctx, getState());
+		enterRule(_localctx, 34, RULE_proc_call);
+		try {
+			enterOuterAlt(_localctx, 1);
+			{
+			setState(184);
+			match(PROC_CALL);
+			setState(185);
+			match(ID);
+			setState(186);
+			match(LPAR);
+			setState(187);
+			paramlist();
+			setState(188);
+			match(RPAR);
+			}
+		}
+		catch (RecognitionException re) {
+			_localctx.exception = re;
+			_errHandler.reportError(this, re);
+			_errHandler.recover(this, re);
+		}
+		finally {
+			exitRule();
+		}
+		return _localctx;
+	}
+
+	public static class ArglistContext extends ParserRuleContext {
+		public List<TypeContext> type() {
+			return getRuleContexts(TypeContext.class);
+		}
+		public TypeContext type(int i) {
+			return getRuleContext(TypeContext.class,i);
+		}
+		public List<TerminalNode> ID() { return getTokens(SaralParser.ID); }
+		public TerminalNode ID(int i) {
+			return getToken(SaralParser.ID, i);
+		}
+		public ArglistContext(ParserRuleContext parent, int invokingState) {
+			super(parent, invokingState);
+		}
+		@Override public int getRuleIndex() { return RULE_arglist; }
+		@Override
+		public void enterRule(ParseTreeListener listener) {
+			if ( listener instanceof SaralListener ) ((SaralListener)listener).enterArglist(this);
+		}
+		@Override
+		public void exitRule(ParseTreeListener listener) {
+			if ( listener instanceof SaralListener ) ((SaralListener)listener).exitArglist(this);
+		}
+		@Override
+		public <T> T accept(ParseTreeVisitor<? extends T> visitor) {
+			if ( visitor instanceof SaralVisitor ) return ((SaralVisitor<? extends T>)visitor).visitArglist(this);
+			else return visitor.visitChildren(this);
+		}
+	}
+
+	public final ArglistContext arglist() throws RecognitionException {
+		ArglistContext _localctx = new ArglistContext(_ctx, getState());
+		enterRule(_localctx, 36, RULE_arglist);
+		int _la;
+		try {
+			enterOuterAlt(_localctx, 1);
+			{
+			setState(201);
+			_errHandler.sync(this);
+			_la = _input.LA(1);
+			if ((((_la) & ~0x3f) == 0 && ((1L << _la) & ((1L << ARRAY) | (1L << BOOL_T) | (1L << INT_T) | (1L << FLOAT_T) | (1L << CHAR_T) | (1L << STRING_T))) != 0)) {
+				{
+				setState(190);
+				type();
+				setState(191);
+				match(ID);
+				setState(198);
+				_errHandler.sync(this);
+				_la = _input.LA(1);
+				while (_la==T__1) {
+					{
+					{
+					setState(192);
+					match(T__1);
+					setState(193);
+					type();
+					setState(194);
+					match(ID);
+					}
+					}
+					setState(200);
+					_errHandler.sync(this);
+					_la = _input.LA(1);
+				}
+				}
+			}
+
+			}
+		}
+		catch (RecognitionException re) {
+			_localctx.exception = re;
+			_errHandler.reportError(this, re);
+			_errHandler.recover(this, re);
+		}
+		finally {
+			exitRule();
+		}
+		return _localctx;
+	}
+
+	public static class ParamlistContext extends ParserRuleContext {
+		public List<VarContext> var() {
+			return getRuleContexts(VarContext.class);
+		}
+		public VarContext var(int i) {
+			return getRuleContext(VarContext.class,i);
+		}
+		public ParamlistContext(ParserRuleContext parent, int invokingState) {
+			super(parent, invokingState);
+		}
+		@Override public int getRuleIndex() { return RULE_paramlist; }
+		@Override
+		public void enterRule(ParseTreeListener listener) {
+			if ( listener instanceof SaralListener ) ((SaralListener)listener).enterParamlist(this);
+		}
+		@Override
+		public void exitRule(ParseTreeListener listener) {
+			if ( listener instanceof SaralListener ) ((SaralListener)listener).exitParamlist(this);
+		}
+		@Override
+		public <T> T accept(ParseTreeVisitor<? extends T> visitor) {
+			if ( visitor instanceof SaralVisitor ) return ((SaralVisitor<? extends T>)visitor).visitParamlist(this);
+			else return visitor.visitChildren(this);
+		}
+	}
+
+	public final ParamlistContext paramlist() throws RecognitionException {
+		ParamlistContext _localctx = new ParamlistContext(_ctx, getState());
+		enterRule(_localctx, 38, RULE_paramlist);
+		int _la;
+		try {
+			enterOuterAlt(_localctx, 1);
+			{
+			setState(211);
+			_errHandler.sync(this);
+			_la = _input.LA(1);
+			if (_la==ID) {
+				{
+				setState(203);
+				var();
+				setState(208);
+				_errHandler.sync(this);
+				_la = _input.LA(1);
+				while (_la==T__1) {
+					{
+					{
+					setState(204);
+					match(T__1);
+					setState(205);
+					var();
+					}
+					}
+					setState(210);
+					_errHandler.sync(this);
+					_la = _input.LA(1);
+				}
+				}
+			}
+
+			}
+		}
+		catch (RecognitionException re) {
+			_localctx.exception = re;
+			_errHandler.reportError(this, re);
+			_errHandler.recover(this, re);
+		}
+		finally {
+			exitRule();
+		}
+		return _localctx;
+	}
+
+	public static class ReadContext extends ParserRuleContext {
+		public VarContext var() {
+			return getRuleContext(VarContext.class,0);
+		}
+		public ReadContext(ParserRuleContext parent, int invokingState) {
+			super(parent, invokingState);
+		}
+		@Override public int getRuleIndex() { return RULE_read; }
+		@Override
+		public void enterRule(ParseTreeListener listener) {
+			if ( listener instanceof SaralListener ) ((SaralListener)listener).enterRead(this);
+		}
+		@Override
+		public void exitRule(ParseTreeListener listener) {
+			if ( listener instanceof SaralListener ) ((SaralListener)listener).exitRead(this);
+		}
+		@Override
+		public <T> T accept(ParseTreeVisitor<? extends T> visitor) {
+			if ( visitor instanceof SaralVisitor ) return ((SaralVisitor<? extends T>)visitor).visitRead(this);
+			else return visitor.visitChildren(this);
+		}
+	}
+
+	public final ReadContext read() throws RecognitionException {
+		ReadContext _localctx = new ReadContext(_ctx, getState());
+		enterRule(_localctx, 40, RULE_read);
+		try {
+			enterOuterAlt(_localctx, 1);
+			{
+			setState(213);
+			match(T__2);
+			setState(214);
+			var();
+			}
+		}
+		catch (RecognitionException re) {
+			_localctx.exception = re;
+			_errHandler.reportError(this, re);
+			_errHandler.recover(this, re);
+		}
+		finally {
+			exitRule();
+		}
+		return _localctx;
+	}
+
+	public static class WriteContext extends ParserRuleContext {
+		public VarContext var() {
+			return getRuleContext(VarContext.class,0);
+		}
+		public WriteContext(ParserRuleContext parent, int invokingState) {
+			super(parent, invokingState);
+		}
+		@Override public int getRuleIndex() { return RULE_write; }
+		@Override
+		public void enterRule(ParseTreeListener listener) {
+			if ( listener instanceof SaralListener ) ((SaralListener)listener).enterWrite(this);
+		}
+		@Override
+		public void exitRule(ParseTreeListener listener) {
+			if ( listener instanceof SaralListener ) ((SaralListener)listener).exitWrite(this);
+		}
+		@Override
+		public <T> T accept(ParseTreeVisitor<? extends T> visitor) {
+			if ( visitor instanceof SaralVisitor ) return ((SaralVisitor<? extends T>)visitor).visitWrite(this);
+			else return visitor.visitChildren(this);
+		}
+	}
+
+	public final WriteContext write() throws RecognitionException {
+		WriteContext _localctx = new WriteContext(_ctx, getState());
+		enterRule(_localctx, 42, RULE_write);
+		try {
+			enterOuterAlt(_localctx, 1);
+			{
+			setState(216);
+			match(T__3);
+			setState(217);
+			var();
+			}
+		}
+		catch (RecognitionException re) {
+			_localctx.exception = re;
+			_errHandler.reportError(this, re);
+			_errHandler.recover(this, re);
+		}
+		finally {
+			exitRule();
+		}
+		return _localctx;
+	}
+
+	public static class Read2Context extends ParserRuleContext {
+		public VarContext var() {
+			return getRuleContext(VarContext.class,0);
+		}
+		public Read2Context(ParserRuleContext parent, int invokingState) {
+			super(parent, invokingState);
+		}
+		@Override public int getRuleIndex() { return RULE_read2; }
+		@Override
+		public void enterRule(ParseTreeListener listener) {
+			if ( listener instanceof SaralListener ) ((SaralListener)listener).enterRead2(this);
+		}
+		@Override
+		public void exitRule(ParseTreeListener listener) {
+			if ( listener instanceof SaralListener ) ((SaralListener)listener).exitRead2(this);
+		}
+		@Override
+		public <T> T accept(ParseTreeVisitor<? extends T> visitor) {
+			if ( visitor instanceof SaralVisitor ) return ((SaralVisitor<? extends T>)visitor).visitRead2(this);
+			else return visitor.visitChildren(this);
+		}
+	}
+
+	public final Read2Context read2() throws RecognitionException {
+		Read2Context _localctx = new Read2Context(_ctx, getState());
+		enterRule(_localctx, 44, RULE_read2);
+		try {
+			enterOuterAlt(_localctx, 1);
+			{
+			setState(219);
+			match(T__4);
+			setState(220);
+			var();
+			}
+		}
+		catch (RecognitionException re) {
+			_localctx.exception = re;
+			_errHandler.reportError(this, re);
+			_errHandler.recover(this, re);
+		}
+		finally {
+			exitRule();
+		}
+		return _localctx;
+	}
+
+	public static class Write2Context extends ParserRuleContext {
+		public VarContext var() {
+			return getRuleContext(VarContext.class,0);
+		}
+		public Write2Context(ParserRuleContext parent, int invokingState) {
+			super(parent, invokingState);
+		}
+		@Override public int getRuleIndex() { return RULE_write2; }
+		@Override
+		public void enterRule(ParseTreeListener listener) {
+			if ( listener instanceof SaralListener ) ((SaralListener)listener).enterWrite2(this);
+		}
+		@Override
+		public void exitRule(ParseTreeListener listener) {
+			if ( listener instanceof SaralListener ) ((SaralListener)listener).exitWrite2(this);
+		}
+		@Override
+		public <T> T accept(ParseTreeVisitor<? extends T> visitor) {
+			if ( visitor instanceof SaralVisitor ) return ((SaralVisitor<? extends T>)visitor).visitWrite2(this);
+			else return visitor.visitChildren(this);
+		}
+	}
+
+	public final Write2Context write2() throws RecognitionException {
+		Write2Context _localctx = new Write2Context(_ctx, getState());
+		enterRule(_localctx, 46, RULE_write2);
+		try {
+			enterOuterAlt(_localctx, 1);
+			{
+			setState(222);
+			match(T__5);
+			setState(223);
+			var();
+			}
+		}
+		catch (RecognitionException re) {
+			_localctx.exception = re;
+			_errHandler.reportError(this, re);
+			_errHandler.recover(this, re);
+		}
+		finally {
+			exitRule();
+		}
+		return _localctx;
+	}
+
+	public static class Var_definitionContext extends ParserRuleContext {
+		public TerminalNode VARIABLE() { return getToken(SaralParser.VARIABLE, 0); }
+		public TypeContext type() {
+			return getRuleContext(TypeContext.class,0);
+		}
+		public TerminalNode ID() { return getToken(SaralParser.ID, 0); }
+		public ExpressionContext expression() {
+			return getRuleContext(ExpressionContext.class,0);
+		}
+		public Var_definitionContext(ParserRuleContext parent, int invokingState) {
+			super(parent, invokingState);
+		}
+		@Override public int getRuleIndex() { return RULE_var_definition; }
+		@Override
+		public void enterRule(ParseTreeListener listener) {
+			if ( listener instanceof SaralListener ) ((SaralListener)listener).enterVar_definition(this);
+		}
+		@Override
+		public void exitRule(ParseTreeListener listener) {
+			if ( listener instanceof SaralListener ) ((SaralListener)listener).exitVar_definition(this);
+		}
+		@Override
+		public <T> T accept(ParseTreeVisitor<? extends T> visitor) {
+			if ( visitor instanceof SaralVisitor ) return ((SaralVisitor<? extends T>)visitor).visitVar_definition(this);
+			else return visitor.visitChildren(this);
+		}
+	}
+
+	public final Var_definitionContext var_definition() throws RecognitionException {
+		Var_definitionContext _localctx = new Var_definitionContext(_ctx, getState());
+		enterRule(_localctx, 48, RULE_var_definition);
+		try {
+			enterOuterAlt(_localctx, 1);
+			{
+			setState(225);
+			match(VARIABLE);
+			setState(226);
+			type();
+			setState(227);
+			match(ID);
+			setState(228);
+			match(T__0);
+			setState(229);
+			expression(0);
+			}
+		}
+		catch (RecognitionException re) {
+			_localctx.exception = re;
+			_errHandler.reportError(this, re);
+			_errHandler.recover(this, re);
+		}
+		finally {
+			exitRule();
+		}
+		return _localctx;
+	}
+
+	public static class Var_declarationContext extends ParserRuleContext {
+		public TerminalNode VARIABLE() { return getToken(SaralParser.VARIABLE, 0); }
+		public TypeContext type() {
+			return getRuleContext(TypeContext.class,0);
+		}
+		public TerminalNode ID() { return getToken(SaralParser.ID, 0); }
+		public Var_declarationContext(ParserRuleContext parent, int invokingState) {
+			super(parent, invokingState);
+		}
+		@Override public int getRuleIndex() { return RULE_var_declaration; }
+		@Override
+		public void enterRule(ParseTreeListener listener) {
+			if ( listener instanceof SaralListener ) ((SaralListener)listener).enterVar_declaration(this);
+		}
+		@Override
+		public void exitRule(ParseTreeListener listener) {
+			if ( listener instanceof SaralListener ) ((SaralListener)listener).exitVar_declaration(this);
+		}
+		@Override
+		public <T> T accept(ParseTreeVisitor<? extends T> visitor) {
+			if ( visitor instanceof SaralVisitor ) return ((SaralVisitor<? extends T>)visitor).visitVar_declaration(this);
+			else return visitor.visitChildren(this);
+		}
+	}
+
+	public final Var_declarationContext var_declaration() throws RecognitionException {
+		Var_declarationContext _localctx = new Var_declarationContext(_ctx, getState());
+		enterRule(_localctx, 50, RULE_var_declaration);
+		try {
+			enterOuterAlt(_localctx, 1);
+			{
+			setState(231);
+			match(VARIABLE);
+			setState(232);
+			type();
+			setState(233);
+			match(ID);
+			}
+		}
+		catch (RecognitionException re) {
+			_localctx.exception = re;
+			_errHandler.reportError(this, re);
+			_errHandler.recover(this, re);
+		}
+		finally {
+			exitRule();
+		}
+		return _localctx;
+	}
+
+	public static class Const_definitionContext extends ParserRuleContext {
+		public TerminalNode CONST() { return getToken(SaralParser.CONST, 0); }
+		public TypeContext type() {
+			return getRuleContext(TypeContext.class,0);
+		}
+		public TerminalNode ID() { return getToken(SaralParser.ID, 0); }
+		public ExpressionContext expression() {
+			return getRuleContext(ExpressionContext.class,0);
+		}
+		public Const_definitionContext(ParserRuleContext parent, int invokingState) {
+			super(parent, invokingState);
+		}
+		@Override public int getRuleIndex() { return RULE_const_definition; }
+		@Override
+		public void enterRule(ParseTreeListener listener) {
+			if ( listener instanceof SaralListener ) ((SaralListener)listener).enterConst_definition(this);
+		}
+		@Override
+		public void exitRule(ParseTreeListener listener) {
+			if ( listener instanceof SaralListener ) ((SaralListener)listener).exitConst_definition(this);
+		}
+		@Override
+		public <T> T accept(ParseTreeVisitor<? extends T> visitor) {
+			if ( visitor instanceof SaralVisitor ) return ((SaralVisitor<? extends T>)visitor).visitConst_definition(this);
+			else return visitor.visitChildren(this);
+		}
+	}
+
+	public final Const_definitionContext const_definition() throws RecognitionException {
+		Const_definitionContext _localctx = new Const_definitionContext(_ctx, getState());
+		enterRule(_localctx, 52, RULE_const_definition);
+		try {
+			enterOuterAlt(_localctx, 1);
+			{
+			setState(235);
+			match(CONST);
+			setState(236);
+			type();
+			setState(237);
+			match(ID);
+			setState(238);
+			match(T__0);
+			setState(239);
+			expression(0);
+			}
+		}
+		catch (RecognitionException re) {
+			_localctx.exception = re;
+			_errHandler.reportError(this, re);
+			_errHandler.recover(this, re);
+		}
+		finally {
+			exitRule();
+		}
+		return _localctx;
+	}
+
+	public static class Array_declarationContext extends ParserRuleContext {
+		public TypeArrayContext typeArray() {
+			return getRuleContext(TypeArrayContext.class,0);
+		}
+		public TerminalNode ID() { return getToken(SaralParser.ID, 0); }
+		public TerminalNode LBRACK() { return getToken(SaralParser.LBRACK, 0); }
+		public ExpressionContext expression() {
+			return getRuleContext(ExpressionContext.class,0);
+		}
+		public TerminalNode RBRACK() { return getToken(SaralParser.RBRACK, 0); }
+		public Array_declarationContext(ParserRuleContext parent, int invokingState) {
+			super(parent, invokingState);
+		}
+		@Override public int getRuleIndex() { return RULE_array_declaration; }
+		@Override
+		public void enterRule(ParseTreeListener listener) {
+			if ( listener instanceof SaralListener ) ((SaralListener)listener).enterArray_declaration(this);
+		}
+		@Override
+		public void exitRule(ParseTreeListener listener) {
+			if ( listener instanceof SaralListener ) ((SaralListener)listener).exitArray_declaration(this);
+		}
+		@Override
+		public <T> T accept(ParseTreeVisitor<? extends T> visitor) {
+			if ( visitor instanceof SaralVisitor ) return ((SaralVisitor<? extends T>)visitor).visitArray_declaration(this);
+			else return visitor.visitChildren(this);
+		}
+	}
+
+	public final Array_declarationContext array_declaration() throws RecognitionException {
+		Array_declarationContext _localctx = new Array_declarationContext(_ctx, getState());
+		enterRule(_localctx, 54, RULE_array_declaration);
+		try {
+			enterOuterAlt(_localctx, 1);
+			{
+			setState(241);
+			typeArray();
+			setState(242);
+			match(ID);
+			setState(243);
+			match(LBRACK);
+			setState(244);
+			expression(0);
+			setState(245);
+			match(RBRACK);
+			}
+		}
+		catch (RecognitionException re) {
+			_localctx.exception = re;
+			_errHandler.reportError(this, re);
+			_errHandler.recover(this, re);
+		}
+		finally {
+			exitRule();
+		}
+		return _localctx;
+	}
+
+	public static class TypeContext extends ParserRuleContext {
+		public TypeArrayContext typeArray() {
+			return getRuleContext(TypeArrayContext.class,0);
+		}
+		public TypeBasicContext typeBasic() {
+			return getRuleContext(TypeBasicContext.class,0);
+		}
+		public TypeContext(ParserRuleContext parent, int invokingState) {
+			super(parent, invokingState);
+		}
+		@Override public int getRuleIndex() { return RULE_type; }
+		@Override
+		public void enterRule(ParseTreeListener listener) {
+			if ( listener instanceof SaralListener ) ((SaralListener)listener).enterType(this);
+		}
+		@Override
+		public void exitRule(ParseTreeListener listener) {
+			if ( listener instanceof SaralListener ) ((SaralListener)listener).exitType(this);
+		}
+		@Override
+		public <T> T accept(ParseTreeVisitor<? extends T> visitor) {
+			if ( visitor instanceof SaralVisitor ) return ((SaralVisitor<? extends T>)visitor).visitType(this);
+			else return visitor.visitChildren(this);
+		}
+	}
+
+	public final TypeContext type() throws RecognitionException {
+		TypeContext _localctx = new TypeContext(_ctx, getState());
+		enterRule(_localctx, 56, RULE_type);
+		try {
+			setState(249);
+			_errHandler.sync(this);
+			switch (_input.LA(1)) {
+			case ARRAY:
+				enterOuterAlt(_localctx, 1);
+				{
+				setState(247);
+				typeArray();
+				}
+				break;
+			case BOOL_T:
+			case INT_T:
+			case FLOAT_T:
+			case CHAR_T:
+			case STRING_T:
+				enterOuterAlt(_localctx, 2);
+				{
+				setState(248);
+				typeBasic();
+				}
+				break;
+			default:
+				throw new NoViableAltException(this);
+			}
+		}
+		catch (RecognitionException re) {
+			_localctx.exception = re;
+			_errHandler.reportError(this, re);
+			_errHandler.recover(this, re);
+		}
+		finally {
+			exitRule();
+		}
+		return _localctx;
+	}
+
+	public static class TypeArrayContext extends ParserRuleContext {
+		public TerminalNode ARRAY() { return getToken(SaralParser.ARRAY, 0); }
+		public TypeBasicContext typeBasic() {
+			return getRuleContext(TypeBasicContext.class,0);
+		}
+		public TypeArrayContext(ParserRuleContext parent, int invokingState) {
+			super(parent, invokingState);
+		}
+		@Override public int getRuleIndex() { return RULE_typeArray; }
+		@Override
+		public void enterRule(ParseTreeListener listener) {
+			if ( listener instanceof SaralListener ) ((SaralListener)listener).enterTypeArray(this);
+		}
+		@Override
+		public void exitRule(ParseTreeListener listener) {
+			if ( listener instanceof SaralListener ) ((SaralListener)listener).exitTypeArray(this);
+		}
+		@Override
+		public <T> T accept(ParseTreeVisitor<? extends T> visitor) {
+			if ( visitor instanceof SaralVisitor ) return ((SaralVisitor<? extends T>)visitor).visitTypeArray(this);
+			else return visitor.visitChildren(this);
+		}
+	}
+
+	public final TypeArrayContext typeArray() throws RecognitionException {
+		TypeArrayContext _localctx = new TypeArrayContext(_ctx, getState());
+		enterRule(_localctx, 58, RULE_typeArray);
+		try {
+			enterOuterAlt(_localctx, 1);
+			{
+			setState(251);
+			match(ARRAY);
+			setState(252);
+			typeBasic();
+			}
+		}
+		catch (RecognitionException re) {
+			_localctx.exception = re;
+			_errHandler.reportError(this, re);
+			_errHandler.recover(this, re);
+		}
+		finally {
+			exitRule();
+		}
+		return _localctx;
+	}
+
+	public static class TypeSimpleContext extends ParserRuleContext {
+		public TerminalNode INT_T() { return getToken(SaralParser.INT_T, 0); }
+		public TerminalNode BOOL_T() { return getToken(SaralParser.BOOL_T, 0); }
+		public TerminalNode FLOAT_T() { return getToken(SaralParser.FLOAT_T, 0); }
+		public TerminalNode CHAR_T() { return getToken(SaralParser.CHAR_T, 0); }
+		public TypeSimpleContext(ParserRuleContext parent, int invokingState) {
+			super(parent, invokingState);
+		}
+		@Override public int getRuleIndex() { return RULE_typeSimple; }
+		@Override
+		public void enterRule(ParseTreeListener listener) {
+			if ( listener instanceof SaralListener ) ((SaralListener)listener).enterTypeSimple(this);
+		}
+		@Override
+		public void exitRule(ParseTreeListener listener) {
+			if ( listener instanceof SaralListener ) ((SaralListener)listener).exitTypeSimple(this);
+		}
+		@Override
+		public <T> T accept(ParseTreeVisitor<? extends T> visitor) {
+			if ( visitor instanceof SaralVisitor ) return ((SaralVisitor<? extends T>)visitor).visitTypeSimple(this);
+			else return visitor.visitChildren(this);
+		}
+	}
+
+	public final TypeSimpleContext typeSimple() throws RecognitionException {
+		TypeSimpleContext _localctx = new TypeSimpleContext(_ctx, getState());
+		enterRule(_localctx, 60, RULE_typeSimple);
+		int _la;
+		try {
+			enterOuterAlt(_localctx, 1);
+			{
+			setState(254);
+			_la = _input.LA(1);
+			if ( !((((_la) & ~0x3f) == 0 && ((1L << _la) & ((1L << BOOL_T) | (1L << INT_T) | (1L << FLOAT_T) | (1L << CHAR_T))) != 0)) ) {
+			_errHandler.recoverInline(this);
+			}
+			else {
+				if ( _input.LA(1)==Token.EOF ) matchedEOF = true;
+				_errHandler.reportMatch(this);
+				consume();
+			}
+			}
+		}
+		catch (RecognitionException re) {
+			_localctx.exception = re;
+			_errHandler.reportError(this, re);
+			_errHandler.recover(this, re);
+		}
+		finally {
+			exitRule();
+		}
+		return _localctx;
+	}
+
+	public static class TypeBasicContext extends ParserRuleContext {
+		public TypeSimpleContext typeSimple() {
+			return getRuleContext(TypeSimpleContext.class,0);
+		}
+		public TerminalNode STRING_T() { return getToken(SaralParser.STRING_T, 0); }
+		public TypeBasicContext(ParserRuleContext parent, int invokingState) {
+			super(parent, invokingState);
+		}
+		@Override public int getRuleIndex() { return RULE_typeBasic; }
+		@Override
+		public void enterRule(ParseTreeListener listener) {
+			if ( listener instanceof SaralListener ) ((SaralListener)listener).enterTypeBasic(this);
+		}
+		@Override
+		public void exitRule(ParseTreeListener listener) {
+			if ( listener instanceof SaralListener ) ((SaralListener)listener).exitTypeBasic(this);
+		}
+		@Override
+		public <T> T accept(ParseTreeVisitor<? extends T> visitor) {
+			if ( visitor instanceof SaralVisitor ) return ((SaralVisitor<? extends T>)visitor).visitTypeBasic(this);
+			else return visitor.visitChildren(this);
+		}
+	}
+
+	public final TypeBasicContext typeBasic() throws RecognitionException {
+		TypeBasicContext _localctx = new TypeBasicContext(_ctx, getState());
+		enterRule(_localctx, 62, RULE_typeBasic);
+		try {
+			setState(258);
+			_errHandler.sync(this);
+			switch (_input.LA(1)) {
+			case BOOL_T:
+			case INT_T:
+			case FLOAT_T:
+			case CHAR_T:
+				enterOuterAlt(_localctx, 1);
+				{
+				setState(256);
+				typeSimple();
+				}
+				break;
+			case STRING_T:
+				enterOuterAlt(_localctx, 2);
+				{
+				setState(257);
+				match(STRING_T);
+				}
+				break;
+			default:
+				throw new NoViableAltException(this);
+			}
+		}
+		catch (RecognitionException re) {
+			_localctx.exception = re;
+			_errHandler.reportError(this, re);
+			_errHandler.recover(this, re);
+		}
+		finally {
+			exitRule();
+		}
+		return _localctx;
+	}
+
+	public static class ExpressionContext extends ParserRuleContext {
+		public ExpressionContext(ParserRuleContext parent, int invokingState) {
+			super(parent, invokingState);
+		}
+		@Override public int getRuleIndex() { return RULE_expression; }
+	 
+		public ExpressionContext() { }
+		public void copyFrom(ExpressionContext ctx) {
+			super.copyFrom(ctx);
+		}
+	}
+	public static class AddContext extends ExpressionContext {
+		public Token op;
+		public List<ExpressionContext> expression() {
+			return getRuleContexts(ExpressionContext.class);
+		}
+		public ExpressionContext expression(int i) {
+			return getRuleContext(ExpressionContext.class,i);
+		}
+		public TerminalNode ADD() { return getToken(SaralParser.ADD, 0); }
+		public TerminalNode SUB() { return getToken(SaralParser.SUB, 0); }
+		public AddContext(ExpressionContext ctx) { copyFrom(ctx); }
+		@Override
+		public void enterRule(ParseTreeListener listener) {
+			if ( listener instanceof SaralListener ) ((SaralListener)listener).enterAdd(this);
+		}
+		@Override
+		public void exitRule(ParseTreeListener listener) {
+			if ( listener instanceof SaralListener ) ((SaralListener)listener).exitAdd(this);
+		}
+		@Override
+		public <T> T accept(ParseTreeVisitor<? extends T> visitor) {
+			if ( visitor instanceof SaralVisitor ) return ((SaralVisitor<? extends T>)visitor).visitAdd(this);
+			else return visitor.visitChildren(this);
+		}
+	}
+	public static class FuncContext extends ExpressionContext {
+		public Func_callContext func_call() {
+			return getRuleContext(Func_callContext.class,0);
+		}
+		public FuncContext(ExpressionContext ctx) { copyFrom(ctx); }
+		@Override
+		public void enterRule(ParseTreeListener listener) {
+			if ( listener instanceof SaralListener ) ((SaralListener)listener).enterFunc(this);
+		}
+		@Override
+		public void exitRule(ParseTreeListener listener) {
+			if ( listener instanceof SaralListener ) ((SaralListener)listener).exitFunc(this);
+		}
+		@Override
+		public <T> T accept(ParseTreeVisitor<? extends T> visitor) {
+			if ( visitor instanceof SaralVisitor ) return ((SaralVisitor<? extends T>)visitor).visitFunc(this);
+			else return visitor.visitChildren(this);
+		}
+	}
+	public static class MulContext extends ExpressionContext {
+		public Token op;
+		public List<ExpressionContext> expression() {
+			return getRuleContexts(ExpressionContext.class);
+		}
+		public ExpressionContext expression(int i) {
+			return getRuleContext(ExpressionContext.class,i);
+		}
+		public TerminalNode MUL() { return getToken(SaralParser.MUL, 0); }
+		public TerminalNode DIV() { return getToken(SaralParser.DIV, 0); }
+		public TerminalNode MOD() { return getToken(SaralParser.MOD, 0); }
+		public MulContext(ExpressionContext ctx) { copyFrom(ctx); }
+		@Override
+		public void enterRule(ParseTreeListener listener) {
+			if ( listener instanceof SaralListener ) ((SaralListener)listener).enterMul(this);
+		}
+		@Override
+		public void exitRule(ParseTreeListener listener) {
+			if ( listener instanceof SaralListener ) ((SaralListener)listener).exitMul(this);
+		}
+		@Override
+		public <T> T accept(ParseTreeVisitor<? extends T> visitor) {
+			if ( visitor instanceof SaralVisitor ) return ((SaralVisitor<? extends T>)visitor).visitMul(this);
+			else return visitor.visitChildren(this);
+		}
+	}
+	public static class ValueContext extends ExpressionContext {
+		public ValContext val() {
+			return getRuleContext(ValContext.class,0);
+		}
+		public ValueContext(ExpressionContext ctx) { copyFrom(ctx); }
+		@Override
+		public void enterRule(ParseTreeListener listener) {
+			if ( listener instanceof SaralListener ) ((SaralListener)listener).enterValue(this);
+		}
+		@Override
+		public void exitRule(ParseTreeListener listener) {
+			if ( listener instanceof SaralListener ) ((SaralListener)listener).exitValue(this);
+		}
+		@Override
+		public <T> T accept(ParseTreeVisitor<? extends T> visitor) {
+			if ( visitor instanceof SaralVisitor ) return ((SaralVisitor<? extends T>)visitor).visitValue(this);
+			else return visitor.visitChildren(this);
+		}
+	}
+	public static class UnaryMinusContext extends ExpressionContext {
+		public Token op;
+		public ExpressionContext expression() {
+			return getRuleContext(ExpressionContext.class,0);
+		}
+		public TerminalNode SUB() { return getToken(SaralParser.SUB, 0); }
+		public UnaryMinusContext(ExpressionContext ctx) { copyFrom(ctx); }
+		@Override
+		public void enterRule(ParseTreeListener listener) {
+			if ( listener instanceof SaralListener ) ((SaralListener)listener).enterUnaryMinus(this);
+		}
+		@Override
+		public void exitRule(ParseTreeListener listener) {
+			if ( listener instanceof SaralListener ) ((SaralListener)listener).exitUnaryMinus(this);
+		}
+		@Override
+		public <T> T accept(ParseTreeVisitor<? extends T> visitor) {
+			if ( visitor instanceof SaralVisitor ) return ((SaralVisitor<? extends T>)visitor).visitUnaryMinus(this);
+			else return visitor.visitChildren(this);
+		}
+	}
+	public static class BoolNotContext extends ExpressionContext {
+		public Token op;
+		public ExpressionContext expression() {
+			return getRuleContext(ExpressionContext.class,0);
+		}
+		public TerminalNode NOT() { return getToken(SaralParser.NOT, 0); }
+		public BoolNotContext(ExpressionContext ctx) { copyFrom(ctx); }
+		@Override
+		public void enterRule(ParseTreeListener listener) {
+			if ( listener instanceof SaralListener ) ((SaralListener)listener).enterBoolNot(this);
+		}
+		@Override
+		public void exitRule(ParseTreeListener listener) {
+			if ( listener instanceof SaralListener ) ((SaralListener)listener).exitBoolNot(this);
+		}
+		@Override
+		public <T> T accept(ParseTreeVisitor<? extends T> visitor) {
+			if ( visitor instanceof SaralVisitor ) return ((SaralVisitor<? extends T>)visitor).visitBoolNot(this);
+			else return visitor.visitChildren(this);
+		}
+	}
+	public static class CompareContext extends ExpressionContext {
+		public Token op;
+		public List<ExpressionContext> expression() {
+			return getRuleContexts(ExpressionContext.class);
+		}
+		public ExpressionContext expression(int i) {
+			return getRuleContext(ExpressionContext.class,i);
+		}
+		public TerminalNode EQ() { return getToken(SaralParser.EQ, 0); }
+		public TerminalNode NE() { return getToken(SaralParser.NE, 0); }
+		public TerminalNode LE() { return getToken(SaralParser.LE, 0); }
+		public TerminalNode GE() { return getToken(SaralParser.GE, 0); }
+		public TerminalNode GT() { return getToken(SaralParser.GT, 0); }
+		public TerminalNode LT() { return getToken(SaralParser.LT, 0); }
+		public CompareContext(ExpressionContext ctx) { copyFrom(ctx); }
+		@Override
+		public void enterRule(ParseTreeListener listener) {
+			if ( listener instanceof SaralListener ) ((SaralListener)listener).enterCompare(this);
+		}
+		@Override
+		public void exitRule(ParseTreeListener listener) {
+			if ( listener instanceof SaralListener ) ((SaralListener)listener).exitCompare(this);
+		}
+		@Override
+		public <T> T accept(ParseTreeVisitor<? extends T> visitor) {
+			if ( visitor instanceof SaralVisitor ) return ((SaralVisitor<? extends T>)visitor).visitCompare(this);
+			else return visitor.visitChildren(this);
+		}
+	}
+	public static class BoolOrContext extends ExpressionContext {
+		public Token op;
+		public List<ExpressionContext> expression() {
+			return getRuleContexts(ExpressionContext.class);
+		}
+		public ExpressionContext expression(int i) {
+			return getRuleContext(ExpressionContext.class,i);
+		}
+		public TerminalNode OR() { return getToken(SaralParser.OR, 0); }
+		public BoolOrContext(ExpressionContext ctx) { copyFrom(ctx); }
+		@Override
+		public void enterRule(ParseTreeListener listener) {
+			if ( listener instanceof SaralListener ) ((SaralListener)listener).enterBoolOr(this);
+		}
+		@Override
+		public void exitRule(ParseTreeListener listener) {
+			if ( listener instanceof SaralListener ) ((SaralListener)listener).exitBoolOr(this);
+		}
+		@Override
+		public <T> T accept(ParseTreeVisitor<? extends T> visitor) {
+			if ( visitor instanceof SaralVisitor ) return ((SaralVisitor<? extends T>)visitor).visitBoolOr(this);
+			else return visitor.visitChildren(this);
+		}
+	}
+	public static class BoolAndContext extends ExpressionContext {
+		public Token op;
+		public List<ExpressionContext> expression() {
+			return getRuleContexts(ExpressionContext.class);
+		}
+		public ExpressionContext expression(int i) {
+			return getRuleContext(ExpressionContext.class,i);
+		}
+		public TerminalNode AND() { return getToken(SaralParser.AND, 0); }
+		public BoolAndContext(ExpressionContext ctx) { copyFrom(ctx); }
+		@Override
+		public void enterRule(ParseTreeListener listener) {
+			if ( listener instanceof SaralListener ) ((SaralListener)listener).enterBoolAnd(this);
+		}
+		@Override
+		public void exitRule(ParseTreeListener listener) {
+			if ( listener instanceof SaralListener ) ((SaralListener)listener).exitBoolAnd(this);
+		}
+		@Override
+		public <T> T accept(ParseTreeVisitor<? extends T> visitor) {
+			if ( visitor instanceof SaralVisitor ) return ((SaralVisitor<? extends T>)visitor).visitBoolAnd(this);
+			else return visitor.visitChildren(this);
+		}
+	}
+	public static class ParenContext extends ExpressionContext {
+		public TerminalNode LPAR() { return getToken(SaralParser.LPAR, 0); }
+		public ExpressionContext expression() {
+			return getRuleContext(ExpressionContext.class,0);
+		}
+		public TerminalNode RPAR() { return getToken(SaralParser.RPAR, 0); }
+		public ParenContext(ExpressionContext ctx) { copyFrom(ctx); }
+		@Override
+		public void enterRule(ParseTreeListener listener) {
+			if ( listener instanceof SaralListener ) ((SaralListener)listener).enterParen(this);
+		}
+		@Override
+		public void exitRule(ParseTreeListener listener) {
+			if ( listener instanceof SaralListener ) ((SaralListener)listener).exitParen(this);
+		}
+		@Override
+		public <T> T accept(ParseTreeVisitor<? extends T> visitor) {
+			if ( visitor instanceof SaralVisitor ) return ((SaralVisitor<? extends T>)visitor).visitParen(this);
+			else return visitor.visitChildren(this);
+		}
+	}
+
+	public final ExpressionContext expression() throws RecognitionException {
+		return expression(0);
+	}
+
+	private ExpressionContext expression(int _p) throws RecognitionException {
+		ParserRuleContext _parentctx = _ctx;
+		int _parentState = getState();
+		ExpressionContext _localctx = new ExpressionContext(_ctx, _parentState);
+		ExpressionContext _prevctx = _localctx;
+		int _startState = 64;
+		enterRecursionRule(_localctx, 64, RULE_expression, _p);
+		int _la;
+		try {
+			int _alt;
+			enterOuterAlt(_localctx, 1);
+			{
+			setState(271);
+			_errHandler.sync(this);
+			switch (_input.LA(1)) {
+			case LPAR:
+				{
+				_localctx = new ParenContext(_localctx);
+				_ctx = _localctx;
+				_prevctx = _localctx;
+
+				setState(261);
+				match(LPAR);
+				setState(262);
+				expression(0);
+				setState(263);
+				match(RPAR);
+				}
+				break;
+			case FUNC_CALL:
+				{
+				_localctx = new FuncContext(_localctx);
+				_ctx = _localctx;
+				_prevctx = _localctx;
+				setState(265);
+				func_call();
+				}
+				break;
+			case SUB:
+				{
+				_localctx = new UnaryMinusContext(_localctx);
+				_ctx = _localctx;
+				_prevctx = _localctx;
+				setState(266);
+				((UnaryMinusContext)_localctx).op = match(SUB);
+				setState(267);
+				expression(8);
+				}
+				break;
+			case NOT:
+				{
+				_localctx = new BoolNotContext(_localctx);
+				_ctx = _localctx;
+				_prevctx = _localctx;
+				setState(268);
+				((BoolNotContext)_localctx).op = match(NOT);
+				setState(269);
+				expression(4);
+				}
+				break;
+			case BOOL:
+			case INT:
+			case FLOAT:
+			case STRING:
+			case CHAR:
+			case ID:
+				{
+				_localctx = new ValueContext(_localctx);
+				_ctx = _localctx;
+				_prevctx = _localctx;
+				setState(270);
+				val();
+				}
+				break;
+			default:
+				throw new NoViableAltException(this);
+			}
+			_ctx.stop = _input.LT(-1);
+			setState(290);
+			_errHandler.sync(this);
+			_alt = getInterpreter().adaptivePredict(_input,16,_ctx);
+			while ( _alt!=2 && _alt!=org.antlr.v4.runtime.atn.ATN.INVALID_ALT_NUMBER ) {
+				if ( _alt==1 ) {
+					if ( _parseListeners!=null ) triggerExitRuleEvent();
+					_prevctx = _localctx;
+					{
+					setState(288);
+					_errHandler.sync(this);
+					switch ( getInterpreter().adaptivePredict(_input,15,_ctx) ) {
+					case 1:
+						{
+						_localctx = new MulContext(new ExpressionContext(_parentctx, _parentState));
+						pushNewRecursionContext(_localctx, _startState, RULE_expression);
+						setState(273);
+						if (!(precpred(_ctx, 7))) throw new FailedPredicateException(this, "precpred(_ctx, 7)");
+						setState(274);
+						((MulContext)_localctx).op = _input.LT(1);
+						_la = _input.LA(1);
+						if ( !((((_la) & ~0x3f) == 0 && ((1L << _la) & ((1L << MUL) | (1L << DIV) | (1L << MOD))) != 0)) ) {
+							((MulContext)_localctx).op = (Token)_errHandler.recoverInline(this);
+						}
+						else {
+							if ( _input.LA(1)==Token.EOF ) matchedEOF = true;
+							_errHandler.reportMatch(this);
+							consume();
+						}
+						setState(275);
+						expression(8);
+						}
+						break;
+					case 2:
+						{
+						_localctx = new AddContext(new ExpressionContext(_parentctx, _parentState));
+						pushNewRecursionContext(_localctx, _startState, RULE_expression);
+						setState(276);
+						if (!(precpred(_ctx, 6))) throw new FailedPredicateException(this, "precpred(_ctx, 6)");
+						setState(277);
+						((AddContext)_localctx).op = _input.LT(1);
+						_la = _input.LA(1);
+						if ( !(_la==ADD || _la==SUB) ) {
+							((AddContext)_localctx).op = (Token)_errHandler.recoverInline(this);
+						}
+						else {
+							if ( _input.LA(1)==Token.EOF ) matchedEOF = true;
+							_errHandler.reportMatch(this);
+							consume();
+						}
+						setState(278);
+						expression(7);
+						}
+						break;
+					case 3:
+						{
+						_localctx = new CompareContext(new ExpressionContext(_parentctx, _parentState));
+						pushNewRecursionContext(_localctx, _startState, RULE_expression);
+						setState(279);
+						if (!(precpred(_ctx, 5))) throw new FailedPredicateException(this, "precpred(_ctx, 5)");
+						setState(280);
+						((CompareContext)_localctx).op = _input.LT(1);
+						_la = _input.LA(1);
+						if ( !((((_la) & ~0x3f) == 0 && ((1L << _la) & ((1L << EQ) | (1L << NE) | (1L << LE) | (1L << GE) | (1L << GT) | (1L << LT))) != 0)) ) {
+							((CompareContext)_localctx).op = (Token)_errHandler.recoverInline(this);
+						}
+						else {
+							if ( _input.LA(1)==Token.EOF ) matchedEOF = true;
+							_errHandler.reportMatch(this);
+							consume();
+						}
+						setState(281);
+						expression(6);
+						}
+						break;
+					case 4:
+						{
+						_localctx = new BoolAndContext(new ExpressionContext(_parentctx, _parentState));
+						pushNewRecursionContext(_localctx, _startState, RULE_expression);
+						setState(282);
+						if (!(precpred(_ctx, 3))) throw new FailedPredicateException(this, "precpred(_ctx, 3)");
+						setState(283);
+						((BoolAndContext)_localctx).op = match(AND);
+						setState(284);
+						expression(4);
+						}
+						break;
+					case 5:
+						{
+						_localctx = new BoolOrContext(new ExpressionContext(_parentctx, _parentState));
+						pushNewRecursionContext(_localctx, _startState, RULE_expression);
+						setState(285);
+						if (!(precpred(_ctx, 2))) throw new FailedPredicateException(this, "precpred(_ctx, 2)");
+						setState(286);
+						((BoolOrContext)_localctx).op = match(OR);
+						setState(287);
+						expression(3);
+						}
+						break;
+					}
+					} 
+				}
+				setState(292);
+				_errHandler.sync(this);
+				_alt = getInterpreter().adaptivePredict(_input,16,_ctx);
+			}
+			}
+		}
+		catch (RecognitionException re) {
+			_localctx.exception = re;
+			_errHandler.reportError(this, re);
+			_errHandler.recover(this, re);
+		}
+		finally {
+			unrollRecursionContexts(_parentctx);
+		}
+		return _localctx;
+	}
+
+	public boolean sempred(RuleContext _localctx, int ruleIndex, int predIndex) {
+		switch (ruleIndex) {
+		case 32:
+			return expression_sempred((ExpressionContext)_localctx, predIndex);
+		}
+		return true;
+	}
+	private boolean expression_sempred(ExpressionContext _localctx, int predIndex) {
+		switch (predIndex) {
+		case 0:
+			return precpred(_ctx, 7);
+		case 1:
+			return precpred(_ctx, 6);
+		case 2:
+			return precpred(_ctx, 5);
+		case 3:
+			return precpred(_ctx, 3);
+		case 4:
+			return precpred(_ctx, 2);
+		}
+		return true;
+	}
+
+	public static final String _serializedATN =
+		"\3\u608b\ua72a\u8133\ub9ed\u417c\u3be7\u7786\u5964\3=\u0128\4\2\t\2\4"+
+		"\3\t\3\4\4\t\4\4\5\t\5\4\6\t\6\4\7\t\7\4\b\t\b\4\t\t\t\4\n\t\n\4\13\t"+
+		"\13\4\f\t\f\4\r\t\r\4\16\t\16\4\17\t\17\4\20\t\20\4\21\t\21\4\22\t\22"+
+		"\4\23\t\23\4\24\t\24\4\25\t\25\4\26\t\26\4\27\t\27\4\30\t\30\4\31\t\31"+
+		"\4\32\t\32\4\33\t\33\4\34\t\34\4\35\t\35\4\36\t\36\4\37\t\37\4 \t \4!"+
+		"\t!\4\"\t\"\3\2\3\2\3\3\7\3H\n\3\f\3\16\3K\13\3\3\4\3\4\3\4\3\4\3\5\3"+
+		"\5\3\5\3\5\3\5\3\6\3\6\3\6\3\6\3\7\3\7\3\7\3\7\3\7\5\7_\n\7\5\7a\n\7\3"+
+		"\b\3\b\3\b\3\b\3\b\3\b\3\b\3\b\3\b\3\b\5\bm\n\b\3\t\3\t\3\t\3\t\3\t\3"+
+		"\t\5\tu\n\t\3\n\3\n\3\n\3\n\3\n\3\n\5\n}\n\n\3\13\3\13\3\13\3\13\3\13"+
+		"\3\13\5\13\u0085\n\13\3\f\3\f\3\f\3\f\3\r\3\r\3\r\3\r\3\r\3\r\3\r\3\r"+
+		"\5\r\u0093\n\r\3\16\3\16\3\16\3\16\3\16\3\16\3\17\3\17\3\17\3\17\3\17"+
+		"\3\17\3\17\3\17\3\17\3\20\3\20\3\20\3\20\3\20\3\20\3\20\3\20\3\20\3\21"+
+		"\3\21\3\21\3\21\3\21\3\21\3\21\3\21\3\22\3\22\3\22\3\22\3\22\3\22\3\23"+
+		"\3\23\3\23\3\23\3\23\3\23\3\24\3\24\3\24\3\24\3\24\3\24\7\24\u00c7\n\24"+
+		"\f\24\16\24\u00ca\13\24\5\24\u00cc\n\24\3\25\3\25\3\25\7\25\u00d1\n\25"+
+		"\f\25\16\25\u00d4\13\25\5\25\u00d6\n\25\3\26\3\26\3\26\3\27\3\27\3\27"+
+		"\3\30\3\30\3\30\3\31\3\31\3\31\3\32\3\32\3\32\3\32\3\32\3\32\3\33\3\33"+
+		"\3\33\3\33\3\34\3\34\3\34\3\34\3\34\3\34\3\35\3\35\3\35\3\35\3\35\3\35"+
+		"\3\36\3\36\5\36\u00fc\n\36\3\37\3\37\3\37\3 \3 \3!\3!\5!\u0105\n!\3\""+
+		"\3\"\3\"\3\"\3\"\3\"\3\"\3\"\3\"\3\"\3\"\5\"\u0112\n\"\3\"\3\"\3\"\3\""+
+		"\3\"\3\"\3\"\3\"\3\"\3\"\3\"\3\"\3\"\3\"\3\"\7\"\u0123\n\"\f\"\16\"\u0126"+
+		"\13\"\3\"\2\3B#\2\4\6\b\n\f\16\20\22\24\26\30\32\34\36 \"$&(*,.\60\62"+
+		"\64\668:<>@B\2\6\3\2,/\3\2#%\3\2!\"\3\2&+\2\u012d\2D\3\2\2\2\4I\3\2\2"+
+		"\2\6L\3\2\2\2\bP\3\2\2\2\nU\3\2\2\2\f`\3\2\2\2\16l\3\2\2\2\20t\3\2\2\2"+
+		"\22|\3\2\2\2\24\u0084\3\2\2\2\26\u0086\3\2\2\2\30\u008a\3\2\2\2\32\u0094"+
+		"\3\2\2\2\34\u009a\3\2\2\2\36\u00a3\3\2\2\2 \u00ac\3\2\2\2\"\u00b4\3\2"+
+		"\2\2$\u00ba\3\2\2\2&\u00cb\3\2\2\2(\u00d5\3\2\2\2*\u00d7\3\2\2\2,\u00da"+
+		"\3\2\2\2.\u00dd\3\2\2\2\60\u00e0\3\2\2\2\62\u00e3\3\2\2\2\64\u00e9\3\2"+
+		"\2\2\66\u00ed\3\2\2\28\u00f3\3\2\2\2:\u00fb\3\2\2\2<\u00fd\3\2\2\2>\u0100"+
+		"\3\2\2\2@\u0104\3\2\2\2B\u0111\3\2\2\2DE\5\4\3\2E\3\3\2\2\2FH\5\f\7\2"+
+		"GF\3\2\2\2HK\3\2\2\2IG\3\2\2\2IJ\3\2\2\2J\5\3\2\2\2KI\3\2\2\2LM\7\t\2"+
+		"\2MN\5\4\3\2NO\7\n\2\2O\7\3\2\2\2PQ\7\t\2\2QR\5\4\3\2RS\5\n\6\2ST\7\n"+
+		"\2\2T\t\3\2\2\2UV\7\27\2\2VW\5B\"\2WX\7:\2\2X\13\3\2\2\2YZ\5\16\b\2Z["+
+		"\7:\2\2[a\3\2\2\2\\^\5\20\t\2]_\7:\2\2^]\3\2\2\2^_\3\2\2\2_a\3\2\2\2`"+
+		"Y\3\2\2\2`\\\3\2\2\2a\r\3\2\2\2bm\5\26\f\2cm\5\64\33\2dm\5\62\32\2em\5"+
+		"\66\34\2fm\58\35\2gm\5$\23\2hm\5,\27\2im\5*\26\2jm\5\60\31\2km\5.\30\2"+
+		"lb\3\2\2\2lc\3\2\2\2ld\3\2\2\2le\3\2\2\2lf\3\2\2\2lg\3\2\2\2lh\3\2\2\2"+
+		"li\3\2\2\2lj\3\2\2\2lk\3\2\2\2m\17\3\2\2\2nu\5\36\20\2ou\5 \21\2pu\5\30"+
+		"\r\2qu\5\32\16\2ru\5\34\17\2su\5\6\4\2tn\3\2\2\2to\3\2\2\2tp\3\2\2\2t"+
+		"q\3\2\2\2tr\3\2\2\2ts\3\2\2\2u\21\3\2\2\2v}\7\66\2\2wx\7\66\2\2xy\7\34"+
+		"\2\2yz\5B\"\2z{\7\35\2\2{}\3\2\2\2|v\3\2\2\2|w\3\2\2\2}\23\3\2\2\2~\u0085"+
+		"\5\22\n\2\177\u0085\7\62\2\2\u0080\u0085\7\63\2\2\u0081\u0085\7\64\2\2"+
+		"\u0082\u0085\7\65\2\2\u0083\u0085\7\61\2\2\u0084~\3\2\2\2\u0084\177\3"+
+		"\2\2\2\u0084\u0080\3\2\2\2\u0084\u0081\3\2\2\2\u0084\u0082\3\2\2\2\u0084"+
+		"\u0083\3\2\2\2\u0085\25\3\2\2\2\u0086\u0087\5\22\n\2\u0087\u0088\7\3\2"+
+		"\2\u0088\u0089\5B\"\2\u0089\27\3\2\2\2\u008a\u008b\7\23\2\2\u008b\u008c"+
+		"\5B\"\2\u008c\u008d\7\24\2\2\u008d\u008e\7:\2\2\u008e\u0092\5\6\4\2\u008f"+
+		"\u0090\7\25\2\2\u0090\u0091\7:\2\2\u0091\u0093\5\6\4\2\u0092\u008f\3\2"+
+		"\2\2\u0092\u0093\3\2\2\2\u0093\31\3\2\2\2\u0094\u0095\7\16\2\2\u0095\u0096"+
+		"\5B\"\2\u0096\u0097\7\17\2\2\u0097\u0098\7:\2\2\u0098\u0099\5\6\4\2\u0099"+
+		"\33\3\2\2\2\u009a\u009b\7\20\2\2\u009b\u009c\5\22\n\2\u009c\u009d\7\21"+
+		"\2\2\u009d\u009e\5\24\13\2\u009e\u009f\7\22\2\2\u009f\u00a0\5\24\13\2"+
+		"\u00a0\u00a1\7:\2\2\u00a1\u00a2\5\6\4\2\u00a2\35\3\2\2\2\u00a3\u00a4\7"+
+		"\26\2\2\u00a4\u00a5\5@!\2\u00a5\u00a6\7\66\2\2\u00a6\u00a7\7\32\2\2\u00a7"+
+		"\u00a8\5&\24\2\u00a8\u00a9\7\33\2\2\u00a9\u00aa\7:\2\2\u00aa\u00ab\5\b"+
+		"\5\2\u00ab\37\3\2\2\2\u00ac\u00ad\7\26\2\2\u00ad\u00ae\7\66\2\2\u00ae"+
+		"\u00af\7\32\2\2\u00af\u00b0\5&\24\2\u00b0\u00b1\7\33\2\2\u00b1\u00b2\7"+
+		":\2\2\u00b2\u00b3\5\6\4\2\u00b3!\3\2\2\2\u00b4\u00b5\7\30\2\2\u00b5\u00b6"+
+		"\7\66\2\2\u00b6\u00b7\7\32\2\2\u00b7\u00b8\5(\25\2\u00b8\u00b9\7\33\2"+
+		"\2\u00b9#\3\2\2\2\u00ba\u00bb\7\31\2\2\u00bb\u00bc\7\66\2\2\u00bc\u00bd"+
+		"\7\32\2\2\u00bd\u00be\5(\25\2\u00be\u00bf\7\33\2\2\u00bf%\3\2\2\2\u00c0"+
+		"\u00c1\5:\36\2\u00c1\u00c8\7\66\2\2\u00c2\u00c3\7\4\2\2\u00c3\u00c4\5"+
+		":\36\2\u00c4\u00c5\7\66\2\2\u00c5\u00c7\3\2\2\2\u00c6\u00c2\3\2\2\2\u00c7"+
+		"\u00ca\3\2\2\2\u00c8\u00c6\3\2\2\2\u00c8\u00c9\3\2\2\2\u00c9\u00cc\3\2"+
+		"\2\2\u00ca\u00c8\3\2\2\2\u00cb\u00c0\3\2\2\2\u00cb\u00cc\3\2\2\2\u00cc"+
+		"\'\3\2\2\2\u00cd\u00d2\5\22\n\2\u00ce\u00cf\7\4\2\2\u00cf\u00d1\5\22\n"+
+		"\2\u00d0\u00ce\3\2\2\2\u00d1\u00d4\3\2\2\2\u00d2\u00d0\3\2\2\2\u00d2\u00d3"+
+		"\3\2\2\2\u00d3\u00d6\3\2\2\2\u00d4\u00d2\3\2\2\2\u00d5\u00cd\3\2\2\2\u00d5"+
+		"\u00d6\3\2\2\2\u00d6)\3\2\2\2\u00d7\u00d8\7\5\2\2\u00d8\u00d9\5\22\n\2"+
+		"\u00d9+\3\2\2\2\u00da\u00db\7\6\2\2\u00db\u00dc\5\22\n\2\u00dc-\3\2\2"+
+		"\2\u00dd\u00de\7\7\2\2\u00de\u00df\5\22\n\2\u00df/\3\2\2\2\u00e0\u00e1"+
+		"\7\b\2\2\u00e1\u00e2\5\22\n\2\u00e2\61\3\2\2\2\u00e3\u00e4\7\13\2\2\u00e4"+
+		"\u00e5\5:\36\2\u00e5\u00e6\7\66\2\2\u00e6\u00e7\7\3\2\2\u00e7\u00e8\5"+
+		"B\"\2\u00e8\63\3\2\2\2\u00e9\u00ea\7\13\2\2\u00ea\u00eb\5:\36\2\u00eb"+
+		"\u00ec\7\66\2\2\u00ec\65\3\2\2\2\u00ed\u00ee\7\f\2\2\u00ee\u00ef\5:\36"+
+		"\2\u00ef\u00f0\7\66\2\2\u00f0\u00f1\7\3\2\2\u00f1\u00f2\5B\"\2\u00f2\67"+
+		"\3\2\2\2\u00f3\u00f4\5<\37\2\u00f4\u00f5\7\66\2\2\u00f5\u00f6\7\34\2\2"+
+		"\u00f6\u00f7\5B\"\2\u00f7\u00f8\7\35\2\2\u00f89\3\2\2\2\u00f9\u00fc\5"+
+		"<\37\2\u00fa\u00fc\5@!\2\u00fb\u00f9\3\2\2\2\u00fb\u00fa\3\2\2\2\u00fc"+
+		";\3\2\2\2\u00fd\u00fe\7\r\2\2\u00fe\u00ff\5@!\2\u00ff=\3\2\2\2\u0100\u0101"+
+		"\t\2\2\2\u0101?\3\2\2\2\u0102\u0105\5> \2\u0103\u0105\7\60\2\2\u0104\u0102"+
+		"\3\2\2\2\u0104\u0103\3\2\2\2\u0105A\3\2\2\2\u0106\u0107\b\"\1\2\u0107"+
+		"\u0108\7\32\2\2\u0108\u0109\5B\"\2\u0109\u010a\7\33\2\2\u010a\u0112\3"+
+		"\2\2\2\u010b\u0112\5\"\22\2\u010c\u010d\7\"\2\2\u010d\u0112\5B\"\n\u010e"+
+		"\u010f\7 \2\2\u010f\u0112\5B\"\6\u0110\u0112\5\24\13\2\u0111\u0106\3\2"+
+		"\2\2\u0111\u010b\3\2\2\2\u0111\u010c\3\2\2\2\u0111\u010e\3\2\2\2\u0111"+
+		"\u0110\3\2\2\2\u0112\u0124\3\2\2\2\u0113\u0114\f\t\2\2\u0114\u0115\t\3"+
+		"\2\2\u0115\u0123\5B\"\n\u0116\u0117\f\b\2\2\u0117\u0118\t\4\2\2\u0118"+
+		"\u0123\5B\"\t\u0119\u011a\f\7\2\2\u011a\u011b\t\5\2\2\u011b\u0123\5B\""+
+		"\b\u011c\u011d\f\5\2\2\u011d\u011e\7\36\2\2\u011e\u0123\5B\"\6\u011f\u0120"+
+		"\f\4\2\2\u0120\u0121\7\37\2\2\u0121\u0123\5B\"\5\u0122\u0113\3\2\2\2\u0122"+
+		"\u0116\3\2\2\2\u0122\u0119\3\2\2\2\u0122\u011c\3\2\2\2\u0122\u011f\3\2"+
+		"\2\2\u0123\u0126\3\2\2\2\u0124\u0122\3\2\2\2\u0124\u0125\3\2\2\2\u0125"+
+		"C\3\2\2\2\u0126\u0124\3\2\2\2\23I^`lt|\u0084\u0092\u00c8\u00cb\u00d2\u00d5"+
+		"\u00fb\u0104\u0111\u0122\u0124";
+	public static final ATN _ATN =
+		new ATNDeserializer().deserialize(_serializedATN.toCharArray());
+	static {
+		_decisionToDFA = new DFA[_ATN.getNumberOfDecisions()];
+		for (int i = 0; i < _ATN.getNumberOfDecisions(); i++) {
+			_decisionToDFA[i] = new DFA(_ATN.getDecisionState(i), i);
+		}
+	}
+}
\ No newline at end of file
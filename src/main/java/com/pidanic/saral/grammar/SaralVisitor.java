@@ -0,0 +1,319 @@
+// Generated from Saral.g4 by ANTLR 4.7.1
+package com.pidanic.saral.grammar;
+import org.antlr.v4.runtime.tree.ParseTreeVisitor;
+
+/**
+ * This interface defines a complete generic visitor for a parse tree produced
+ * by {@link SaralParser}.
+ *
+ * @param <T> The return type of the visit operation. Use {@link Void} for
+ * operations with no return type.
+ */
+public interface SaralVisitor<T> extends ParseTreeVisitor<T> {
+	/**
+	 * Visit a parse tree produced by {@link SaralParser#init}.
+	 * @param ctx the parse tree
+	 * @return the visitor result
+	 */
+	T visitInit(SaralParser.InitContext ctx);
+	/**
+	 * Visit a parse tree produced by {@link SaralParser#statements}.
+	 * @param ctx the parse tree
+	 * @return the visitor result
+	 */
+	T visitStatements(SaralParser.StatementsContext ctx);
+	/**
+	 * Visit a parse tree produced by {@link SaralParser#block}.
+	 * @param ctx the parse tree
+	 * @return the visitor result
+	 */
+	T visitBlock(SaralParser.BlockContext ctx);
+	/**
+	 * Visit a parse tree produced by {@link SaralParser#func_block}.
+	 * @param ctx the parse tree
+	 * @return the visitor result
+	 */
+	T visitFunc_block(SaralParser.Func_blockContext ctx);
+	/**
+	 * Visit a parse tree produced by {@link SaralParser#ret}.
+	 * @param ctx the parse tree
+	 * @return the visitor result
+	 */
+	T visitRet(SaralParser.RetContext ctx);
+	/**
+	 * Visit a parse tree produced by {@link SaralParser#statement}.
+	 * @param ctx the parse tree
+	 * @return the visitor result
+	 */
+	T visitStatement(SaralParser.StatementContext ctx);
+	/**
+	 * Visit a parse tree produced by {@link SaralParser#simple_statement}.
+	 * @param ctx the parse tree
+	 * @return the visitor result
+	 */
+	T visitSimple_statement(SaralParser.Simple_statementContext ctx);
+	/**
+	 * Visit a parse tree produced by {@link SaralParser#block_statement}.
+	 * @param ctx the parse tree
+	 * @return the visitor result
+	 */
+	T visitBlock_statement(SaralParser.Block_statementContext ctx);
+	/**
+	 * Visit a parse tree produced by the {@code VarID}
+	 * labeled alternative in {@link SaralParser#var}.
+	 * @param ctx the parse tree
+	 * @return the visitor result
+	 */
+	T visitVarID(SaralParser.VarIDContext ctx);
+	/**
+	 * Visit a parse tree produced by the {@code VarArray}
+	 * labeled alternative in {@link SaralParser#var}.
+	 * @param ctx the parse tree
+	 * @return the visitor result
+	 */
+	T visitVarArray(SaralParser.VarArrayContext ctx);
+	/**
+	 * Visit a parse tree produced by the {@code ValVar}
+	 * labeled alternative in {@link SaralParser#val}.
+	 * @param ctx the parse tree
+	 * @return the visitor result
+	 */
+	T visitValVar(SaralParser.ValVarContext ctx);
+	/**
+	 * Visit a parse tree produced by the {@code ValInt}
+	 * labeled alternative in {@link SaralParser#val}.
+	 * @param ctx the parse tree
+	 * @return the visitor result
+	 */
+	T visitValInt(SaralParser.ValIntContext ctx);
+	/**
+	 * Visit a parse tree produced by the {@code ValFloat}
+	 * labeled alternative in {@link SaralParser#val}.
+	 * @param ctx the parse tree
+	 * @return the visitor result
+	 */
+	T visitValFloat(SaralParser.ValFloatContext ctx);
+	/**
+	 * Visit a parse tree produced by the {@code ValString}
+	 * labeled alternative in {@link SaralParser#val}.
+	 * @param ctx the parse tree
+	 * @return the visitor result
+	 */
+	T visitValString(SaralParser.ValStringContext ctx);
+	/**
+	 * Visit a parse tree produced by the {@code ValChar}
+	 * labeled alternative in {@link SaralParser#val}.
+	 * @param ctx the parse tree
+	 * @return the visitor result
+	 */
+	T visitValChar(SaralParser.ValCharContext ctx);
+	/**
+	 * Visit a parse tree produced by the {@code ValBool}
+	 * labeled alternative in {@link SaralParser#val}.
+	 * @param ctx the parse tree
+	 * @return the visitor result
+	 */
+	T visitValBool(SaralParser.ValBoolContext ctx);
+	/**
+	 * Visit a parse tree produced by {@link SaralParser#assignment}.
+	 * @param ctx the parse tree
+	 * @return the visitor result
+	 */
+	T visitAssignment(SaralParser.AssignmentContext ctx);
+	/**
+	 * Visit a parse tree produced by {@link SaralParser#if_statement}.
+	 * @param ctx the parse tree
+	 * @return the visitor result
+	 */
+	T visitIf_statement(SaralParser.If_statementContext ctx);
+	/**
+	 * Visit a parse tree produced by {@link SaralParser#while_statement}.
+	 * @param ctx the parse tree
+	 * @return the visitor result
+	 */
+	T visitWhile_statement(SaralParser.While_statementContext ctx);
+	/**
+	 * Visit a parse tree produced by {@link SaralParser#for_statement}.
+	 * @param ctx the parse tree
+	 * @return the visitor result
+	 */
+	T visitFor_statement(SaralParser.For_statementContext ctx);
+	/**
+	 * Visit a parse tree produced by {@link SaralParser#func_definition}.
+	 * @param ctx the parse tree
+	 * @return the visitor result
+	 */
+	T visitFunc_definition(SaralParser.Func_definitionContext ctx);
+	/**
+	 * Visit a parse tree produced by {@link SaralParser#proc_definition}.
+	 * @param ctx the parse tree
+	 * @return the visitor result
+	 */
+	T visitProc_definition(SaralParser.Proc_definitionContext ctx);
+	/**
+	 * Visit a parse tree produced by {@link SaralParser#func_call}.
+	 * @param ctx the parse tree
+	 * @return the visitor result
+	 */
+	T visitFunc_call(SaralParser.Func_callContext ctx);
+	/**
+	 * Visit a parse tree produced by {@link SaralParser#proc_call}.
+	 * @param ctx the parse tree
+	 * @return the visitor result
+	 */
+	T visitProc_call(SaralParser.Proc_callContext ctx);
+	/**
+	 * Visit a parse tree produced by {@link SaralParser#arglist}.
+	 * @param ctx the parse tree
+	 * @return the visitor result
+	 */
+	T visitArglist(SaralParser.ArglistContext ctx);
+	/**
+	 * Visit a parse tree produced by {@link SaralParser#paramlist}.
+	 * @param ctx the parse tree
+	 * @return the visitor result
+	 */
+	T visitParamlist(SaralParser.ParamlistContext ctx);
+	/**
+	 * Visit a parse tree produced by {@link SaralParser#read}.
+	 * @param ctx the parse tree
+	 * @return the visitor result
+	 */
+	T visitRead(SaralParser.ReadContext ctx);
+	/**
+	 * Visit a parse tree produced by {@link SaralParser#write}.
+	 * @param ctx the parse tree
+	 * @return the visitor result
+	 */
+	T visitWrite(SaralParser.WriteContext ctx);
+	/**
+	 * Visit a parse tree produced by {@link SaralParser#read2}.
+	 * @param ctx the parse tree
+	 * @return the visitor result
+	 */
+	T visitRead2(SaralParser.Read2Context ctx);
+	/**
+	 * Visit a parse tree produced by {@link SaralParser#write2}.
+	 * @param ctx the parse tree
+	 * @return the visitor result
+	 */
+	T visitWrite2(SaralParser.Write2Context ctx);
+	/**
+	 * Visit a parse tree produced by {@link SaralParser#var_definition}.
+	 * @param ctx the parse tree
+	 * @return the visitor result
+	 */
+	T visitVar_definition(SaralParser.Var_definitionContext ctx);
+	/**
+	 * Visit a parse tree produced by {@link SaralParser#var_declaration}.
+	 * @param ctx the parse tree
+	 * @return the visitor result
+	 */
+	T visitVar_declaration(SaralParser.Var_declarationContext ctx);
+	/**
+	 * Visit a parse tree produced by {@link SaralParser#const_definition}.
+	 * @param ctx the parse tree
+	 * @return the visitor result
+	 */
+	T visitConst_definition(SaralParser.Const_definitionContext ctx);
+	/**
+	 * Visit a parse tree produced by {@link SaralParser#array_declaration}.
+	 * @param ctx the parse tree
+	 * @return the visitor result
+	 */
+	T visitArray_declaration(SaralParser.Array_declarationContext ctx);
+	/**
+	 * Visit a parse tree produced by {@link SaralParser#type}.
+	 * @param ctx the parse tree
+	 * @return the visitor result
+	 */
+	T visitType(SaralParser.TypeContext ctx);
+	/**
+	 * Visit a parse tree produced by {@link SaralParser#typeArray}.
+	 * @param ctx the parse tree
+	 * @return the visitor result
+	 */
+	T visitTypeArray(SaralParser.TypeArrayContext ctx);
+	/**
+	 * Visit a parse tree produced by {@link SaralParser#typeSimple}.
+	 * @param ctx the parse tree
+	 * @return the visitor result
+	 */
+	T visitTypeSimple(SaralParser.TypeSimpleContext ctx);
+	/**
+	 * Visit a parse tree produced by {@link SaralParser#typeBasic}.
+	 * @param ctx the parse tree
+	 * @return the visitor result
+	 */
+	T visitTypeBasic(SaralParser.TypeBasicContext ctx);
+	/**
+	 * Visit a parse tree produced by the {@code Add}
+	 * labeled alternative in {@link SaralParser#expression}.
+	 * @param ctx the parse tree
+	 * @return the visitor result
+	 */
+	T visitAdd(SaralParser.AddContext ctx);
+	/**
+	 * Visit a parse tree produced by the {@code Func}
+	 * labeled alternative in {@link SaralParser#expression}.
+	 * @param ctx the parse tree
+	 * @return the visitor result
+	 */
+	T visitFunc(SaralParser.FuncContext ctx);
+	/**
+	 * Visit a parse tree produced by the {@code Mul}
+	 * labeled alternative in {@link SaralParser#expression}.
+	 * @param ctx the parse tree
+	 * @return the visitor result
+	 */
+	T visitMul(SaralParser.MulContext ctx);
+	/**
+	 * Visit a parse tree produced by the {@code Value}
+	 * labeled alternative in {@link SaralParser#expression}.
+	 * @param ctx the parse tree
+	 * @return the visitor result
+	 */
+	T visitValue(SaralParser.ValueContext ctx);
+	/**
+	 * Visit a parse tree produced by the {@code UnaryMinus}
+	 * labeled alternative in {@link SaralParser#expression}.
+	 * @param ctx the parse tree
+	 * @return the visitor result
+	 */
+	T visitUnaryMinus(SaralParser.UnaryMinusContext ctx);
+	/**
+	 * Visit a parse tree produced by the {@code BoolNot}
+	 * labeled alternative in {@link SaralParser#expression}.
+	 * @param ctx the parse tree
+	 * @return the visitor result
+	 */
+	T visitBoolNot(SaralParser.BoolNotContext ctx);
+	/**
+	 * Visit a parse tree produced by the {@code Compare}
+	 * labeled alternative in {@link SaralParser#expression}.
+	 * @param ctx the parse tree
+	 * @return the visitor result
+	 */
+	T visitCompare(SaralParser.CompareContext ctx);
+	/**
+	 * Visit a parse tree produced by the {@code BoolOr}
+	 * labeled alternative in {@link SaralParser#expression}.
+	 * @param ctx the parse tree
+	 * @return the visitor result
+	 */
+	T visitBoolOr(SaralParser.BoolOrContext ctx);
+	/**
+	 * Visit a parse tree produced by the {@code BoolAnd}
+	 * labeled alternative in {@link SaralParser#expression}.
+	 * @param ctx the parse tree
+	 * @return the visitor result
+	 */
+	T visitBoolAnd(SaralParser.BoolAndContext ctx);
+	/**
+	 * Visit a parse tree produced by the {@code Paren}
+	 * labeled alternative in {@link SaralParser#expression}.
+	 * @param ctx the parse tree
+	 * @return the visitor result
+	 */
+	T visitParen(SaralParser.ParenContext ctx);
+}
\ No newline at end of file
@@ -0,0 +1,332 @@
+package com.pidanic.saral.optimizer;
+
+import com.pidanic.saral.domain.ArrayAssignment;
+import com.pidanic.saral.domain.ArrayDeclaration;
+import com.pidanic.saral.domain.Assignment;
+import com.pidanic.saral.domain.ConstantDeclaration;
+import com.pidanic.saral.domain.InlinedCall;
+import com.pidanic.saral.domain.Init;
+import com.pidanic.saral.domain.ProcedureCall;
+import com.pidanic.saral.domain.ReadStatement;
+import com.pidanic.saral.domain.ReturnStatement;
+import com.pidanic.saral.domain.SimpleStatement;
+import com.pidanic.saral.domain.Statement;
+import com.pidanic.saral.domain.TemporaryDeclaration;
+import com.pidanic.saral.domain.VariableDeclaration;
+import com.pidanic.saral.domain.block.Function;
+import com.pidanic.saral.domain.block.IfStatement;
+import com.pidanic.saral.domain.block.WhileStatement;
+import com.pidanic.saral.domain.expression.ArrayRef;
+import com.pidanic.saral.domain.expression.BinaryExpression;
+import com.pidanic.saral.domain.expression.Expression;
+import com.pidanic.saral.domain.expression.FunctionCall;
+import com.pidanic.saral.domain.expression.TemporaryRef;
+import com.pidanic.saral.domain.expression.TemporaryStore;
+import com.pidanic.saral.domain.expression.UnaryExpression;
+import com.pidanic.saral.domain.expression.Value;
+import com.pidanic.saral.domain.expression.VariableRef;
+import com.pidanic.saral.domain.expression.logic.And;
+import com.pidanic.saral.domain.expression.logic.Or;
+import com.pidanic.saral.domain.expression.string.Concatenation;
+import com.pidanic.saral.scope.LocalVariableArrayIndex;
+import com.pidanic.saral.util.BuiltInType;
+import com.pidanic.saral.util.Type;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Computes an expression repeated in a sequence of simple statements only once, by local value numbering.
+ *
+ * Expressions get the same value, when they have the same operations on the same variables and none of the
+ * variables is changed between them. Bar calls can change elements of arrays passed to them and array parameters
+ * of a bar can be the same array, so bar calls and stores to any array element change all array elements. A sequence ends with a block statement, only the condition of <code>keď</code> belongs to the
+ * sequence before it. The first occurrence of a repeated value keeps it in a temporary slot, see
+ * {@link TemporaryStore}, and later occurrences read the slot. Right sides of <code>a</code> and <code>abo</code>
+ * are not always computed, so they only read values kept before.
+ *
+ * Every temporary gets its own slot here. Slots are shared with variables which are not used any more, when the
+ * method is written, so temporaries do not make frames larger than needed.
+ */
+class CommonSubexpressionElimination extends TreeRewriter {
+
+    private static final String ARRAY_ELEMENTS = "[]";
+    private static final List<Type> KEPT_TYPES = Arrays.asList(BuiltInType.BOOLEAN, BuiltInType.CHAR,
+            BuiltInType.LONG, BuiltInType.DOUBLE, BuiltInType.STRING);
+
+    private int nextIndex;
+
+    @Override
+    Init rewrite(Init compilationUnit) {
+        List<Statement> mainStatements = new ArrayList<>();
+        for(Statement statement : compilationUnit.getStatements()) {
+            if(!(statement instanceof Function)) {
+                mainStatements.add(statement);
+            }
+        }
+        nextIndex = MethodSlots.getLocalVariablesCount(mainStatements, compilationUnit.getScope());
+        return super.rewrite(compilationUnit);
+    }
+
+    @Override
+    protected Statement rewriteFunction(Function function) {
+        int mainNextIndex = nextIndex;
+        nextIndex = MethodSlots.getLocalVariablesCount(function.getStatements(), function.getScope());
+        super.rewriteFunction(function);
+        function.getReturnStatement().ifPresent(returnStatement -> {
+            Expression expression = new ValueNumbering().number(returnStatement.getExpression());
+            if(expression != returnStatement.getExpression()) {
+                function.setRetStatement(new ReturnStatement(expression));
+            }
+        });
+        nextIndex = mainNextIndex;
+        return function;
+    }
+
+    @Override
+    protected List<Statement> rewriteStatements(List<Statement> statements) {
+        return new ValueNumbering().number(super.rewriteStatements(statements));
+    }
+
+    /**
+     * Conditions of <code>kým</code> are computed after the block and also before the first run of the block, so
+     * they are numbered alone.
+     */
+    @Override
+    protected Statement rewriteWhile(WhileStatement whileStatement) {
+        WhileStatement rewritten = (WhileStatement) super.rewriteWhile(whileStatement);
+        Expression condition = new ValueNumbering().number(rewritten.getExpression());
+        if(condition == rewritten.getExpression()) {
+            return rewritten;
+        }
+        return new WhileStatement(rewritten.getScope(), condition, rewritten.getBlock());
+    }
+
+    /**
+     * Numbers values of one sequence. The sequence is walked three times in the order the code is generated:
+     * first to count values, then to find which kept values are read again, and at last to keep only those.
+     */
+    private class ValueNumbering extends TreeRewriter {
+        private final Map<String, Integer> occurrences = new HashMap<>();
+        private final Set<String> readAgain = new HashSet<>();
+        private final Map<String, Integer> versions = new HashMap<>();
+        private final Map<String, Integer> kept = new HashMap<>();
+        private Pass pass;
+        private int index;
+        private int epoch;
+        private int conditionalDepth;
+
+        List<Statement> number(List<Statement> statements) {
+            List<Statement> numbered = statements;
+            for(Pass numberingPass : Pass.values()) {
+                start(numberingPass);
+                numbered = numberStatements(statements);
+            }
+            nextIndex = index;
+            return numbered;
+        }
+
+        Expression number(Expression expression) {
+            Expression numbered = expression;
+            for(Pass numberingPass : Pass.values()) {
+                start(numberingPass);
+                numbered = rewriteExpression(expression);
+            }
+            nextIndex = index;
+            return numbered;
+        }
+
+        private void start(Pass numberingPass) {
+            pass = numberingPass;
+            index = nextIndex;
+            epoch = 0;
+            versions.clear();
+            kept.clear();
+        }
+
+        private List<Statement> numberStatements(List<Statement> statements) {
+            List<Statement> numbered = new ArrayList<>(statements.size());
+            boolean changed = false;
+            for(Statement statement : statements) {
+                Statement newStatement = statement;
+                if(statement instanceof SimpleStatement) {
+                    newStatement = rewriteStatement(statement);
+                    change(statement);
+                } else {
+                    if(statement instanceof IfStatement) {
+                        IfStatement ifStatement = (IfStatement) statement;
+                        Expression condition = rewriteExpression(ifStatement.getBooleanExpression());
+                        if(condition != ifStatement.getBooleanExpression()) {
+                            newStatement = new IfStatement(ifStatement.getScope(), condition,
+                                    ifStatement.getTrueBlock(), ifStatement.getFalseBlock());
+                        }
+                    }
+                    // blocks can change anything
+                    epoch++;
+                }
+                numbered.add(newStatement);
+                changed |= newStatement != statement;
+            }
+            return changed ? numbered : statements;
+        }
+
+        /**
+         * Gives new versions to variables and array elements changed by the statement.
+         */
+        private void change(Statement statement) {
+            if(statement instanceof ArrayAssignment) {
+                change(ARRAY_ELEMENTS);
+            } else if(statement instanceof Assignment) {
+                change(((Assignment) statement).getName());
+            } else if(statement instanceof VariableDeclaration) {
+                change(((VariableDeclaration) statement).getName());
+            } else if(statement instanceof ConstantDeclaration) {
+                change(((ConstantDeclaration) statement).getName());
+            } else if(statement instanceof ArrayDeclaration) {
+                change(((ArrayDeclaration) statement).getName());
+            } else if(statement instanceof ReadStatement) {
+                ReadStatement readStatement = (ReadStatement) statement;
+                boolean element = readStatement.variable() instanceof LocalVariableArrayIndex;
+                change(element ? ARRAY_ELEMENTS : readStatement.variable().name());
+            } else if(statement instanceof TemporaryDeclaration) {
+                change(ExpressionKeys.getKey(((TemporaryDeclaration) statement).createRef()));
+            } else if(statement instanceof InlinedCall) {
+                ((InlinedCall) statement).getVariableName().ifPresent(this::change);
+                change(ARRAY_ELEMENTS);
+            } else if(statement instanceof ProcedureCall) {
+                change(ARRAY_ELEMENTS);
+            }
+        }
+
+        private void change(String name) {
+            versions.merge(name, 1, Integer::sum);
+        }
+
+        @Override
+        protected Expression rewriteExpression(Expression expression) {
+            if(!isKept(expression)) {
+                Expression rewritten = rewriteOperands(expression);
+                if(expression instanceof FunctionCall) {
+                    change(ARRAY_ELEMENTS);
+                }
+                return rewritten;
+            }
+            String key = getValueKey(expression);
+            Type type = getValueType(expression);
+            Integer keptIndex = kept.get(key);
+            if(keptIndex != null) {
+                readAgain.add(key);
+                return new TemporaryRef(keptIndex, type);
+            }
+            if(pass == Pass.COUNT) {
+                occurrences.merge(key, 1, Integer::sum);
+            } else if(conditionalDepth == 0 && occurrences.getOrDefault(key, 0) > 1
+                    && (pass == Pass.FIND_READ || readAgain.contains(key))) {
+                keptIndex = index;
+                index += MethodSlots.getSize(type);
+                kept.put(key, keptIndex);
+                return new TemporaryStore(keptIndex, type, rewriteOperands(expression));
+            }
+            return rewriteOperands(expression);
+        }
+
+        private Expression rewriteOperands(Expression expression) {
+            if(!(expression instanceof And) && !(expression instanceof Or)) {
+                return super.rewriteExpression(expression);
+            }
+            BinaryExpression logic = (BinaryExpression) expression;
+            Expression left = rewriteExpression(logic.getLeft());
+            conditionalDepth++;
+            Expression right = rewriteExpression(logic.getRight());
+            conditionalDepth--;
+            if(left == logic.getLeft() && right == logic.getRight()) {
+                return expression;
+            }
+            return createBinaryExpression(logic, left, right);
+        }
+
+        /**
+         * Values worth keeping are computed from variables and constants only and are more than a variable,
+         * a constant or its cast.
+         */
+        private boolean isKept(Expression expression) {
+            if(!KEPT_TYPES.contains(expression.type()) || !isComputedFromVariables(expression)) {
+                return false;
+            }
+            if(expression instanceof UnaryExpression) {
+                return !isLeaf(((UnaryExpression) expression).getExpression());
+            }
+            return !isLeaf(expression);
+        }
+
+        /**
+         * Characters of words are typed as the word.
+         */
+        private Type getValueType(Expression expression) {
+            return expression instanceof ArrayRef && expression.type() == BuiltInType.STRING
+                    ? BuiltInType.CHAR : expression.type();
+        }
+
+        private boolean isLeaf(Expression expression) {
+            return expression instanceof VariableRef
+                    || expression instanceof Value || expression instanceof TemporaryRef;
+        }
+
+        private boolean isComputedFromVariables(Expression expression) {
+            if(isLeaf(expression)) {
+                return true;
+            } else if(expression instanceof Concatenation) {
+                return false;
+            } else if(expression instanceof BinaryExpression) {
+                BinaryExpression binaryExpression = (BinaryExpression) expression;
+                return isComputedFromVariables(binaryExpression.getLeft())
+                        && isComputedFromVariables(binaryExpression.getRight());
+            } else if(expression instanceof UnaryExpression) {
+                return isComputedFromVariables(((UnaryExpression) expression).getExpression());
+            } else if(expression instanceof ArrayRef) {
+                return isComputedFromVariables(((ArrayRef) expression).getIndex());
+            }
+            return false;
+        }
+
+        /**
+         * The key of an expression followed by versions of everything it reads.
+         */
+        private String getValueKey(Expression expression) {
+            StringBuilder key = new StringBuilder(ExpressionKeys.getKey(expression)).append(" @").append(epoch);
+            appendVersions(expression, key);
+            return key.toString();
+        }
+
+        private void appendVersions(Expression expression, StringBuilder key) {
+            List<String> names = Collections.emptyList();
+            if(expression instanceof ArrayRef) {
+                String name = ((ArrayRef) expression).name();
+                names = Arrays.asList(name, ARRAY_ELEMENTS);
+                appendVersions(((ArrayRef) expression).getIndex(), key);
+            } else if(expression instanceof VariableRef) {
+                names = Collections.singletonList(((VariableRef) expression).name());
+            } else if(expression instanceof TemporaryRef) {
+                names = Collections.singletonList(ExpressionKeys.getKey(expression));
+            } else if(expression instanceof BinaryExpression) {
+                appendVersions(((BinaryExpression) expression).getLeft(), key);
+                appendVersions(((BinaryExpression) expression).getRight(), key);
+            } else if(expression instanceof UnaryExpression) {
+                appendVersions(((UnaryExpression) expression).getExpression(), key);
+            }
+            for(String name : names) {
+                key.append(' ').append(name).append('=').append(versions.getOrDefault(name, 0));
+            }
+        }
+    }
+
+    private enum Pass {
+        COUNT, FIND_READ, KEEP
+    }
+}
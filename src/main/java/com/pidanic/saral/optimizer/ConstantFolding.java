@@ -0,0 +1,386 @@
+package com.pidanic.saral.optimizer;
+
+import com.pidanic.saral.domain.ConstantDeclaration;
+import com.pidanic.saral.domain.Statement;
+import com.pidanic.saral.domain.expression.*;
+import com.pidanic.saral.domain.expression.cast.CastExpression;
+import com.pidanic.saral.domain.expression.cast.CastingSign;
+import com.pidanic.saral.domain.expression.logic.And;
+import com.pidanic.saral.domain.expression.logic.Negation;
+import com.pidanic.saral.domain.expression.logic.Or;
+import com.pidanic.saral.domain.expression.math.*;
+import com.pidanic.saral.domain.expression.string.Concatenation;
+import com.pidanic.saral.util.BuiltInType;
+import com.pidanic.saral.util.Logic;
+import com.pidanic.saral.util.Type;
+import com.pidanic.saral.util.TypeResolver;
+import org.apache.commons.lang3.StringUtils;
+
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Optional;
+
+/**
+ * Evaluates arithmetic, comparisons, casts, logic and concatenation of constant operands at compile time
+ * and propagates values of <code>furt</code> constants initialized by a constant expression into their uses.
+ *
+ * Folded values are the same as values computed by the generated code. Long and int arithmetic overflows,
+ * double comparison with NaN behaves like DCMPG and logic follows Kleene's tables. Integer division by zero
+ * and char results out of the char range are left for run time.
+ */
+class ConstantFolding extends TreeRewriter {
+
+    private final Deque<Map<String, Value>> constants = new ArrayDeque<>();
+
+    ConstantFolding() {
+        constants.push(new HashMap<>());
+    }
+
+    @Override
+    protected void enterBlock() {
+        constants.push(new HashMap<>(constants.peek()));
+    }
+
+    @Override
+    protected void exitBlock() {
+        constants.pop();
+    }
+
+    @Override
+    protected Statement rewriteConstantDeclaration(ConstantDeclaration declaration) {
+        Statement statement = super.rewriteConstantDeclaration(declaration);
+        Expression expression = ((ConstantDeclaration) statement).getExpression().get();
+        // string constants can be changed by index
+        if(expression instanceof Value && expression.type() != BuiltInType.STRING) {
+            constants.peek().put(declaration.getName(), (Value) expression);
+        }
+        return statement;
+    }
+
+    @Override
+    protected Expression rewriteNode(Expression expression) {
+        Optional<Expression> folded = Optional.empty();
+        if(expression instanceof ArrayRef) {
+            return expression;
+        } else if(expression instanceof VariableRef) {
+            folded = propagateConstant((VariableRef) expression);
+        } else if(expression instanceof Concatenation) {
+            folded = foldConcatenation((Concatenation) expression);
+        } else if(expression instanceof CompareExpression) {
+            folded = foldComparison((CompareExpression) expression);
+        } else if(expression instanceof And) {
+            folded = foldAnd((And) expression);
+        } else if(expression instanceof Or) {
+            folded = foldOr((Or) expression);
+        } else if(expression instanceof BinaryExpression) {
+            folded = foldArithmetic((BinaryExpression) expression);
+        } else if(expression instanceof Negation) {
+            folded = foldNegation((Negation) expression);
+        } else if(expression instanceof UnaryMinus) {
+            folded = foldUnaryMinus((UnaryMinus) expression);
+        } else if(expression instanceof CastExpression) {
+            folded = foldCast((CastExpression) expression);
+        }
+        return folded.orElse(expression);
+    }
+
+    private Optional<Expression> propagateConstant(VariableRef variableRef) {
+        Value value = constants.peek().get(variableRef.name());
+        if(value == null || value.type() != variableRef.type()) {
+            return Optional.empty();
+        }
+        return Optional.of(value);
+    }
+
+    private Optional<Expression> foldArithmetic(BinaryExpression expression) {
+        if(!(expression.getLeft() instanceof Value) || !(expression.getRight() instanceof Value)) {
+            return Optional.empty();
+        }
+        Value left = (Value) expression.getLeft();
+        Value right = (Value) expression.getRight();
+        ArithmeticSign sign = (ArithmeticSign) expression.getSign();
+        Type type = expression.type();
+        if(type == BuiltInType.LONG && left.type() == BuiltInType.LONG && right.type() == BuiltInType.LONG) {
+            return foldLong(sign, toLong(left), toLong(right));
+        }
+        if(type == BuiltInType.DOUBLE && left.type() == BuiltInType.DOUBLE && right.type() == BuiltInType.DOUBLE) {
+            return foldDouble(sign, toDouble(left), toDouble(right));
+        }
+        if(isIntOnStack(type) && isIntOnStack(left.type()) && isIntOnStack(right.type())) {
+            return foldInt(sign, toInt(left), toInt(right)).flatMap(result -> createIntValue(type, result));
+        }
+        return Optional.empty();
+    }
+
+    private static Optional<Expression> foldLong(ArithmeticSign sign, long left, long right) {
+        switch (sign) {
+            case ADD:
+                return Optional.of(createLongValue(left + right));
+            case SUB:
+                return Optional.of(createLongValue(left - right));
+            case MULT:
+                return Optional.of(createLongValue(left * right));
+            case DIV:
+            case DIV2:
+                return right == 0 ? Optional.empty() : Optional.of(createLongValue(left / right));
+            case MOD:
+                return right == 0 ? Optional.empty() : Optional.of(createLongValue(left % right));
+            default:
+                return Optional.empty();
+        }
+    }
+
+    private static Optional<Expression> foldDouble(ArithmeticSign sign, double left, double right) {
+        switch (sign) {
+            case ADD:
+                return Optional.of(createDoubleValue(left + right));
+            case SUB:
+                return Optional.of(createDoubleValue(left - right));
+            case MULT:
+                return Optional.of(createDoubleValue(left * right));
+            case DIV:
+            case DIV2:
+                return Optional.of(createDoubleValue(left / right));
+            default:
+                return Optional.empty();
+        }
+    }
+
+    private static Optional<Integer> foldInt(ArithmeticSign sign, int left, int right) {
+        switch (sign) {
+            case ADD:
+                return Optional.of(left + right);
+            case SUB:
+                return Optional.of(left - right);
+            case MULT:
+                return Optional.of(left * right);
+            case DIV:
+            case DIV2:
+                return right == 0 ? Optional.empty() : Optional.of(left / right);
+            case MOD:
+                return right == 0 ? Optional.empty() : Optional.of(left % right);
+            default:
+                return Optional.empty();
+        }
+    }
+
+    private Optional<Expression> foldComparison(CompareExpression expression) {
+        if(!(expression.getLeft() instanceof Value) || !(expression.getRight() instanceof Value)) {
+            return Optional.empty();
+        }
+        Value left = (Value) expression.getLeft();
+        Value right = (Value) expression.getRight();
+        int comparison;
+        if(left.type() == BuiltInType.LONG && right.type() == BuiltInType.LONG) {
+            comparison = Long.compare(toLong(left), toLong(right));
+        } else if(left.type() == BuiltInType.DOUBLE && right.type() == BuiltInType.DOUBLE) {
+            comparison = compareAsDcmpg(toDouble(left), toDouble(right));
+        } else if(isIntOnStack(left.type()) && isIntOnStack(right.type())) {
+            // chars are compared by subtraction
+            comparison = toInt(left) - toInt(right);
+        } else {
+            return Optional.empty();
+        }
+        return Optional.of(createBooleanValue(compare((CompareSign) expression.getSign(), comparison)));
+    }
+
+    private static int compareAsDcmpg(double left, double right) {
+        if(left < right) {
+            return -1;
+        } else if(left == right) {
+            return 0;
+        }
+        // greater or NaN
+        return 1;
+    }
+
+    private static boolean compare(CompareSign sign, int comparison) {
+        switch (sign) {
+            case EQUAL:
+                return comparison == 0;
+            case NOT_EQUAL:
+                return comparison != 0;
+            case LESS:
+                return comparison < 0;
+            case GREATER:
+                return comparison > 0;
+            case LESS_OR_EQUAL:
+                return comparison <= 0;
+            default:
+                return comparison >= 0;
+        }
+    }
+
+    private Optional<Expression> foldAnd(And expression) {
+        Expression left = expression.getLeft();
+        Expression right = expression.getRight();
+        if(left instanceof Value && right instanceof Value) {
+            return Optional.of(createBooleanValue(toLogic((Value) left).and(toLogic((Value) right))));
+        }
+        // pravda is the identity of Kleene's conjunction
+        if(isLogicValue(left, Logic.PRAVDA)) {
+            return Optional.of(right);
+        }
+        if(isLogicValue(right, Logic.PRAVDA)) {
+            return Optional.of(left);
+        }
+        return Optional.empty();
+    }
+
+    private Optional<Expression> foldOr(Or expression) {
+        Expression left = expression.getLeft();
+        Expression right = expression.getRight();
+        if(left instanceof Value && right instanceof Value) {
+            return Optional.of(createBooleanValue(toLogic((Value) left).or(toLogic((Value) right))));
+        }
+        // ošaľ is the identity of Kleene's disjunction
+        if(isLogicValue(left, Logic.OSAL)) {
+            return Optional.of(right);
+        }
+        if(isLogicValue(right, Logic.OSAL)) {
+            return Optional.of(left);
+        }
+        return Optional.empty();
+    }
+
+    private Optional<Expression> foldNegation(Negation expression) {
+        if(!(expression.getExpression() instanceof Value)) {
+            return Optional.empty();
+        }
+        return Optional.of(createBooleanValue(toLogic((Value) expression.getExpression()).not()));
+    }
+
+    private Optional<Expression> foldUnaryMinus(UnaryMinus expression) {
+        if(!(expression.getExpression() instanceof Value)) {
+            return Optional.empty();
+        }
+        Value value = (Value) expression.getExpression();
+        if(value.type() == BuiltInType.LONG) {
+            return Optional.of(createLongValue(-toLong(value)));
+        } else if(value.type() == BuiltInType.DOUBLE) {
+            return Optional.of(createDoubleValue(-toDouble(value)));
+        }
+        return Optional.empty();
+    }
+
+    private Optional<Expression> foldCast(CastExpression expression) {
+        if(!(expression.getExpression() instanceof Value) || expression.getExpression().type() != BuiltInType.LONG) {
+            return Optional.empty();
+        }
+        long value = toLong((Value) expression.getExpression());
+        if(expression.getSign() == CastingSign.LONG_TO_DOUBLE) {
+            return Optional.of(createDoubleValue((double) value));
+        } else if(expression.getSign() == CastingSign.LONG_TO_INT) {
+            return createIntValue(BuiltInType.INT, (int) value);
+        }
+        return Optional.empty();
+    }
+
+    private Optional<Expression> foldConcatenation(Concatenation expression) {
+        if(!(expression.getLeft() instanceof Value) || !(expression.getRight() instanceof Value)) {
+            return Optional.empty();
+        }
+        Optional<String> left = toConcatenatedString((Value) expression.getLeft());
+        Optional<String> right = toConcatenatedString((Value) expression.getRight());
+        if(!left.isPresent() || !right.isPresent()) {
+            return Optional.empty();
+        }
+        return Optional.of(createStringValue(left.get() + right.get()));
+    }
+
+    /**
+     * Returns the string, which <code>String.valueOf</code> creates from the value at run time.
+     */
+    private static Optional<String> toConcatenatedString(Value value) {
+        Type type = value.type();
+        if(type == BuiltInType.STRING) {
+            return Optional.of(toStringValue(value));
+        } else if(type == BuiltInType.LONG) {
+            return Optional.of(String.valueOf(toLong(value)));
+        } else if(type == BuiltInType.DOUBLE) {
+            return Optional.of(String.valueOf(toDouble(value)));
+        } else if(type == BuiltInType.CHAR) {
+            return Optional.of(String.valueOf(toChar(value)));
+        } else if(type == BuiltInType.INT) {
+            return Optional.of(String.valueOf(toInt(value)));
+        } else if(type == BuiltInType.BOOLEAN) {
+            Logic logic = toLogic(value);
+            // skoroošaľ is not a valid boolean value for String.valueOf
+            if(logic != Logic.SKOROOSAL) {
+                return Optional.of(String.valueOf(logic == Logic.PRAVDA));
+            }
+        }
+        return Optional.empty();
+    }
+
+    private static boolean isIntOnStack(Type type) {
+        return type == BuiltInType.INT || type == BuiltInType.CHAR;
+    }
+
+    private static boolean isLogicValue(Expression expression, Logic logic) {
+        return expression instanceof Value && expression.type() == BuiltInType.BOOLEAN
+                && toLogic((Value) expression) == logic;
+    }
+
+    private static long toLong(Value value) {
+        return Long.parseLong(value.getValue());
+    }
+
+    private static double toDouble(Value value) {
+        return Double.parseDouble(value.getValue());
+    }
+
+    private static int toInt(Value value) {
+        if(TypeResolver.isChar(value.type())) {
+            return toChar(value);
+        }
+        return Integer.parseInt(value.getValue());
+    }
+
+    private static char toChar(Value value) {
+        String charValue = StringUtils.removeStart(value.getValue(), "'");
+        charValue = StringUtils.removeEnd(charValue, "'");
+        return charValue.charAt(0);
+    }
+
+    private static String toStringValue(Value value) {
+        String stringValue = StringUtils.removeStart(value.getValue(), "\"");
+        return StringUtils.removeEnd(stringValue, "\"");
+    }
+
+    private static Logic toLogic(Value value) {
+        return Logic.getFromString(value.getValue());
+    }
+
+    private static Value createLongValue(long value) {
+        return new Value(BuiltInType.LONG, Long.toString(value));
+    }
+
+    private static Value createDoubleValue(double value) {
+        return new Value(BuiltInType.DOUBLE, Double.toString(value));
+    }
+
+    private static Optional<Expression> createIntValue(Type type, int value) {
+        if(type == BuiltInType.CHAR) {
+            if(value < Character.MIN_VALUE || value > Character.MAX_VALUE) {
+                return Optional.empty();
+            }
+            return Optional.of(new Value(BuiltInType.CHAR, "'" + (char) value + "'"));
+        }
+        return Optional.of(new Value(BuiltInType.INT, Integer.toString(value)));
+    }
+
+    private static Value createBooleanValue(boolean value) {
+        return createBooleanValue(value ? Logic.PRAVDA : Logic.OSAL);
+    }
+
+    private static Value createBooleanValue(Logic value) {
+        return new Value(BuiltInType.BOOLEAN, value.getStringValue());
+    }
+
+    private static Value createStringValue(String value) {
+        return new Value(BuiltInType.STRING, "\"" + value + "\"");
+    }
+}
@@ -0,0 +1,404 @@
+package com.pidanic.saral.optimizer;
+
+import com.pidanic.saral.domain.ArrayAssignment;
+import com.pidanic.saral.domain.ArrayDeclaration;
+import com.pidanic.saral.domain.Assignment;
+import com.pidanic.saral.domain.CalledArgument;
+import com.pidanic.saral.domain.InlinedCall;
+import com.pidanic.saral.domain.Init;
+import com.pidanic.saral.domain.PrintStatement;
+import com.pidanic.saral.domain.ProcedureCall;
+import com.pidanic.saral.domain.ReadStatement;
+import com.pidanic.saral.domain.ReturnStatement;
+import com.pidanic.saral.domain.Statement;
+import com.pidanic.saral.domain.TailCall;
+import com.pidanic.saral.domain.TemporaryDeclaration;
+import com.pidanic.saral.domain.VariableDeclaration;
+import com.pidanic.saral.domain.block.ForStatement;
+import com.pidanic.saral.domain.block.Function;
+import com.pidanic.saral.domain.block.IfStatement;
+import com.pidanic.saral.domain.block.SwitchStatement;
+import com.pidanic.saral.domain.block.WhileStatement;
+import com.pidanic.saral.domain.expression.ArrayRef;
+import com.pidanic.saral.domain.expression.BinaryExpression;
+import com.pidanic.saral.domain.expression.Expression;
+import com.pidanic.saral.domain.expression.FunctionCall;
+import com.pidanic.saral.domain.expression.TemporaryRef;
+import com.pidanic.saral.domain.expression.UnaryExpression;
+import com.pidanic.saral.domain.expression.Value;
+import com.pidanic.saral.domain.expression.VariableRef;
+import com.pidanic.saral.domain.expression.math.Division;
+import com.pidanic.saral.domain.expression.math.Modulo;
+import com.pidanic.saral.scope.LocalVariable;
+import com.pidanic.saral.scope.LocalVariableArrayIndex;
+import com.pidanic.saral.util.BuiltInType;
+import com.pidanic.saral.util.Logic;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+
+/**
+ * Removes code whose result is never used or which is never executed, and writes every removal to a
+ * {@link DeadCodeReport}:
+ * <ul>
+ *     <li>stores to variables, which are not read anywhere in their method, <code>main</code> or a bar,</li>
+ *     <li>stores overwritten by a following statement of the same block before they are read,</li>
+ *     <li>blocks of <code>keď</code> with a <code>pravda</code> or <code>ošaľ</code> condition, which are never
+ *     executed,</li>
+ *     <li>statements after a <code>kým pravda</code> loop or a tail call.</li>
+ * </ul>
+ *
+ * Only stores whose expression cannot throw nor call a bar are removed. Arrays are never removed, because bars
+ * change the same array. The executed block of <code>keď</code> replaces the whole statement, when its scope has
+ * no variables of its own, otherwise only the other block is removed. Stores are removed again, until variables
+ * read only by removed stores are removed too.
+ *
+ * Reads are told apart by method and variable name only, so a variable is kept, when a variable of the same name
+ * is read in another block of the same method or in a bar inlined into it.
+ */
+class DeadCodeElimination extends TreeRewriter {
+
+    private static final String MAIN = "main";
+
+    private final DeadCodeReport report;
+    private Map<String, Set<String>> readNames;
+    private String method = MAIN;
+    private boolean removed;
+
+    DeadCodeElimination(DeadCodeReport report) {
+        this.report = report;
+    }
+
+    @Override
+    Init rewrite(Init compilationUnit) {
+        Init rewritten = compilationUnit;
+        do {
+            removed = false;
+            readNames = new HashMap<>();
+            collectReads(rewritten.getStatements(), getReadNames(MAIN));
+            rewritten = super.rewrite(rewritten);
+        } while(removed);
+        return rewritten;
+    }
+
+    @Override
+    protected Statement rewriteFunction(Function function) {
+        String callerMethod = method;
+        method = getMethod(function);
+        Statement rewritten = super.rewriteFunction(function);
+        method = callerMethod;
+        return rewritten;
+    }
+
+    @Override
+    protected List<Statement> rewriteStatements(List<Statement> statements) {
+        List<Statement> rewritten = super.rewriteStatements(statements);
+        List<Statement> live = new ArrayList<>(rewritten.size());
+        boolean changed = false;
+        boolean reachable = true;
+        int unreachable = 0;
+        for(Statement statement : rewritten) {
+            // bars are generated as methods of their own, so they are never unreachable
+            if(!reachable && !(statement instanceof Function)) {
+                unreachable++;
+                continue;
+            }
+            reachable &= completes(statement);
+            Logic condition = statement instanceof IfStatement
+                    ? getConstantCondition(((IfStatement) statement).getBooleanExpression()) : null;
+            if(condition == Logic.PRAVDA || condition == Logic.OSAL) {
+                changed |= addExecutedBlock((IfStatement) statement, condition == Logic.PRAVDA, live);
+            } else if(isUnusedStore(statement)) {
+                remove(statement instanceof VariableDeclaration
+                        ? "removed unused variable " + getStoredName(statement)
+                        : "removed store to unused variable " + getStoredName(statement));
+                changed = true;
+            } else {
+                live.add(statement);
+            }
+        }
+        if(unreachable > 0) {
+            remove("removed " + unreachable + " unreachable statements");
+            changed = true;
+        }
+        List<Statement> stored = removeOverwrittenStores(live);
+        return changed || stored != live ? stored : rewritten;
+    }
+
+    /**
+     * @return <code>false</code>, if the statement is kept as it is
+     */
+    private boolean addExecutedBlock(IfStatement ifStatement, boolean condition, List<Statement> statements) {
+        List<Statement> executed = condition ? ifStatement.getTrueBlock() : ifStatement.getFalseBlock();
+        List<Statement> skipped = condition ? ifStatement.getFalseBlock() : ifStatement.getTrueBlock();
+        // statements of the block are generated in the scope of the enclosing block, which lacks own variables of the block
+        if(!ifStatement.getScope().hasOwnVariables() && executed.stream().noneMatch(Function.class::isInstance)) {
+            statements.addAll(executed);
+            remove("removed keď with constant condition");
+            return true;
+        }
+        if(skipped.isEmpty()) {
+            statements.add(ifStatement);
+            return false;
+        }
+        List<Statement> empty = Collections.emptyList();
+        statements.add(new IfStatement(ifStatement.getScope(), ifStatement.getBooleanExpression(),
+                condition ? executed : empty, condition ? empty : executed));
+        remove("removed never executed block of keď with constant condition");
+        return true;
+    }
+
+    /**
+     * Walks the statements backwards and remembers variables, which are stored by a following statement
+     * before any statement reads them.
+     */
+    private List<Statement> removeOverwrittenStores(List<Statement> statements) {
+        Set<String> overwritten = new HashSet<>();
+        List<Statement> kept = new ArrayList<>(statements.size());
+        for(int i = statements.size() - 1; i >= 0; i--) {
+            Statement statement = statements.get(i);
+            String name = getStoredName(statement);
+            if(name != null && overwritten.contains(name)
+                    && getStoredExpression(statement).map(this::isSideEffectFree).orElse(false)) {
+                remove("removed store to " + name + " overwritten before it is read");
+                continue;
+            }
+            kept.add(statement);
+            // a tail call starts the bar again, where its parameters are read
+            if(hasTailCall(statement)) {
+                overwritten.clear();
+                continue;
+            }
+            if(name != null) {
+                overwritten.add(name);
+            } else if(statement instanceof ReadStatement
+                    && !(((ReadStatement) statement).variable() instanceof LocalVariableArrayIndex)) {
+                overwritten.add(((ReadStatement) statement).variable().name());
+            }
+            Set<String> reads = new HashSet<>();
+            collectReads(statement, reads);
+            overwritten.removeAll(reads);
+        }
+        if(kept.size() == statements.size()) {
+            return statements;
+        }
+        Collections.reverse(kept);
+        return kept;
+    }
+
+    private void remove(String removal) {
+        report.add(method, removal);
+        removed = true;
+    }
+
+    private boolean isUnusedStore(Statement statement) {
+        String name = getStoredName(statement);
+        return name != null && !getReadNames(method).contains(name)
+                && getStoredExpression(statement).map(this::isSideEffectFree).orElse(true);
+    }
+
+    private Set<String> getReadNames(String method) {
+        return readNames.computeIfAbsent(method, key -> new HashSet<>());
+    }
+
+    private static String getMethod(Function function) {
+        return "bar " + function.getName();
+    }
+
+    /**
+     * Returns name of the variable stored by the statement, or <code>null</code> for other statements.
+     */
+    private static String getStoredName(Statement statement) {
+        if(statement instanceof Assignment && !(statement instanceof ArrayAssignment)) {
+            return ((Assignment) statement).getName();
+        } else if(statement instanceof VariableDeclaration) {
+            return ((VariableDeclaration) statement).getName();
+        }
+        return null;
+    }
+
+    private static Optional<Expression> getStoredExpression(Statement statement) {
+        return statement instanceof Assignment ? ((Assignment) statement).getExpression()
+                : ((VariableDeclaration) statement).getExpression();
+    }
+
+    private static Logic getConstantCondition(Expression condition) {
+        if(!(condition instanceof Value) || condition.type() != BuiltInType.BOOLEAN) {
+            return null;
+        }
+        return Logic.getFromString(((Value) condition).getValue());
+    }
+
+    /**
+     * Returns <code>false</code>, if statements following the statement are never executed.
+     */
+    private static boolean completes(Statement statement) {
+        if(statement instanceof TailCall) {
+            return false;
+        } else if(statement instanceof WhileStatement) {
+            return getConstantCondition(((WhileStatement) statement).getExpression()) != Logic.PRAVDA;
+        } else if(statement instanceof IfStatement) {
+            IfStatement ifStatement = (IfStatement) statement;
+            return completes(ifStatement.getTrueBlock()) || completes(ifStatement.getFalseBlock());
+        } else if(statement instanceof SwitchStatement) {
+            SwitchStatement switchStatement = (SwitchStatement) statement;
+            return switchStatement.getCases().stream().anyMatch(switchCase -> completes(switchCase.getBlock()))
+                    || completes(switchStatement.getDefaultBlock());
+        }
+        return true;
+    }
+
+    private static boolean completes(List<Statement> statements) {
+        return statements.stream().allMatch(DeadCodeElimination::completes);
+    }
+
+    private static boolean hasTailCall(Statement statement) {
+        if(statement instanceof TailCall) {
+            return true;
+        } else if(statement instanceof IfStatement) {
+            IfStatement ifStatement = (IfStatement) statement;
+            return hasTailCall(ifStatement.getTrueBlock()) || hasTailCall(ifStatement.getFalseBlock());
+        } else if(statement instanceof WhileStatement) {
+            return hasTailCall(((WhileStatement) statement).getBlock());
+        } else if(statement instanceof ForStatement) {
+            return hasTailCall(((ForStatement) statement).getBlock());
+        } else if(statement instanceof SwitchStatement) {
+            SwitchStatement switchStatement = (SwitchStatement) statement;
+            return switchStatement.getCases().stream().anyMatch(switchCase -> hasTailCall(switchCase.getBlock()))
+                    || hasTailCall(switchStatement.getDefaultBlock());
+        }
+        return false;
+    }
+
+    private static boolean hasTailCall(List<Statement> statements) {
+        return statements.stream().anyMatch(DeadCodeElimination::hasTailCall);
+    }
+
+    /**
+     * Bar calls can print or read, array elements and numeral division by zero throw.
+     */
+    private boolean isSideEffectFree(Expression expression) {
+        if(expression instanceof Value || expression instanceof TemporaryRef) {
+            return true;
+        } else if(expression instanceof ArrayRef) {
+            return false;
+        } else if(expression instanceof VariableRef) {
+            return true;
+        } else if(expression instanceof Division || expression instanceof Modulo) {
+            BinaryExpression division = (BinaryExpression) expression;
+            Expression divisor = division.getRight();
+            boolean notThrowing = division.type() == BuiltInType.DOUBLE || divisor instanceof Value
+                    && divisor.type() == BuiltInType.LONG && Long.parseLong(((Value) divisor).getValue()) != 0;
+            return notThrowing && isSideEffectFree(division.getLeft()) && isSideEffectFree(divisor);
+        } else if(expression instanceof BinaryExpression) {
+            BinaryExpression binaryExpression = (BinaryExpression) expression;
+            return isSideEffectFree(binaryExpression.getLeft()) && isSideEffectFree(binaryExpression.getRight());
+        } else if(expression instanceof UnaryExpression) {
+            return isSideEffectFree(((UnaryExpression) expression).getExpression());
+        }
+        return false;
+    }
+
+    /**
+     * Collects names of variables the statements read. Arrays are taken as read, when their elements are stored,
+     * and variables of inlined bars are taken as read, although they have their own scope. Reads of bars are
+     * collected to the names of their own method.
+     */
+    private void collectReads(List<Statement> statements, Set<String> names) {
+        statements.forEach(statement -> collectReads(statement, names));
+    }
+
+    private void collectReads(Statement statement, Set<String> names) {
+        if(statement instanceof ArrayAssignment) {
+            ArrayAssignment assignment = (ArrayAssignment) statement;
+            names.add(assignment.getName());
+            collectReads(assignment.getIndex(), names);
+            collectReads(assignment.getExpression().get(), names);
+        } else if(statement instanceof Assignment) {
+            collectReads(((Assignment) statement).getExpression().get(), names);
+        } else if(statement instanceof VariableDeclaration) {
+            ((VariableDeclaration) statement).getExpression().ifPresent(expression -> collectReads(expression, names));
+        } else if(statement instanceof ArrayDeclaration) {
+            collectReads(((ArrayDeclaration) statement).getLength(), names);
+        } else if(statement instanceof TemporaryDeclaration) {
+            collectReads(((TemporaryDeclaration) statement).getExpression(), names);
+        } else if(statement instanceof PrintStatement) {
+            collectReads(((PrintStatement) statement).getVariable(), names);
+        } else if(statement instanceof ReadStatement) {
+            LocalVariable variable = ((ReadStatement) statement).variable();
+            if(variable instanceof LocalVariableArrayIndex) {
+                collectReads(variable, names);
+            }
+        } else if(statement instanceof ProcedureCall) {
+            collectArgumentReads(((ProcedureCall) statement).getCalledArguments(), names);
+        } else if(statement instanceof TailCall) {
+            collectArgumentReads(((TailCall) statement).getCalledArguments(), names);
+        } else if(statement instanceof InlinedCall) {
+            InlinedCall call = (InlinedCall) statement;
+            collectArgumentReads(call.getCalledArguments(), names);
+            collectReads(call.getStatements(), names);
+            call.getResult().ifPresent(result -> collectReads(result, names));
+        } else if(statement instanceof ReturnStatement) {
+            collectReads(((ReturnStatement) statement).getExpression(), names);
+        } else if(statement instanceof Function) {
+            Function function = (Function) statement;
+            Set<String> functionNames = getReadNames(getMethod(function));
+            collectReads(function.getStatements(), functionNames);
+            function.getReturnStatement().ifPresent(returnStatement -> collectReads(returnStatement, functionNames));
+        } else if(statement instanceof IfStatement) {
+            IfStatement ifStatement = (IfStatement) statement;
+            collectReads(ifStatement.getBooleanExpression(), names);
+            collectReads(ifStatement.getTrueBlock(), names);
+            collectReads(ifStatement.getFalseBlock(), names);
+        } else if(statement instanceof WhileStatement) {
+            WhileStatement whileStatement = (WhileStatement) statement;
+            collectReads(whileStatement.getExpression(), names);
+            collectReads(whileStatement.getBlock(), names);
+        } else if(statement instanceof ForStatement) {
+            ForStatement forStatement = (ForStatement) statement;
+            names.add(forStatement.getVariable().getName());
+            collectReads(forStatement.getFromExpression(), names);
+            collectReads(forStatement.getToExpression(), names);
+            collectReads(forStatement.getBlock(), names);
+        } else if(statement instanceof SwitchStatement) {
+            SwitchStatement switchStatement = (SwitchStatement) statement;
+            names.add(switchStatement.getVariable().name());
+            switchStatement.getCases().forEach(switchCase -> collectReads(switchCase.getBlock(), names));
+            collectReads(switchStatement.getDefaultBlock(), names);
+        }
+    }
+
+    private static void collectReads(LocalVariable variable, Set<String> names) {
+        names.add(variable.name());
+        if(variable instanceof LocalVariableArrayIndex) {
+            collectReads(((LocalVariableArrayIndex) variable).getIndex(), names);
+        }
+    }
+
+    private static void collectArgumentReads(List<CalledArgument> arguments, Set<String> names) {
+        arguments.forEach(argument -> names.add(argument.getName()));
+    }
+
+    private static void collectReads(Expression expression, Set<String> names) {
+        if(expression instanceof VariableRef) {
+            names.add(((VariableRef) expression).name());
+        } else if(expression instanceof ArrayRef) {
+            names.add(((ArrayRef) expression).name());
+            collectReads(((ArrayRef) expression).getIndex(), names);
+        } else if(expression instanceof FunctionCall) {
+            collectArgumentReads(((FunctionCall) expression).getCalledArguments(), names);
+        } else if(expression instanceof BinaryExpression) {
+            BinaryExpression binaryExpression = (BinaryExpression) expression;
+            collectReads(binaryExpression.getLeft(), names);
+            collectReads(binaryExpression.getRight(), names);
+        } else if(expression instanceof UnaryExpression) {
+            collectReads(((UnaryExpression) expression).getExpression(), names);
+        }
+    }
+}
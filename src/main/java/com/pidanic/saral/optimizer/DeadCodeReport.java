@@ -0,0 +1,29 @@
+package com.pidanic.saral.optimizer;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * Code removed from one compilation unit by {@link DeadCodeElimination}, one line for every removal.
+ */
+public class DeadCodeReport {
+    private final List<String> removals = new ArrayList<>();
+
+    void add(String method, String removal) {
+        removals.add(method + ": " + removal);
+    }
+
+    public List<String> getRemovals() {
+        return Collections.unmodifiableList(removals);
+    }
+
+    public boolean isEmpty() {
+        return removals.isEmpty();
+    }
+
+    @Override
+    public String toString() {
+        return String.join(System.lineSeparator(), removals);
+    }
+}
@@ -0,0 +1,61 @@
+package com.pidanic.saral.optimizer;
+
+import com.pidanic.saral.domain.expression.ArrayRef;
+import com.pidanic.saral.domain.expression.BinaryExpression;
+import com.pidanic.saral.domain.expression.Expression;
+import com.pidanic.saral.domain.expression.FunctionCall;
+import com.pidanic.saral.domain.expression.TemporaryRef;
+import com.pidanic.saral.domain.expression.UnaryExpression;
+import com.pidanic.saral.domain.expression.Value;
+import com.pidanic.saral.domain.expression.VariableRef;
+
+/**
+ * Describes expressions by text, so expressions with the same operations on the same variables and constants
+ * have the same key.
+ */
+final class ExpressionKeys {
+
+    private ExpressionKeys() {
+    }
+
+    static String getKey(Expression expression) {
+        StringBuilder key = new StringBuilder();
+        appendKey(expression, key);
+        return key.toString();
+    }
+
+    private static void appendKey(Expression expression, StringBuilder key) {
+        if(expression instanceof ArrayRef) {
+            key.append(((ArrayRef) expression).name()).append('[');
+            appendKey(((ArrayRef) expression).getIndex(), key);
+            key.append(']');
+        } else if(expression instanceof VariableRef) {
+            key.append(((VariableRef) expression).name());
+        } else if(expression instanceof Value) {
+            key.append('#').append(expression.type().getName()).append(' ').append(((Value) expression).getValue());
+        } else if(expression instanceof TemporaryRef) {
+            key.append('$').append(((TemporaryRef) expression).getIndex());
+        } else if(expression instanceof BinaryExpression) {
+            BinaryExpression binaryExpression = (BinaryExpression) expression;
+            key.append('(').append(expression.getClass().getSimpleName()).append(' ')
+                    .append(binaryExpression.getSign().getSign()).append(' ');
+            appendKey(binaryExpression.getLeft(), key);
+            key.append(' ');
+            appendKey(binaryExpression.getRight(), key);
+            key.append(')');
+        } else if(expression instanceof UnaryExpression) {
+            key.append('(').append(expression.getClass().getSimpleName()).append(' ')
+                    .append(expression.type().getName()).append(' ');
+            appendKey(((UnaryExpression) expression).getExpression(), key);
+            key.append(')');
+        } else if(expression instanceof FunctionCall) {
+            FunctionCall call = (FunctionCall) expression;
+            key.append(call.getFunction().getName()).append('(');
+            call.getCalledArguments().forEach(argument -> key.append(argument.getName()).append(','));
+            key.append(')');
+        } else {
+            key.append(expression.getClass().getSimpleName()).append('@')
+                    .append(System.identityHashCode(expression));
+        }
+    }
+}
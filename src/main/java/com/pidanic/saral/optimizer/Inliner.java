@@ -0,0 +1,250 @@
+package com.pidanic.saral.optimizer;
+
+import com.pidanic.saral.domain.ArrayAssignment;
+import com.pidanic.saral.domain.ArrayDeclaration;
+import com.pidanic.saral.domain.Assignment;
+import com.pidanic.saral.domain.CalledArgument;
+import com.pidanic.saral.domain.InlinedCall;
+import com.pidanic.saral.domain.Init;
+import com.pidanic.saral.domain.PrintStatement;
+import com.pidanic.saral.domain.ProcedureCall;
+import com.pidanic.saral.domain.ReadStatement;
+import com.pidanic.saral.domain.SimpleStatement;
+import com.pidanic.saral.domain.Statement;
+import com.pidanic.saral.domain.VariableDeclaration;
+import com.pidanic.saral.domain.block.Argument;
+import com.pidanic.saral.domain.block.Function;
+import com.pidanic.saral.domain.expression.ArrayRef;
+import com.pidanic.saral.domain.expression.BinaryExpression;
+import com.pidanic.saral.domain.expression.Expression;
+import com.pidanic.saral.domain.expression.FunctionCall;
+import com.pidanic.saral.domain.expression.UnaryExpression;
+import com.pidanic.saral.domain.expression.VariableRef;
+import com.pidanic.saral.scope.LocalVariable;
+import com.pidanic.saral.scope.LocalVariableArrayIndex;
+import com.pidanic.saral.scope.Scope;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Replaces calls of small bars by their statements, see {@link InlinedCall}. A call is inlined, when it is
+ * a procedure call or when it is the whole value assigned to a variable, so nothing else is evaluated between
+ * the arguments and the result.
+ *
+ * A bar is inlined, when it has only simple statements, does not call itself, uses only its parameters and
+ * variables and its size is not over the limit. The size is the number of its statements and of the parts
+ * of its expressions. Statements are taken from the bars before any call is inlined into them. Bars whose calls
+ * are all inlined are marked, see {@link Function#isInlined()}.
+ */
+class Inliner extends TreeRewriter {
+
+    private final int maxSize;
+    private final Map<String, Function> inlinedFunctions = new HashMap<>();
+    private final Map<Function, List<Statement>> inlinedStatements = new HashMap<>();
+    private final Set<String> calledBars = new HashSet<>();
+    private int firstInlinedIndex;
+
+    Inliner(int maxSize) {
+        this.maxSize = maxSize;
+    }
+
+    @Override
+    Init rewrite(Init compilationUnit) {
+        List<Statement> mainStatements = new ArrayList<>();
+        for(Statement statement : compilationUnit.getStatements()) {
+            if(statement instanceof Function) {
+                Function function = (Function) statement;
+                if(isInlinable(function)) {
+                    inlinedFunctions.put(function.getName(), function);
+                    inlinedStatements.put(function, new ArrayList<>(function.getStatements()));
+                }
+            } else {
+                mainStatements.add(statement);
+            }
+        }
+        if(inlinedFunctions.isEmpty()) {
+            return compilationUnit;
+        }
+        firstInlinedIndex = MethodSlots.getLocalVariablesCount(mainStatements, compilationUnit.getScope());
+        Init rewritten = super.rewrite(compilationUnit);
+        for(Function function : inlinedFunctions.values()) {
+            function.setInlined(!calledBars.contains(function.getName()));
+        }
+        return rewritten;
+    }
+
+    @Override
+    protected Statement rewriteFunction(Function function) {
+        int mainFirstInlinedIndex = firstInlinedIndex;
+        firstInlinedIndex = MethodSlots.getLocalVariablesCount(function.getStatements(), function.getScope());
+        Statement rewritten = super.rewriteFunction(function);
+        firstInlinedIndex = mainFirstInlinedIndex;
+        return rewritten;
+    }
+
+    @Override
+    protected Statement rewriteStatement(Statement statement) {
+        if(statement instanceof ProcedureCall) {
+            ProcedureCall call = (ProcedureCall) statement;
+            Function function = inlinedFunctions.get(call.getFunction().getName());
+            if(function != null && !function.getReturnStatement().isPresent()) {
+                return inline(function, call.getCalledArguments(), null);
+            }
+            calledBars.add(call.getFunction().getName());
+        } else if((statement instanceof VariableDeclaration || statement instanceof Assignment)
+                && !(statement instanceof ArrayAssignment)) {
+            String name = statement instanceof VariableDeclaration
+                    ? ((VariableDeclaration) statement).getName() : ((Assignment) statement).getName();
+            Expression expression = statement instanceof VariableDeclaration
+                    ? ((VariableDeclaration) statement).getExpression().orElse(null)
+                    : ((Assignment) statement).getExpression().orElse(null);
+            if(expression instanceof FunctionCall) {
+                FunctionCall call = (FunctionCall) expression;
+                Function function = inlinedFunctions.get(call.getFunction().getName());
+                if(function != null && function.getReturnStatement().isPresent()) {
+                    return inline(function, call.getCalledArguments(), name);
+                }
+            }
+        }
+        return super.rewriteStatement(statement);
+    }
+
+    @Override
+    protected Expression rewriteNode(Expression expression) {
+        if(expression instanceof FunctionCall) {
+            calledBars.add(((FunctionCall) expression).getFunction().getName());
+        }
+        return expression;
+    }
+
+    private InlinedCall inline(Function function, List<CalledArgument> calledArguments, String variableName) {
+        Scope functionScope = function.getScope();
+        Scope scope = new Scope(functionScope.getClassName(), firstInlinedIndex);
+        for(Argument argument : function.getArguments()) {
+            scope.addLocalVariable(functionScope.getLocalVariable(argument.getName()).get());
+        }
+        List<Statement> statements = inlinedStatements.get(function);
+        Set<String> usedNames = new HashSet<>();
+        for(Statement statement : statements) {
+            String declared = getDeclaredName(statement);
+            if(declared != null) {
+                scope.addLocalVariable(functionScope.getLocalVariable(declared).get());
+            }
+            // calls in the inlined statements are not inlined
+            collect(statement, usedNames, calledBars);
+        }
+        Expression result = function.getReturnStatement().map(returnStatement -> returnStatement.getExpression())
+                .orElse(null);
+        if(result != null) {
+            collect(result, usedNames, calledBars);
+        }
+        return new InlinedCall(function, calledArguments, scope, statements, result, variableName);
+    }
+
+    private boolean isInlinable(Function function) {
+        Set<String> names = new HashSet<>();
+        for(Argument argument : function.getArguments()) {
+            names.add(argument.getName());
+        }
+        Set<String> usedNames = new HashSet<>();
+        Set<String> calledNames = new HashSet<>();
+        int size = 0;
+        for(Statement statement : function.getStatements()) {
+            if(!(statement instanceof SimpleStatement) || !isInlinableStatement(statement)) {
+                return false;
+            }
+            String declared = getDeclaredName(statement);
+            if(declared != null) {
+                names.add(declared);
+            }
+            size += 1 + collect(statement, usedNames, calledNames);
+        }
+        if(function.getReturnStatement().isPresent()) {
+            size += collect(function.getReturnStatement().get().getExpression(), usedNames, calledNames);
+        }
+        return size <= maxSize && names.containsAll(usedNames) && !calledNames.contains(function.getName());
+    }
+
+    private boolean isInlinableStatement(Statement statement) {
+        return statement instanceof VariableDeclaration || statement instanceof Assignment
+                || statement instanceof ArrayDeclaration || statement instanceof PrintStatement
+                || statement instanceof ReadStatement || statement instanceof ProcedureCall;
+    }
+
+    private String getDeclaredName(Statement statement) {
+        if(statement instanceof VariableDeclaration) {
+            return ((VariableDeclaration) statement).getName();
+        } else if(statement instanceof ArrayDeclaration) {
+            return ((ArrayDeclaration) statement).getName();
+        }
+        return null;
+    }
+
+    /**
+     * Collects names of used variables and called bars.
+     *
+     * @return number of parts of expressions of the statement
+     */
+    private int collect(Statement statement, Set<String> usedNames, Set<String> calledNames) {
+        if(statement instanceof ArrayAssignment) {
+            ArrayAssignment assignment = (ArrayAssignment) statement;
+            usedNames.add(assignment.getName());
+            return collect(assignment.getIndex(), usedNames, calledNames)
+                    + collect(assignment.getExpression().get(), usedNames, calledNames);
+        } else if(statement instanceof Assignment) {
+            Assignment assignment = (Assignment) statement;
+            usedNames.add(assignment.getName());
+            return collect(assignment.getExpression().get(), usedNames, calledNames);
+        } else if(statement instanceof VariableDeclaration) {
+            return ((VariableDeclaration) statement).getExpression()
+                    .map(expression -> collect(expression, usedNames, calledNames)).orElse(0);
+        } else if(statement instanceof ArrayDeclaration) {
+            return collect(((ArrayDeclaration) statement).getLength(), usedNames, calledNames);
+        } else if(statement instanceof PrintStatement) {
+            return collect(((PrintStatement) statement).getVariable(), usedNames, calledNames);
+        } else if(statement instanceof ReadStatement) {
+            return collect(((ReadStatement) statement).variable(), usedNames, calledNames);
+        } else if(statement instanceof ProcedureCall) {
+            ProcedureCall call = (ProcedureCall) statement;
+            calledNames.add(call.getFunction().getName());
+            call.getCalledArguments().forEach(argument -> usedNames.add(argument.getName()));
+            return call.getCalledArguments().size();
+        }
+        return 0;
+    }
+
+    private int collect(LocalVariable variable, Set<String> usedNames, Set<String> calledNames) {
+        usedNames.add(variable.name());
+        if(variable instanceof LocalVariableArrayIndex) {
+            return 1 + collect(((LocalVariableArrayIndex) variable).getIndex(), usedNames, calledNames);
+        }
+        return 1;
+    }
+
+    private int collect(Expression expression, Set<String> usedNames, Set<String> calledNames) {
+        if(expression instanceof ArrayRef) {
+            ArrayRef arrayRef = (ArrayRef) expression;
+            usedNames.add(arrayRef.name());
+            return 1 + collect(arrayRef.getIndex(), usedNames, calledNames);
+        } else if(expression instanceof VariableRef) {
+            usedNames.add(((VariableRef) expression).name());
+        } else if(expression instanceof FunctionCall) {
+            FunctionCall call = (FunctionCall) expression;
+            calledNames.add(call.getFunction().getName());
+            call.getCalledArguments().forEach(argument -> usedNames.add(argument.getName()));
+            return 1 + call.getCalledArguments().size();
+        } else if(expression instanceof BinaryExpression) {
+            BinaryExpression binaryExpression = (BinaryExpression) expression;
+            return 1 + collect(binaryExpression.getLeft(), usedNames, calledNames)
+                    + collect(binaryExpression.getRight(), usedNames, calledNames);
+        } else if(expression instanceof UnaryExpression) {
+            return 1 + collect(((UnaryExpression) expression).getExpression(), usedNames, calledNames);
+        }
+        return 1;
+    }
+}
@@ -0,0 +1,309 @@
+package com.pidanic.saral.optimizer;
+
+import com.pidanic.saral.domain.ArrayAssignment;
+import com.pidanic.saral.domain.Assignment;
+import com.pidanic.saral.domain.Init;
+import com.pidanic.saral.domain.ReadStatement;
+import com.pidanic.saral.domain.Statement;
+import com.pidanic.saral.domain.VariableDeclaration;
+import com.pidanic.saral.domain.block.Argument;
+import com.pidanic.saral.domain.block.ForStatement;
+import com.pidanic.saral.domain.block.Function;
+import com.pidanic.saral.domain.block.IfStatement;
+import com.pidanic.saral.domain.block.WhileStatement;
+import com.pidanic.saral.domain.expression.ArrayRef;
+import com.pidanic.saral.domain.expression.BinaryExpression;
+import com.pidanic.saral.domain.expression.Expression;
+import com.pidanic.saral.domain.expression.Value;
+import com.pidanic.saral.domain.expression.VariableRef;
+import com.pidanic.saral.domain.expression.math.Addition;
+import com.pidanic.saral.domain.expression.math.Division;
+import com.pidanic.saral.domain.expression.math.Modulo;
+import com.pidanic.saral.domain.expression.math.Multiplication;
+import com.pidanic.saral.domain.expression.math.Substraction;
+import com.pidanic.saral.domain.expression.math.UnaryMinus;
+import com.pidanic.saral.generator.VariableStorage;
+import com.pidanic.saral.scope.LocalVariable;
+import com.pidanic.saral.scope.LocalVariableArrayIndex;
+import com.pidanic.saral.scope.Scope;
+import com.pidanic.saral.util.BuiltInType;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+
+/**
+ * Finds numeral variables and <code>for</code> iterators whose values always fit in int and marks them in
+ * the variable storage, so they are stored and counted as int.
+ *
+ * The range of a name is the union of ranges of all values written to it anywhere in the compilation unit, so
+ * variables with the same name share it. It is computed again until no range grows. A range which still grows
+ * after a few passes, like a sum computed in a loop, is not bounded. Arguments, variables read by
+ * <code>vežmi</code> or <code>sluchaj</code> and results of bars and array elements are not bounded too.
+ * An iterator can be one step past its end, when its loop ends.
+ */
+class IntRangeAnalysis {
+
+    private static final int MAX_GROWTHS = 3;
+
+    private final VariableStorage variableStorage;
+    private final Map<Scope, List<String>> declarations = new HashMap<>();
+    private final List<Write> writes = new ArrayList<>();
+    private final Set<String> unbounded = new HashSet<>();
+    private final Set<String> iterators = new HashSet<>();
+    private final Map<String, Range> ranges = new HashMap<>();
+    private final Map<String, Integer> growths = new HashMap<>();
+
+    IntRangeAnalysis(VariableStorage variableStorage) {
+        this.variableStorage = variableStorage;
+    }
+
+    void analyze(Init compilationUnit) {
+        collect(compilationUnit.getStatements(), compilationUnit.getScope());
+        computeRanges();
+        declarations.forEach((scope, names) -> names.stream()
+                .filter(name -> !unbounded.contains(name))
+                .filter(name -> ranges.containsKey(name) && fitsInInt(name))
+                .forEach(name -> variableStorage.markNarrowedToInt(scope, name)));
+    }
+
+    /**
+     * Iterator of a loop is moved one more step from every value written to it in its block.
+     */
+    private boolean fitsInInt(String name) {
+        Range range = ranges.get(name);
+        return iterators.contains(name) ? range.add(Range.STEP).fitsInInt() : range.fitsInInt();
+    }
+
+    private void collect(List<Statement> statements, Scope scope) {
+        for(Statement statement : statements) {
+            if(statement instanceof Function) {
+                Function function = (Function) statement;
+                for(Argument argument : function.getArguments()) {
+                    unbounded.add(argument.getName());
+                }
+                collect(function.getStatements(), function.getScope());
+            } else if(statement instanceof VariableDeclaration) {
+                VariableDeclaration declaration = (VariableDeclaration) statement;
+                if(isNumeral(scope, declaration.getName())) {
+                    declarations.computeIfAbsent(scope, key -> new ArrayList<>()).add(declaration.getName());
+                    declaration.getExpression()
+                            .ifPresent(expression -> writes.add(new Write(declaration.getName(), expression)));
+                }
+            } else if(statement instanceof Assignment && !(statement instanceof ArrayAssignment)) {
+                Assignment assignment = (Assignment) statement;
+                if(isNumeral(scope, assignment.getName())) {
+                    writes.add(new Write(assignment.getName(), assignment.getExpression().get()));
+                }
+            } else if(statement instanceof ReadStatement) {
+                LocalVariable variable = ((ReadStatement) statement).variable();
+                if(!(variable instanceof LocalVariableArrayIndex)) {
+                    unbounded.add(variable.name());
+                }
+            } else if(statement instanceof IfStatement) {
+                IfStatement ifStatement = (IfStatement) statement;
+                collect(ifStatement.getTrueBlock(), ifStatement.getScope());
+                collect(ifStatement.getFalseBlock(), ifStatement.getScope());
+            } else if(statement instanceof WhileStatement) {
+                WhileStatement whileStatement = (WhileStatement) statement;
+                collect(whileStatement.getBlock(), whileStatement.getScope());
+            } else if(statement instanceof ForStatement) {
+                ForStatement forStatement = (ForStatement) statement;
+                String iterator = forStatement.getVariable().getName();
+                declarations.computeIfAbsent(forStatement.getScope(), key -> new ArrayList<>()).add(iterator);
+                iterators.add(iterator);
+                writes.add(new Write(iterator, forStatement.getFromExpression(), forStatement.getToExpression()));
+                collect(forStatement.getBlock(), forStatement.getScope());
+            }
+        }
+    }
+
+    private boolean isNumeral(Scope scope, String name) {
+        return scope.getLocalVariable(name)
+                .map(LocalVariable::type)
+                .filter(type -> type == BuiltInType.LONG)
+                .isPresent();
+    }
+
+    private void computeRanges() {
+        boolean changed = true;
+        while(changed) {
+            changed = false;
+            for(Write write : writes) {
+                if(unbounded.contains(write.name)) {
+                    continue;
+                }
+                Optional<Range> range = write.range();
+                if(range.isPresent()) {
+                    changed |= join(write.name, range.get());
+                }
+            }
+        }
+    }
+
+    private boolean join(String name, Range range) {
+        Range oldRange = ranges.get(name);
+        Range newRange = oldRange == null ? range : oldRange.union(range);
+        if(newRange.equals(oldRange)) {
+            return false;
+        }
+        int growth = growths.merge(name, 1, Integer::sum);
+        ranges.put(name, growth > MAX_GROWTHS ? Range.UNBOUNDED : newRange);
+        return true;
+    }
+
+    /**
+     * Returns range of a numeral expression, or nothing, if a variable of the expression has no value yet.
+     */
+    private Optional<Range> range(Expression expression) {
+        if(expression.type() != BuiltInType.LONG) {
+            return Optional.of(Range.UNBOUNDED);
+        }
+        if(expression instanceof Value) {
+            long value = Long.parseLong(((Value) expression).getValue());
+            return Optional.of(new Range(value, value));
+        } else if(expression instanceof ArrayRef) {
+            return Optional.of(Range.UNBOUNDED);
+        } else if(expression instanceof VariableRef) {
+            String name = ((VariableRef) expression).name();
+            return unbounded.contains(name) ? Optional.of(Range.UNBOUNDED) : Optional.ofNullable(ranges.get(name));
+        } else if(expression instanceof UnaryMinus) {
+            return range(((UnaryMinus) expression).getExpression()).map(Range::negate);
+        } else if(expression instanceof BinaryExpression) {
+            BinaryExpression binaryExpression = (BinaryExpression) expression;
+            Optional<Range> left = range(binaryExpression.getLeft());
+            Optional<Range> right = range(binaryExpression.getRight());
+            if(!left.isPresent() || !right.isPresent()) {
+                return Optional.empty();
+            }
+            if(expression instanceof Addition) {
+                return Optional.of(left.get().add(right.get()));
+            } else if(expression instanceof Substraction) {
+                return Optional.of(left.get().add(right.get().negate()));
+            } else if(expression instanceof Multiplication) {
+                return Optional.of(left.get().multiply(right.get()));
+            } else if(expression instanceof Division) {
+                return Optional.of(left.get().divide());
+            } else if(expression instanceof Modulo) {
+                return Optional.of(left.get().modulo(right.get()));
+            }
+        }
+        return Optional.of(Range.UNBOUNDED);
+    }
+
+    private class Write {
+        private final String name;
+        private final Expression expression;
+        private final Expression loopEnd;
+
+        Write(String name, Expression expression) {
+            this(name, expression, null);
+        }
+
+        /**
+         * Iterator of a loop takes all values from the start to the end and one more.
+         */
+        Write(String name, Expression loopStart, Expression loopEnd) {
+            this.name = name;
+            this.expression = loopStart;
+            this.loopEnd = loopEnd;
+        }
+
+        Optional<Range> range() {
+            Optional<Range> range = IntRangeAnalysis.this.range(expression);
+            if(loopEnd == null || !range.isPresent()) {
+                return range;
+            }
+            return IntRangeAnalysis.this.range(loopEnd).map(end -> end.union(range.get()).add(Range.STEP));
+        }
+    }
+
+    private static class Range {
+        static final Range UNBOUNDED = new Range(Long.MIN_VALUE, Long.MAX_VALUE);
+        static final Range STEP = new Range(-1, 1);
+
+        private final long min;
+        private final long max;
+
+        Range(long min, long max) {
+            this.min = min;
+            this.max = max;
+        }
+
+        boolean fitsInInt() {
+            return min >= Integer.MIN_VALUE && max <= Integer.MAX_VALUE;
+        }
+
+        Range union(Range range) {
+            return new Range(Math.min(min, range.min), Math.max(max, range.max));
+        }
+
+        Range negate() {
+            if(min == Long.MIN_VALUE) {
+                return UNBOUNDED;
+            }
+            return new Range(-max, -min);
+        }
+
+        Range add(Range range) {
+            try {
+                return new Range(Math.addExact(min, range.min), Math.addExact(max, range.max));
+            } catch (ArithmeticException e) {
+                return UNBOUNDED;
+            }
+        }
+
+        Range multiply(Range range) {
+            try {
+                long a = Math.multiplyExact(min, range.min);
+                long b = Math.multiplyExact(min, range.max);
+                long c = Math.multiplyExact(max, range.min);
+                long d = Math.multiplyExact(max, range.max);
+                return new Range(Math.min(Math.min(a, b), Math.min(c, d)), Math.max(Math.max(a, b), Math.max(c, d)));
+            } catch (ArithmeticException e) {
+                return UNBOUNDED;
+            }
+        }
+
+        /**
+         * Quotient is not further from zero than the dividend.
+         */
+        Range divide() {
+            long magnitude = magnitude();
+            return magnitude == Long.MAX_VALUE ? UNBOUNDED : new Range(-magnitude, magnitude);
+        }
+
+        /**
+         * Remainder has the sign of the dividend and it is closer to zero than the dividend and the divisor.
+         */
+        Range modulo(Range divisor) {
+            long magnitude = Math.max(0, Math.min(magnitude(), divisor.magnitude() - 1));
+            return new Range(min < 0 ? -magnitude : 0, max > 0 ? magnitude : 0);
+        }
+
+        private long magnitude() {
+            if(min == Long.MIN_VALUE) {
+                return Long.MAX_VALUE;
+            }
+            return Math.max(Math.abs(min), Math.abs(max));
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if(!(o instanceof Range)) {
+                return false;
+            }
+            Range range = (Range) o;
+            return min == range.min && max == range.max;
+        }
+
+        @Override
+        public int hashCode() {
+            return Long.hashCode(min) * 31 + Long.hashCode(max);
+        }
+    }
+}
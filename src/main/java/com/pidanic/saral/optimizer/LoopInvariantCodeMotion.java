@@ -0,0 +1,258 @@
+package com.pidanic.saral.optimizer;
+
+import com.pidanic.saral.domain.ArrayAssignment;
+import com.pidanic.saral.domain.Assignment;
+import com.pidanic.saral.domain.InlinedCall;
+import com.pidanic.saral.domain.Init;
+import com.pidanic.saral.domain.ReadStatement;
+import com.pidanic.saral.domain.Statement;
+import com.pidanic.saral.domain.TailCall;
+import com.pidanic.saral.domain.TemporaryDeclaration;
+import com.pidanic.saral.domain.VariableDeclaration;
+import com.pidanic.saral.domain.block.ForStatement;
+import com.pidanic.saral.domain.block.Function;
+import com.pidanic.saral.domain.block.IfStatement;
+import com.pidanic.saral.domain.block.SwitchStatement;
+import com.pidanic.saral.domain.block.WhileStatement;
+import com.pidanic.saral.domain.expression.ArrayRef;
+import com.pidanic.saral.domain.expression.BinaryExpression;
+import com.pidanic.saral.domain.expression.Expression;
+import com.pidanic.saral.domain.expression.TemporaryRef;
+import com.pidanic.saral.domain.expression.UnaryExpression;
+import com.pidanic.saral.domain.expression.Value;
+import com.pidanic.saral.domain.expression.VariableRef;
+import com.pidanic.saral.domain.expression.cast.CastExpression;
+import com.pidanic.saral.domain.expression.math.Addition;
+import com.pidanic.saral.domain.expression.math.Division;
+import com.pidanic.saral.domain.expression.math.Modulo;
+import com.pidanic.saral.domain.expression.math.Multiplication;
+import com.pidanic.saral.domain.expression.math.Substraction;
+import com.pidanic.saral.domain.expression.math.UnaryMinus;
+import com.pidanic.saral.scope.LocalVariableArrayIndex;
+import com.pidanic.saral.util.BuiltInType;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Moves numeral and real expressions which give the same value in every iteration of a <code>kým</code> or
+ * <code>zrob</code> loop before the loop, see {@link TemporaryDeclaration}. Inner loops are moved first.
+ *
+ * An expression is moved, when it uses only constants and variables not changed anywhere in the loop, and it
+ * can be computed before the loop even if the loop would not compute it. So only addition, subtraction,
+ * multiplication, negation, casts, real division and division by a constant other than zero are moved. Bar calls
+ * can read or print and array elements can be changed by bars, so they are never moved.
+ */
+class LoopInvariantCodeMotion extends TreeRewriter {
+
+    private int nextIndex;
+
+    @Override
+    Init rewrite(Init compilationUnit) {
+        List<Statement> mainStatements = new ArrayList<>();
+        for(Statement statement : compilationUnit.getStatements()) {
+            if(!(statement instanceof Function)) {
+                mainStatements.add(statement);
+            }
+        }
+        nextIndex = MethodSlots.getLocalVariablesCount(mainStatements, compilationUnit.getScope());
+        return super.rewrite(compilationUnit);
+    }
+
+    @Override
+    protected Statement rewriteFunction(Function function) {
+        int mainNextIndex = nextIndex;
+        nextIndex = MethodSlots.getLocalVariablesCount(function.getStatements(), function.getScope());
+        Statement rewritten = super.rewriteFunction(function);
+        nextIndex = mainNextIndex;
+        return rewritten;
+    }
+
+    @Override
+    protected List<Statement> rewriteStatements(List<Statement> statements) {
+        List<Statement> rewritten = super.rewriteStatements(statements);
+        List<Statement> moved = null;
+        for(int i = 0; i < rewritten.size(); i++) {
+            Statement statement = rewritten.get(i);
+            List<TemporaryDeclaration> declarations = new ArrayList<>();
+            Statement loop = statement;
+            if(statement instanceof WhileStatement || statement instanceof ForStatement) {
+                loop = moveInvariants(statement, declarations);
+            }
+            if(loop != statement && moved == null) {
+                moved = new ArrayList<>(rewritten.subList(0, i));
+            }
+            if(moved != null) {
+                moved.addAll(declarations);
+                moved.add(loop);
+            }
+        }
+        return moved == null ? rewritten : moved;
+    }
+
+    private Statement moveInvariants(Statement loop, List<TemporaryDeclaration> declarations) {
+        Set<String> changedNames = new HashSet<>();
+        Set<Integer> changedTemporaries = new HashSet<>();
+        if(!collectChanges(loop, changedNames, changedTemporaries)) {
+            return loop;
+        }
+        InvariantMover mover = new InvariantMover(changedNames, changedTemporaries);
+        Statement moved;
+        if(loop instanceof WhileStatement) {
+            WhileStatement whileStatement = (WhileStatement) loop;
+            List<Statement> block = mover.rewriteStatements(whileStatement.getBlock());
+            Expression condition = mover.rewriteExpression(whileStatement.getExpression());
+            moved = block == whileStatement.getBlock() && condition == whileStatement.getExpression()
+                    ? loop : new WhileStatement(whileStatement.getScope(), condition, block);
+        } else {
+            ForStatement forStatement = (ForStatement) loop;
+            Expression to = mover.rewriteExpression(forStatement.getToExpression());
+            List<Statement> block = mover.rewriteStatements(forStatement.getBlock());
+            moved = block == forStatement.getBlock() && to == forStatement.getToExpression() ? loop
+                    : new ForStatement(forStatement.getScope(), forStatement.getVariable(),
+                    forStatement.getFromExpression(), to, block);
+        }
+        declarations.addAll(mover.declarations);
+        return moved;
+    }
+
+    /**
+     * Collects names of variables and temporaries changed or declared in the loop.
+     *
+     * @return <code>false</code>, if the loop contains a tail call, which changes parameters
+     */
+    private boolean collectChanges(Statement statement, Set<String> names, Set<Integer> temporaries) {
+        if(statement instanceof Assignment && !(statement instanceof ArrayAssignment)) {
+            names.add(((Assignment) statement).getName());
+        } else if(statement instanceof VariableDeclaration) {
+            names.add(((VariableDeclaration) statement).getName());
+        } else if(statement instanceof ReadStatement) {
+            ReadStatement readStatement = (ReadStatement) statement;
+            if(!(readStatement.variable() instanceof LocalVariableArrayIndex)) {
+                names.add(readStatement.variable().name());
+            }
+        } else if(statement instanceof InlinedCall) {
+            ((InlinedCall) statement).getVariableName().ifPresent(names::add);
+        } else if(statement instanceof TemporaryDeclaration) {
+            temporaries.add(((TemporaryDeclaration) statement).getIndex());
+        } else if(statement instanceof TailCall) {
+            return false;
+        } else if(statement instanceof IfStatement) {
+            IfStatement ifStatement = (IfStatement) statement;
+            return collectChanges(ifStatement.getTrueBlock(), names, temporaries)
+                    && collectChanges(ifStatement.getFalseBlock(), names, temporaries);
+        } else if(statement instanceof WhileStatement) {
+            return collectChanges(((WhileStatement) statement).getBlock(), names, temporaries);
+        } else if(statement instanceof ForStatement) {
+            ForStatement forStatement = (ForStatement) statement;
+            names.add(forStatement.getVariable().getName());
+            return collectChanges(forStatement.getBlock(), names, temporaries);
+        } else if(statement instanceof SwitchStatement) {
+            SwitchStatement switchStatement = (SwitchStatement) statement;
+            for(SwitchStatement.Case switchCase : switchStatement.getCases()) {
+                if(!collectChanges(switchCase.getBlock(), names, temporaries)) {
+                    return false;
+                }
+            }
+            return collectChanges(switchStatement.getDefaultBlock(), names, temporaries);
+        }
+        return true;
+    }
+
+    private boolean collectChanges(List<Statement> statements, Set<String> names, Set<Integer> temporaries) {
+        for(Statement statement : statements) {
+            if(!collectChanges(statement, names, temporaries)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private class InvariantMover extends TreeRewriter {
+        private final Set<String> changedNames;
+        private final Set<Integer> changedTemporaries;
+        private final Map<String, TemporaryDeclaration> created = new HashMap<>();
+        private final List<TemporaryDeclaration> declarations = new ArrayList<>();
+
+        InvariantMover(Set<String> changedNames, Set<Integer> changedTemporaries) {
+            this.changedNames = changedNames;
+            this.changedTemporaries = changedTemporaries;
+        }
+
+        /**
+         * Temporaries of inner loops are moved as they are, when they are invariant in this loop too.
+         */
+        @Override
+        protected List<Statement> rewriteStatements(List<Statement> statements) {
+            List<Statement> rewritten = new ArrayList<>(statements.size());
+            boolean changed = false;
+            for(Statement statement : statements) {
+                if(statement instanceof TemporaryDeclaration
+                        && isInvariant(((TemporaryDeclaration) statement).getExpression())) {
+                    declarations.add((TemporaryDeclaration) statement);
+                    changed = true;
+                    continue;
+                }
+                Statement newStatement = rewriteStatement(statement);
+                rewritten.add(newStatement);
+                changed |= newStatement != statement;
+            }
+            return changed ? rewritten : statements;
+        }
+
+        @Override
+        protected Expression rewriteExpression(Expression expression) {
+            boolean computed = expression instanceof BinaryExpression || expression instanceof UnaryExpression;
+            boolean numeral = expression.type() == BuiltInType.LONG || expression.type() == BuiltInType.DOUBLE;
+            if(!computed || !numeral || !isInvariant(expression)) {
+                return super.rewriteExpression(expression);
+            }
+            TemporaryDeclaration declaration = created.computeIfAbsent(ExpressionKeys.getKey(expression), key -> {
+                TemporaryDeclaration newDeclaration = new TemporaryDeclaration(nextIndex, expression);
+                nextIndex += MethodSlots.getSize(newDeclaration);
+                declarations.add(newDeclaration);
+                return newDeclaration;
+            });
+            return declaration.createRef();
+        }
+
+        private boolean isInvariant(Expression expression) {
+            if(expression instanceof Value) {
+                return true;
+            } else if(expression instanceof ArrayRef) {
+                return false;
+            } else if(expression instanceof VariableRef) {
+                return !changedNames.contains(((VariableRef) expression).name());
+            } else if(expression instanceof TemporaryRef) {
+                return !changedTemporaries.contains(((TemporaryRef) expression).getIndex());
+            } else if(expression instanceof Addition || expression instanceof Substraction
+                    || expression instanceof Multiplication) {
+                BinaryExpression binaryExpression = (BinaryExpression) expression;
+                return isInvariant(binaryExpression.getLeft()) && isInvariant(binaryExpression.getRight());
+            } else if(expression instanceof Division || expression instanceof Modulo) {
+                BinaryExpression binaryExpression = (BinaryExpression) expression;
+                return isNotThrowingDivisor(binaryExpression)
+                        && isInvariant(binaryExpression.getLeft()) && isInvariant(binaryExpression.getRight());
+            } else if(expression instanceof UnaryMinus || expression instanceof CastExpression) {
+                return isInvariant(((UnaryExpression) expression).getExpression());
+            }
+            return false;
+        }
+
+        /**
+         * Numeral division by zero throws, real division does not.
+         */
+        private boolean isNotThrowingDivisor(BinaryExpression division) {
+            if(division.type() == BuiltInType.DOUBLE) {
+                return true;
+            }
+            Expression divisor = division.getRight();
+            return divisor instanceof Value && divisor.type() == BuiltInType.LONG
+                    && Long.parseLong(((Value) divisor).getValue()) != 0;
+        }
+    }
+}
@@ -0,0 +1,61 @@
+package com.pidanic.saral.optimizer;
+
+import com.pidanic.saral.domain.InlinedCall;
+import com.pidanic.saral.domain.Statement;
+import com.pidanic.saral.domain.TemporaryDeclaration;
+import com.pidanic.saral.domain.block.ForStatement;
+import com.pidanic.saral.domain.block.IfStatement;
+import com.pidanic.saral.domain.block.SwitchStatement;
+import com.pidanic.saral.domain.block.WhileStatement;
+import com.pidanic.saral.scope.Scope;
+import com.pidanic.saral.util.BuiltInType;
+import com.pidanic.saral.util.Type;
+
+import java.util.List;
+
+/**
+ * Finds the first slot free in a whole method, after slots of all its scopes, inlined calls and temporaries.
+ */
+final class MethodSlots {
+
+    private MethodSlots() {
+    }
+
+    static int getLocalVariablesCount(List<Statement> statements, Scope scope) {
+        int count = scope.localVariablesCount();
+        for(Statement statement : statements) {
+            if(statement instanceof IfStatement) {
+                IfStatement ifStatement = (IfStatement) statement;
+                count = Math.max(count, getLocalVariablesCount(ifStatement.getTrueBlock(), ifStatement.getScope()));
+                count = Math.max(count, getLocalVariablesCount(ifStatement.getFalseBlock(), ifStatement.getScope()));
+            } else if(statement instanceof WhileStatement) {
+                WhileStatement whileStatement = (WhileStatement) statement;
+                count = Math.max(count, getLocalVariablesCount(whileStatement.getBlock(), whileStatement.getScope()));
+            } else if(statement instanceof ForStatement) {
+                ForStatement forStatement = (ForStatement) statement;
+                count = Math.max(count, getLocalVariablesCount(forStatement.getBlock(), forStatement.getScope()));
+            } else if(statement instanceof SwitchStatement) {
+                SwitchStatement switchStatement = (SwitchStatement) statement;
+                for(SwitchStatement.Case switchCase : switchStatement.getCases()) {
+                    count = Math.max(count, getLocalVariablesCount(switchCase.getBlock(), switchCase.getScope()));
+                }
+                count = Math.max(count, getLocalVariablesCount(switchStatement.getDefaultBlock(),
+                        switchStatement.getDefaultScope()));
+            } else if(statement instanceof InlinedCall) {
+                count = Math.max(count, ((InlinedCall) statement).getScope().localVariablesCount());
+            } else if(statement instanceof TemporaryDeclaration) {
+                TemporaryDeclaration declaration = (TemporaryDeclaration) statement;
+                count = Math.max(count, declaration.getIndex() + getSize(declaration));
+            }
+        }
+        return count;
+    }
+
+    static int getSize(TemporaryDeclaration declaration) {
+        return getSize(declaration.getExpression().type());
+    }
+
+    static int getSize(Type type) {
+        return type == BuiltInType.LONG || type == BuiltInType.DOUBLE ? 2 : 1;
+    }
+}
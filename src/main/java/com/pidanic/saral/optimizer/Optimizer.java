@@ -0,0 +1,59 @@
+package com.pidanic.saral.optimizer;
+
+import com.pidanic.saral.domain.Init;
+import com.pidanic.saral.generator.VariableStorage;
+
+/**
+ * Optimizes the compilation unit created by visitors before its byte code is generated.
+ */
+public class Optimizer {
+
+    public static final int DEFAULT_INLINE_SIZE = 32;
+
+    private final int inlineSize;
+    private final DeadCodeReport deadCodeReport = new DeadCodeReport();
+    private final VariableStorage variableStorage = new VariableStorage();
+
+    public Optimizer() {
+        this(DEFAULT_INLINE_SIZE);
+    }
+
+    /**
+     * @param inlineSize maximal size of inlined bars, see {@link Inliner}, or 0 to inline no bar
+     */
+    public Optimizer(int inlineSize) {
+        this.inlineSize = inlineSize;
+    }
+
+    public Init optimize(Init compilationUnit) {
+        Init optimized = new ConstantFolding().rewrite(compilationUnit);
+        new TailCallElimination().rewrite(optimized);
+        new PurityAnalysis().analyze(optimized);
+        new StringBuilderAnalysis(variableStorage).analyze(optimized);
+        new IntRangeAnalysis(variableStorage).analyze(optimized);
+        if(inlineSize > 0) {
+            // slots of inlined bars follow all slots of the calling method, so they are inlined after the analyses
+            optimized = new Inliner(inlineSize).rewrite(optimized);
+        }
+        optimized = new DeadCodeElimination(deadCodeReport).rewrite(optimized);
+        optimized = new LoopInvariantCodeMotion().rewrite(optimized);
+        optimized = new SwitchLowering().rewrite(optimized);
+        // values are numbered last, because their temporaries are not visible to the other passes
+        return new CommonSubexpressionElimination().rewrite(optimized);
+    }
+
+    /**
+     * Returns code removed from the optimized compilation unit, see {@link DeadCodeElimination}.
+     */
+    public DeadCodeReport getDeadCodeReport() {
+        return deadCodeReport;
+    }
+
+    /**
+     * Returns variables of the optimized compilation unit stored as string builders or ints, see
+     * {@link StringBuilderAnalysis} and {@link IntRangeAnalysis}.
+     */
+    public VariableStorage getVariableStorage() {
+        return variableStorage;
+    }
+}
@@ -0,0 +1,145 @@
+package com.pidanic.saral.optimizer;
+
+import com.pidanic.saral.domain.ArrayAssignment;
+import com.pidanic.saral.domain.ArrayDeclaration;
+import com.pidanic.saral.domain.Assignment;
+import com.pidanic.saral.domain.Init;
+import com.pidanic.saral.domain.PrintStatement;
+import com.pidanic.saral.domain.ProcedureCall;
+import com.pidanic.saral.domain.ReadStatement;
+import com.pidanic.saral.domain.ReturnStatement;
+import com.pidanic.saral.domain.Statement;
+import com.pidanic.saral.domain.TailCall;
+import com.pidanic.saral.domain.VariableDeclaration;
+import com.pidanic.saral.domain.block.Argument;
+import com.pidanic.saral.domain.block.ForStatement;
+import com.pidanic.saral.domain.block.Function;
+import com.pidanic.saral.domain.block.IfStatement;
+import com.pidanic.saral.domain.block.WhileStatement;
+import com.pidanic.saral.domain.expression.ArrayRef;
+import com.pidanic.saral.domain.expression.BinaryExpression;
+import com.pidanic.saral.domain.expression.Expression;
+import com.pidanic.saral.domain.expression.FunctionCall;
+import com.pidanic.saral.domain.expression.UnaryExpression;
+
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Marks pure bars, see {@link Function#isPure()}. Bars are pure at first. A bar which reads, prints or changes
+ * its array argument is not pure, and then also every bar calling it, until no more bars change.
+ */
+class PurityAnalysis {
+
+    private final Map<String, Function> functions = new HashMap<>();
+    private final Map<String, Set<String>> calledFunctions = new HashMap<>();
+
+    void analyze(Init compilationUnit) {
+        for(Statement statement : compilationUnit.getStatements()) {
+            if(statement instanceof Function) {
+                Function function = (Function) statement;
+                functions.put(function.getName(), function);
+            }
+        }
+        for(Function function : functions.values()) {
+            Set<String> arguments = new HashSet<>();
+            for(Argument argument : function.getArguments()) {
+                arguments.add(argument.getName());
+            }
+            Set<String> calls = new HashSet<>();
+            boolean pure = collect(function.getStatements(), arguments, calls);
+            if(function.getReturnStatement().isPresent()) {
+                collect(function.getReturnStatement().get().getExpression(), calls);
+            }
+            function.setPure(pure);
+            calledFunctions.put(function.getName(), calls);
+        }
+
+        boolean changed = true;
+        while(changed) {
+            changed = false;
+            for(Function function : functions.values()) {
+                if(function.isPure() && callsImpureFunction(function)) {
+                    function.setPure(false);
+                    changed = true;
+                }
+            }
+        }
+    }
+
+    /**
+     * Calls refer to bars by name, because calls inside a bar refer to its declaration made before its body.
+     */
+    private boolean callsImpureFunction(Function function) {
+        for(String name : calledFunctions.get(function.getName())) {
+            Function called = functions.get(name);
+            if(called == null || !called.isPure()) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Collects names of called bars.
+     *
+     * @return <code>false</code>, if a statement reads, prints or changes an array argument
+     */
+    private boolean collect(Iterable<Statement> statements, Set<String> arguments, Set<String> calls) {
+        boolean pure = true;
+        for(Statement statement : statements) {
+            if(statement instanceof ReadStatement || statement instanceof PrintStatement) {
+                pure = false;
+            } else if(statement instanceof ArrayAssignment) {
+                ArrayAssignment assignment = (ArrayAssignment) statement;
+                pure &= !arguments.contains(assignment.getName());
+                collect(assignment.getIndex(), calls);
+                collect(assignment.getExpression().get(), calls);
+            } else if(statement instanceof Assignment) {
+                collect(((Assignment) statement).getExpression().get(), calls);
+            } else if(statement instanceof VariableDeclaration) {
+                ((VariableDeclaration) statement).getExpression().ifPresent(expression -> collect(expression, calls));
+            } else if(statement instanceof ArrayDeclaration) {
+                collect(((ArrayDeclaration) statement).getLength(), calls);
+            } else if(statement instanceof ProcedureCall) {
+                calls.add(((ProcedureCall) statement).getFunction().getName());
+            } else if(statement instanceof TailCall) {
+                calls.add(((TailCall) statement).getFunction().getName());
+            } else if(statement instanceof ReturnStatement) {
+                collect(((ReturnStatement) statement).getExpression(), calls);
+            } else if(statement instanceof IfStatement) {
+                IfStatement ifStatement = (IfStatement) statement;
+                collect(ifStatement.getBooleanExpression(), calls);
+                pure &= collect(ifStatement.getTrueBlock(), arguments, calls);
+                pure &= collect(ifStatement.getFalseBlock(), arguments, calls);
+            } else if(statement instanceof WhileStatement) {
+                WhileStatement whileStatement = (WhileStatement) statement;
+                collect(whileStatement.getExpression(), calls);
+                pure &= collect(whileStatement.getBlock(), arguments, calls);
+            } else if(statement instanceof ForStatement) {
+                ForStatement forStatement = (ForStatement) statement;
+                collect(forStatement.getFromExpression(), calls);
+                collect(forStatement.getToExpression(), calls);
+                pure &= collect(forStatement.getBlock(), arguments, calls);
+            } else if(statement instanceof Function) {
+                pure = false;
+            }
+        }
+        return pure;
+    }
+
+    private void collect(Expression expression, Set<String> calls) {
+        if(expression instanceof FunctionCall) {
+            calls.add(((FunctionCall) expression).getFunction().getName());
+        } else if(expression instanceof BinaryExpression) {
+            collect(((BinaryExpression) expression).getLeft(), calls);
+            collect(((BinaryExpression) expression).getRight(), calls);
+        } else if(expression instanceof UnaryExpression) {
+            collect(((UnaryExpression) expression).getExpression(), calls);
+        } else if(expression instanceof ArrayRef) {
+            collect(((ArrayRef) expression).getIndex(), calls);
+        }
+    }
+}
@@ -0,0 +1,100 @@
+package com.pidanic.saral.optimizer;
+
+import com.pidanic.saral.domain.ArrayAssignment;
+import com.pidanic.saral.domain.Init;
+import com.pidanic.saral.domain.ReadStatement;
+import com.pidanic.saral.domain.Statement;
+import com.pidanic.saral.domain.VariableDeclaration;
+import com.pidanic.saral.domain.block.Argument;
+import com.pidanic.saral.domain.block.ForStatement;
+import com.pidanic.saral.domain.block.Function;
+import com.pidanic.saral.domain.block.IfStatement;
+import com.pidanic.saral.domain.block.WhileStatement;
+import com.pidanic.saral.generator.VariableStorage;
+import com.pidanic.saral.scope.LocalVariable;
+import com.pidanic.saral.scope.Scope;
+import com.pidanic.saral.util.BuiltInType;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Finds string variables declared in a bar and written by index (<code>s[i] = c</code>). Every such write creates
+ * a new string from two substrings, so these variables are marked as string builders in the variable storage
+ * and they are converted to string only when their whole value is used.
+ *
+ * Arguments and variables read by <code>vežmi</code> or <code>sluchaj</code> stay strings.
+ */
+class StringBuilderAnalysis {
+
+    private final VariableStorage variableStorage;
+    private final Map<Scope, List<String>> declarations = new HashMap<>();
+    private final Set<String> writtenByIndex = new HashSet<>();
+    private final Set<String> excluded = new HashSet<>();
+
+    StringBuilderAnalysis(VariableStorage variableStorage) {
+        this.variableStorage = variableStorage;
+    }
+
+    void analyze(Init compilationUnit) {
+        for(Statement statement : compilationUnit.getStatements()) {
+            if(statement instanceof Function) {
+                analyzeFunction((Function) statement);
+            }
+        }
+    }
+
+    private void analyzeFunction(Function function) {
+        declarations.clear();
+        writtenByIndex.clear();
+        excluded.clear();
+        for(Argument argument : function.getArguments()) {
+            excluded.add(argument.getName());
+        }
+        collect(function.getStatements(), function.getScope());
+
+        declarations.forEach((scope, names) -> names.stream()
+                .filter(writtenByIndex::contains)
+                .filter(name -> !excluded.contains(name))
+                .forEach(name -> variableStorage.markStringBuilder(scope, name)));
+    }
+
+    private void collect(List<Statement> statements, Scope scope) {
+        for(Statement statement : statements) {
+            if(statement instanceof VariableDeclaration) {
+                String name = ((VariableDeclaration) statement).getName();
+                if(isString(scope, name)) {
+                    declarations.computeIfAbsent(scope, key -> new ArrayList<>()).add(name);
+                }
+            } else if(statement instanceof ArrayAssignment) {
+                String name = ((ArrayAssignment) statement).getName();
+                if(isString(scope, name)) {
+                    writtenByIndex.add(name);
+                }
+            } else if(statement instanceof ReadStatement) {
+                excluded.add(((ReadStatement) statement).variable().name());
+            } else if(statement instanceof IfStatement) {
+                IfStatement ifStatement = (IfStatement) statement;
+                collect(ifStatement.getTrueBlock(), ifStatement.getScope());
+                collect(ifStatement.getFalseBlock(), ifStatement.getScope());
+            } else if(statement instanceof WhileStatement) {
+                WhileStatement whileStatement = (WhileStatement) statement;
+                collect(whileStatement.getBlock(), whileStatement.getScope());
+            } else if(statement instanceof ForStatement) {
+                ForStatement forStatement = (ForStatement) statement;
+                collect(forStatement.getBlock(), forStatement.getScope());
+            }
+        }
+    }
+
+    private boolean isString(Scope scope, String name) {
+        return scope.getLocalVariable(name)
+                .map(LocalVariable::type)
+                .filter(type -> type == BuiltInType.STRING)
+                .isPresent();
+    }
+}
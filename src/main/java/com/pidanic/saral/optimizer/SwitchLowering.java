@@ -0,0 +1,224 @@
+package com.pidanic.saral.optimizer;
+
+import com.pidanic.saral.domain.ArrayAssignment;
+import com.pidanic.saral.domain.Assignment;
+import com.pidanic.saral.domain.InlinedCall;
+import com.pidanic.saral.domain.ReadStatement;
+import com.pidanic.saral.domain.Statement;
+import com.pidanic.saral.domain.TailCall;
+import com.pidanic.saral.domain.VariableDeclaration;
+import com.pidanic.saral.domain.block.ForStatement;
+import com.pidanic.saral.domain.block.IfStatement;
+import com.pidanic.saral.domain.block.SwitchStatement;
+import com.pidanic.saral.domain.block.WhileStatement;
+import com.pidanic.saral.domain.expression.Expression;
+import com.pidanic.saral.domain.expression.Value;
+import com.pidanic.saral.domain.expression.VariableRef;
+import com.pidanic.saral.domain.expression.math.CompareExpression;
+import com.pidanic.saral.domain.expression.math.CompareSign;
+import com.pidanic.saral.scope.LocalVariableArrayIndex;
+import com.pidanic.saral.util.BuiltInType;
+import org.apache.commons.lang3.StringUtils;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * Replaces conditions comparing one numeral or character variable with different constants by
+ * {@link SwitchStatement}, so the matching block is found by one jump.
+ *
+ * Conditions are replaced, when they are chained in <code>inak</code> blocks, or when they follow each other
+ * without <code>inak</code> and their blocks do not change the variable. Only one of such conditions can be
+ * true, so it does not matter whether the others are tested. Chains shorter than {@link #MIN_CASES} are kept.
+ */
+class SwitchLowering extends TreeRewriter {
+
+    static final int MIN_CASES = 3;
+
+    @Override
+    protected List<Statement> rewriteStatements(List<Statement> statements) {
+        List<Statement> rewritten = super.rewriteStatements(statements);
+        List<Statement> lowered = new ArrayList<>(rewritten.size());
+        boolean changed = false;
+        int i = 0;
+        while(i < rewritten.size()) {
+            int end = i;
+            String name = getSequenceVariable(rewritten.get(i));
+            Set<Integer> keys = new HashSet<>();
+            while(name != null && end < rewritten.size() && isSequenceCase(rewritten.get(end), name, keys)) {
+                end++;
+            }
+            if(end - i >= MIN_CASES) {
+                lowered.add(createSequenceSwitch(rewritten.subList(i, end)));
+                changed = true;
+                i = end;
+            } else {
+                lowered.add(rewritten.get(i));
+                i++;
+            }
+        }
+        return changed ? lowered : rewritten;
+    }
+
+    @Override
+    protected Statement rewriteIf(IfStatement ifStatement) {
+        List<IfStatement> chain = new ArrayList<>();
+        String name = getComparedVariable(ifStatement.getBooleanExpression());
+        Set<Integer> keys = new HashSet<>();
+        IfStatement next = ifStatement;
+        while(next != null && name != null && name.equals(getComparedVariable(next.getBooleanExpression()))
+                && keys.add(getKey(next.getBooleanExpression()))) {
+            chain.add(next);
+            List<Statement> falseBlock = next.getFalseBlock();
+            next = falseBlock.size() == 1 && falseBlock.get(0) instanceof IfStatement
+                    ? (IfStatement) falseBlock.get(0) : null;
+        }
+        if(chain.size() < MIN_CASES) {
+            return super.rewriteIf(ifStatement);
+        }
+        List<SwitchStatement.Case> cases = new ArrayList<>(chain.size());
+        for(IfStatement switchCase : chain) {
+            cases.add(new SwitchStatement.Case(getKey(switchCase.getBooleanExpression()), switchCase.getScope(),
+                    rewriteBlock(switchCase.getTrueBlock())));
+        }
+        IfStatement last = chain.get(chain.size() - 1);
+        return new SwitchStatement(ifStatement.getScope(), getVariable(ifStatement.getBooleanExpression()), cases,
+                last.getScope(), rewriteBlock(last.getFalseBlock()));
+    }
+
+    private String getSequenceVariable(Statement statement) {
+        if(!(statement instanceof IfStatement) || !((IfStatement) statement).getFalseBlock().isEmpty()) {
+            return null;
+        }
+        return getComparedVariable(((IfStatement) statement).getBooleanExpression());
+    }
+
+    private boolean isSequenceCase(Statement statement, String name, Set<Integer> keys) {
+        if(!name.equals(getSequenceVariable(statement))) {
+            return false;
+        }
+        IfStatement ifStatement = (IfStatement) statement;
+        return !writes(ifStatement.getTrueBlock(), name) && keys.add(getKey(ifStatement.getBooleanExpression()));
+    }
+
+    private SwitchStatement createSequenceSwitch(List<Statement> statements) {
+        List<SwitchStatement.Case> cases = new ArrayList<>(statements.size());
+        for(Statement statement : statements) {
+            IfStatement ifStatement = (IfStatement) statement;
+            cases.add(new SwitchStatement.Case(getKey(ifStatement.getBooleanExpression()), ifStatement.getScope(),
+                    ifStatement.getTrueBlock()));
+        }
+        IfStatement first = (IfStatement) statements.get(0);
+        return new SwitchStatement(first.getScope(), getVariable(first.getBooleanExpression()), cases,
+                first.getScope(), new ArrayList<>());
+    }
+
+    /**
+     * Returns name of the variable compared for equality with a constant which fits in int, or nothing.
+     */
+    private String getComparedVariable(Expression condition) {
+        VariableRef variable = getVariable(condition);
+        if(variable == null || (variable.type() != BuiltInType.LONG && variable.type() != BuiltInType.CHAR)) {
+            return null;
+        }
+        Value value = getValue(condition);
+        if(value == null || value.type() != variable.type()) {
+            return null;
+        }
+        if(value.type() == BuiltInType.LONG) {
+            long key = Long.parseLong(value.getValue());
+            return key >= Integer.MIN_VALUE && key <= Integer.MAX_VALUE ? variable.name() : null;
+        }
+        return variable.name();
+    }
+
+    private VariableRef getVariable(Expression condition) {
+        if(!(condition instanceof CompareExpression) || ((CompareExpression) condition).getSign() != CompareSign.EQUAL) {
+            return null;
+        }
+        CompareExpression compare = (CompareExpression) condition;
+        if(isVariable(compare.getLeft()) && compare.getRight() instanceof Value) {
+            return (VariableRef) compare.getLeft();
+        } else if(isVariable(compare.getRight()) && compare.getLeft() instanceof Value) {
+            return (VariableRef) compare.getRight();
+        }
+        return null;
+    }
+
+    private boolean isVariable(Expression expression) {
+        return expression instanceof VariableRef;
+    }
+
+    private Value getValue(Expression condition) {
+        CompareExpression compare = (CompareExpression) condition;
+        return compare.getLeft() instanceof Value ? (Value) compare.getLeft() : (Value) compare.getRight();
+    }
+
+    /**
+     * Character constants are taken the same way as when they are loaded.
+     */
+    private int getKey(Expression condition) {
+        Value value = getValue(condition);
+        if(value.type() == BuiltInType.CHAR) {
+            return StringUtils.removeEnd(StringUtils.removeStart(value.getValue(), "'"), "'").charAt(0);
+        }
+        return (int) Long.parseLong(value.getValue());
+    }
+
+    /**
+     * Returns <code>true</code>, if the statements can change the variable. Variables declared with the same name
+     * and tail calls are taken as changes too.
+     */
+    private boolean writes(List<Statement> statements, String name) {
+        for(Statement statement : statements) {
+            if(statement instanceof Assignment && !(statement instanceof ArrayAssignment)) {
+                if(((Assignment) statement).getName().equals(name)) {
+                    return true;
+                }
+            } else if(statement instanceof VariableDeclaration) {
+                if(((VariableDeclaration) statement).getName().equals(name)) {
+                    return true;
+                }
+            } else if(statement instanceof ReadStatement) {
+                ReadStatement readStatement = (ReadStatement) statement;
+                if(!(readStatement.variable() instanceof LocalVariableArrayIndex)
+                        && readStatement.variable().name().equals(name)) {
+                    return true;
+                }
+            } else if(statement instanceof InlinedCall) {
+                if(((InlinedCall) statement).getVariableName().filter(name::equals).isPresent()) {
+                    return true;
+                }
+            } else if(statement instanceof TailCall) {
+                return true;
+            } else if(statement instanceof IfStatement) {
+                IfStatement ifStatement = (IfStatement) statement;
+                if(writes(ifStatement.getTrueBlock(), name) || writes(ifStatement.getFalseBlock(), name)) {
+                    return true;
+                }
+            } else if(statement instanceof WhileStatement) {
+                if(writes(((WhileStatement) statement).getBlock(), name)) {
+                    return true;
+                }
+            } else if(statement instanceof ForStatement) {
+                ForStatement forStatement = (ForStatement) statement;
+                if(forStatement.getVariable().getName().equals(name) || writes(forStatement.getBlock(), name)) {
+                    return true;
+                }
+            } else if(statement instanceof SwitchStatement) {
+                SwitchStatement switchStatement = (SwitchStatement) statement;
+                for(SwitchStatement.Case switchCase : switchStatement.getCases()) {
+                    if(writes(switchCase.getBlock(), name)) {
+                        return true;
+                    }
+                }
+                if(writes(switchStatement.getDefaultBlock(), name)) {
+                    return true;
+                }
+            }
+        }
+        return false;
+    }
+}
@@ -0,0 +1,106 @@
+package com.pidanic.saral.optimizer;
+
+import com.pidanic.saral.domain.ArrayAssignment;
+import com.pidanic.saral.domain.Assignment;
+import com.pidanic.saral.domain.Init;
+import com.pidanic.saral.domain.ProcedureCall;
+import com.pidanic.saral.domain.ReturnStatement;
+import com.pidanic.saral.domain.Statement;
+import com.pidanic.saral.domain.TailCall;
+import com.pidanic.saral.domain.block.Function;
+import com.pidanic.saral.domain.block.IfStatement;
+import com.pidanic.saral.domain.expression.Expression;
+import com.pidanic.saral.domain.expression.FunctionCall;
+import com.pidanic.saral.domain.expression.VariableRef;
+import com.pidanic.saral.scope.Scope;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * Replaces calls of a bar from its own last statement by {@link TailCall}. The last statement of a bar is its last
+ * statement or the last statement of both branches of its last condition. A bar calls itself from there when
+ * the result of the call is assigned to the variable returned by <code>vrac</code>, or when a bar without result
+ * calls itself.
+ *
+ * A bar has only one <code>vrac</code> at its end, so a bar returning its own call directly never ends.
+ * Such call is left as it is.
+ */
+class TailCallElimination {
+
+    void rewrite(Init compilationUnit) {
+        for(Statement statement : compilationUnit.getStatements()) {
+            if(statement instanceof Function) {
+                rewriteFunction((Function) statement);
+            }
+        }
+    }
+
+    private void rewriteFunction(Function function) {
+        Optional<String> returnedVariable = function.getReturnStatement()
+                .map(ReturnStatement::getExpression)
+                .filter(expression -> expression instanceof VariableRef)
+                .map(expression -> ((VariableRef) expression).name());
+        if(function.getReturnStatement().isPresent() && !returnedVariable.isPresent()) {
+            return;
+        }
+        List<Statement> statements = function.getStatements();
+        List<Statement> newStatements = rewriteLast(function, returnedVariable, statements, function.getScope());
+        if(newStatements != statements) {
+            function.setStatements(newStatements);
+        }
+    }
+
+    private List<Statement> rewriteLast(Function function, Optional<String> returnedVariable,
+                                        List<Statement> statements, Scope scope) {
+        if(statements.isEmpty()) {
+            return statements;
+        }
+        Statement last = statements.get(statements.size() - 1);
+        Statement newLast = last;
+        if(last instanceof IfStatement) {
+            IfStatement ifStatement = (IfStatement) last;
+            List<Statement> trueBlock = ifStatement.getTrueBlock();
+            List<Statement> falseBlock = ifStatement.getFalseBlock();
+            List<Statement> newTrueBlock = rewriteLast(function, returnedVariable, trueBlock, ifStatement.getScope());
+            List<Statement> newFalseBlock = rewriteLast(function, returnedVariable, falseBlock, ifStatement.getScope());
+            if(newTrueBlock != trueBlock || newFalseBlock != falseBlock) {
+                newLast = new IfStatement(ifStatement.getScope(), ifStatement.getBooleanExpression(),
+                        newTrueBlock, newFalseBlock);
+            }
+        } else if(last instanceof ProcedureCall && !returnedVariable.isPresent()) {
+            ProcedureCall call = (ProcedureCall) last;
+            if(isSelfCall(call.getFunction(), function)) {
+                newLast = new TailCall(function, call.getCalledArguments());
+            }
+        } else if(last instanceof Assignment && !(last instanceof ArrayAssignment) && returnedVariable.isPresent()) {
+            Assignment assignment = (Assignment) last;
+            Expression expression = assignment.getExpression().get();
+            if(assignment.getName().equals(returnedVariable.get()) && isSameVariable(assignment.getName(), scope, function)
+                    && expression instanceof FunctionCall && isSelfCall(((FunctionCall) expression).getFunction(), function)) {
+                newLast = new TailCall(function, ((FunctionCall) expression).getCalledArguments());
+            }
+        }
+        if(newLast == last) {
+            return statements;
+        }
+        List<Statement> newStatements = new ArrayList<>(statements);
+        newStatements.set(newStatements.size() - 1, newLast);
+        return newStatements;
+    }
+
+    /**
+     * Calls inside a bar refer to its declaration made before its body, so they are compared by name.
+     */
+    private boolean isSelfCall(Function called, Function function) {
+        return called.getName().equals(function.getName());
+    }
+
+    /**
+     * Assigned variable is the returned one, if the name is not declared again in the block.
+     */
+    private boolean isSameVariable(String name, Scope scope, Function function) {
+        return scope.getLocalVariableIndex(name) == function.getScope().getLocalVariableIndex(name);
+    }
+}
@@ -0,0 +1,321 @@
+package com.pidanic.saral.optimizer;
+
+import com.pidanic.saral.domain.*;
+import com.pidanic.saral.domain.block.ForStatement;
+import com.pidanic.saral.domain.block.Function;
+import com.pidanic.saral.domain.block.IfStatement;
+import com.pidanic.saral.domain.block.SwitchStatement;
+import com.pidanic.saral.domain.block.WhileStatement;
+import com.pidanic.saral.domain.expression.*;
+import com.pidanic.saral.domain.expression.cast.CastExpression;
+import com.pidanic.saral.domain.expression.logic.And;
+import com.pidanic.saral.domain.expression.logic.Negation;
+import com.pidanic.saral.domain.expression.logic.Or;
+import com.pidanic.saral.domain.expression.math.*;
+import com.pidanic.saral.domain.expression.string.Concatenation;
+import com.pidanic.saral.scope.LocalVariable;
+import com.pidanic.saral.scope.LocalVariableArrayIndex;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Base of the optimization passes. It walks all statements of a compilation unit in source order and rebuilds
+ * every statement and expression whose parts were rewritten. Unchanged parts are kept, so a pass which rewrites
+ * nothing returns the same tree.
+ *
+ * Expressions are rewritten bottom up. {@link #rewriteNode(Expression)} gets a node whose children are already
+ * rewritten. Statements inside a block, a loop or a function body are surrounded by {@link #enterBlock()}
+ * and {@link #exitBlock()}.
+ */
+abstract class TreeRewriter {
+
+    Init rewrite(Init compilationUnit) {
+        List<Statement> statements = rewriteStatements(compilationUnit.getStatements());
+        if(statements == compilationUnit.getStatements()) {
+            return compilationUnit;
+        }
+        return new Init(compilationUnit.getScope(), statements);
+    }
+
+    protected List<Statement> rewriteStatements(List<Statement> statements) {
+        List<Statement> rewritten = new ArrayList<>(statements.size());
+        boolean changed = false;
+        for(Statement statement : statements) {
+            Statement newStatement = rewriteStatement(statement);
+            rewritten.add(newStatement);
+            changed |= newStatement != statement;
+        }
+        return changed ? rewritten : statements;
+    }
+
+    protected List<Statement> rewriteBlock(List<Statement> block) {
+        enterBlock();
+        List<Statement> rewritten = rewriteStatements(block);
+        exitBlock();
+        return rewritten;
+    }
+
+    protected void enterBlock() {
+    }
+
+    protected void exitBlock() {
+    }
+
+    protected Statement rewriteStatement(Statement statement) {
+        if(statement instanceof Function) {
+            return rewriteFunction((Function) statement);
+        } else if(statement instanceof IfStatement) {
+            return rewriteIf((IfStatement) statement);
+        } else if(statement instanceof SwitchStatement) {
+            return rewriteSwitch((SwitchStatement) statement);
+        } else if(statement instanceof WhileStatement) {
+            return rewriteWhile((WhileStatement) statement);
+        } else if(statement instanceof ForStatement) {
+            return rewriteFor((ForStatement) statement);
+        } else if(statement instanceof ArrayAssignment) {
+            return rewriteArrayAssignment((ArrayAssignment) statement);
+        } else if(statement instanceof Assignment) {
+            return rewriteAssignment((Assignment) statement);
+        } else if(statement instanceof ConstantDeclaration) {
+            return rewriteConstantDeclaration((ConstantDeclaration) statement);
+        } else if(statement instanceof VariableDeclaration) {
+            return rewriteVariableDeclaration((VariableDeclaration) statement);
+        } else if(statement instanceof ArrayDeclaration) {
+            return rewriteArrayDeclaration((ArrayDeclaration) statement);
+        } else if(statement instanceof PrintStatement) {
+            return rewritePrint((PrintStatement) statement);
+        } else if(statement instanceof ReadStatement) {
+            return rewriteRead((ReadStatement) statement);
+        } else if(statement instanceof ReturnStatement) {
+            return rewriteReturn((ReturnStatement) statement);
+        } else if(statement instanceof TemporaryDeclaration) {
+            return rewriteTemporaryDeclaration((TemporaryDeclaration) statement);
+        }
+        return statement;
+    }
+
+    /**
+     * Functions are rewritten in place, because function calls refer to them.
+     */
+    protected Statement rewriteFunction(Function function) {
+        enterBlock();
+        List<Statement> statements = function.getStatements();
+        List<Statement> newStatements = rewriteStatements(statements);
+        if(newStatements != statements) {
+            function.setStatements(newStatements);
+        }
+        function.getReturnStatement()
+                .ifPresent(returnStatement -> function.setRetStatement(rewriteReturn(returnStatement)));
+        exitBlock();
+        return function;
+    }
+
+    protected Statement rewriteIf(IfStatement ifStatement) {
+        List<Statement> originalTrueBlock = ifStatement.getTrueBlock();
+        List<Statement> originalFalseBlock = ifStatement.getFalseBlock();
+        Expression condition = rewriteExpression(ifStatement.getBooleanExpression());
+        List<Statement> trueBlock = rewriteBlock(originalTrueBlock);
+        List<Statement> falseBlock = rewriteBlock(originalFalseBlock);
+        if(condition == ifStatement.getBooleanExpression() && trueBlock == originalTrueBlock
+                && falseBlock == originalFalseBlock) {
+            return ifStatement;
+        }
+        return new IfStatement(ifStatement.getScope(), condition, trueBlock, falseBlock);
+    }
+
+    protected Statement rewriteSwitch(SwitchStatement switchStatement) {
+        List<SwitchStatement.Case> cases = new ArrayList<>(switchStatement.getCases().size());
+        boolean changed = false;
+        for(SwitchStatement.Case switchCase : switchStatement.getCases()) {
+            List<Statement> block = rewriteBlock(switchCase.getBlock());
+            cases.add(block == switchCase.getBlock() ? switchCase
+                    : new SwitchStatement.Case(switchCase.getKey(), switchCase.getScope(), block));
+            changed |= block != switchCase.getBlock();
+        }
+        List<Statement> defaultBlock = rewriteBlock(switchStatement.getDefaultBlock());
+        if(!changed && defaultBlock == switchStatement.getDefaultBlock()) {
+            return switchStatement;
+        }
+        return new SwitchStatement(switchStatement.getScope(), switchStatement.getVariable(), cases,
+                switchStatement.getDefaultScope(), defaultBlock);
+    }
+
+    protected Statement rewriteWhile(WhileStatement whileStatement) {
+        enterBlock();
+        List<Statement> block = rewriteStatements(whileStatement.getBlock());
+        Expression condition = rewriteExpression(whileStatement.getExpression());
+        exitBlock();
+        if(condition == whileStatement.getExpression() && block == whileStatement.getBlock()) {
+            return whileStatement;
+        }
+        return new WhileStatement(whileStatement.getScope(), condition, block);
+    }
+
+    protected Statement rewriteFor(ForStatement forStatement) {
+        Expression from = rewriteExpression(forStatement.getFromExpression());
+        Expression to = rewriteExpression(forStatement.getToExpression());
+        List<Statement> block = rewriteBlock(forStatement.getBlock());
+        if(from == forStatement.getFromExpression() && to == forStatement.getToExpression()
+                && block == forStatement.getBlock()) {
+            return forStatement;
+        }
+        VariableDeclaration iterator = new VariableDeclaration(forStatement.getVariable().getName(), from);
+        return new ForStatement(forStatement.getScope(), iterator, from, to, block);
+    }
+
+    protected Statement rewriteArrayAssignment(ArrayAssignment assignment) {
+        Expression index = rewriteExpression(assignment.getIndex());
+        Expression expression = rewriteExpression(assignment.getExpression().get());
+        if(index == assignment.getIndex() && expression == assignment.getExpression().get()) {
+            return assignment;
+        }
+        return new ArrayAssignment(assignment.getName(), index, expression);
+    }
+
+    protected Statement rewriteAssignment(Assignment assignment) {
+        Expression expression = rewriteExpression(assignment.getExpression().get());
+        if(expression == assignment.getExpression().get()) {
+            return assignment;
+        }
+        return new Assignment(assignment.getName(), expression);
+    }
+
+    protected Statement rewriteConstantDeclaration(ConstantDeclaration declaration) {
+        Expression expression = rewriteExpression(declaration.getExpression().get());
+        if(expression == declaration.getExpression().get()) {
+            return declaration;
+        }
+        return new ConstantDeclaration(declaration.getName(), expression);
+    }
+
+    protected Statement rewriteVariableDeclaration(VariableDeclaration declaration) {
+        if(!declaration.getExpression().isPresent()) {
+            return declaration;
+        }
+        Expression expression = rewriteExpression(declaration.getExpression().get());
+        if(expression == declaration.getExpression().get()) {
+            return declaration;
+        }
+        return new VariableDeclaration(declaration.getName(), expression);
+    }
+
+    protected Statement rewriteTemporaryDeclaration(TemporaryDeclaration declaration) {
+        Expression expression = rewriteExpression(declaration.getExpression());
+        if(expression == declaration.getExpression()) {
+            return declaration;
+        }
+        return new TemporaryDeclaration(declaration.getIndex(), expression);
+    }
+
+    protected Statement rewriteArrayDeclaration(ArrayDeclaration declaration) {
+        // length is returned already casted to int
+        Expression length = ((CastExpression) declaration.getLength()).getExpression();
+        Expression newLength = rewriteExpression(length);
+        if(newLength == length) {
+            return declaration;
+        }
+        return new ArrayDeclaration(declaration.getName(), declaration.getType(), newLength);
+    }
+
+    protected Statement rewritePrint(PrintStatement printStatement) {
+        LocalVariable variable = rewriteArrayIndex(printStatement.getVariable());
+        return variable == printStatement.getVariable() ? printStatement : new PrintStatement(variable);
+    }
+
+    protected Statement rewriteRead(ReadStatement readStatement) {
+        LocalVariable variable = rewriteArrayIndex(readStatement.variable());
+        return variable == readStatement.variable() ? readStatement : new ReadStatement(variable);
+    }
+
+    private LocalVariable rewriteArrayIndex(LocalVariable variable) {
+        if(!(variable instanceof LocalVariableArrayIndex)) {
+            return variable;
+        }
+        Expression index = ((LocalVariableArrayIndex) variable).getIndex();
+        Expression newIndex = rewriteExpression(index);
+        if(newIndex == index) {
+            return variable;
+        }
+        return new LocalVariableArrayIndex(variable.name(), variable.type(), variable.isInitialized(), newIndex);
+    }
+
+    protected ReturnStatement rewriteReturn(ReturnStatement returnStatement) {
+        Expression expression = rewriteExpression(returnStatement.getExpression());
+        return expression == returnStatement.getExpression() ? returnStatement : new ReturnStatement(expression);
+    }
+
+    protected Expression rewriteExpression(Expression expression) {
+        return rewriteNode(rewriteChildren(expression));
+    }
+
+    /**
+     * Rewrites a node whose children are already rewritten.
+     */
+    protected Expression rewriteNode(Expression expression) {
+        return expression;
+    }
+
+    private Expression rewriteChildren(Expression expression) {
+        if(expression instanceof BinaryExpression) {
+            BinaryExpression binaryExpression = (BinaryExpression) expression;
+            Expression left = rewriteExpression(binaryExpression.getLeft());
+            Expression right = rewriteExpression(binaryExpression.getRight());
+            if(left == binaryExpression.getLeft() && right == binaryExpression.getRight()) {
+                return expression;
+            }
+            return createBinaryExpression(binaryExpression, left, right);
+        } else if(expression instanceof UnaryExpression) {
+            UnaryExpression unaryExpression = (UnaryExpression) expression;
+            Expression operand = rewriteExpression(unaryExpression.getExpression());
+            if(operand == unaryExpression.getExpression()) {
+                return expression;
+            }
+            return createUnaryExpression(unaryExpression, operand);
+        } else if(expression instanceof ArrayRef) {
+            ArrayRef arrayRef = (ArrayRef) expression;
+            // index is returned already casted to int
+            Expression index = ((CastExpression) arrayRef.getIndex()).getExpression();
+            Expression newIndex = rewriteExpression(index);
+            if(newIndex == index) {
+                return expression;
+            }
+            return new ArrayRef(arrayRef.name(), arrayRef.type(), newIndex);
+        }
+        return expression;
+    }
+
+    static Expression createBinaryExpression(BinaryExpression expression, Expression left, Expression right) {
+        if(expression instanceof Addition) {
+            return new Addition(left, right);
+        } else if(expression instanceof Substraction) {
+            return new Substraction(left, right);
+        } else if(expression instanceof Multiplication) {
+            return new Multiplication(left, right);
+        } else if(expression instanceof Division) {
+            return new Division(left, right);
+        } else if(expression instanceof Modulo) {
+            return new Modulo(left, right);
+        } else if(expression instanceof CompareExpression) {
+            return new CompareExpression(expression.getSign(), left, right);
+        } else if(expression instanceof And) {
+            return new And(left, right);
+        } else if(expression instanceof Or) {
+            return new Or(left, right);
+        } else if(expression instanceof Concatenation) {
+            return new Concatenation(left, right);
+        }
+        throw new UnsupportedOperationException("Unknown binary expression: " + expression.getClass().getSimpleName());
+    }
+
+    static Expression createUnaryExpression(UnaryExpression expression, Expression operand) {
+        if(expression instanceof UnaryMinus) {
+            return new UnaryMinus(operand);
+        } else if(expression instanceof Negation) {
+            return new Negation(operand);
+        } else if(expression instanceof CastExpression) {
+            return new CastExpression(expression.type(), operand);
+        }
+        throw new UnsupportedOperationException("Unknown unary expression: " + expression.getClass().getSimpleName());
+    }
+}
@@ -4,8 +4,6 @@ import com.pidanic.saral.util.Type;
 
 public class LocalVariable {
 
-    public static final String SYSTEM_IN = "SYSTEM_IN";
-
     private final String name;
     private final Type type;
     private boolean initialized;
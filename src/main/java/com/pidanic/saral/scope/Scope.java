@@ -5,36 +5,75 @@ import com.pidanic.saral.exception.VariableNameAlreadyExists;
 import com.pidanic.saral.util.BuiltInType;
 
 import java.util.ArrayList;
-import java.util.Collections;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
-import java.util.stream.Collectors;
 
+/**
+ * Local variables are identified by their slot in the local variable array. Long and double variables take two
+ * slots, so they are followed by an empty placeholder. When more variables have the same name, the one with
+ * the lowest slot is found.
+ *
+ * A block scope is linked to its parent scope and shares its variables and functions instead of copying them.
+ * It sees only the slots its parent had when the block scope was created, and its own variables take the following
+ * slots. Variables of the parent initialized inside the block are initialized only in the block scope.
+ * The slots a block scope sees in its parents do not change, so slots of names found in the parents are remembered
+ * and every name is searched in the parents only once.
+ */
 public class Scope {
 
     private static final LocalVariable EMPTY = new LocalVariable("empty", BuiltInType.BOOLEAN, true);
 
-    private List<LocalVariable> localVariables;
-    private List<Function> functions;
-    private String className;
+    private final Scope parent;
+    private final int firstLocalVariableIndex;
+    private final List<LocalVariable> localVariables;
+    private final Map<String, Integer> localVariableIndexes;
+    private final Map<String, Integer> parentLocalVariableIndexes;
+    private final Map<Integer, LocalVariable> initializedParentVariables;
+    private final Map<String, Function> functions;
+    private final String className;
 
     public Scope(String className) {
-        localVariables = new ArrayList<>();
-        functions = new ArrayList<>();
-        this.className = className;
+        this(null, 0, className);
+    }
+
+    /**
+     * Scope without parent whose variables take slots from the given one, e.g. after all slots of a method.
+     */
+    public Scope(String className, int firstLocalVariableIndex) {
+        this(null, firstLocalVariableIndex, className);
     }
 
     public Scope(Scope scope) {
-        localVariables = new ArrayList<>(scope.localVariables);
-        functions = new ArrayList<>(scope.functions);
-        className = scope.className;
+        // a parent without own variables and functions shows the same as its own parent, so it is skipped
+        this(scope.isEmpty() ? scope.parent : scope, scope.localVariablesCount(), scope.className);
+    }
+
+    private Scope(Scope parent, int firstLocalVariableIndex, String className) {
+        this.parent = parent;
+        this.firstLocalVariableIndex = firstLocalVariableIndex;
+        this.localVariables = new ArrayList<>();
+        this.localVariableIndexes = new HashMap<>();
+        this.parentLocalVariableIndexes = new HashMap<>();
+        this.initializedParentVariables = new HashMap<>();
+        this.functions = new HashMap<>();
+        this.className = className;
     }
 
-    public List<LocalVariable> getLocalVariables() {
-        return Collections.unmodifiableList(localVariables);
+    private boolean isEmpty() {
+        return localVariables.isEmpty() && initializedParentVariables.isEmpty() && functions.isEmpty();
+    }
+
+    /**
+     * Returns <code>true</code>, if variables were added to this scope, not only to its parents.
+     */
+    public boolean hasOwnVariables() {
+        return !localVariables.isEmpty();
     }
 
     public void addLocalVariable(LocalVariable localVariable) {
+        localVariableIndexes.putIfAbsent(localVariable.name(), localVariablesCount());
         localVariables.add(localVariable);
         if(localVariable.type() == BuiltInType.LONG || localVariable.type() == BuiltInType.DOUBLE) {
             localVariables.add(EMPTY);
@@ -42,22 +81,66 @@ public class Scope {
     }
 
     public boolean existsLocalVariable(String variableName) {
-        return localVariables.stream().anyMatch(variable -> variable.name().equals(variableName));
+        return getLocalVariableIndex(variableName) >= 0;
     }
 
     public Optional<LocalVariable> getLocalVariable(String varName) {
-        return localVariables.stream()
-                .filter(variable -> variable.name().equals(varName))
-                .findFirst();
+        int index = getLocalVariableIndex(varName);
+        return index < 0 ? Optional.empty() : Optional.of(getLocalVariableAtIndex(index));
     }
 
     public int getLocalVariableIndex(String varName) {
-        return localVariables.stream().map(LocalVariable::name).collect(Collectors.toList()).indexOf(varName);
+        return getLocalVariableIndex(varName, localVariablesCount());
+    }
+
+    private int getLocalVariableIndex(String varName, int visibleCount) {
+        if(parent != null) {
+            // a child scope sees at least the slots of this scope, which were taken before it
+            int parentIndex = visibleCount >= firstLocalVariableIndex
+                    ? parentLocalVariableIndexes.computeIfAbsent(varName,
+                            name -> parent.getLocalVariableIndex(name, firstLocalVariableIndex))
+                    : parent.getLocalVariableIndex(varName, visibleCount);
+            if(parentIndex >= 0) {
+                return parentIndex;
+            }
+        }
+        Integer index = localVariableIndexes.get(varName);
+        return index != null && index < visibleCount ? index : -1;
+    }
+
+    private LocalVariable getLocalVariableAtIndex(int index) {
+        if(index >= firstLocalVariableIndex) {
+            return localVariables.get(index - firstLocalVariableIndex);
+        }
+        LocalVariable initializedVariable = initializedParentVariables.get(index);
+        return initializedVariable != null ? initializedVariable : parent.getLocalVariableAtIndex(index);
+    }
+
+    /**
+     * Returns the scope whose own slot belongs to the variable, or nothing, if the variable does not exist.
+     */
+    public Optional<Scope> getOwner(String varName) {
+        int index = getLocalVariableIndex(varName);
+        return index < 0 ? Optional.empty() : Optional.of(getOwner(index));
+    }
+
+    private Scope getOwner(int index) {
+        Scope scope = this;
+        // a scope without parent, e.g. of an inlined bar, owns no slots before its first one
+        while(index < scope.firstLocalVariableIndex && scope.parent != null) {
+            scope = scope.parent;
+        }
+        return scope;
     }
 
     public Optional<Function> getFunction(String functionName) {
-        return functions.stream().filter(proc -> proc.getName().equals(functionName))
-                .findFirst();
+        for(Scope scope = this; scope != null; scope = scope.parent) {
+            Function function = scope.functions.get(functionName);
+            if(function != null) {
+                return Optional.of(function);
+            }
+        }
+        return Optional.empty();
     }
 
     public String getClassName() {
@@ -65,25 +148,26 @@ public class Scope {
     }
 
     public void addFunction(Function function) {
-        this.functions.add(function);
+        if(!getFunction(function.getName()).isPresent()) {
+            this.functions.put(function.getName(), function);
+        }
     }
 
     public LocalVariable initializeLocalVariableAtIndex(int index) {
-        LocalVariable localVariable = this.localVariables.get(index);
-        LocalVariable initializedLocalVar = localVariable.initialize();
-        this.localVariables.set(index, initializedLocalVar);
+        LocalVariable initializedLocalVar = getLocalVariableAtIndex(index).initialize();
+        if(index >= firstLocalVariableIndex) {
+            this.localVariables.set(index - firstLocalVariableIndex, initializedLocalVar);
+        } else {
+            this.initializedParentVariables.put(index, initializedLocalVar);
+        }
         return initializedLocalVar;
     }
 
     public LocalVariable initializeLocalVariable(String name) {
-        LocalVariable localVariable = getLocalVariable(name).get();
-        int index = getLocalVariableIndex(name);
-        LocalVariable initializedLocalVar = localVariable.initialize();
-        this.localVariables.set(index, initializedLocalVar);
-        return initializedLocalVar;
+        return initializeLocalVariableAtIndex(getLocalVariableIndex(name));
     }
 
     public int localVariablesCount() {
-        return localVariables.size();
+        return firstLocalVariableIndex + localVariables.size();
     }
 }
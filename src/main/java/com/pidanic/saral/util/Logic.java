@@ -35,7 +35,7 @@ public enum Logic {
 
     public Logic or(Logic other) {
         if(this == OSAL) {
-            return other == SKOROOSAL ? SKOROOSAL : OSAL;
+            return other;
         } else if(this == SKOROOSAL) {
             return other == PRAVDA ? PRAVDA : SKOROOSAL;
         }
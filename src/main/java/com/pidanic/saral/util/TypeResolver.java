@@ -60,6 +60,10 @@ public class TypeResolver {
         return type == BuiltInType.DOUBLE;
     }
 
+    public static boolean isInt(Type type) {
+        return type == BuiltInType.INT;
+    }
+
     public static boolean isLong(Type type) {
         return type == BuiltInType.LONG;
     }
@@ -46,6 +46,7 @@ public class ForStatementVisitor extends SaralBaseVisitor<ForStatement> {
             throw new VariableNameAlreadyExists(scope, localVar.name());
         }
         scope.addLocalVariable(localVar);
+        scope.addLocalVariable(new LocalVariable(ForStatement.getDirectionVariableName(varName), BuiltInType.INT, true));
         VariableDeclaration var = new VariableDeclaration(varName, from);
 
         List<Statement> block = StatementsHelper.parseStatements(ctx.block().statements(),scope);
@@ -42,7 +42,7 @@ public class SimpleStatementVisitor extends SaralBaseVisitor<SimpleStatement> {
 
     private SimpleStatement createPrintStatement(SaralParser.VarContext varContext) {
         Expression varRef = varContext.accept(new ExpressionVisitor(scope));
-        String varName = ((VariableRef) varRef).name();
+        String varName = getVariableName(varRef);
 
         Optional<LocalVariable> localVariableOption = scope.getLocalVariable(varName);
         if(!localVariableOption.isPresent()) {
@@ -153,12 +153,7 @@ public class SimpleStatementVisitor extends SaralBaseVisitor<SimpleStatement> {
     @Override
     public SimpleStatement visitAssignment(SaralParser.AssignmentContext ctx) {
         Expression varRef = ctx.var().accept(new ExpressionVisitor(scope));
-        String varName;
-        if(varRef instanceof ArrayRef) {
-            varName = ((ArrayRef) varRef).name();
-        } else {
-            varName = ((VariableRef) varRef).name();
-        }
+        String varName = getVariableName(varRef);
         Optional<LocalVariable> varOption = scope.getLocalVariable(varName);
         if(!varOption.isPresent()) {
             throw new VariableNotFound(scope, varName);
@@ -209,7 +204,7 @@ public class SimpleStatementVisitor extends SaralBaseVisitor<SimpleStatement> {
 
     private SimpleStatement createReadStatement(SaralParser.VarContext ctx) {
         Expression varRef = ctx.accept(new ExpressionVisitor(scope));
-        String varName = ((VariableRef) varRef).name();
+        String varName = getVariableName(varRef);
 
         Optional<LocalVariable> localVariableOption = scope.getLocalVariable(varName);
         if(!localVariableOption.isPresent()) {
@@ -229,4 +224,11 @@ public class SimpleStatementVisitor extends SaralBaseVisitor<SimpleStatement> {
 
         return new ReadStatement(initializedLocalVariable);
     }
+
+    private static String getVariableName(Expression varRef) {
+        if(varRef instanceof ArrayRef) {
+            return ((ArrayRef) varRef).name();
+        }
+        return ((VariableRef) varRef).name();
+    }
 }
@@ -0,0 +1,40 @@
+package com.pidanic.saral;
+
+import com.pidanic.saral.cache.CompilationCache;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+import java.io.ByteArrayOutputStream;
+import java.io.File;
+import java.io.IOException;
+import java.io.PrintStream;
+import java.nio.file.Files;
+
+import static org.junit.Assert.assertTrue;
+
+/**
+ * A class file is written before it is stored in the cache, so a cache which cannot store it does not fail
+ * the compilation.
+ */
+public class CompilerCacheTest {
+
+    @Rule
+    public TemporaryFolder folder = new TemporaryFolder();
+
+    @Test
+    public void failedStoreInCacheIsReportedWithoutFailingCompilation() throws IOException {
+        File cacheDirectory = folder.newFolder("cache");
+        CompilationCache cache = new CompilationCache(cacheDirectory, 1 << 20, "test");
+        Files.delete(cacheDirectory.toPath());
+        File source = folder.newFile("Cached.srl");
+        ByteArrayOutputStream errors = new ByteArrayOutputStream();
+
+        CompilationResult result = new Compiler(new PrintStream(errors, true), cache)
+                .compile(source, folder.getRoot());
+
+        assertTrue(String.valueOf(result.getError()), result.isSuccessful());
+        assertTrue(new File(folder.getRoot(), "Cached.class").isFile());
+        assertTrue(errors.toString(), errors.toString().startsWith("Cannot store " + source.getPath()));
+    }
+}
@@ -0,0 +1,97 @@
+package com.pidanic.saral;
+
+import com.pidanic.saral.domain.Init;
+import com.pidanic.saral.generator.ByteCodeGenerator;
+import com.pidanic.saral.optimizer.Optimizer;
+import org.antlr.v4.runtime.CharStream;
+
+import java.io.ByteArrayOutputStream;
+import java.io.PrintStream;
+import java.io.UnsupportedEncodingException;
+import java.lang.reflect.InvocationTargetException;
+import java.util.Arrays;
+
+/**
+ * Compiles Šaral source lines in memory, without source and class files, and runs the compiled programs.
+ */
+public final class SaralTestCompiler {
+
+    private static final String ENCODING = "UTF-8";
+
+    private SaralTestCompiler() {
+    }
+
+    public static byte[] compile(String className, String... lines) {
+        return compile(className, new Optimizer(), new ByteCodeGenerator(), lines);
+    }
+
+    /**
+     * Compiles the lines without optimizing them, as the compiler did before it had the optimizer.
+     */
+    public static byte[] compileUnoptimized(String className, String... lines) {
+        return compile(className, null, new ByteCodeGenerator(), lines);
+    }
+
+    /**
+     * @param optimizer optimizer of the parsed compilation unit, or <code>null</code> to generate it as it is
+     */
+    public static byte[] compile(String className, Optimizer optimizer, ByteCodeGenerator generator,
+                                 String... lines) {
+        CharStream source = new Preprocessor().preprocessToCharStream(Arrays.asList(lines), className + ".srl");
+        SaralCompilationUnitParser parser = new SaralCompilationUnitParser();
+        Init compilationUnit = parser.getCompilationUnit(source, className);
+        if(parser.getNumberOfSyntaxErrors() > 0) {
+            throw new IllegalArgumentException("Syntax errors in " + className);
+        }
+        if(optimizer == null) {
+            return generator.generateByteCode(compilationUnit);
+        }
+        return generator.generateByteCode(optimizer.optimize(compilationUnit), optimizer.getVariableStorage());
+    }
+
+    /**
+     * Defines and initializes the compiled class, so all its methods are verified.
+     */
+    public static Class<?> load(String className, byte[] byteCode) throws ClassNotFoundException {
+        return Class.forName(className, true, new ByteCodeClassLoader(className, byteCode));
+    }
+
+    /**
+     * Runs <code>main</code> of the compiled class and returns what it printed.
+     */
+    public static String run(String className, byte[] byteCode) {
+        PrintStream systemOut = System.out;
+        ByteArrayOutputStream output = new ByteArrayOutputStream();
+        try {
+            System.setOut(new PrintStream(output, true, ENCODING));
+            load(className, byteCode).getMethod("main", String[].class).invoke(null, (Object) new String[0]);
+            System.out.flush();
+            return output.toString(ENCODING);
+        } catch (InvocationTargetException e) {
+            throw new IllegalStateException("Program " + className + " failed", e.getCause());
+        } catch (ReflectiveOperationException | UnsupportedEncodingException e) {
+            throw new IllegalStateException("Program " + className + " cannot be run", e);
+        } finally {
+            System.setOut(systemOut);
+        }
+    }
+
+    private static class ByteCodeClassLoader extends ClassLoader {
+        private final String className;
+        private final byte[] byteCode;
+
+        ByteCodeClassLoader(String className, byte[] byteCode) {
+            super(SaralTestCompiler.class.getClassLoader());
+            this.className = className;
+            this.byteCode = byteCode;
+        }
+
+        @Override
+        protected Class<?> findClass(String name) throws ClassNotFoundException {
+            if(!name.equals(className)) {
+                throw new ClassNotFoundException(name);
+            }
+            return defineClass(name, byteCode, 0, byteCode.length);
+        }
+    }
+}
@@ -0,0 +1,28 @@
+package com.pidanic.saral.generator;
+
+import com.pidanic.saral.SaralTestCompiler;
+import org.junit.Test;
+
+import static org.junit.Assert.assertEquals;
+
+/**
+ * Buffered output is written in chunks, so a program printing more than the buffer prints the same text
+ * as without buffering.
+ */
+public class BufferedOutputTest {
+
+    private static final String[] LINES = {
+            "meňak slovo s = \"čučoriedka\"",
+            "zrob s meňakom i od 1 do 20000",
+            "    ciskaj s",
+            "    ciskaj i",
+            "ciskaj s"
+    };
+
+    @Test
+    public void outputLongerThanBufferIsPrintedWhole() {
+        String expected = SaralTestCompiler.run("Long", SaralTestCompiler.compile("Long", LINES));
+        byte[] buffered = SaralTestCompiler.compile("Long", null, new ByteCodeGenerator(true, false), LINES);
+        assertEquals(expected, SaralTestCompiler.run("Long", buffered));
+    }
+}
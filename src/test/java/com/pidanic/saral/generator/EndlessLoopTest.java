@@ -0,0 +1,26 @@
+package com.pidanic.saral.generator;
+
+import com.pidanic.saral.SaralTestCompiler;
+import org.junit.Test;
+
+import static org.junit.Assert.assertEquals;
+
+/**
+ * Statements after <code>kým pravda</code> are removed as unreachable, so the loop must not fall through to
+ * the statements left after it.
+ */
+public class EndlessLoopTest {
+
+    @Test
+    public void returnAfterEndlessLoopIsVerified() throws ClassNotFoundException {
+        byte[] byteCode = SaralTestCompiler.compile("EndlessLoop",
+                "bar neskutočné numeralio h(neskutočné numeralio x)",
+                "    kým pravda rob",
+                "        x = x + 1",
+                "    meňak neskutočné numeralio r = 1",
+                "    vrac r",
+                "meňak neskutočné numeralio p = 5",
+                "ciskaj p");
+        assertEquals("EndlessLoop", SaralTestCompiler.load("EndlessLoop", byteCode).getName());
+    }
+}
@@ -0,0 +1,69 @@
+package com.pidanic.saral.generator;
+
+import com.pidanic.saral.SaralTestCompiler;
+import org.junit.Test;
+import org.objectweb.asm.ClassReader;
+import org.objectweb.asm.tree.AbstractInsnNode;
+import org.objectweb.asm.tree.ClassNode;
+import org.objectweb.asm.tree.MethodNode;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.Assert.assertEquals;
+
+/**
+ * Body of a <code>zrob s meňakom</code> loop is generated once, so code of nested loops grows linearly with
+ * their depth.
+ */
+public class ForLoopSizeTest {
+
+    private static final int MAX_DEPTH = 8;
+
+    @Test
+    public void mainGrowsLinearlyWithNestingDepth() {
+        List<Integer> sizes = new ArrayList<>();
+        for(int depth = 1; depth <= MAX_DEPTH; depth++) {
+            sizes.add(getMainSize(compileNestedLoops(depth)));
+        }
+        int step = sizes.get(1) - sizes.get(0);
+        for(int depth = 2; depth < MAX_DEPTH; depth++) {
+            assertEquals("size growth at depth " + (depth + 1) + " of sizes " + sizes,
+                    step, sizes.get(depth) - sizes.get(depth - 1));
+        }
+    }
+
+    private static byte[] compileNestedLoops(int depth) {
+        List<String> lines = new ArrayList<>();
+        lines.add("meňak neskutočné numeralio súčet = 0");
+        lines.add("meňak neskutočné numeralio koniec = 3");
+        String indent = "";
+        for(int level = 1; level <= depth; level++) {
+            lines.add(indent + "zrob s meňakom i" + level + " od 1 do koniec");
+            indent += "    ";
+        }
+        lines.add(indent + "súčet = súčet + 1");
+        lines.add("ciskaj súčet");
+        return SaralTestCompiler.compile("Nested" + depth, lines.toArray(new String[0]));
+    }
+
+    /**
+     * Returns number of instructions of the main method, without labels, line numbers and frames.
+     */
+    private static int getMainSize(byte[] byteCode) {
+        ClassNode classNode = new ClassNode();
+        new ClassReader(byteCode).accept(classNode, 0);
+        for(MethodNode method : classNode.methods) {
+            if(method.name.equals("main")) {
+                int size = 0;
+                for(AbstractInsnNode instruction : method.instructions.toArray()) {
+                    if(instruction.getOpcode() >= 0) {
+                        size++;
+                    }
+                }
+                return size;
+            }
+        }
+        throw new AssertionError("No main method generated");
+    }
+}
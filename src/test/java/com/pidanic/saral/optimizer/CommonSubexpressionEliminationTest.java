@@ -0,0 +1,72 @@
+package com.pidanic.saral.optimizer;
+
+import org.junit.Test;
+
+import static com.pidanic.saral.optimizer.ProgramOutput.assertOutput;
+import static com.pidanic.saral.optimizer.ProgramOutput.lines;
+
+public class CommonSubexpressionEliminationTest {
+
+    @Test
+    public void repeatedExpressionIsComputedAgainAfterItsVariableChanges() {
+        assertOutput(lines(7, 7, 10, 10),
+                "Repeated",
+                "meňak neskutočné numeralio x = 3",
+                "meňak neskutočné numeralio y = 4",
+                "meňak neskutočné numeralio prvé = x + y",
+                "meňak neskutočné numeralio druhé = x + y",
+                "ciskaj prvé",
+                "ciskaj druhé",
+                "x = 6",
+                "meňak neskutočné numeralio tretie = x + y",
+                "meňak neskutočné numeralio štvrté = x + y",
+                "ciskaj tretie",
+                "ciskaj štvrté");
+    }
+
+    @Test
+    public void storeToArrayElementChangesElementsOfSameArrayParameter() {
+        assertOutput(lines(2, 51),
+                "Aliased",
+                "bar g(funduš neskutočné numeralio p, funduš neskutočné numeralio q)",
+                "    meňak neskutočné numeralio prvé = 1 + q[0]",
+                "    ciskaj prvé",
+                "    p[0] = 50",
+                "    meňak neskutočné numeralio druhé = 1 + q[0]",
+                "    ciskaj druhé",
+                "funduš neskutočné numeralio x[1]",
+                "x[0] = 1",
+                "paľ do baru g(x, x)");
+    }
+
+    @Test
+    public void storeToArrayElementChangesElementsWithOtherIndex() {
+        assertOutput(lines(2, 2, 8),
+                "Elements",
+                "funduš neskutočné numeralio x[2]",
+                "meňak neskutočné numeralio i = 0",
+                "meňak neskutočné numeralio j = 1",
+                "x[0] = 1",
+                "x[1] = 1",
+                "meňak neskutočné numeralio prvé = j + x[j]",
+                "ciskaj prvé",
+                "x[i] = 5",
+                "meňak neskutočné numeralio druhé = j + x[j]",
+                "ciskaj druhé",
+                "x[j] = 7",
+                "meňak neskutočné numeralio tretie = j + x[j]",
+                "ciskaj tretie");
+    }
+
+    @Test
+    public void conditionOfLoopIsComputedOnEveryIteration() {
+        assertOutput(lines(0, 1, 2, 3),
+                "LoopCondition",
+                "meňak neskutočné numeralio i = 0",
+                "meňak neskutočné numeralio n = 3",
+                "kým i * 2 < n * 2 rob",
+                "    ciskaj i",
+                "    i = i + 1",
+                "ciskaj i");
+    }
+}
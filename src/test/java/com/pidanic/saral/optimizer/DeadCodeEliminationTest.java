@@ -0,0 +1,70 @@
+package com.pidanic.saral.optimizer;
+
+import org.junit.Test;
+
+import static com.pidanic.saral.optimizer.ProgramOutput.assertOutput;
+import static com.pidanic.saral.optimizer.ProgramOutput.lines;
+
+public class DeadCodeEliminationTest {
+
+    @Test
+    public void overwrittenStoresAndConstantConditions() {
+        assertOutput(lines(2, "áno", 3),
+                "Overwritten",
+                "meňak neskutočné numeralio x = 1",
+                "x = x + 1",
+                "ciskaj x",
+                "meňak neskutočné numeralio y = 5",
+                "y = 6",
+                "keď pravda potom",
+                "    meňak slovo áno = \"áno\"",
+                "    ciskaj áno",
+                "inak",
+                "    ciskaj y",
+                "keď ošaľ potom",
+                "    ciskaj y",
+                "y = 3",
+                "ciskaj y");
+    }
+
+    @Test
+    public void variableOfBarWithNameOfUnusedVariable() {
+        assertOutput(lines(5),
+                "SameName",
+                "bar neskutočné numeralio f(neskutočné numeralio p)",
+                "    meňak neskutočné numeralio x = p + 1",
+                "    vrac x",
+                "meňak neskutočné numeralio x = 3",
+                "meňak neskutočné numeralio y = 4",
+                "meňak neskutočné numeralio z = (vrac mi z baru f(y)) + 0",
+                "ciskaj z");
+    }
+
+    @Test
+    public void storesReadInLoopsAndBlocks() {
+        assertOutput(lines(1, 3, 6, 6, 6),
+                "InLoop",
+                "meňak neskutočné numeralio súčet = 0",
+                "meňak neskutočné numeralio posledný = 0",
+                "zrob s meňakom i od 1 do 3",
+                "    súčet = súčet + i",
+                "    posledný = súčet",
+                "    ciskaj súčet",
+                "keď posledný > 0 potom",
+                "    ciskaj posledný",
+                "ciskaj súčet");
+    }
+
+    @Test
+    public void statementsAfterEndlessLoopOfBarNeverCalled() {
+        assertOutput(lines(5),
+                "EndlessLoop",
+                "bar neskutočné numeralio h(neskutočné numeralio x)",
+                "    kým pravda rob",
+                "        x = x + 1",
+                "    meňak neskutočné numeralio r = 1",
+                "    vrac r",
+                "meňak neskutočné numeralio p = 5",
+                "ciskaj p");
+    }
+}
@@ -0,0 +1,60 @@
+package com.pidanic.saral.optimizer;
+
+import org.junit.Test;
+
+import static com.pidanic.saral.optimizer.ProgramOutput.assertOutput;
+import static com.pidanic.saral.optimizer.ProgramOutput.lines;
+
+public class InlinerTest {
+
+    @Test
+    public void inlinedBarHasItsOwnVariables() {
+        assertOutput(lines(7, 3, 4, 10),
+                "OwnVariables",
+                "bar neskutočné numeralio súčet(neskutočné numeralio x, neskutočné numeralio y)",
+                "    meňak neskutočné numeralio z = x + y",
+                "    vrac z",
+                "meňak neskutočné numeralio x = 3",
+                "meňak neskutočné numeralio y = 4",
+                "meňak neskutočné numeralio z = vrac mi z baru súčet(x, y)",
+                "ciskaj z",
+                "ciskaj x",
+                "ciskaj y",
+                "z = vrac mi z baru súčet(x, z)",
+                "ciskaj z");
+    }
+
+    @Test
+    public void inlinedCallsInLoopAndNestedCalls() {
+        assertOutput(lines(2, 4, 6, 12),
+                "InLoop",
+                "bar neskutočné numeralio dvakrát(neskutočné numeralio x)",
+                "    meňak neskutočné numeralio y = x * 2",
+                "    vrac y",
+                "bar vypíš(neskutočné numeralio x)",
+                "    meňak neskutočné numeralio y = vrac mi z baru dvakrát(x)",
+                "    ciskaj y",
+                "meňak neskutočné numeralio súčet = 0",
+                "zrob s meňakom i od 1 do 3",
+                "    paľ do baru vypíš(i)",
+                "    meňak neskutočné numeralio d = vrac mi z baru dvakrát(i)",
+                "    súčet = súčet + d",
+                "ciskaj súčet");
+    }
+
+    @Test
+    public void inlinedBarChangesElementsOfItsArray() {
+        assertOutput(lines(5, 6),
+                "ArrayArgument",
+                "bar nastav(funduš neskutočné numeralio p, neskutočné numeralio i, neskutočné numeralio v)",
+                "    meňak neskutočné numeralio j = i + 1",
+                "    p[i] = v",
+                "    p[j] = 1 + v",
+                "funduš neskutočné numeralio pole[2]",
+                "meňak neskutočné numeralio nula = 0",
+                "meňak neskutočné numeralio päť = 5",
+                "paľ do baru nastav(pole, nula, päť)",
+                "ciskaj pole[0]",
+                "ciskaj pole[1]");
+    }
+}
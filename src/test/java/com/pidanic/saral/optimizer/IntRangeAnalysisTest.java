@@ -0,0 +1,60 @@
+package com.pidanic.saral.optimizer;
+
+import org.junit.Test;
+
+import static com.pidanic.saral.optimizer.ProgramOutput.assertOutput;
+import static com.pidanic.saral.optimizer.ProgramOutput.lines;
+
+public class IntRangeAnalysisTest {
+
+    @Test
+    public void sumGrowingInLoopIsNotNarrowed() {
+        assertOutput(lines(10000000000L),
+                "GrowingSum",
+                "meňak neskutočné numeralio súčet = 0",
+                "zrob s meňakom i od 1 do 100000",
+                "    súčet = súčet + 100000",
+                "ciskaj súčet");
+    }
+
+    @Test
+    public void productOfBoundedVariablesOverInt() {
+        assertOutput(lines(4294967296L, 2147483648L),
+                "Product",
+                "meňak neskutočné numeralio x = 65536",
+                "meňak neskutočné numeralio y = x * x",
+                "ciskaj y",
+                "meňak neskutočné numeralio z = 2147483647",
+                "meňak neskutočné numeralio jedna = 1",
+                "z = z + jedna",
+                "ciskaj z");
+    }
+
+    @Test
+    public void arrayElementIsNotBounded() {
+        assertOutput(lines(3000000000L, 3000000001L),
+                "ArrayElement",
+                "funduš neskutočné numeralio pole[1]",
+                "pole[0] = 3000000000",
+                "meňak neskutočné numeralio i = 0",
+                "meňak neskutočné numeralio x = pole[i]",
+                "ciskaj x",
+                "meňak neskutočné numeralio y = 1 + pole[i]",
+                "ciskaj y");
+    }
+
+    @Test
+    public void narrowedIteratorAndVariables() {
+        assertOutput(lines(1, 3, 5, 15, -5),
+                "Narrowed",
+                "meňak neskutočné numeralio súčet = 0",
+                "meňak neskutočné numeralio koniec = 5",
+                "zrob s meňakom i od 1 do koniec",
+                "    keď i % 2 == 1 potom",
+                "        ciskaj i",
+                "    súčet = súčet + i",
+                "ciskaj súčet",
+                "meňak neskutočné numeralio záporné = 0 - koniec",
+                "ciskaj záporné");
+    }
+}
@@ -0,0 +1,66 @@
+package com.pidanic.saral.optimizer;
+
+import org.junit.Test;
+
+import static com.pidanic.saral.optimizer.ProgramOutput.assertOutput;
+import static com.pidanic.saral.optimizer.ProgramOutput.lines;
+
+public class LoopInvariantCodeMotionTest {
+
+    @Test
+    public void invariantExpressionInLoops() {
+        assertOutput(lines(72, 60),
+                "Invariant",
+                "meňak neskutočné numeralio a1 = 3",
+                "meňak neskutočné numeralio b1 = 4",
+                "meňak neskutočné numeralio súčet = 0",
+                "zrob s meňakom i od 1 do 3",
+                "    zrob s meňakom j od 1 do 2",
+                "        súčet = súčet + a1 * b1 + i - i",
+                "ciskaj súčet",
+                "meňak neskutočné numeralio k = 0",
+                "súčet = 0",
+                "kým k < 5 rob",
+                "    súčet = súčet + a1 * b1",
+                "    k = k + 1",
+                "ciskaj súčet");
+    }
+
+    @Test
+    public void expressionOfVariableChangedInLoop() {
+        assertOutput(lines(1, 3, 7, 7),
+                "Changed",
+                "meňak neskutočné numeralio x = 0",
+                "zrob s meňakom i od 1 do 3",
+                "    x = x * 2 + 1",
+                "    ciskaj x",
+                "ciskaj x");
+    }
+
+    @Test
+    public void divisionNotComputedBeforeLoop() {
+        assertOutput(lines(1, 2, 5),
+                "Division",
+                "meňak neskutočné numeralio d = 0",
+                "meňak neskutočné numeralio x = 10",
+                "zrob s meňakom i od 1 do 2",
+                "    keď d <> 0 potom",
+                "        x = x / d",
+                "    d = 2",
+                "    ciskaj i",
+                "ciskaj x");
+    }
+
+    @Test
+    public void arrayElementChangedInLoop() {
+        assertOutput(lines(2, 4, 8, 8),
+                "Element",
+                "funduš neskutočné numeralio pole[1]",
+                "meňak neskutočné numeralio i = 0",
+                "pole[0] = 1",
+                "zrob s meňakom k od 1 do 3",
+                "    pole[i] = 2 * pole[i]",
+                "    ciskaj pole[i]",
+                "ciskaj pole[i]");
+    }
+}
@@ -0,0 +1,37 @@
+package com.pidanic.saral.optimizer;
+
+import com.pidanic.saral.SaralTestCompiler;
+import com.pidanic.saral.generator.ByteCodeGenerator;
+
+import static org.junit.Assert.assertEquals;
+
+/**
+ * Compares output of a program compiled without the optimizer with its output compiled with default options and
+ * with no bar inlined, buffered output and memoization, so every optimization keeps what the program prints.
+ */
+final class ProgramOutput {
+
+    private ProgramOutput() {
+    }
+
+    static void assertOutput(String expected, String className, String... lines) {
+        assertEquals("unoptimized " + className, expected,
+                SaralTestCompiler.run(className, SaralTestCompiler.compileUnoptimized(className, lines)));
+        assertEquals("optimized " + className, expected,
+                SaralTestCompiler.run(className, SaralTestCompiler.compile(className, lines)));
+        byte[] notInlined = SaralTestCompiler.compile(className, new Optimizer(0), new ByteCodeGenerator(true, true),
+                lines);
+        assertEquals("not inlined " + className, expected, SaralTestCompiler.run(className, notInlined));
+    }
+
+    /**
+     * Output lines of the program.
+     */
+    static String lines(Object... values) {
+        StringBuilder output = new StringBuilder();
+        for(Object value : values) {
+            output.append(value).append(System.lineSeparator());
+        }
+        return output.toString();
+    }
+}
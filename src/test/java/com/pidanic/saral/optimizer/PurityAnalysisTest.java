@@ -0,0 +1,51 @@
+package com.pidanic.saral.optimizer;
+
+import org.junit.Test;
+
+import static com.pidanic.saral.optimizer.ProgramOutput.assertOutput;
+import static com.pidanic.saral.optimizer.ProgramOutput.lines;
+
+/**
+ * Pure bars are memoized, so bars which print and bars calling them must not be.
+ */
+public class PurityAnalysisTest {
+
+    @Test
+    public void pureRecursiveBar() {
+        assertOutput(lines(6765, 6765),
+                "Fibonacci",
+                "bar neskutočné numeralio fib(neskutočné numeralio n)",
+                "    meňak neskutočné numeralio r",
+                "    keď n <= 2 potom",
+                "        r = 1",
+                "    inak",
+                "        meňak neskutočné numeralio n1 = n - 1",
+                "        meňak neskutočné numeralio n2 = n - 2",
+                "        r = vrac mi z baru fib(n1) + vrac mi z baru fib(n2)",
+                "    vrac r",
+                "meňak neskutočné numeralio dvadsať = 20",
+                "meňak neskutočné numeralio prvý = vrac mi z baru fib(dvadsať)",
+                "ciskaj prvý",
+                "meňak neskutočné numeralio druhý = vrac mi z baru fib(dvadsať)",
+                "ciskaj druhý");
+    }
+
+    @Test
+    public void printingBarsAreCalledEveryTime() {
+        assertOutput(lines(5, 6, 5, 6, 12),
+                "Printing",
+                "bar neskutočné numeralio vypíš(neskutočné numeralio x)",
+                "    ciskaj x",
+                "    meňak neskutočné numeralio y = x + 1",
+                "    vrac y",
+                "bar neskutočné numeralio volá(neskutočné numeralio x)",
+                "    meňak neskutočné numeralio y = vrac mi z baru vypíš(x) + 0",
+                "    ciskaj y",
+                "    vrac y",
+                "meňak neskutočné numeralio päť = 5",
+                "meňak neskutočné numeralio prvý = (vrac mi z baru volá(päť)) + 0",
+                "meňak neskutočné numeralio druhý = (vrac mi z baru volá(päť)) + 0",
+                "meňak neskutočné numeralio spolu = prvý + druhý",
+                "ciskaj spolu");
+    }
+}
@@ -0,0 +1,39 @@
+package com.pidanic.saral.optimizer;
+
+import org.junit.Test;
+
+import static com.pidanic.saral.optimizer.ProgramOutput.assertOutput;
+import static com.pidanic.saral.optimizer.ProgramOutput.lines;
+
+public class StringBuilderAnalysisTest {
+
+    @Test
+    public void wordWrittenByIndexInBarKeepsAllWrites() {
+        assertOutput(lines("Xbc", "XbY", "b", "XbY"),
+                "WrittenByIndex",
+                "bar slovo prepíš(slovo vzor)",
+                "    meňak slovo s = vzor",
+                "    s[0] = 'X'",
+                "    ciskaj s",
+                "    s[2] = 'Y'",
+                "    ciskaj s",
+                "    meňak písmeno druhé = s[1]",
+                "    ciskaj druhé",
+                "    vrac s",
+                "meňak slovo abc = \"abc\"",
+                "meňak slovo výsledok = vrac mi z baru prepíš(abc)",
+                "ciskaj výsledok");
+    }
+
+    @Test
+    public void argumentWrittenByIndexStaysWord() {
+        assertOutput(lines("Zbc", "abc"),
+                "ArgumentWrittenByIndex",
+                "bar prepíš(slovo s)",
+                "    s[0] = 'Z'",
+                "    ciskaj s",
+                "meňak slovo abc = \"abc\"",
+                "paľ do baru prepíš(abc)",
+                "ciskaj abc");
+    }
+}
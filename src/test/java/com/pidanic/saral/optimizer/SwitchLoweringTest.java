@@ -0,0 +1,78 @@
+package com.pidanic.saral.optimizer;
+
+import org.junit.Test;
+
+import static com.pidanic.saral.optimizer.ProgramOutput.assertOutput;
+import static com.pidanic.saral.optimizer.ProgramOutput.lines;
+
+public class SwitchLoweringTest {
+
+    private static String[] chain(String className, int value) {
+        return new String[] {
+                "meňak neskutočné numeralio x = " + value,
+                "keď x == 1 potom",
+                "    ciskaj x",
+                "inak",
+                "    keď x == 2 potom",
+                "        meňak slovo dva = \"dva\"",
+                "        ciskaj dva",
+                "    inak",
+                "        keď x == 30 potom",
+                "            meňak slovo tridsať = \"tridsať\"",
+                "            ciskaj tridsať",
+                "        inak",
+                "            meňak slovo iné = \"iné\"",
+                "            ciskaj iné",
+                "x = 0"
+        };
+    }
+
+    @Test
+    public void chainOfEqualities() {
+        assertOutput(lines(1), "One", chain("One", 1));
+        assertOutput(lines("dva"), "Two", chain("Two", 2));
+        assertOutput(lines("tridsať"), "Thirty", chain("Thirty", 30));
+        assertOutput(lines("iné"), "Other", chain("Other", 4));
+    }
+
+    @Test
+    public void conditionsWhoseBlocksChangeTheVariable() {
+        assertOutput(lines(2, 3, 4, 4),
+                "Changing",
+                "meňak neskutočné numeralio x = 1",
+                "keď x == 1 potom",
+                "    x = 2",
+                "    ciskaj x",
+                "keď x == 2 potom",
+                "    x = 3",
+                "    ciskaj x",
+                "keď x == 3 potom",
+                "    x = 4",
+                "    ciskaj x",
+                "ciskaj x");
+    }
+
+    @Test
+    public void charactersAndArrayElements() {
+        assertOutput(lines("b", 0, 1),
+                "Characters",
+                "meňak písmeno c = 'b'",
+                "keď c == 'a' potom",
+                "    ciskaj c",
+                "keď c == 'b' potom",
+                "    ciskaj c",
+                "keď c == 'c' potom",
+                "    ciskaj c",
+                "funduš neskutočné numeralio pole[2]",
+                "meňak neskutočné numeralio i = 0",
+                "pole[0] = 2",
+                "keď 1 == pole[i] potom",
+                "    pole[i] = 5",
+                "keď 2 == pole[i] potom",
+                "    pole[i] = 1",
+                "    ciskaj i",
+                "keď 5 == pole[i] potom",
+                "    ciskaj i",
+                "ciskaj pole[i]");
+    }
+}
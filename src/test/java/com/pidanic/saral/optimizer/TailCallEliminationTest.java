@@ -0,0 +1,42 @@
+package com.pidanic.saral.optimizer;
+
+import org.junit.Test;
+
+import static com.pidanic.saral.optimizer.ProgramOutput.assertOutput;
+import static com.pidanic.saral.optimizer.ProgramOutput.lines;
+
+public class TailCallEliminationTest {
+
+    @Test
+    public void selfCallAssignedToReturnedVariable() {
+        assertOutput(lines(500500),
+                "Accumulator",
+                "bar neskutočné numeralio súčet(neskutočné numeralio n, neskutočné numeralio spolu)",
+                "    meňak neskutočné numeralio r = spolu",
+                "    keď n > 0 potom",
+                "        meňak neskutočné numeralio n1 = n - 1",
+                "        meňak neskutočné numeralio spolu1 = spolu + n",
+                "        r = vrac mi z baru súčet(n1, spolu1)",
+                "    vrac r",
+                "meňak neskutočné numeralio n = 1000",
+                "meňak neskutočné numeralio nula = 0",
+                "meňak neskutočné numeralio výsledok = vrac mi z baru súčet(n, nula)",
+                "ciskaj výsledok");
+    }
+
+    @Test
+    public void procedureCallingItself() {
+        assertOutput(lines(2, 1, "hotovo"),
+                "Procedure",
+                "bar odpočítaj(neskutočné numeralio n)",
+                "    keď n > 1 potom",
+                "        meňak neskutočné numeralio n1 = n - 1",
+                "        ciskaj n1",
+                "        paľ do baru odpočítaj(n1)",
+                "    inak",
+                "        meňak slovo h = \"hotovo\"",
+                "        ciskaj h",
+                "meňak neskutočné numeralio tri = 3",
+                "paľ do baru odpočítaj(tri)");
+    }
+}